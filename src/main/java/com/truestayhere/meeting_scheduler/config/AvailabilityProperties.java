@@ -0,0 +1,40 @@
+package com.truestayhere.meeting_scheduler.config;
+
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "availability") // Load properties starting with "availability"
+@Getter
+@Setter
+@Validated
+public class AvailabilityProperties {
+
+    // Where free slots are computed
+    @NotNull(message = "Availability computation must be configured.")
+    private Computation computation = Computation.JAVA;
+
+    // Most existing meetings a preemption plan may move
+    @NotNull(message = "Preemption max displaced meetings must be configured.")
+    @Positive(message = "Preemption max displaced meetings must be positive.")
+    private Integer preemptionMaxDisplaced = 3;
+
+    // Time after which the preemption planner stops evaluating slots and returns the best plans found so far
+    @NotNull(message = "Preemption time budget must be configured.")
+    private Duration preemptionTimeBudget = Duration.ofSeconds(2);
+
+    public enum Computation {
+        // Busy intervals (materialized calendar or meetings) are loaded and gaps are found in Java
+        JAVA,
+        // Gaps are found in PostgreSQL with window functions, one statement per request
+        SQL
+    }
+}
@@ -0,0 +1,34 @@
+package com.truestayhere.meeting_scheduler.config;
+
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "batch-scheduling") // Load properties starting with "batch-scheduling"
+@Getter
+@Setter
+@Validated
+public class BatchSchedulingProperties {
+
+    // Threads solving independent groups of meetings (no shared attendees) in parallel
+    @NotNull(message = "Batch scheduling solver threads must be configured.")
+    @Positive(message = "Batch scheduling solver threads must be positive.")
+    private Integer solverThreads = 4;
+
+    // Start times tried per group before the backtracking search gives up and places the remaining meetings greedily
+    @NotNull(message = "Batch scheduling search budget must be configured.")
+    @Positive(message = "Batch scheduling search budget must be positive.")
+    private Integer searchBudget = 50_000;
+
+    // Distance between the candidate start times within a free interval
+    @NotNull(message = "Batch scheduling slot step must be configured.")
+    private Duration slotStep = Duration.ofMinutes(15);
+}
@@ -0,0 +1,86 @@
+package com.truestayhere.meeting_scheduler.config;
+
+
+import com.truestayhere.meeting_scheduler.exception.LoginThrottledException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+/**
+ * PasswordEncoder that runs password verification on a bounded thread pool.
+ * Caps the CPU that login storms can take from scheduling requests:
+ * at most maxConcurrent hashes are verified at once, a limited number wait in the queue
+ * and anything beyond that (or waiting longer than the timeout) fails fast with LoginThrottledException.
+ * Encoding (attendee create/update) runs on the caller thread.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor verificationExecutor;
+    private final Duration timeout;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrent, int queueCapacity, Duration timeout) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.verificationExecutor = new ThreadPoolExecutor(
+                maxConcurrent, maxConcurrent,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-verify-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Future<Boolean> verification;
+        try {
+            verification = verificationExecutor.submit(() -> delegate.matches(rawPassword, encodedPassword));
+        } catch (RejectedExecutionException e) {
+            log.warn("Password verification rejected: {} verifications running, {} queued",
+                    verificationExecutor.getActiveCount(), verificationExecutor.getQueue().size());
+            throw new LoginThrottledException("Too many concurrent login attempts. Please try again later.", e);
+        }
+
+        try {
+            return verification.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            verification.cancel(true);
+            log.warn("Password verification did not complete within {}", timeout);
+            throw new LoginThrottledException("Too many concurrent login attempts. Please try again later.", e);
+        } catch (InterruptedException e) {
+            verification.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginThrottledException("Password verification was interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password verification failed.", e.getCause());
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // Returns the number of verifications waiting for a free thread
+    int getQueuedVerificationCount() {
+        return verificationExecutor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        verificationExecutor.shutdown();
+    }
+}
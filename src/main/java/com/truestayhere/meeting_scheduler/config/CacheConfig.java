@@ -0,0 +1,64 @@
+package com.truestayhere.meeting_scheduler.config;
+
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.truestayhere.meeting_scheduler.service.ReferenceDataService;
+import com.truestayhere.meeting_scheduler.service.WorkingWindowService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching // Enables @Cacheable/@CacheEvict processing
+@RequiredArgsConstructor
+@Slf4j
+public class CacheConfig {
+
+    private final ReferenceCacheProperties cacheProperties;
+
+    // Bounded, TTL'd Caffeine caches for rarely changing reference data (locations, attendee working hours, time off, group members, travel times, working windows)
+    @Bean
+    public CacheManager cacheManager() {
+        log.info("Creating reference data caches (maximum size: {}, TTL: {})", cacheProperties.getMaximumSize(), cacheProperties.getTimeToLive());
+
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCaffeine(caffeine(cacheProperties.getMaximumSize(), cacheProperties.getTimeToLive()));
+        caffeineCacheManager.setAllowNullValues(false);
+
+        List<String> cacheNames = List.of(
+                ReferenceDataService.LOCATIONS_CACHE,
+                ReferenceDataService.LOCATION_LISTS_CACHE,
+                ReferenceDataService.ATTENDEE_WORKING_HOURS_CACHE,
+                ReferenceDataService.TIME_OFF_CACHE,
+                ReferenceDataService.GROUP_MEMBERS_CACHE,
+                ReferenceDataService.TRAVEL_TIMES_CACHE,
+                WorkingWindowService.WORKING_WINDOWS_CACHE);
+        // Register the caches up front so Actuator binds metrics for them at startup
+        caffeineCacheManager.setCacheNames(cacheNames.stream()
+                .filter(cacheName -> !cacheProperties.getCaches().containsKey(cacheName))
+                .toList());
+        cacheProperties.getCaches().forEach((cacheName, spec) -> {
+            log.info("Creating cache {} (maximum size: {}, TTL: {})", cacheName, spec.getMaximumSize(), spec.getTimeToLive());
+            caffeineCacheManager.registerCustomCache(cacheName, caffeine(spec.getMaximumSize(), spec.getTimeToLive()).build());
+        });
+
+        // Evictions are applied after the surrounding transaction commits,
+        // so a concurrent read cannot put the old value back before the change is visible
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+
+    private Caffeine<Object, Object> caffeine(long maximumSize, Duration timeToLive) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats(); // Hit/miss statistics, exposed by Actuator as cache.gets metrics
+    }
+}
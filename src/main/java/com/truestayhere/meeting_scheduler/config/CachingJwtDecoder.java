@@ -0,0 +1,99 @@
+package com.truestayhere.meeting_scheduler.config;
+
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * JwtDecoder that remembers tokens already verified by the delegate decoder.
+ * Entries are keyed by the SHA-256 hash of the token (raw tokens are not retained as keys)
+ * and expire at the token's "exp" claim. Tokens without an expiration are never cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Clock clock;
+    private final Cache<String, Jwt> verifiedTokens;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Jwt>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, Jwt jwt, long currentTime) {
+                        return timeToExpiry(jwt).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, Jwt jwt, long currentTime, long currentDuration) {
+                        return timeToExpiry(jwt).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, Jwt jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String tokenHash = hash(token);
+
+        Jwt cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && isNotExpired(cached)) {
+            return cached;
+        }
+
+        // Verify signature and claims with the delegate (throws on invalid tokens, which are never cached)
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null && isNotExpired(jwt)) {
+            verifiedTokens.put(tokenHash, jwt);
+        }
+        return jwt;
+    }
+
+    // Exposes the underlying cache (for metrics binding)
+    public Cache<String, Jwt> getCache() {
+        return verifiedTokens;
+    }
+
+    // Time left until the token's "exp" claim (never negative)
+    private Duration timeToExpiry(Jwt jwt) {
+        Duration remaining = Duration.between(clock.instant(), jwt.getExpiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    // Guards against serving a token in the short window before the cache drops it
+    private boolean isNotExpired(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        return expiresAt != null && clock.instant().isBefore(expiresAt);
+    }
+
+    // Accepts the raw token, returns its SHA-256 hash as hex
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required to be available on every Java platform
+            throw new IllegalStateException("SHA-256 algorithm is not available.", e);
+        }
+    }
+}
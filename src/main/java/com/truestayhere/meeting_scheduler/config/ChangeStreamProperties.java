@@ -0,0 +1,38 @@
+package com.truestayhere.meeting_scheduler.config;
+
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "change-stream") // Load properties starting with "change-stream"
+@Getter
+@Setter
+@Validated
+public class ChangeStreamProperties {
+
+    // Events buffered per subscriber; on overflow the buffer is dropped and replaced by a RESYNC event
+    @NotNull(message = "Change stream buffer size must be configured.")
+    @Positive(message = "Change stream buffer size must be positive.")
+    private Integer bufferSize = 64;
+
+    // Threads writing events to subscriber connections (publishers never block on slow clients)
+    @NotNull(message = "Change stream sender threads must be configured.")
+    @Positive(message = "Change stream sender threads must be positive.")
+    private Integer senderThreads = 4;
+
+    // Lifetime of a stream connection, clients reconnect afterwards
+    @NotNull(message = "Change stream timeout must be configured.")
+    private Duration timeout = Duration.ofMinutes(30);
+
+    // Interval of keep-alive comments (detects closed connections and keeps proxies from timing out)
+    @NotNull(message = "Change stream heartbeat interval must be configured.")
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+}
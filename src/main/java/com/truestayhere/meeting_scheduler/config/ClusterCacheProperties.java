@@ -0,0 +1,36 @@
+package com.truestayhere.meeting_scheduler.config;
+
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.cluster") // Load properties starting with "cache.cluster"
+@Getter
+@Setter
+@Validated
+public class ClusterCacheProperties {
+
+    // Switch to disable publishing and listening (single node deployments)
+    private boolean enabled = true;
+
+    // PostgreSQL LISTEN/NOTIFY channel shared by all nodes
+    @NotNull(message = "Cache invalidation channel must be configured.")
+    @Pattern(regexp = "[a-z_][a-z0-9_]*", message = "Cache invalidation channel must be a lowercase SQL identifier.")
+    private String channel = "cache_invalidation";
+
+    // How long the listener waits for notifications before checking for shutdown
+    @NotNull(message = "Cache invalidation poll timeout must be configured.")
+    private Duration pollTimeout = Duration.ofMillis(500);
+
+    // Delay before the listener reconnects after losing its database connection
+    @NotNull(message = "Cache invalidation reconnect delay must be configured.")
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+}
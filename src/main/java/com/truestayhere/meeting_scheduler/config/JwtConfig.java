@@ -8,8 +8,11 @@ import com.nimbusds.jose.jwk.OctetSequenceKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,6 +24,7 @@ import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 
 @Configuration
 @RequiredArgsConstructor
@@ -30,9 +34,9 @@ public class JwtConfig {
 
     private final JwtProperties jwtProperties;
 
-    // Decodes the users' token
+    // Decodes the users' token (verified tokens are cached until they expire unless disabled)
     @Bean
-    public JwtDecoder jwtDecoder() {
+    public JwtDecoder jwtDecoder(ObjectProvider<MeterRegistry> meterRegistry) {
         log.info("Creating JwtDecoder bean in JwtConfig...");
 
         if (jwtProperties.getSecretKey() == null || jwtProperties.getSecretKey().isBlank()) {
@@ -48,7 +52,19 @@ public class JwtConfig {
         SecretKeySpec secretKey = new SecretKeySpec(keyBytes, "HmacSHA256");
 
         // Build the decoder using the secret key
-        return NimbusJwtDecoder.withSecretKey(secretKey).build();
+        JwtDecoder decoder = NimbusJwtDecoder.withSecretKey(secretKey).build();
+
+        JwtProperties.DecoderCache decoderCache = jwtProperties.getDecoderCache();
+        if (!decoderCache.isEnabled()) {
+            log.info("JwtDecoder (JwtConfig): verified token cache is disabled.");
+            return decoder;
+        }
+        log.info("JwtDecoder (JwtConfig): caching verified tokens (maximum size: {})", decoderCache.getMaximumSize());
+
+        CachingJwtDecoder cachingDecoder = new CachingJwtDecoder(decoder, decoderCache.getMaximumSize(), Clock.systemUTC());
+        // Hit/miss statistics, exposed by Actuator as cache.gets{cache="jwtDecoder"}
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cachingDecoder.getCache(), "jwtDecoder"));
+        return cachingDecoder;
     }
 
 
@@ -1,6 +1,7 @@
 package com.truestayhere.meeting_scheduler.config;
 
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -10,6 +11,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 @Configuration
 @ConfigurationProperties(prefix = "jwt") // Load properties' starting with "jwt" values
 @Getter
@@ -26,4 +29,25 @@ public class JwtProperties {
     @NotNull(message = "JWT expiration minutes must be configured.")
     @Positive(message = "JWT expiration minutes must be positive.")
     private Integer expirationMinutes;
+
+    // How long a refresh token stays valid (every refresh issues a new token with a new lifetime)
+    @NotNull(message = "Refresh token time to live must be configured.")
+    private Duration refreshTokenTimeToLive = Duration.ofDays(14);
+
+    // Cache of already verified tokens in front of the JwtDecoder
+    @Valid
+    private DecoderCache decoderCache = new DecoderCache();
+
+    @Getter
+    @Setter
+    public static class DecoderCache {
+
+        // Switch to disable caching and verify every token
+        private boolean enabled = true;
+
+        // Maximum number of verified tokens kept in memory
+        @NotNull(message = "JWT decoder cache maximum size must be configured.")
+        @Positive(message = "JWT decoder cache maximum size must be positive.")
+        private Long maximumSize = 10_000L;
+    }
 }
@@ -0,0 +1,58 @@
+package com.truestayhere.meeting_scheduler.config;
+
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class PasswordEncoderConfig {
+
+    private final PasswordHashingProperties passwordHashingProperties;
+
+    // Hashes passwords with the configured algorithm, verifies on a bounded thread pool
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BoundedPasswordEncoder(
+                delegatingPasswordEncoder(passwordHashingProperties),
+                passwordHashingProperties.getMaxConcurrentVerifications(),
+                passwordHashingProperties.getVerificationQueueCapacity(),
+                passwordHashingProperties.getVerificationTimeout());
+    }
+
+    /**
+     * Builds the DelegatingPasswordEncoder: new hashes are stored with an {id} prefix of the configured algorithm.
+     * Hashes without a prefix (stored before this encoder was introduced) are verified as BCrypt.
+     * upgradeEncoding() reports hashes of another algorithm or a lower BCrypt strength,
+     * so they are re-hashed on the next successful login (see JpaUserDetailsService.updatePassword).
+     *
+     * @param properties The password hashing configuration.
+     * @return The delegating password encoder.
+     */
+    static DelegatingPasswordEncoder delegatingPasswordEncoder(PasswordHashingProperties properties) {
+        String encodingId = properties.getAlgorithm().getId();
+        log.info("Creating password encoder (algorithm: {}, BCrypt strength: {}, max concurrent verifications: {})",
+                encodingId, properties.getBcryptStrength(), properties.getMaxConcurrentVerifications());
+
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(properties.getBcryptStrength());
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(PasswordHashingProperties.Algorithm.BCRYPT.getId(), bCryptPasswordEncoder);
+        encoders.put(PasswordHashingProperties.Algorithm.PBKDF2.getId(), Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(encodingId, encoders);
+        // Legacy hashes have no {id} prefix
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+        return delegatingPasswordEncoder;
+    }
+}
@@ -0,0 +1,57 @@
+package com.truestayhere.meeting_scheduler.config;
+
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "security.password-hashing") // Load properties starting with "security.password-hashing"
+@Getter
+@Setter
+@Validated
+public class PasswordHashingProperties {
+
+    // Algorithm used for new hashes (existing hashes are upgraded on the next successful login)
+    @NotNull(message = "Password hashing algorithm must be configured.")
+    private Algorithm algorithm = Algorithm.BCRYPT;
+
+    // BCrypt log rounds (every increment doubles the hashing cost)
+    @NotNull(message = "BCrypt strength must be configured.")
+    @Min(value = 4, message = "BCrypt strength must be at least 4.")
+    @Max(value = 31, message = "BCrypt strength must be at most 31.")
+    private Integer bcryptStrength = 10;
+
+    // Number of threads verifying passwords (caps the CPU share logins can take)
+    @NotNull(message = "Maximum concurrent password verifications must be configured.")
+    @Positive(message = "Maximum concurrent password verifications must be positive.")
+    private Integer maxConcurrentVerifications = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    // Number of verifications allowed to wait for a free thread before logins are rejected
+    @NotNull(message = "Password verification queue capacity must be configured.")
+    @Positive(message = "Password verification queue capacity must be positive.")
+    private Integer verificationQueueCapacity = 100;
+
+    // Maximum time a login waits for its verification to complete
+    @NotNull(message = "Password verification timeout must be configured.")
+    private Duration verificationTimeout = Duration.ofSeconds(5);
+
+    @RequiredArgsConstructor
+    @Getter
+    public enum Algorithm {
+        BCRYPT("bcrypt"),
+        PBKDF2("pbkdf2");
+
+        // Prefix stored in front of the hash, e.g. {bcrypt}
+        private final String id;
+    }
+}
@@ -0,0 +1,104 @@
+package com.truestayhere.meeting_scheduler.config;
+
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Keeps the reads of a client on the primary until the replica has (very likely) caught up with its own writes.
+ * The time of the client's last committed write travels with the client: it is returned in the
+ * {@value #LAST_WRITE_HEADER} header and the {@value #LAST_WRITE_COOKIE} cookie, and read back from either on
+ * the next request. Any node can therefore check it, whichever node handled the write.
+ * Work outside an HTTP request (listeners, scheduled jobs) is never guarded.
+ */
+public class ReadYourWritesGuard {
+    public static final String LAST_WRITE_HEADER = "X-Last-Write";
+    public static final String LAST_WRITE_COOKIE = "last_write";
+
+    // Request attribute holding the last write time (epoch millis) seen or made during the current request
+    private static final String LAST_WRITE_ATTRIBUTE = ReadYourWritesGuard.class.getName() + ".lastWrite";
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesGuard(Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    public ReadYourWritesGuard(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    // Marks the current client as a recent writer (called after a read-write transaction has committed)
+    public void recordWrite() {
+        currentRequest().ifPresent(attributes -> {
+            long now = clock.millis();
+            boolean firstWrite = attributes.getRequest().getAttribute(LAST_WRITE_ATTRIBUTE) == null;
+            attributes.getRequest().setAttribute(LAST_WRITE_ATTRIBUTE, now);
+
+            HttpServletResponse response = attributes.getResponse();
+            if (response == null || response.isCommitted()) {
+                return;
+            }
+            response.setHeader(LAST_WRITE_HEADER, Long.toString(now));
+            if (!firstWrite) {
+                return; // One cookie per response, later writes of the request are only milliseconds apart
+            }
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(LAST_WRITE_COOKIE, Long.toString(now))
+                    .path("/")
+                    .maxAge(window)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        });
+    }
+
+    // Returns true if the current client wrote within the window
+    public boolean hasRecentWrite() {
+        return currentRequest()
+                .map(attributes -> lastWrite(attributes.getRequest()))
+                .map(lastWrite -> clock.millis() - lastWrite < window.toMillis())
+                .orElse(false);
+    }
+
+    private Optional<ServletRequestAttributes> currentRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return Optional.of(attributes);
+        }
+        return Optional.empty();
+    }
+
+    // A write of this request wins over the marker sent by the client; unparsable markers are ignored
+    private Long lastWrite(HttpServletRequest request) {
+        if (request.getAttribute(LAST_WRITE_ATTRIBUTE) instanceof Long lastWrite) {
+            return lastWrite;
+        }
+        String marker = request.getHeader(LAST_WRITE_HEADER);
+        if (marker == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                    marker = cookie.getValue();
+                }
+            }
+        }
+        if (marker == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(marker);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
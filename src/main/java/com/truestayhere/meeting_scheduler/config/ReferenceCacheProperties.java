@@ -0,0 +1,55 @@
+package com.truestayhere.meeting_scheduler.config;
+
+
+import com.truestayhere.meeting_scheduler.service.WorkingWindowService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.reference-data") // Load properties starting with "cache.reference-data"
+@Getter
+@Setter
+@Validated
+public class ReferenceCacheProperties {
+
+    // Maximum number of entries kept in each reference data cache
+    @NotNull(message = "Reference data cache maximum size must be configured.")
+    @Positive(message = "Reference data cache maximum size must be positive.")
+    private Long maximumSize = 10_000L;
+
+    // How long an entry stays cached after it was loaded
+    @NotNull(message = "Reference data cache TTL must be configured.")
+    private Duration timeToLive = Duration.ofMinutes(10);
+
+    // Caches with their own size and TTL instead of the values above, by cache name.
+    // Working windows are keyed per resource and date, so they get a smaller, short-lived cache of their own
+    @Valid
+    private Map<String, CacheSpec> caches = new HashMap<>(Map.of(
+            WorkingWindowService.WORKING_WINDOWS_CACHE, new CacheSpec(5_000L, Duration.ofMinutes(2))));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheSpec {
+
+        @NotNull(message = "Cache maximum size must be configured.")
+        @Positive(message = "Cache maximum size must be positive.")
+        private Long maximumSize;
+
+        @NotNull(message = "Cache TTL must be configured.")
+        private Duration timeToLive;
+    }
+}
@@ -0,0 +1,37 @@
+package com.truestayhere.meeting_scheduler.config;
+
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "datasource.replica") // Load properties starting with "datasource.replica"
+@Getter
+@Setter
+@Validated
+public class ReplicaDataSourceProperties {
+
+    // Switch to route read-only transactions to the replica (everything uses spring.datasource when disabled)
+    private boolean enabled = false;
+
+    // Connection settings of the read replica
+    private String url;
+    private String username;
+    private String password;
+
+    // Maximum number of pooled replica connections
+    @NotNull(message = "Replica maximum pool size must be configured.")
+    @Positive(message = "Replica maximum pool size must be positive.")
+    private Integer maximumPoolSize = 10;
+
+    // How long after a committed write a client keeps reading from the primary (should exceed the usual replication lag)
+    @NotNull(message = "Read-your-writes window must be configured.")
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+}
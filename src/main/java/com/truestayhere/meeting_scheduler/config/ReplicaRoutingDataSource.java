@@ -0,0 +1,54 @@
+package com.truestayhere.meeting_scheduler.config;
+
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes read-only transactions to the replica and everything else to the primary.
+ * Read-only transactions of a client that committed a write recently go to the primary as well (read-your-writes).
+ * Must be wrapped in a LazyConnectionDataSourceProxy, so the connection is fetched
+ * after the transaction's read-only flag has been set.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReadYourWritesGuard readYourWritesGuard;
+
+    public ReplicaRoutingDataSource(ReadYourWritesGuard readYourWritesGuard) {
+        this.readYourWritesGuard = readYourWritesGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (!readOnly) {
+            // Writes (and non-transactional work such as LISTEN) always use the primary
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && TransactionSynchronizationManager.isSynchronizationActive()) {
+                // Only a committed read-write transaction makes the replica stale for the client
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWritesGuard.recordWrite();
+                    }
+                });
+            }
+            return Route.PRIMARY;
+        }
+        if (readYourWritesGuard.hasRecentWrite()) {
+            log.trace("Routing read-only transaction to the primary (recent write by the current user)");
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+}
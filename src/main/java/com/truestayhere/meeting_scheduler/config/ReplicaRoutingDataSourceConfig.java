@@ -0,0 +1,76 @@
+package com.truestayhere.meeting_scheduler.config;
+
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// Replaces the auto-configured DataSource with primary/replica routing when datasource.replica.enabled=true
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReplicaRoutingDataSourceConfig {
+
+    private final ReplicaDataSourceProperties replicaProperties;
+
+    // Primary pool, configured by spring.datasource (and spring.datasource.hikari)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary-pool");
+        return dataSource;
+    }
+
+    // Read replica pool, configured by datasource.replica
+    @Bean
+    public HikariDataSource replicaDataSource() {
+        if (replicaProperties.getUrl() == null || replicaProperties.getUrl().isBlank()) {
+            throw new IllegalStateException("datasource.replica.url must be configured when the replica is enabled.");
+        }
+        log.info("Routing read-only transactions to replica: {}", replicaProperties.getUrl());
+
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(replicaProperties.getUrl());
+        dataSource.setUsername(replicaProperties.getUsername());
+        dataSource.setPassword(replicaProperties.getPassword());
+        dataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("replica-pool");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesGuard readYourWritesGuard() {
+        return new ReadYourWritesGuard(replicaProperties.getReadYourWritesWindow());
+    }
+
+    // DataSource used by JPA and JdbcTemplate
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReadYourWritesGuard readYourWritesGuard) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(readYourWritesGuard);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReplicaRoutingDataSource.Route.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // Defer fetching the connection until the transaction's read-only flag is known
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
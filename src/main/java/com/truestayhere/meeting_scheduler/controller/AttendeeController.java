@@ -3,19 +3,32 @@ package com.truestayhere.meeting_scheduler.controller;
 
 import com.truestayhere.meeting_scheduler.dto.request.CommonAvailabilityRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.CreateAttendeeRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.FreeCountHeatmapRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.QuorumAvailabilityRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.UpdateAttendeeRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.WorkingScheduleRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.response.AttendeeDTO;
 import com.truestayhere.meeting_scheduler.dto.response.AvailableSlotDTO;
+import com.truestayhere.meeting_scheduler.dto.response.FreeCountHeatmapDTO;
+import com.truestayhere.meeting_scheduler.dto.response.QuorumSlotDTO;
+import com.truestayhere.meeting_scheduler.dto.response.WorkingSegmentDTO;
 import com.truestayhere.meeting_scheduler.service.AttendeeService;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
 import com.truestayhere.meeting_scheduler.service.AvailabilityService;
+import com.truestayhere.meeting_scheduler.service.CalendarChangeBroadcaster;
+import com.truestayhere.meeting_scheduler.service.CalendarVersionService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -25,8 +38,13 @@ import java.util.List;
 @RequiredArgsConstructor
 @SecurityRequirement(name = "bearerAuth")
 public class AttendeeController {
+    // Calendar reads must be revalidated on every use (clients poll with If-None-Match)
+    private static final CacheControl CALENDAR_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final AttendeeService attendeeService;
     private final AvailabilityService availabilityService;
+    private final CalendarVersionService calendarVersionService;
+    private final CalendarChangeBroadcaster calendarChangeBroadcaster;
 
     // GET /api/attendees - Get all attendees
     @GetMapping
@@ -63,6 +81,22 @@ public class AttendeeController {
         return ResponseEntity.ok(updatedAttendee); // Returns 200 OK status code with location DTO
     }
 
+    // GET /api/attendees/{id}/working-schedule - Get the weekly working schedule of the attendee
+    @GetMapping("/{id}/working-schedule")
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<List<WorkingSegmentDTO>> getAttendeeWorkingSchedule(@PathVariable Long id) {
+        List<WorkingSegmentDTO> schedule = attendeeService.getAttendeeWorkingSchedule(id);
+        return ResponseEntity.ok(schedule); // 200 OK
+    }
+
+    // PUT /api/attendees/{id}/working-schedule - Replace the weekly working schedule of the attendee
+    @PutMapping("/{id}/working-schedule")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<List<WorkingSegmentDTO>> updateAttendeeWorkingSchedule(@PathVariable Long id, @Valid @RequestBody WorkingScheduleRequestDTO requestDTO) {
+        List<WorkingSegmentDTO> schedule = attendeeService.updateAttendeeWorkingSchedule(id, requestDTO);
+        return ResponseEntity.ok(schedule); // 200 OK
+    }
+
     // DELETE api/attendees/id - Delete attendee by ID
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAuthority('ADMIN')")
@@ -72,13 +106,34 @@ public class AttendeeController {
     }
 
     // GET /api/attendees/id/availability?date=YYYY-MM-DD - Get available time slots for attendee
+    // Supports If-None-Match: returns 304 NOT MODIFIED while the attendee's calendar version is unchanged
     @GetMapping("/{id}/availability")
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
     public ResponseEntity<List<AvailableSlotDTO>> getAttendeeAvailability(
             @PathVariable Long id,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest) {
+        // The version is read before the slots, so a concurrent write can only make the ETag older than the body
+        long revision = calendarVersionService.getRevision(ResourceType.ATTENDEE, id);
+        String eTag = CalendarVersionService.toETag(ResourceType.ATTENDEE, id, revision);
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 NOT MODIFIED, the response status and ETag are already set
+        }
+
         List<AvailableSlotDTO> availableSlots = availabilityService.getAvailableTimeForAttendee(id, date);
-        return ResponseEntity.ok(availableSlots);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CALENDAR_CACHE_CONTROL)
+                .body(availableSlots);
+    }
+
+
+    // GET /api/attendees/id/changes - Stream meeting changes of the attendee's calendar (server-sent events)
+    @GetMapping(path = "/{id}/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public SseEmitter streamAttendeeChanges(@PathVariable Long id) {
+        attendeeService.getAttendeeById(id); // 404 NOT FOUND for unknown attendees
+        return calendarChangeBroadcaster.subscribe(ResourceType.ATTENDEE, id);
     }
 
 
@@ -90,4 +145,24 @@ public class AttendeeController {
         List<AvailableSlotDTO> commonSlots = availabilityService.getCommonAttendeeAvailability(request);
         return ResponseEntity.ok(commonSlots); // 200 OK
     }
+
+
+    // POST /api/attendees/quorum-availability - Get the best time slots when not every attendee can attend
+    @PostMapping("/quorum-availability")
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<List<QuorumSlotDTO>> findQuorumAvailability(
+            @Valid @RequestBody QuorumAvailabilityRequestDTO request) {
+        List<QuorumSlotDTO> quorumSlots = availabilityService.findQuorumAvailability(request);
+        return ResponseEntity.ok(quorumSlots); // 200 OK
+    }
+
+
+    // POST /api/attendees/free-count-heatmap - Get the number of free attendees per time bucket of a range
+    @PostMapping("/free-count-heatmap")
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<FreeCountHeatmapDTO> getFreeCountHeatmap(
+            @Valid @RequestBody FreeCountHeatmapRequestDTO request) {
+        FreeCountHeatmapDTO heatmap = availabilityService.getFreeCountHeatmap(request);
+        return ResponseEntity.ok(heatmap); // 200 OK
+    }
 }
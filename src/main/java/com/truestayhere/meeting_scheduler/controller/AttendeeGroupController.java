@@ -0,0 +1,74 @@
+package com.truestayhere.meeting_scheduler.controller;
+
+
+import com.truestayhere.meeting_scheduler.dto.request.CreateAttendeeGroupRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.UpdateAttendeeGroupRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.response.AttendeeGroupDTO;
+import com.truestayhere.meeting_scheduler.service.AttendeeGroupService;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/attendee-groups")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class AttendeeGroupController {
+
+    private final AttendeeGroupService attendeeGroupService;
+
+    // GET /api/attendee-groups - Get all attendee groups
+    @GetMapping
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<List<AttendeeGroupDTO>> getAllGroups() {
+        List<AttendeeGroupDTO> groups = attendeeGroupService.getAllGroups();
+        return ResponseEntity.ok(groups); // 200 OK
+    }
+
+    // GET /api/attendee-groups/id - Get attendee group by ID
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<AttendeeGroupDTO> getGroupById(@PathVariable Long id) {
+        AttendeeGroupDTO group = attendeeGroupService.getGroupById(id);
+        return ResponseEntity.ok(group); // 200 OK
+    }
+
+    // GET /api/attendee-groups/id/members - Get the IDs of all members of the group (nested groups included)
+    @GetMapping("/{id}/members")
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<Set<Long>> getGroupMemberIds(@PathVariable Long id) {
+        Set<Long> memberIds = attendeeGroupService.getGroupMemberIds(id);
+        return ResponseEntity.ok(memberIds); // 200 OK
+    }
+
+    // POST /api/attendee-groups - Create a new attendee group
+    @PostMapping
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<AttendeeGroupDTO> createGroup(@Valid @RequestBody CreateAttendeeGroupRequestDTO requestDTO) {
+        AttendeeGroupDTO createdGroup = attendeeGroupService.createGroup(requestDTO);
+        return new ResponseEntity<>(createdGroup, HttpStatus.CREATED); // 201 CREATED
+    }
+
+    // PUT /api/attendee-groups/id - Update attendee group by ID
+    @PutMapping("/{id}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<AttendeeGroupDTO> updateGroupById(@PathVariable Long id, @Valid @RequestBody UpdateAttendeeGroupRequestDTO requestDTO) {
+        AttendeeGroupDTO updatedGroup = attendeeGroupService.updateGroup(id, requestDTO);
+        return ResponseEntity.ok(updatedGroup); // 200 OK
+    }
+
+    // DELETE /api/attendee-groups/id - Delete attendee group by ID
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<Void> deleteGroupById(@PathVariable Long id) {
+        attendeeGroupService.deleteGroup(id);
+        return ResponseEntity.noContent().build(); // 204 NO CONTENT
+    }
+}
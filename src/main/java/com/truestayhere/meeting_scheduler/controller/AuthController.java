@@ -2,8 +2,9 @@ package com.truestayhere.meeting_scheduler.controller;
 
 
 import com.truestayhere.meeting_scheduler.dto.request.LoginRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.RefreshTokenRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.response.LoginResponseDTO;
-import com.truestayhere.meeting_scheduler.service.TokenService;
+import com.truestayhere.meeting_scheduler.service.RefreshTokenService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +24,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 public class AuthController {
 
     private final AuthenticationManager authenticationManager;
-    private final TokenService tokenService;
+    private final RefreshTokenService refreshTokenService;
 
     // POST api/auth/token - Check user credentials and return the JWT token
     @PostMapping("/token")
@@ -38,11 +39,27 @@ public class AuthController {
         Authentication authentication = authenticationManager.authenticate(authenticationToken);
         log.info("Authentication successfull for user: {}", loginRequest.email());
 
-        // Generate JWT token for the user
-        String jwt = tokenService.generateToken(authentication);
+        // Generate JWT token and refresh token for the user
+        LoginResponseDTO tokens = refreshTokenService.issueTokens(authentication);
 
-        // Return the token in the response
-        return ResponseEntity.ok(new LoginResponseDTO(jwt)); // 200 OK
+        // Return the tokens in the response
+        return ResponseEntity.ok(tokens); // 200 OK
+    }
+
+    // POST api/auth/refresh - Exchange a refresh token for a new JWT token and refresh token (no password check)
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponseDTO> refreshToken(
+            @Valid @RequestBody RefreshTokenRequestDTO refreshRequest) {
+        LoginResponseDTO tokens = refreshTokenService.refresh(refreshRequest.refreshToken());
+        return ResponseEntity.ok(tokens); // 200 OK
+    }
+
+    // POST api/auth/revoke - Revoke a refresh token and every token rotated from the same login (logout)
+    @PostMapping("/revoke")
+    public ResponseEntity<Void> revokeToken(
+            @Valid @RequestBody RefreshTokenRequestDTO refreshRequest) {
+        refreshTokenService.revoke(refreshRequest.refreshToken());
+        return ResponseEntity.noContent().build(); // 204 NO CONTENT
     }
 
 }
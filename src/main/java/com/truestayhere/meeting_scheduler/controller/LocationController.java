@@ -3,20 +3,31 @@ package com.truestayhere.meeting_scheduler.controller;
 
 import com.truestayhere.meeting_scheduler.dto.request.CreateLocationRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.LocationAvailabilityRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.RoomAssignmentRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.UpdateLocationRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.WorkingScheduleRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.response.AvailableSlotDTO;
 import com.truestayhere.meeting_scheduler.dto.response.LocationDTO;
 import com.truestayhere.meeting_scheduler.dto.response.LocationTimeSlotDTO;
+import com.truestayhere.meeting_scheduler.dto.response.RoomAssignmentResultDTO;
+import com.truestayhere.meeting_scheduler.dto.response.WorkingSegmentDTO;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
 import com.truestayhere.meeting_scheduler.service.AvailabilityService;
+import com.truestayhere.meeting_scheduler.service.CalendarChangeBroadcaster;
+import com.truestayhere.meeting_scheduler.service.CalendarVersionService;
 import com.truestayhere.meeting_scheduler.service.LocationService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -26,8 +37,13 @@ import java.util.List;
 @RequiredArgsConstructor
 @SecurityRequirement(name = "bearerAuth")
 public class LocationController {
+    // Calendar reads must be revalidated on every use (clients poll with If-None-Match)
+    private static final CacheControl CALENDAR_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final LocationService locationService;
     private final AvailabilityService availabilityService;
+    private final CalendarVersionService calendarVersionService;
+    private final CalendarChangeBroadcaster calendarChangeBroadcaster;
 
     // GET /api/locations - Get all locations
     @GetMapping
@@ -61,6 +77,22 @@ public class LocationController {
         return ResponseEntity.ok(updatedLocation); // 200 OK
     }
 
+    // GET /api/locations/{id}/working-schedule - Get the weekly working schedule of the location
+    @GetMapping("/{id}/working-schedule")
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<List<WorkingSegmentDTO>> getLocationWorkingSchedule(@PathVariable Long id) {
+        List<WorkingSegmentDTO> schedule = locationService.getLocationWorkingSchedule(id);
+        return ResponseEntity.ok(schedule); // 200 OK
+    }
+
+    // PUT /api/locations/{id}/working-schedule - Replace the weekly working schedule of the location
+    @PutMapping("/{id}/working-schedule")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<List<WorkingSegmentDTO>> updateLocationWorkingSchedule(@PathVariable Long id, @Valid @RequestBody WorkingScheduleRequestDTO requestDTO) {
+        List<WorkingSegmentDTO> schedule = locationService.updateLocationWorkingSchedule(id, requestDTO);
+        return ResponseEntity.ok(schedule); // 200 OK
+    }
+
     // DELETE /api/locations/id - Delete location by ID
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAuthority('ADMIN')")
@@ -70,16 +102,36 @@ public class LocationController {
     }
 
     // GET /api/locations/id/availability?date=YYYY-MM-DD - Get location available time slots for a specific date
+    // Supports If-None-Match: returns 304 NOT MODIFIED while the location's calendar version is unchanged
     @GetMapping("/{id}/availability")
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
     public ResponseEntity<List<AvailableSlotDTO>> getLocationAvailability(
             @PathVariable Long id,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest) {
+        // The version is read before the slots, so a concurrent write can only make the ETag older than the body
+        long revision = calendarVersionService.getRevision(ResourceType.LOCATION, id);
+        String eTag = CalendarVersionService.toETag(ResourceType.LOCATION, id, revision);
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 NOT MODIFIED, the response status and ETag are already set
+        }
+
         List<AvailableSlotDTO> availableSlots = availabilityService.getAvailableTimeForLocation(id, date);
-        return ResponseEntity.ok(availableSlots);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CALENDAR_CACHE_CONTROL)
+                .body(availableSlots);
     }
 
 
+    // GET /api/locations/id/changes - Stream meeting changes of the location's calendar (server-sent events)
+    @GetMapping(path = "/{id}/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public SseEmitter streamLocationChanges(@PathVariable Long id) {
+        locationService.getLocationById(id); // 404 NOT FOUND for unknown locations
+        return calendarChangeBroadcaster.subscribe(ResourceType.LOCATION, id);
+    }
+
     // POST /api/locations/availability-by-duration - Find locations with sufficient time gaps on a specific date
     @PostMapping("/availability-by-duration")
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
@@ -89,5 +141,14 @@ public class LocationController {
         return ResponseEntity.ok(locationSlots); // 200 OK
     }
 
+    // POST /api/locations/assignments - Assign rooms to the pending meetings of a day (smallest room that fits, largest meetings first)
+    @PostMapping("/assignments")
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<RoomAssignmentResultDTO> assignRooms(
+            @Valid @RequestBody RoomAssignmentRequestDTO requestDTO) {
+        RoomAssignmentResultDTO assignments = availabilityService.assignRooms(requestDTO);
+        return ResponseEntity.ok(assignments); // 200 OK
+    }
+
 
 }
@@ -1,21 +1,31 @@
 package com.truestayhere.meeting_scheduler.controller;
 
 
+import com.truestayhere.meeting_scheduler.dto.request.BatchScheduleRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.CreateMeetingRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.FirstAvailableSuggestionRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.MeetingSuggestionRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.PreemptionPlanRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.RecurringSuggestionRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.UpdateMeetingRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.response.BatchScheduleResultDTO;
 import com.truestayhere.meeting_scheduler.dto.response.LocationTimeSlotDTO;
 import com.truestayhere.meeting_scheduler.dto.response.MeetingDTO;
+import com.truestayhere.meeting_scheduler.dto.response.PreemptionPlanDTO;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
 import com.truestayhere.meeting_scheduler.service.AvailabilityService;
+import com.truestayhere.meeting_scheduler.service.CalendarVersionService;
 import com.truestayhere.meeting_scheduler.service.MeetingService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,8 +35,12 @@ import java.util.List;
 @RequiredArgsConstructor
 @SecurityRequirement(name = "bearerAuth")
 public class MeetingController {
+    // Calendar reads must be revalidated on every use (clients poll with If-None-Match)
+    private static final CacheControl CALENDAR_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final MeetingService meetingService;
     private final AvailabilityService availabilityService;
+    private final CalendarVersionService calendarVersionService;
 
     // GET /api/meetings - Get all meetings
     @GetMapping
@@ -46,25 +60,47 @@ public class MeetingController {
 
     // GET /api/meetings/byAttendee/{attendeeId}?start=...&end=...
     // DateTimeFormat expects format like 2024-07-30T10:00:00
+    // Supports If-None-Match: returns 304 NOT MODIFIED while the attendee's calendar version is unchanged
     @GetMapping("/byAttendee/{attendeeId}")
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
     public ResponseEntity<List<MeetingDTO>> getMeetingsByAttendeeAndRange(
             @PathVariable Long attendeeId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            WebRequest webRequest) {
+        long revision = calendarVersionService.getRevision(ResourceType.ATTENDEE, attendeeId);
+        String eTag = CalendarVersionService.toETag(ResourceType.ATTENDEE, attendeeId, revision);
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 NOT MODIFIED
+        }
+
         List<MeetingDTO> meetings = availabilityService.getMeetingsForAttendeeInRange(attendeeId, start, end);
-        return ResponseEntity.ok(meetings); // 200 OK
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CALENDAR_CACHE_CONTROL)
+                .body(meetings); // 200 OK
     }
 
     // GET /api/meetings/byLocation/{locationId}?start=...&end=...
+    // Supports If-None-Match: returns 304 NOT MODIFIED while the location's calendar version is unchanged
     @GetMapping("/byLocation/{locationId}")
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
     public ResponseEntity<List<MeetingDTO>> getMeetingsByLocationAndRange(
             @PathVariable Long locationId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            WebRequest webRequest) {
+        long revision = calendarVersionService.getRevision(ResourceType.LOCATION, locationId);
+        String eTag = CalendarVersionService.toETag(ResourceType.LOCATION, locationId, revision);
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 NOT MODIFIED
+        }
+
         List<MeetingDTO> meetings = availabilityService.getMeetingsForLocationInRange(locationId, start, end);
-        return ResponseEntity.ok(meetings);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CALENDAR_CACHE_CONTROL)
+                .body(meetings);
     }
 
     // POST /api/meetings - Create a new meeting
@@ -99,4 +135,41 @@ public class MeetingController {
         List<LocationTimeSlotDTO> meetingSuggestions = availabilityService.findMeetingSuggestions(request);
         return ResponseEntity.ok(meetingSuggestions); // 200 OK
     }
+
+
+    // POST /api/meetings/suggestions/first-available - Find the earliest meeting suggestions over several business days
+    @PostMapping("/suggestions/first-available")
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<List<LocationTimeSlotDTO>> findFirstAvailableSuggestions(
+            @Valid @RequestBody FirstAvailableSuggestionRequestDTO request) {
+        List<LocationTimeSlotDTO> meetingSuggestions = availabilityService.findFirstAvailableSuggestions(request);
+        return ResponseEntity.ok(meetingSuggestions); // 200 OK
+    }
+
+    // POST /api/meetings/suggestions/recurring - Find meeting suggestions free on every occurrence of a weekly meeting
+    @PostMapping("/suggestions/recurring")
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<List<LocationTimeSlotDTO>> findRecurringSuggestions(
+            @Valid @RequestBody RecurringSuggestionRequestDTO request) {
+        List<LocationTimeSlotDTO> meetingSuggestions = availabilityService.findRecurringSuggestions(request);
+        return ResponseEntity.ok(meetingSuggestions); // 200 OK
+    }
+
+    // POST /api/meetings/suggestions/batch - Propose conflict-free times and rooms for a batch of meetings
+    @PostMapping("/suggestions/batch")
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<BatchScheduleResultDTO> scheduleBatch(
+            @Valid @RequestBody BatchScheduleRequestDTO request) {
+        BatchScheduleResultDTO result = availabilityService.scheduleBatch(request);
+        return ResponseEntity.ok(result); // 200 OK
+    }
+
+    // POST /api/meetings/suggestions/preemption - Plan which lower priority meetings to move for a meeting without a free slot
+    @PostMapping("/suggestions/preemption")
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<List<PreemptionPlanDTO>> planPreemption(
+            @Valid @RequestBody PreemptionPlanRequestDTO request) {
+        List<PreemptionPlanDTO> plans = availabilityService.planPreemption(request);
+        return ResponseEntity.ok(plans); // 200 OK
+    }
 }
@@ -0,0 +1,51 @@
+package com.truestayhere.meeting_scheduler.controller;
+
+
+import com.truestayhere.meeting_scheduler.dto.request.CreateTimeOffRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.response.TimeOffDTO;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.service.TimeOffService;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/time-off")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class TimeOffController {
+
+    private final TimeOffService timeOffService;
+
+    // GET /api/time-off?resourceType=LOCATION&resourceId=1 - Get time off of a resource (global holidays without parameters)
+    @GetMapping
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<List<TimeOffDTO>> getTimeOff(
+            @RequestParam(required = false) ResourceType resourceType,
+            @RequestParam(required = false) Long resourceId) {
+        List<TimeOffDTO> timeOff = timeOffService.getTimeOff(resourceType, resourceId);
+        return ResponseEntity.ok(timeOff); // 200 OK
+    }
+
+    // POST /api/time-off - Create time off of a resource or a global holiday
+    @PostMapping
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<TimeOffDTO> createTimeOff(@Valid @RequestBody CreateTimeOffRequestDTO requestDTO) {
+        TimeOffDTO createdTimeOff = timeOffService.createTimeOff(requestDTO);
+        return new ResponseEntity<>(createdTimeOff, HttpStatus.CREATED); // 201 CREATED
+    }
+
+    // DELETE /api/time-off/id - Delete time off by ID
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<Void> deleteTimeOffById(@PathVariable Long id) {
+        timeOffService.deleteTimeOff(id);
+        return ResponseEntity.noContent().build(); // 204 NO CONTENT
+    }
+}
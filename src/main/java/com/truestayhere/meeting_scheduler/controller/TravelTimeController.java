@@ -0,0 +1,47 @@
+package com.truestayhere.meeting_scheduler.controller;
+
+
+import com.truestayhere.meeting_scheduler.dto.request.SetTravelTimeRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.response.TravelTimeDTO;
+import com.truestayhere.meeting_scheduler.service.TravelTimeService;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/travel-times")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class TravelTimeController {
+
+    private final TravelTimeService travelTimeService;
+
+    // GET /api/travel-times - Get all travel times between buildings
+    @GetMapping
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<List<TravelTimeDTO>> getAllTravelTimes() {
+        List<TravelTimeDTO> travelTimes = travelTimeService.getAllTravelTimes();
+        return ResponseEntity.ok(travelTimes); // 200 OK
+    }
+
+    // PUT /api/travel-times - Set the travel time from one building to another
+    @PutMapping
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<TravelTimeDTO> setTravelTime(@Valid @RequestBody SetTravelTimeRequestDTO requestDTO) {
+        TravelTimeDTO travelTime = travelTimeService.setTravelTime(requestDTO);
+        return ResponseEntity.ok(travelTime); // 200 OK
+    }
+
+    // DELETE /api/travel-times/id - Delete a travel time by ID
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<Void> deleteTravelTimeById(@PathVariable Long id) {
+        travelTimeService.deleteTravelTime(id);
+        return ResponseEntity.noContent().build(); // 204 NO CONTENT
+    }
+}
@@ -0,0 +1,28 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import com.truestayhere.meeting_scheduler.model.LocationFeature;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+import java.util.Set;
+
+// Meeting of a batch that still needs a time and a room
+public record BatchMeetingRequestDTO(
+        @Size(max = 200, message = "Meeting title cannot exceed 200 characters.")
+        String title,
+
+        @NotEmpty(message = "Attendee list cannot be empty.")
+        Set<@NotNull Long> attendeeIds,
+
+        @NotNull(message = "Meeting duration cannot be empty.")
+        @Min(value = 1, message = "Duration must me at least 1 minute.")
+        Integer durationMinutes,
+
+        // The room must have every listed feature, any room if not provided
+        Set<@NotNull LocationFeature> requiredFeatures,
+
+        // Only rooms in this part of the location hierarchy, any room if not provided
+        @Valid
+        LocationScopeRequestDTO scope
+) {
+}
@@ -0,0 +1,25 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Meetings to place together within a number of business days
+public record BatchScheduleRequestDTO(
+        @NotNull(message = "A start date must be provided.")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate startDate,
+
+        // Number of business days (Monday - Friday) to place the meetings in, 5 if not provided
+        @Min(value = 1, message = "Horizon must be at least 1 business day.")
+        @Max(value = 20, message = "Horizon must not exceed 20 business days.")
+        Integer horizonDays,
+
+        @NotEmpty(message = "At least one meeting must be provided.")
+        @Size(max = 500, message = "At most 500 meetings can be scheduled at once.")
+        List<@Valid @NotNull BatchMeetingRequestDTO> meetings
+) {
+}
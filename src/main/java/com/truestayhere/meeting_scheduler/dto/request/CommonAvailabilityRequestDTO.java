@@ -1,16 +1,19 @@
 package com.truestayhere.meeting_scheduler.dto.request;
 
-import jakarta.validation.constraints.NotEmpty;
+import com.truestayhere.meeting_scheduler.dto.validation.AttendeesOrGroups;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
 import java.util.Set;
 
+// Attendees are the listed attendees plus the members of the listed groups (nested groups included)
+@AttendeesOrGroups(message = "At least one attendee ID must be provided.")
 public record CommonAvailabilityRequestDTO(
-        @NotEmpty(message = "At least one attendee ID must be provided.")
         Set<@NotNull Long> attendeeIds,
 
+        Set<@NotNull Long> groupIds,
+
         @NotNull(message = "A date must be provided.")
         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
         LocalDate date
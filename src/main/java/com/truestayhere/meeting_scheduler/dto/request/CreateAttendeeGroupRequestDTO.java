@@ -0,0 +1,19 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+// Request sends it from client to create a new attendee group
+public record CreateAttendeeGroupRequestDTO(
+        @NotBlank(message = "Group name must not be blank.")
+        @Size(max = 150, message = "Group name cannot exceed 150 characters.")
+        String name,
+
+        Set<@NotNull Long> memberIds,
+
+        Set<@NotNull Long> subgroupIds
+) {
+}
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalTime;
+import java.time.ZoneId;
 
 @ValidWorkingHours
 public record CreateAttendeeRequestDTO(
@@ -29,6 +30,9 @@ public record CreateAttendeeRequestDTO(
         Role role,
 
         LocalTime workingStartTime,
-        LocalTime workingEndTime
+        LocalTime workingEndTime,
+
+        // Zone of the working hours (e.g. "Europe/Berlin"), UTC if not provided
+        ZoneId timeZone
 ) {
 }
@@ -1,12 +1,16 @@
 package com.truestayhere.meeting_scheduler.dto.request;
 
 import com.truestayhere.meeting_scheduler.dto.validation.ValidWorkingHours;
+import com.truestayhere.meeting_scheduler.model.LocationFeature;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Set;
 
 @ValidWorkingHours
 public record CreateLocationRequestDTO(
@@ -20,6 +24,26 @@ public record CreateLocationRequestDTO(
         Integer capacity,
 
         LocalTime workingStartTime,
-        LocalTime workingEndTime
+        LocalTime workingEndTime,
+
+        // Zone of the working hours (e.g. "Europe/Berlin"), UTC if not provided
+        ZoneId timeZone,
+
+        @Size(max = 100, message = "Building name cannot exceed 100 characters.")
+        String building,
+
+        @Min(value = 0, message = "Buffer minutes cannot be negative.")
+        @Max(value = 240, message = "Buffer minutes cannot exceed 240.")
+        Integer bufferMinutes,
+
+        // Equipment of the location, none if not provided
+        Set<@NotNull LocationFeature> features,
+
+        // Location hierarchy: site > building > floor
+        @Size(max = 100, message = "Site name cannot exceed 100 characters.")
+        String site,
+
+        @Size(max = 50, message = "Floor name cannot exceed 50 characters.")
+        String floor
 ) {
 }
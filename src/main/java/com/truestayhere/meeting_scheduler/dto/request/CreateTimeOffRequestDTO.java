@@ -0,0 +1,25 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import com.truestayhere.meeting_scheduler.dto.validation.StartBeforeEnd;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+// Request sends it from client to create a time off period (resource type and ID are omitted for a global holiday)
+@StartBeforeEnd
+public record CreateTimeOffRequestDTO(
+        ResourceType resourceType,
+
+        Long resourceId,
+
+        @NotNull(message = "Time off start time cannot be null.")
+        LocalDateTime startTime,
+
+        @NotNull(message = "Time off end time cannot be null.")
+        LocalDateTime endTime,
+
+        @Size(max = 200, message = "Time off reason must not exceed 200 characters.")
+        String reason) {
+}
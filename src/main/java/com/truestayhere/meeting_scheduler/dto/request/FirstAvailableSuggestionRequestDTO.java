@@ -0,0 +1,50 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import com.truestayhere.meeting_scheduler.dto.validation.AttendeesOrGroups;
+import com.truestayhere.meeting_scheduler.model.LocationFeature;
+import com.truestayhere.meeting_scheduler.model.RoomSelection;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+// Attendees are the listed attendees plus the members of the listed groups (nested groups included)
+@AttendeesOrGroups(message = "Attendee list cannot be empty.")
+public record FirstAvailableSuggestionRequestDTO(
+        Set<@NotNull Long> attendeeIds,
+
+        Set<@NotNull Long> groupIds,
+
+        @NotNull(message = "Meeting duration cannot be empty.")
+        @Min(value = 1, message = "Duration must me at least 1 minute.")
+        Integer durationMinutes,
+
+        @NotNull(message = "A start date must be provided.")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate startDate,
+
+        // Number of business days (Monday - Friday) to search, 10 if not provided
+        @Min(value = 1, message = "Horizon must be at least 1 business day.")
+        @Max(value = 60, message = "Horizon must not exceed 60 business days.")
+        Integer horizonDays,
+
+        // Maximum number of suggestions to return, 5 if not provided
+        @Min(value = 1, message = "At least 1 result must be requested.")
+        @Max(value = 50, message = "At most 50 results can be requested.")
+        Integer maxResults,
+
+        // Locations must have every listed feature, any location if not provided
+        Set<@NotNull LocationFeature> requiredFeatures,
+
+        // Only locations in this part of the location hierarchy, any location if not provided
+        @Valid
+        LocationScopeRequestDTO scope,
+
+        // ALL_FITTING if not provided
+        RoomSelection roomSelection
+) {
+}
@@ -0,0 +1,33 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import com.truestayhere.meeting_scheduler.dto.validation.AttendeesOrGroups;
+import com.truestayhere.meeting_scheduler.dto.validation.StartBeforeEnd;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// Attendees are the listed attendees plus the members of the listed groups (nested groups included)
+@StartBeforeEnd
+@AttendeesOrGroups
+public record FreeCountHeatmapRequestDTO(
+        @Size(max = 1000, message = "At most 1000 attendees can be requested.")
+        Set<@NotNull Long> attendeeIds,
+
+        Set<@NotNull Long> groupIds,
+
+        @NotNull(message = "Range start time cannot be null.")
+        LocalDateTime startTime,
+
+        @NotNull(message = "Range end time cannot be null.")
+        LocalDateTime endTime,
+
+        // Bucket size, 15 minutes if not provided
+        @Min(value = 5, message = "Buckets must be at least 5 minutes long.")
+        @Max(value = 240, message = "Buckets must not exceed 240 minutes.")
+        Integer bucketMinutes
+) {
+}
@@ -1,10 +1,13 @@
 package com.truestayhere.meeting_scheduler.dto.request;
 
+import com.truestayhere.meeting_scheduler.model.LocationFeature;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
+import java.util.Set;
 
 public record LocationAvailabilityRequestDTO(
         @NotNull(message = "A date must be provided.")
@@ -16,6 +19,13 @@ public record LocationAvailabilityRequestDTO(
         Integer durationMinutes,
 
         @Min(value = 1, message = "Minimum capacity must be at least 1 if provided.")
-        Integer minimumCapacity
+        Integer minimumCapacity,
+
+        // Locations must have every listed feature, any location if not provided
+        Set<@NotNull LocationFeature> requiredFeatures,
+
+        // Only locations in this part of the location hierarchy, any location if not provided
+        @Valid
+        LocationScopeRequestDTO scope
 ) {
 }
@@ -0,0 +1,17 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import jakarta.validation.constraints.Size;
+
+// Subtree of the location hierarchy (site > building > floor), every provided level must match
+public record LocationScopeRequestDTO(
+
+        @Size(max = 100, message = "Site name cannot exceed 100 characters.")
+        String site,
+
+        @Size(max = 100, message = "Building name cannot exceed 100 characters.")
+        String building,
+
+        @Size(max = 50, message = "Floor name cannot exceed 50 characters.")
+        String floor
+) {
+}
@@ -1,23 +1,39 @@
 package com.truestayhere.meeting_scheduler.dto.request;
 
+import com.truestayhere.meeting_scheduler.dto.validation.AttendeesOrGroups;
+import com.truestayhere.meeting_scheduler.model.LocationFeature;
+import com.truestayhere.meeting_scheduler.model.RoomSelection;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
 import java.util.Set;
 
+// Attendees are the listed attendees plus the members of the listed groups (nested groups included)
+@AttendeesOrGroups(message = "Attendee list cannot be empty.")
 public record MeetingSuggestionRequestDTO(
-        @NotEmpty(message = "Attendee list cannot be empty.")
         Set<@NotNull Long> attendeeIds,
 
+        Set<@NotNull Long> groupIds,
+
         @NotNull(message = "Meeting duration cannot be empty.")
         @Min(value = 1, message = "Duration must me at least 1 minute.")
         Integer durationMinutes,
 
         @NotNull(message = "A date must be provided.")
         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-        LocalDate date
+        LocalDate date,
+
+        // Locations must have every listed feature, any location if not provided
+        Set<@NotNull LocationFeature> requiredFeatures,
+
+        // Only locations in this part of the location hierarchy, any location if not provided
+        @Valid
+        LocationScopeRequestDTO scope,
+
+        // ALL_FITTING if not provided
+        RoomSelection roomSelection
 ) {
 }
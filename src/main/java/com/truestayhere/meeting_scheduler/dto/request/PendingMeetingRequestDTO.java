@@ -0,0 +1,27 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import com.truestayhere.meeting_scheduler.dto.validation.StartBeforeEnd;
+import com.truestayhere.meeting_scheduler.model.LocationFeature;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// Meeting with a fixed time that still needs a room
+@StartBeforeEnd
+public record PendingMeetingRequestDTO(
+        @NotNull(message = "Meeting start time cannot be null.")
+        LocalDateTime startTime,
+
+        @NotNull(message = "Meeting end time cannot be null.")
+        LocalDateTime endTime,
+
+        @NotNull(message = "Attendee count cannot be empty.")
+        @Min(value = 1, message = "At least 1 attendee must attend.")
+        Integer attendeeCount,
+
+        // The room must have every listed feature, any room if not provided
+        Set<@NotNull LocationFeature> requiredFeatures
+) {
+}
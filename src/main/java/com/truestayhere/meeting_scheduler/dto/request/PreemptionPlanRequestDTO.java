@@ -0,0 +1,51 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import com.truestayhere.meeting_scheduler.dto.validation.AttendeesOrGroups;
+import com.truestayhere.meeting_scheduler.model.LocationFeature;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+// Meeting that must happen on the date even if existing meetings of lower priority have to move;
+// attendees are the listed attendees plus the members of the listed groups
+@AttendeesOrGroups(message = "Attendee list cannot be empty.")
+public record PreemptionPlanRequestDTO(
+        Set<@NotNull Long> attendeeIds,
+
+        Set<@NotNull Long> groupIds,
+
+        @NotNull(message = "Meeting duration cannot be empty.")
+        @Min(value = 1, message = "Duration must me at least 1 minute.")
+        Integer durationMinutes,
+
+        @NotNull(message = "A date must be provided.")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate date,
+
+        // Locations must have every listed feature, any location if not provided
+        Set<@NotNull LocationFeature> requiredFeatures,
+
+        // Only locations in this part of the location hierarchy, any location if not provided
+        @Valid
+        LocationScopeRequestDTO scope,
+
+        // Only existing meetings with a lower priority can be moved
+        @NotNull(message = "Meeting priority cannot be empty.")
+        @Min(value = 1, message = "Priority must be at least 1.")
+        Integer priority,
+
+        // Priorities of existing meetings by meeting ID, meetings not listed have priority 0
+        Map<@NotNull Long, @NotNull @Min(value = 0, message = "Priority cannot be negative.") Integer> meetingPriorities,
+
+        // Maximum number of plans to return, 3 if not provided
+        @Min(value = 1, message = "At least 1 result must be requested.")
+        @Max(value = 20, message = "At most 20 results can be requested.")
+        Integer maxResults
+) {
+}
@@ -0,0 +1,39 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import com.truestayhere.meeting_scheduler.dto.validation.AttendeesOrGroups;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+// Attendees are the listed attendees plus the members of the listed groups (nested groups included)
+@AttendeesOrGroups(message = "At least one attendee ID must be provided.")
+public record QuorumAvailabilityRequestDTO(
+        Set<@NotNull Long> attendeeIds,
+
+        Set<@NotNull Long> groupIds,
+
+        // Attendees that must be free in every suggested slot (added to attendeeIds if missing)
+        Set<@NotNull Long> requiredAttendeeIds,
+
+        // Minimum number of free attendees, the number of required attendees (at least 1) if not provided
+        @Min(value = 1, message = "At least 1 attendee must be able to attend.")
+        Integer minAttendees,
+
+        @NotNull(message = "A date must be provided.")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate date,
+
+        @NotNull(message = "Meeting duration cannot be empty.")
+        @Min(value = 1, message = "Duration must me at least 1 minute.")
+        Integer durationMinutes,
+
+        // Maximum number of slots to return, 5 if not provided
+        @Min(value = 1, message = "At least 1 result must be requested.")
+        @Max(value = 50, message = "At most 50 results can be requested.")
+        Integer maxResults
+) {
+}
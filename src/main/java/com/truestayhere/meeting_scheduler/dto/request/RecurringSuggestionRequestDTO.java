@@ -0,0 +1,49 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import com.truestayhere.meeting_scheduler.dto.validation.AttendeesOrGroups;
+import com.truestayhere.meeting_scheduler.model.LocationFeature;
+import com.truestayhere.meeting_scheduler.model.RoomSelection;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Set;
+
+// Weekly meeting on the weekday of the first date; attendees are the listed attendees plus the members of the listed groups
+@AttendeesOrGroups(message = "Attendee list cannot be empty.")
+public record RecurringSuggestionRequestDTO(
+        Set<@NotNull Long> attendeeIds,
+
+        Set<@NotNull Long> groupIds,
+
+        @NotNull(message = "Meeting duration cannot be empty.")
+        @Min(value = 1, message = "Duration must me at least 1 minute.")
+        Integer durationMinutes,
+
+        @NotNull(message = "A first date must be provided.")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate firstDate,
+
+        // Number of weekly occurrences, 4 if not provided
+        @Min(value = 1, message = "At least 1 occurrence must be requested.")
+        @Max(value = 26, message = "At most 26 occurrences can be requested.")
+        Integer occurrences,
+
+        // Time zone in which every occurrence keeps the same time of day (across DST changes), UTC if not provided
+        ZoneId timeZone,
+
+        // Locations must have every listed feature, any location if not provided
+        Set<@NotNull LocationFeature> requiredFeatures,
+
+        // Only locations in this part of the location hierarchy, any location if not provided
+        @Valid
+        LocationScopeRequestDTO scope,
+
+        // ALL_FITTING if not provided
+        RoomSelection roomSelection
+) {
+}
@@ -0,0 +1,9 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequestDTO(
+        @NotBlank(message = "Refresh token cannot be blank.")
+        String refreshToken
+) {
+}
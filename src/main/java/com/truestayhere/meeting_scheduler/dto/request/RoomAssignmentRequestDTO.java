@@ -0,0 +1,22 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Pending meetings of one day to assign rooms to in a single batch
+public record RoomAssignmentRequestDTO(
+        @NotNull(message = "A date must be provided.")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate date,
+
+        @NotEmpty(message = "At least one meeting must be provided.")
+        @Size(max = 5000, message = "At most 5000 meetings can be assigned at once.")
+        List<@Valid @NotNull PendingMeetingRequestDTO> meetings
+) {
+}
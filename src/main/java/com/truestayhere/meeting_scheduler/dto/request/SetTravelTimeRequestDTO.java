@@ -0,0 +1,24 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+// Request sends it from client to set the travel time from one building to another (replaces an existing one)
+public record SetTravelTimeRequestDTO(
+        @NotBlank(message = "From building cannot be blank.")
+        @Size(max = 100, message = "Building name cannot exceed 100 characters.")
+        String fromBuilding,
+
+        @NotBlank(message = "To building cannot be blank.")
+        @Size(max = 100, message = "Building name cannot exceed 100 characters.")
+        String toBuilding,
+
+        @NotNull(message = "Travel minutes cannot be null.")
+        @Min(value = 0, message = "Travel minutes cannot be negative.")
+        @Max(value = 480, message = "Travel minutes cannot exceed 480.")
+        Integer minutes
+) {
+}
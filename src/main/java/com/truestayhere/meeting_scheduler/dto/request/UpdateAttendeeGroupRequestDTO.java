@@ -0,0 +1,17 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+// Request sends it from client to update an attendee group (null fields are left unchanged, sets replace the current ones)
+public record UpdateAttendeeGroupRequestDTO(
+        @Size(max = 150, message = "Group name cannot exceed 150 characters.")
+        String name,
+
+        Set<@NotNull Long> memberIds,
+
+        Set<@NotNull Long> subgroupIds
+) {
+}
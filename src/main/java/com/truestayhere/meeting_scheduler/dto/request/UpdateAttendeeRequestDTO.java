@@ -6,6 +6,7 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalTime;
+import java.time.ZoneId;
 
 @ValidWorkingHours
 public record UpdateAttendeeRequestDTO(
@@ -23,6 +24,9 @@ public record UpdateAttendeeRequestDTO(
         Role role,
 
         LocalTime workingStartTime,
-        LocalTime workingEndTime
+        LocalTime workingEndTime,
+
+        // Zone of the working hours (e.g. "Europe/Berlin"), unchanged if not provided
+        ZoneId timeZone
 ) {
 }
@@ -0,0 +1,18 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import com.truestayhere.meeting_scheduler.dto.validation.NonOverlappingSegments;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record WorkingScheduleRequestDTO(
+
+        // Weekly working segments, an empty list restores the daily working hours
+        @NotNull(message = "Segment list cannot be null.")
+        @Size(max = 50, message = "A schedule cannot have more than 50 segments.")
+        @NonOverlappingSegments
+        List<@NotNull @Valid WorkingSegmentRequestDTO> segments
+) {
+}
@@ -0,0 +1,22 @@
+package com.truestayhere.meeting_scheduler.dto.request;
+
+import com.truestayhere.meeting_scheduler.dto.validation.ValidWorkingHours;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+// An end time before the start time means the segment ends on the next day
+@ValidWorkingHours(startTimeField = "startTime", endTimeField = "endTime", message = "Segment start time and end time cannot be the same.")
+public record WorkingSegmentRequestDTO(
+
+        @NotNull(message = "Day of week cannot be empty.")
+        DayOfWeek dayOfWeek,
+
+        @NotNull(message = "Segment start time cannot be empty.")
+        LocalTime startTime,
+
+        @NotNull(message = "Segment end time cannot be empty.")
+        LocalTime endTime
+) {
+}
@@ -0,0 +1,11 @@
+package com.truestayhere.meeting_scheduler.dto.response;
+
+import java.util.Set;
+
+public record AttendeeGroupDTO(
+        Long id,
+        String name,
+        Set<Long> memberIds,
+        Set<Long> subgroupIds
+) {
+}
@@ -0,0 +1,11 @@
+package com.truestayhere.meeting_scheduler.dto.response;
+
+import java.util.List;
+
+// Proposed schedule in the order of the requested meetings
+public record BatchScheduleResultDTO(
+        List<ScheduledMeetingDTO> meetings,
+        int scheduledCount,
+        int unscheduledCount
+) {
+}
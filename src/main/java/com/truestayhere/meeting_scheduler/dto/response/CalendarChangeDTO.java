@@ -0,0 +1,17 @@
+package com.truestayhere.meeting_scheduler.dto.response;
+
+// Delta pushed to calendar change stream subscribers (meeting is null for DELETED and RESYNC)
+public record CalendarChangeDTO(
+        Type type,
+        Long meetingId,
+        MeetingDTO meeting
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        // Deltas were lost (buffer overflow or a change on another node) - the client must reload the calendar
+        RESYNC
+    }
+}
@@ -0,0 +1,11 @@
+package com.truestayhere.meeting_scheduler.dto.response;
+
+// Existing meeting a preemption plan moves, the alternative slot is in the same location (null when none is free that day)
+public record DisplacedMeetingDTO(
+        Long meetingId,
+        String title,
+        int priority,
+        AvailableSlotDTO currentSlot,
+        AvailableSlotDTO alternativeSlot
+) {
+}
@@ -0,0 +1,14 @@
+package com.truestayhere.meeting_scheduler.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Free attendee count per bucket, bucket i starts at startTime + i * bucketMinutes (the last bucket may be shorter)
+public record FreeCountHeatmapDTO(
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        int bucketMinutes,
+        int attendeeCount,
+        List<Integer> freeCounts
+) {
+}
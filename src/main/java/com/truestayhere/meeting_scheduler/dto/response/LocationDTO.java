@@ -1,8 +1,17 @@
 package com.truestayhere.meeting_scheduler.dto.response;
 
+import com.truestayhere.meeting_scheduler.model.LocationFeature;
+
+import java.util.Set;
+
 public record LocationDTO(
         Long id,
         String name,
-        Integer capacity
+        Integer capacity,
+        String building,
+        Integer bufferMinutes,
+        Set<LocationFeature> features,
+        String site,
+        String floor
 ) {
 }
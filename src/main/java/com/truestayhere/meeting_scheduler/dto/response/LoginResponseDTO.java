@@ -1,6 +1,7 @@
 package com.truestayhere.meeting_scheduler.dto.response;
 
 public record LoginResponseDTO(
-        String token
+        String token,
+        String refreshToken
 ) {
 }
@@ -0,0 +1,11 @@
+package com.truestayhere.meeting_scheduler.dto.response;
+
+import java.util.List;
+
+// Slot and location for the new meeting and the existing meetings that have to move for it (empty if the slot is free)
+public record PreemptionPlanDTO(
+        LocationDTO location,
+        AvailableSlotDTO slot,
+        List<DisplacedMeetingDTO> displacedMeetings
+) {
+}
@@ -0,0 +1,13 @@
+package com.truestayhere.meeting_scheduler.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record QuorumSlotDTO(
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        int availableCount,
+        Set<Long> availableAttendeeIds,
+        Set<Long> unavailableAttendeeIds
+) {
+}
@@ -0,0 +1,13 @@
+package com.truestayhere.meeting_scheduler.dto.response;
+
+import java.time.LocalDateTime;
+
+// Room assigned to a pending meeting (location is null when no room was free)
+public record RoomAssignmentDTO(
+        int meetingIndex,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        int attendeeCount,
+        LocationDTO location
+) {
+}
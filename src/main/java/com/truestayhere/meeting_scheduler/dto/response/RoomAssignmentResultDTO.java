@@ -0,0 +1,12 @@
+package com.truestayhere.meeting_scheduler.dto.response;
+
+import java.util.List;
+
+// Assignments in the order of the requested meetings, seat utilization = attendee minutes / seat minutes of the assigned rooms
+public record RoomAssignmentResultDTO(
+        List<RoomAssignmentDTO> assignments,
+        int assignedCount,
+        int unassignedCount,
+        double seatUtilization
+) {
+}
@@ -0,0 +1,13 @@
+package com.truestayhere.meeting_scheduler.dto.response;
+
+import java.time.LocalDateTime;
+
+// Time and room proposed for a meeting of a batch (times and location are null when the meeting did not fit)
+public record ScheduledMeetingDTO(
+        int meetingIndex,
+        String title,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        LocationDTO location
+) {
+}
@@ -0,0 +1,15 @@
+package com.truestayhere.meeting_scheduler.dto.response;
+
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+
+import java.time.LocalDateTime;
+
+public record TimeOffDTO(
+        Long id,
+        ResourceType resourceType,
+        Long resourceId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        String reason
+) {
+}
@@ -0,0 +1,9 @@
+package com.truestayhere.meeting_scheduler.dto.response;
+
+public record TravelTimeDTO(
+        Long id,
+        String fromBuilding,
+        String toBuilding,
+        Integer minutes
+) {
+}
@@ -0,0 +1,11 @@
+package com.truestayhere.meeting_scheduler.dto.response;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public record WorkingSegmentDTO(
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+}
@@ -0,0 +1,22 @@
+package com.truestayhere.meeting_scheduler.dto.validation;
+
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+// Requires a non-empty attendeeIds or groupIds collection, the violation is reported on attendeeIds
+@Documented
+@Constraint(validatedBy = AttendeesOrGroupsValidator.class)
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AttendeesOrGroups {
+
+    String message() default "At least one attendee ID or group ID must be provided.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+}
@@ -0,0 +1,43 @@
+package com.truestayhere.meeting_scheduler.dto.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.BeansException;
+
+import java.util.Collection;
+
+@Slf4j
+public class AttendeesOrGroupsValidator implements ConstraintValidator<AttendeesOrGroups, Object> {
+
+    @Override
+    public boolean isValid(Object value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        try {
+            BeanWrapperImpl beanWrapper = new BeanWrapperImpl(value);
+
+            if (isNotEmpty(beanWrapper.getPropertyValue("attendeeIds")) || isNotEmpty(beanWrapper.getPropertyValue("groupIds"))) {
+                return true;
+            }
+
+            // Report on the attendeeIds field, like @NotEmpty would
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                    .addPropertyNode("attendeeIds")
+                    .addConstraintViolation();
+            return false;
+
+        } catch (BeansException e) {
+            log.error("Unexpected error during @AttendeesOrGroups validation on object {}: {}", value, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    // Accepts a property value, returns true for a non-empty collection
+    private boolean isNotEmpty(Object propertyValue) {
+        return propertyValue instanceof Collection<?> collection && !collection.isEmpty();
+    }
+}
@@ -0,0 +1,20 @@
+package com.truestayhere.meeting_scheduler.dto.validation;
+
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+@Documented
+@Constraint(validatedBy = NonOverlappingSegmentsValidator.class)
+@Target({ElementType.FIELD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NonOverlappingSegments {
+
+    String message() default "Working segments cannot overlap.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,52 @@
+package com.truestayhere.meeting_scheduler.dto.validation;
+
+import com.truestayhere.meeting_scheduler.dto.request.WorkingSegmentRequestDTO;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// Checks a weekly schedule on a minute-of-week axis (overnight segments cross into the next day, Sunday wraps to Monday)
+public class NonOverlappingSegmentsValidator implements ConstraintValidator<NonOverlappingSegments, List<WorkingSegmentRequestDTO>> {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    @Override
+    public boolean isValid(List<WorkingSegmentRequestDTO> segments, ConstraintValidatorContext context) {
+        if (segments == null) {
+            return true;
+        }
+
+        List<int[]> intervals = new ArrayList<>();
+        for (WorkingSegmentRequestDTO segment : segments) {
+            // Incomplete segments are reported by their own constraints
+            if (segment == null || segment.dayOfWeek() == null || segment.startTime() == null || segment.endTime() == null) {
+                continue;
+            }
+            int dayOffset = (segment.dayOfWeek().getValue() - 1) * MINUTES_PER_DAY;
+            int start = dayOffset + segment.startTime().toSecondOfDay() / 60;
+            int end = dayOffset + segment.endTime().toSecondOfDay() / 60;
+            if (!segment.endTime().isAfter(segment.startTime())) {
+                end += MINUTES_PER_DAY;
+            }
+
+            if (end > MINUTES_PER_WEEK) {
+                // Sunday overnight segment continues on Monday
+                intervals.add(new int[]{start, MINUTES_PER_WEEK});
+                intervals.add(new int[]{0, end - MINUTES_PER_WEEK});
+            } else {
+                intervals.add(new int[]{start, end});
+            }
+        }
+
+        intervals.sort(Comparator.comparingInt(interval -> interval[0]));
+        for (int i = 1; i < intervals.size(); i++) {
+            if (intervals.get(i)[0] < intervals.get(i - 1)[1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
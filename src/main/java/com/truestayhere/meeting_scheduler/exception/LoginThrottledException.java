@@ -0,0 +1,17 @@
+package com.truestayhere.meeting_scheduler.exception;
+
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class LoginThrottledException extends RuntimeException {
+
+    public LoginThrottledException(String message) {
+        super(message);
+    }
+
+    public LoginThrottledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,40 @@
+package com.truestayhere.meeting_scheduler.mapper;
+
+import com.truestayhere.meeting_scheduler.dto.response.AttendeeGroupDTO;
+import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.AttendeeGroup;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+@Component
+public class AttendeeGroupMapper {
+    // DTO - Entity mapping methods
+
+    // Map from AttendeeGroup Entity to AttendeeGroupDTO (direct members and subgroups only)
+    public AttendeeGroupDTO mapToAttendeeGroupDTO(AttendeeGroup group) {
+        if (group == null) {
+            return null;
+        }
+        Set<Long> memberIds = group.getMembers().stream()
+                .map(Attendee::getId)
+                .collect(Collectors.toCollection(TreeSet::new));
+        Set<Long> subgroupIds = group.getSubgroups().stream()
+                .map(AttendeeGroup::getId)
+                .collect(Collectors.toCollection(TreeSet::new));
+        return new AttendeeGroupDTO(group.getId(), group.getName(), memberIds, subgroupIds);
+    }
+
+    // Map from List<AttendeeGroup> to List<AttendeeGroupDTO>
+    public List<AttendeeGroupDTO> mapToAttendeeGroupDTOList(List<AttendeeGroup> groups) {
+        if (groups == null) {
+            return List.of();
+        }
+        return groups.stream()
+                .map(this::mapToAttendeeGroupDTO)
+                .toList();
+    }
+}
@@ -62,6 +62,9 @@ public class AttendeeMapper {
         // Default working end time 17:00
         attendee.setWorkingEndTime(requestDTO.workingEndTime());
 
+        // UTC if not provided
+        attendee.setTimeZone(requestDTO.timeZone());
+
         return attendee;
     }
 
@@ -82,5 +85,8 @@ public class AttendeeMapper {
         if (requestDTO.workingEndTime() != null) {
             attendee.setWorkingEndTime(requestDTO.workingEndTime());
         }
+        if (requestDTO.timeZone() != null) {
+            attendee.setTimeZone(requestDTO.timeZone());
+        }
     }
 }
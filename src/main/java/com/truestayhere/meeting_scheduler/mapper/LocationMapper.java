@@ -4,6 +4,7 @@ import com.truestayhere.meeting_scheduler.dto.request.CreateLocationRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.UpdateLocationRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.response.LocationDTO;
 import com.truestayhere.meeting_scheduler.model.Location;
+import com.truestayhere.meeting_scheduler.model.LocationFeature;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -23,7 +24,12 @@ public class LocationMapper {
         return new LocationDTO(
                 location.getId(),
                 location.getName(),
-                location.getCapacity()
+                location.getCapacity(),
+                location.getBuilding(),
+                location.getBufferMinutes(),
+                LocationFeature.fromMask(location.getFeatureMask()),
+                location.getSite(),
+                location.getFloor()
         );
     }
 
@@ -63,6 +69,20 @@ public class LocationMapper {
         // Default working end time 17:00
         location.setWorkingEndTime(requestDTO.workingEndTime());
 
+        // UTC if not provided
+        location.setTimeZone(requestDTO.timeZone());
+
+        // No travel time and no buffer if not provided
+        location.setBuilding(requestDTO.building());
+        location.setBufferMinutes(requestDTO.bufferMinutes());
+
+        // Stored as a bitmask, no features if not provided
+        location.setFeatures(LocationFeature.toMask(requestDTO.features()));
+
+        // Outside the location hierarchy if not provided
+        location.setSite(requestDTO.site());
+        location.setFloor(requestDTO.floor());
+
         return location;
     }
 
@@ -80,5 +100,23 @@ public class LocationMapper {
         if (requestDTO.workingEndTime() != null) {
             location.setWorkingEndTime(requestDTO.workingEndTime());
         }
+        if (requestDTO.timeZone() != null) {
+            location.setTimeZone(requestDTO.timeZone());
+        }
+        if (requestDTO.building() != null) {
+            location.setBuilding(requestDTO.building());
+        }
+        if (requestDTO.bufferMinutes() != null) {
+            location.setBufferMinutes(requestDTO.bufferMinutes());
+        }
+        if (requestDTO.features() != null) {
+            location.setFeatures(LocationFeature.toMask(requestDTO.features()));
+        }
+        if (requestDTO.site() != null) {
+            location.setSite(requestDTO.site());
+        }
+        if (requestDTO.floor() != null) {
+            location.setFloor(requestDTO.floor());
+        }
     }
 }
@@ -0,0 +1,52 @@
+package com.truestayhere.meeting_scheduler.mapper;
+
+import com.truestayhere.meeting_scheduler.dto.request.CreateTimeOffRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.response.TimeOffDTO;
+import com.truestayhere.meeting_scheduler.model.TimeOff;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class TimeOffMapper {
+    // DTO - Entity mapping methods
+
+    // Map from TimeOff to TimeOffDTO
+    public TimeOffDTO mapToTimeOffDTO(TimeOff timeOff) {
+        if (timeOff == null) {
+            return null;
+        }
+        return new TimeOffDTO(
+                timeOff.getId(),
+                timeOff.getResourceType(),
+                timeOff.getResourceId(),
+                timeOff.getStartTime(),
+                timeOff.getEndTime(),
+                timeOff.getReason()
+        );
+    }
+
+    // Map from List<TimeOff> to List<TimeOffDTO>
+    public List<TimeOffDTO> mapToTimeOffDTOList(List<TimeOff> timeOffs) {
+        if (timeOffs == null) {
+            return List.of();
+        }
+        return timeOffs.stream()
+                .map(this::mapToTimeOffDTO)
+                .toList();
+    }
+
+    // Map from CreateTimeOffRequestDTO to TimeOff
+    public TimeOff mapToTimeOff(CreateTimeOffRequestDTO requestDTO) {
+        if (requestDTO == null) {
+            return null;
+        }
+        return new TimeOff(
+                requestDTO.resourceType(),
+                requestDTO.resourceId(),
+                requestDTO.startTime(),
+                requestDTO.endTime(),
+                requestDTO.reason()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.truestayhere.meeting_scheduler.mapper;
+
+import com.truestayhere.meeting_scheduler.dto.response.TravelTimeDTO;
+import com.truestayhere.meeting_scheduler.model.TravelTime;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class TravelTimeMapper {
+    // DTO - Entity mapping methods
+
+    // Map from TravelTime to TravelTimeDTO
+    public TravelTimeDTO mapToTravelTimeDTO(TravelTime travelTime) {
+        if (travelTime == null) {
+            return null;
+        }
+        return new TravelTimeDTO(
+                travelTime.getId(),
+                travelTime.getFromBuilding(),
+                travelTime.getToBuilding(),
+                travelTime.getMinutes()
+        );
+    }
+
+    // Map from List<TravelTime> to List<TravelTimeDTO>
+    public List<TravelTimeDTO> mapToTravelTimeDTOList(List<TravelTime> travelTimes) {
+        if (travelTimes == null) {
+            return List.of();
+        }
+        return travelTimes.stream()
+                .map(this::mapToTravelTimeDTO)
+                .toList();
+    }
+}
@@ -0,0 +1,35 @@
+package com.truestayhere.meeting_scheduler.mapper;
+
+import com.truestayhere.meeting_scheduler.dto.request.WorkingSegmentRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.response.WorkingSegmentDTO;
+import com.truestayhere.meeting_scheduler.model.WorkingSegment;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Component
+public class WorkingScheduleMapper {
+    // DTO - Embeddable mapping methods
+
+    // Map from List<WorkingSegment> to List<WorkingSegmentDTO> ordered by day of week and start time
+    public List<WorkingSegmentDTO> mapToWorkingSegmentDTOList(List<WorkingSegment> segments) {
+        if (segments == null) {
+            return List.of();
+        }
+        return segments.stream()
+                .sorted(Comparator.comparing(WorkingSegment::getDayOfWeek).thenComparing(WorkingSegment::getStartTime))
+                .map(segment -> new WorkingSegmentDTO(segment.getDayOfWeek(), segment.getStartTime(), segment.getEndTime()))
+                .toList();
+    }
+
+    // Map from List<WorkingSegmentRequestDTO> to List<WorkingSegment>
+    public List<WorkingSegment> mapToWorkingSegments(List<WorkingSegmentRequestDTO> requestDTOs) {
+        if (requestDTOs == null) {
+            return List.of();
+        }
+        return requestDTOs.stream()
+                .map(requestDTO -> new WorkingSegment(requestDTO.dayOfWeek(), requestDTO.startTime(), requestDTO.endTime()))
+                .toList();
+    }
+}
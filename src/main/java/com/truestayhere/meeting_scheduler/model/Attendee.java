@@ -8,7 +8,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @Entity // tells JPA this is a database table
@@ -42,6 +45,16 @@ public class Attendee {
     @Column(name = "working_end_time")
     private LocalTime workingEndTime;
 
+    // Zone of the working hours (null means UTC)
+    @Convert(converter = ZoneIdConverter.class)
+    @Column(name = "time_zone", length = 64)
+    private ZoneId timeZone;
+
+    // Weekly schedule, replaces the daily working hours when not empty
+    @ElementCollection
+    @CollectionTable(name = "attendee_working_segment", joinColumns = @JoinColumn(name = "attendee_id"))
+    private List<WorkingSegment> workingSegments = new ArrayList<>();
+
     // Connection to meeting_attendee join table
     @ManyToMany(mappedBy = "attendees")
     private Set<Meeting> meetings = new HashSet<>();
@@ -0,0 +1,49 @@
+package com.truestayhere.meeting_scheduler.model;
+
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// Named set of attendees (e.g. a department), groups can contain other groups
+@Entity
+@Table(name = "attendee_group")
+@Getter
+@Setter
+@NoArgsConstructor
+public class AttendeeGroup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 150)
+    private String name;
+
+    @ManyToMany // An attendee can be a member of several groups
+    @JoinTable(
+            name = "attendee_group_member",
+            joinColumns = @JoinColumn(name = "group_id"),
+            inverseJoinColumns = @JoinColumn(name = "attendee_id")
+    )
+    private Set<Attendee> members = new HashSet<>();
+
+    @ManyToMany // Nested groups, cycles are rejected by AttendeeGroupService
+    @JoinTable(
+            name = "attendee_group_subgroup",
+            joinColumns = @JoinColumn(name = "group_id"),
+            inverseJoinColumns = @JoinColumn(name = "subgroup_id")
+    )
+    private Set<AttendeeGroup> subgroups = new HashSet<>();
+
+    @Version
+    private Integer version;
+
+    public AttendeeGroup(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,17 @@
+package com.truestayhere.meeting_scheduler.model;
+
+import java.time.LocalDateTime;
+
+// A booked time interval of a resource (meetingId is the meeting occupying it, locationId where it is held if known)
+public record BusyInterval(
+        Long meetingId,
+        Long locationId,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+
+    // Busy interval with an unknown location (no buffer or travel time applies to it)
+    public BusyInterval(Long meetingId, LocalDateTime startTime, LocalDateTime endTime) {
+        this(meetingId, null, startTime, endTime);
+    }
+}
@@ -0,0 +1,78 @@
+package com.truestayhere.meeting_scheduler.model;
+
+import java.util.Optional;
+
+/**
+ * Cluster-wide cache invalidation message, sent between nodes through PostgreSQL NOTIFY.
+ * Payload format: "{nodeId}|{kind}|{resourceId}" (resourceId is empty for GLOBAL_TIME_OFF, ATTENDEE_GROUP, TRAVEL_TIME and ALL).
+ */
+public record CacheInvalidation(
+        Kind kind,
+        Long resourceId
+) {
+
+    public enum Kind {
+        LOCATION, // Location reference data changed (name, capacity, working hours)
+        ATTENDEE, // Attendee reference data changed (working hours, role, password)
+        LOCATION_CALENDAR, // Meetings of the location changed
+        ATTENDEE_CALENDAR, // Meetings of the attendee changed
+        LOCATION_TIME_OFF, // Time off of the location changed
+        ATTENDEE_TIME_OFF, // Time off of the attendee changed
+        GLOBAL_TIME_OFF, // Global holidays changed
+        ATTENDEE_GROUP, // Group membership changed (flattened members of every group must be recalculated)
+        TRAVEL_TIME, // Travel times between buildings changed
+        ALL // Notifications may have been missed, every cache must be cleared
+    }
+
+    public static CacheInvalidation location(Long locationId) {
+        return new CacheInvalidation(Kind.LOCATION, locationId);
+    }
+
+    public static CacheInvalidation attendee(Long attendeeId) {
+        return new CacheInvalidation(Kind.ATTENDEE, attendeeId);
+    }
+
+    // Accepts resource type and ID (both null for global holidays), returns the time off invalidation
+    public static CacheInvalidation timeOff(ResourceType resourceType, Long resourceId) {
+        if (resourceType == null) {
+            return new CacheInvalidation(Kind.GLOBAL_TIME_OFF, null);
+        }
+        return new CacheInvalidation(resourceType == ResourceType.LOCATION ? Kind.LOCATION_TIME_OFF : Kind.ATTENDEE_TIME_OFF, resourceId);
+    }
+
+    public static CacheInvalidation attendeeGroups() {
+        return new CacheInvalidation(Kind.ATTENDEE_GROUP, null);
+    }
+
+    public static CacheInvalidation travelTimes() {
+        return new CacheInvalidation(Kind.TRAVEL_TIME, null);
+    }
+
+    public static CacheInvalidation all() {
+        return new CacheInvalidation(Kind.ALL, null);
+    }
+
+    // Accepts the ID of the sending node, returns the NOTIFY payload
+    public String toPayload(String nodeId) {
+        return nodeId + "|" + kind + "|" + (resourceId != null ? resourceId : "");
+    }
+
+    // Accepts a NOTIFY payload, returns the sending node ID and the invalidation (empty if the payload is malformed)
+    public static Optional<Received> fromPayload(String payload) {
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        try {
+            Kind kind = Kind.valueOf(parts[1]);
+            Long resourceId = parts[2].isEmpty() ? null : Long.valueOf(parts[2]);
+            return Optional.of(new Received(parts[0], new CacheInvalidation(kind, resourceId)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // Invalidation received from a node
+    public record Received(String nodeId, CacheInvalidation invalidation) {
+    }
+}
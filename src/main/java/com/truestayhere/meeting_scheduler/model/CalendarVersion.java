@@ -0,0 +1,27 @@
+package com.truestayhere.meeting_scheduler.model;
+
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "calendar_version")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CalendarVersion {
+
+    @EmbeddedId
+    private CalendarVersionKey id;
+
+    // Incremented on every write that changes what the calendar of the resource looks like
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    public CalendarVersion(CalendarVersionKey id, long revision) {
+        this.id = id;
+        this.revision = revision;
+    }
+}
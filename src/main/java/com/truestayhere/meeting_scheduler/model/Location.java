@@ -5,8 +5,13 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "location")
@@ -31,9 +36,46 @@ public class Location {
     @Column(name = "working_end_time")
     private LocalTime workingEndTime;
 
+    // Zone of the working hours (null means UTC)
+    @Convert(converter = ZoneIdConverter.class)
+    @Column(name = "time_zone", length = 64)
+    private ZoneId timeZone;
+
+    // Weekly schedule, replaces the daily working hours when not empty
+    // (eager: locations are cached and used detached, one extra query loads the segments of all locations)
+    @ElementCollection(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
+    @CollectionTable(name = "location_working_segment", joinColumns = @JoinColumn(name = "location_id"))
+    private List<WorkingSegment> workingSegments = new ArrayList<>();
+
+    // Building the location is in, used to look up travel times between meetings (null means no travel time)
+    @Column(length = 100)
+    private String building;
+
+    // Site (campus) the building belongs to, top level of the location hierarchy (null means no site)
+    @Column(length = 100)
+    private String site;
+
+    // Floor within the building, lowest level of the location hierarchy (null means no floor)
+    @Column(length = 50)
+    private String floor;
+
+    // Minutes kept free before and after every meeting in the location for setup and cleanup (null means none)
+    @Column(name = "buffer_minutes")
+    private Integer bufferMinutes;
+
+    // Bitmask of LocationFeature bits (null means no features)
+    @Column(name = "features")
+    private Long features;
+
     @Version
     private Integer version;
 
+    // Returns the feature bitmask (0 if not set)
+    public long getFeatureMask() {
+        return features != null ? features : 0L;
+    }
+
     public Location(String name, int capacity) {
         this.name = name;
         this.capacity = capacity;
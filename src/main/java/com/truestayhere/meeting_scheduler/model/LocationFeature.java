@@ -0,0 +1,53 @@
+package com.truestayhere.meeting_scheduler.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+// Equipment and properties of a location, stored as a bitmask per location
+// (every feature owns a fixed bit: new features get a new bit, bits of existing features never change)
+@RequiredArgsConstructor
+@Getter
+public enum LocationFeature {
+    VIDEO_CONFERENCE(0),
+    WHITEBOARD(1),
+    PROJECTOR(2),
+    PHONE(3),
+    WHEELCHAIR_ACCESSIBLE(4);
+
+    private final int bit;
+
+    public long mask() {
+        return 1L << bit;
+    }
+
+    // Accepts features, returns their bitmask (0 for null or empty)
+    public static long toMask(Collection<LocationFeature> features) {
+        long mask = 0L;
+        if (features != null) {
+            for (LocationFeature feature : features) {
+                mask |= feature.mask();
+            }
+        }
+        return mask;
+    }
+
+    // Accepts a bitmask, returns the features it contains (unknown bits are ignored)
+    public static Set<LocationFeature> fromMask(long mask) {
+        Set<LocationFeature> features = EnumSet.noneOf(LocationFeature.class);
+        for (LocationFeature feature : values()) {
+            if ((mask & feature.mask()) != 0) {
+                features.add(feature);
+            }
+        }
+        return features;
+    }
+
+    // Returns true if the mask contains every feature of the required mask
+    public static boolean hasAll(long mask, long requiredMask) {
+        return (mask & requiredMask) == requiredMask;
+    }
+}
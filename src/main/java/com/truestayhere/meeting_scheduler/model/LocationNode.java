@@ -0,0 +1,46 @@
+package com.truestayhere.meeting_scheduler.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Node of the location hierarchy (site > building > floor), identified by its path from the top
+// (a building without a site is a top-level node, a floor needs a building)
+public record LocationNode(
+        Level level,
+        String site,
+        String building,
+        String floor
+) {
+    public enum Level {
+        SITE,
+        BUILDING,
+        FLOOR
+    }
+
+    // Returns the nodes containing the location, top level first (empty if the location is outside the hierarchy)
+    public static List<LocationNode> of(Location location) {
+        List<LocationNode> nodes = new ArrayList<>(3);
+        if (location.getSite() != null) {
+            nodes.add(new LocationNode(Level.SITE, location.getSite(), null, null));
+        }
+        if (location.getBuilding() != null) {
+            nodes.add(new LocationNode(Level.BUILDING, location.getSite(), location.getBuilding(), null));
+            if (location.getFloor() != null) {
+                nodes.add(new LocationNode(Level.FLOOR, location.getSite(), location.getBuilding(), location.getFloor()));
+            }
+        }
+        return nodes;
+    }
+
+    // Returns the key stored in the node usage table, e.g. "FLOOR:HQ/North/2" (a missing site is left empty)
+    public String key() {
+        StringBuilder key = new StringBuilder(level.name()).append(':').append(site != null ? site : "");
+        if (level != Level.SITE) {
+            key.append('/').append(building);
+        }
+        if (level == Level.FLOOR) {
+            key.append('/').append(floor);
+        }
+        return key.toString();
+    }
+}
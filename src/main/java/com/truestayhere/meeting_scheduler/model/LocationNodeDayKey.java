@@ -0,0 +1,29 @@
+package com.truestayhere.meeting_scheduler.model;
+
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// Composite primary key of the location_node_usage table (one row per hierarchy node per working day)
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class LocationNodeDayKey implements Serializable {
+
+    // LocationNode.key() of the node
+    @Column(name = "node_key", nullable = false, length = 300)
+    private String nodeKey;
+
+    // Working day of the locations (their local date)
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+}
@@ -0,0 +1,28 @@
+package com.truestayhere.meeting_scheduler.model;
+
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// No @Version: rows are only changed by atomic UPDATE / INSERT ... ON CONFLICT statements of LocationNodeUsageRepository
+@Entity
+@Table(name = "location_node_usage")
+@Getter
+@Setter
+@NoArgsConstructor
+public class LocationNodeUsage {
+
+    @EmbeddedId
+    private LocationNodeDayKey id;
+
+    // Minutes booked by meetings within the working hours of all locations of the node on that day
+    @Column(name = "booked_minutes", nullable = false)
+    private long bookedMinutes;
+
+    public LocationNodeUsage(LocationNodeDayKey id, long bookedMinutes) {
+        this.id = id;
+        this.bookedMinutes = bookedMinutes;
+    }
+}
@@ -0,0 +1,25 @@
+package com.truestayhere.meeting_scheduler.model;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Immutable copy of the parts of a meeting that occupy calendars (time, location and attendees)
+public record MeetingFootprint(
+        Long meetingId,
+        Long locationId,
+        Set<Long> attendeeIds,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+
+    // Takes a snapshot of the meeting (must be called before the meeting is modified)
+    public static MeetingFootprint of(Meeting meeting) {
+        Set<Long> attendeeIds = meeting.getAttendees()
+                .stream()
+                .map(Attendee::getId)
+                .collect(Collectors.toUnmodifiableSet());
+        Long locationId = meeting.getLocation() != null ? meeting.getLocation().getId() : null;
+        return new MeetingFootprint(meeting.getId(), locationId, attendeeIds, meeting.getStartTime(), meeting.getEndTime());
+    }
+}
@@ -0,0 +1,52 @@
+package com.truestayhere.meeting_scheduler.model;
+
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_attendee", columnList = "attendee_id"),
+        @Index(name = "idx_refresh_token_family", columnList = "family_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Tokens rotated from the same login share a family (revoked together when reuse is detected)
+    @Column(name = "family_id", nullable = false)
+    private Long familyId;
+
+    @Column(name = "attendee_id", nullable = false)
+    private Long attendeeId;
+
+    // SHA-256 hash of the token secret (the secret itself is never stored)
+    @Column(name = "token_hash", nullable = false, length = 32)
+    private byte[] tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // Set when the token is rotated, revoked on logout or revoked for the whole family
+    @Column(nullable = false)
+    private boolean revoked;
+
+    @Version
+    private Integer version;
+
+    public RefreshToken(Long familyId, Long attendeeId, byte[] tokenHash, Instant expiresAt) {
+        this.familyId = familyId;
+        this.attendeeId = attendeeId;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+    }
+}
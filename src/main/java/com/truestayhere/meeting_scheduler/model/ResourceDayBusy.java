@@ -0,0 +1,28 @@
+package com.truestayhere.meeting_scheduler.model;
+
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// No @Version: rows are locked with SELECT ... FOR UPDATE and created with INSERT ... ON CONFLICT by ResourceDayBusyRepository
+@Entity
+@Table(name = "resource_day_busy")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResourceDayBusy {
+
+    @EmbeddedId
+    private ResourceDayKey id;
+
+    // Busy intervals of the day, encoded by BusyIntervalCodec (sorted by start time)
+    @Column(name = "busy_intervals", nullable = false)
+    private byte[] busyIntervals;
+
+    public ResourceDayBusy(ResourceDayKey id, byte[] busyIntervals) {
+        this.id = id;
+        this.busyIntervals = busyIntervals;
+    }
+}
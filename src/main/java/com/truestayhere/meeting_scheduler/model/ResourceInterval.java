@@ -0,0 +1,11 @@
+package com.truestayhere.meeting_scheduler.model;
+
+import java.time.LocalDateTime;
+
+// Time interval of a single attendee or location (a working window or a free gap inside it)
+public record ResourceInterval(
+        Long resourceId,
+        LocalDateTime start,
+        LocalDateTime end
+) {
+}
@@ -0,0 +1,7 @@
+package com.truestayhere.meeting_scheduler.model;
+
+// Kind of resource a calendar belongs to
+public enum ResourceType {
+    ATTENDEE,
+    LOCATION
+}
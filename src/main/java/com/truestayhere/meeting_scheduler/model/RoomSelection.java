@@ -0,0 +1,9 @@
+package com.truestayhere.meeting_scheduler.model;
+
+// How meeting suggestions pick rooms among the locations large enough for the attendees
+public enum RoomSelection {
+    // Every free location that fits, smallest first among suggestions starting at the same time
+    ALL_FITTING,
+    // Only the smallest rooms: a suggestion is dropped if a smaller room is free for its whole time slot
+    BEST_FIT
+}
@@ -0,0 +1,59 @@
+package com.truestayhere.meeting_scheduler.model;
+
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Blackout period of a resource (vacation, maintenance) or a global holiday (resource type and ID are null)
+@Entity
+@Table(name = "time_off", indexes = {
+        @Index(name = "idx_time_off_resource", columnList = "resource_type, resource_id, start_time")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class TimeOff {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resource_type", length = 16)
+    private ResourceType resourceType;
+
+    @Column(name = "resource_id")
+    private Long resourceId;
+
+    // UTC, like meeting times
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(length = 200)
+    private String reason;
+
+    public TimeOff(ResourceType resourceType, Long resourceId, LocalDateTime startTime, LocalDateTime endTime, String reason) {
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.reason = reason;
+    }
+
+    // Returns true for holidays that apply to every attendee and location
+    public boolean isGlobal() {
+        return resourceType == null;
+    }
+
+    // Accepts an interval, returns true if the time off overlaps it
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return startTime.isBefore(end) && endTime.isAfter(start);
+    }
+}
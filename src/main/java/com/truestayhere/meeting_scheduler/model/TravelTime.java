@@ -0,0 +1,37 @@
+package com.truestayhere.meeting_scheduler.model;
+
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Minutes needed to get from one building to another (the reverse direction is used when only one is stored)
+@Entity
+@Table(name = "travel_time", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_travel_time_buildings", columnNames = {"from_building", "to_building"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class TravelTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "from_building", nullable = false, length = 100)
+    private String fromBuilding;
+
+    @Column(name = "to_building", nullable = false, length = 100)
+    private String toBuilding;
+
+    @Column(nullable = false)
+    private Integer minutes;
+
+    public TravelTime(String fromBuilding, String toBuilding, int minutes) {
+        this.fromBuilding = fromBuilding;
+        this.toBuilding = toBuilding;
+        this.minutes = minutes;
+    }
+}
@@ -0,0 +1,73 @@
+package com.truestayhere.meeting_scheduler.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+
+// Immutable copy of the working hours of a resource (null times mean default working hours, a null zone means UTC).
+// A non-empty weekly schedule replaces the daily working hours.
+public record WorkingHours(
+        Long resourceId,
+        LocalTime workingStartTime,
+        LocalTime workingEndTime,
+        ZoneId timeZone,
+        List<WorkingSegment> weeklySegments
+) {
+    public static final LocalTime DEFAULT_WORKING_START_TIME = LocalTime.of(9, 0);
+    public static final LocalTime DEFAULT_WORKING_END_TIME = LocalTime.of(17, 0);
+
+    public WorkingHours {
+        weeklySegments = weeklySegments != null ? List.copyOf(weeklySegments) : List.of();
+    }
+
+    public static WorkingHours of(Attendee attendee) {
+        return new WorkingHours(attendee.getId(), attendee.getWorkingStartTime(), attendee.getWorkingEndTime(),
+                attendee.getTimeZone(), attendee.getWorkingSegments());
+    }
+
+    public static WorkingHours of(Location location) {
+        return new WorkingHours(location.getId(), location.getWorkingStartTime(), location.getWorkingEndTime(),
+                location.getTimeZone(), location.getWorkingSegments());
+    }
+
+    /**
+     * Calculates the working windows of the working day starting on the given local date of the resource.
+     * Working hours are wall-clock times in the resource's time zone; windows are returned in UTC
+     * (daylight saving transitions shift the UTC windows, overnight periods end on the next day).
+     * With a weekly schedule the day has one window per segment of its weekday (none on days off),
+     * otherwise a single window of the daily working hours.
+     *
+     * @param date The working day in the resource's time zone.
+     * @return WorkingWindows in UTC ordered by start time.
+     */
+    public List<WorkingWindow> windowsOn(LocalDate date) {
+        ZoneId zone = timeZone != null ? timeZone : ZoneOffset.UTC;
+
+        if (weeklySegments.isEmpty()) {
+            LocalTime workStart = workingStartTime != null ? workingStartTime : DEFAULT_WORKING_START_TIME;
+            LocalTime workEnd = workingEndTime != null ? workingEndTime : DEFAULT_WORKING_END_TIME;
+            return List.of(toWindow(date, workStart, workEnd, zone));
+        }
+
+        return weeklySegments.stream()
+                .filter(segment -> segment.getDayOfWeek() == date.getDayOfWeek())
+                .map(segment -> toWindow(date, segment.getStartTime(), segment.getEndTime(), zone))
+                .sorted(Comparator.comparing(WorkingWindow::start))
+                .toList();
+    }
+
+    // Accepts a working period starting on the date, returns it as a UTC window (ending on the next day if end <= start)
+    private static WorkingWindow toWindow(LocalDate date, LocalTime start, LocalTime end, ZoneId zone) {
+        LocalDate endDate = end.isAfter(start) ? date : date.plusDays(1);
+        return new WorkingWindow(toUtc(date.atTime(start), zone), toUtc(endDate.atTime(end), zone));
+    }
+
+    // Accepts a wall-clock time in the zone, returns the same instant as UTC LocalDateTime
+    private static LocalDateTime toUtc(LocalDateTime localDateTime, ZoneId zone) {
+        return localDateTime.atZone(zone).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+}
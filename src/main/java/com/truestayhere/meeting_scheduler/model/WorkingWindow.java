@@ -0,0 +1,10 @@
+package com.truestayhere.meeting_scheduler.model;
+
+import java.time.LocalDateTime;
+
+// Working time window of a resource on one day, in UTC (the end is on the next day for overnight shifts)
+public record WorkingWindow(
+        LocalDateTime start,
+        LocalDateTime end
+) {
+}
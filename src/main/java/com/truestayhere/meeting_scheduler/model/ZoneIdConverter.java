@@ -0,0 +1,22 @@
+package com.truestayhere.meeting_scheduler.model;
+
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.ZoneId;
+
+// Stores a ZoneId as its region ID (e.g. "Europe/Berlin")
+@Converter
+public class ZoneIdConverter implements AttributeConverter<ZoneId, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ZoneId zoneId) {
+        return zoneId != null ? zoneId.getId() : null;
+    }
+
+    @Override
+    public ZoneId convertToEntityAttribute(String zoneId) {
+        return zoneId != null ? ZoneId.of(zoneId) : null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.truestayhere.meeting_scheduler.repository;
+
+import com.truestayhere.meeting_scheduler.model.AttendeeGroup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttendeeGroupRepository extends JpaRepository<AttendeeGroup, Long> {
+
+    // Find a group by name
+    // Example SQL Query:
+    // SELECT g.id, g.name FROM attendee_group g WHERE g.name = ? LIMIT 1;
+    Optional<AttendeeGroup> findByName(String name);
+
+    // Find the groups an attendee is a direct member of
+    // Example SQL Query:
+    // SELECT g.* FROM attendee_group g JOIN attendee_group_member m ON g.id = m.group_id WHERE m.attendee_id = ?;
+    List<AttendeeGroup> findByMembers_id(Long attendeeId);
+
+    // Find the groups that directly contain a group
+    // Example SQL Query:
+    // SELECT g.* FROM attendee_group g JOIN attendee_group_subgroup s ON g.id = s.group_id WHERE s.subgroup_id = ?;
+    List<AttendeeGroup> findBySubgroups_id(Long subgroupId);
+}
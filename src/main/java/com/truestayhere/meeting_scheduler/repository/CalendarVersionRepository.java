@@ -0,0 +1,23 @@
+package com.truestayhere.meeting_scheduler.repository;
+
+import com.truestayhere.meeting_scheduler.model.CalendarVersion;
+import com.truestayhere.meeting_scheduler.model.CalendarVersionKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CalendarVersionRepository extends JpaRepository<CalendarVersion, CalendarVersionKey> {
+
+    // Reads are done by primary key only (findById)
+
+    // Create the version row with revision 1 or increment it, in one statement (concurrent first writes and bumps are safe)
+    // Example SQL Query:
+    // INSERT INTO calendar_version (resource_type, resource_id, revision) VALUES (?, ?, 1)
+    // ON CONFLICT (resource_type, resource_id) DO UPDATE SET revision = calendar_version.revision + 1;
+    @Modifying
+    @Query(value = "INSERT INTO calendar_version (resource_type, resource_id, revision) VALUES (:resourceType, :resourceId, 1) " +
+            "ON CONFLICT (resource_type, resource_id) DO UPDATE SET revision = calendar_version.revision + 1", nativeQuery = true)
+    int incrementRevision(String resourceType, Long resourceId);
+}
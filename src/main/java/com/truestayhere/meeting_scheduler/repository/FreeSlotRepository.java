@@ -0,0 +1,112 @@
+package com.truestayhere.meeting_scheduler.repository;
+
+import com.truestayhere.meeting_scheduler.model.ResourceInterval;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Computes free gaps inside working windows directly in PostgreSQL, so meetings never leave the database.
+ * One statement serves any number of (resource, window) pairs: the windows are passed as arrays and
+ * busy intervals are ordered per window with window functions.
+ * Overlapping meetings are handled with a running MAX(end) instead of a plain LAG(end).
+ */
+@Repository
+@RequiredArgsConstructor
+public class FreeSlotRepository {
+
+    // Busy intervals of a location: meetings held in it, extended by the setup/cleanup buffer of the location
+    private static final String LOCATION_MEETINGS = """
+            SELECT m.location_id AS resource_id,
+                   m.start_time - make_interval(mins => COALESCE(l.buffer_minutes, 0)) AS start_time,
+                   m.end_time + make_interval(mins => COALESCE(l.buffer_minutes, 0)) AS end_time
+            FROM meeting m
+            JOIN location l ON l.id = m.location_id
+            """;
+
+    // Busy intervals of an attendee: meetings attended
+    private static final String ATTENDEE_MEETINGS = """
+            SELECT ma.attendee_id AS resource_id, m.start_time, m.end_time
+            FROM meeting_attendee ma
+            JOIN meeting m ON m.id = ma.meeting_id
+            """;
+
+    private static final String FREE_GAPS_QUERY = """
+            WITH windows AS (
+                SELECT w.resource_id, w.window_start, w.window_end
+                FROM unnest(?::bigint[], ?::timestamp[], ?::timestamp[]) AS w(resource_id, window_start, window_end)
+            ),
+            busy AS (
+                SELECT w.resource_id, w.window_start, w.window_end,
+                       GREATEST(r.start_time, w.window_start) AS busy_start,
+                       LEAST(r.end_time, w.window_end) AS busy_end
+                FROM windows w
+                JOIN (%s) r ON r.resource_id = w.resource_id
+                WHERE r.start_time < w.window_end AND r.end_time > w.window_start
+            ),
+            ordered AS (
+                SELECT b.*,
+                       MAX(b.busy_end) OVER (PARTITION BY b.resource_id, b.window_start ORDER BY b.busy_start, b.busy_end
+                                             ROWS BETWEEN UNBOUNDED PRECEDING AND 1 PRECEDING) AS previous_end,
+                       LEAD(b.busy_start) OVER (PARTITION BY b.resource_id, b.window_start ORDER BY b.busy_start, b.busy_end) AS next_start
+                FROM busy b
+            )
+            -- Gap before each busy interval
+            SELECT resource_id, COALESCE(previous_end, window_start) AS gap_start, busy_start AS gap_end
+            FROM ordered
+            WHERE busy_start > COALESCE(previous_end, window_start)
+            UNION ALL
+            -- Gap after the last busy interval
+            SELECT resource_id, GREATEST(busy_end, COALESCE(previous_end, busy_end)) AS gap_start, window_end AS gap_end
+            FROM ordered
+            WHERE next_start IS NULL AND window_end > GREATEST(busy_end, COALESCE(previous_end, busy_end))
+            UNION ALL
+            -- Windows without any busy interval are free as a whole
+            SELECT w.resource_id, w.window_start AS gap_start, w.window_end AS gap_end
+            FROM windows w
+            WHERE NOT EXISTS (SELECT 1 FROM busy b WHERE b.resource_id = w.resource_id AND b.window_start = w.window_start)
+            ORDER BY resource_id, gap_start
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Finds the free gaps of resources inside their working windows in a single statement.
+     *
+     * @param resourceType The type of the resources.
+     * @param windows      Working windows (a resource may have several, e.g. one per day).
+     * @return Free gaps ordered by resource ID and start time.
+     */
+    public List<ResourceInterval> findFreeGaps(ResourceType resourceType, List<ResourceInterval> windows) {
+        if (windows.isEmpty()) {
+            return List.of();
+        }
+
+        String busySource = resourceType == ResourceType.LOCATION ? LOCATION_MEETINGS : ATTENDEE_MEETINGS;
+        String sql = FREE_GAPS_QUERY.formatted(busySource);
+
+        Long[] resourceIds = windows.stream().map(ResourceInterval::resourceId).toArray(Long[]::new);
+        Timestamp[] windowStarts = windows.stream().map(window -> Timestamp.valueOf(window.start())).toArray(Timestamp[]::new);
+        Timestamp[] windowEnds = windows.stream().map(window -> Timestamp.valueOf(window.end())).toArray(Timestamp[]::new);
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            Array ids = connection.createArrayOf("bigint", resourceIds);
+            Array starts = connection.createArrayOf("timestamp", windowStarts);
+            Array ends = connection.createArrayOf("timestamp", windowEnds);
+            statement.setArray(1, ids);
+            statement.setArray(2, starts);
+            statement.setArray(3, ends);
+            return statement;
+        }, (rs, rowNum) -> new ResourceInterval(
+                rs.getLong("resource_id"),
+                rs.getTimestamp("gap_start").toLocalDateTime(),
+                rs.getTimestamp("gap_end").toLocalDateTime()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.truestayhere.meeting_scheduler.repository;
+
+import com.truestayhere.meeting_scheduler.model.LocationNodeDayKey;
+import com.truestayhere.meeting_scheduler.model.LocationNodeUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+@Repository
+public interface LocationNodeUsageRepository extends JpaRepository<LocationNodeUsage, LocationNodeDayKey> {
+
+    // Lookups are done by primary key only (findById / findAllById)
+    // Example SQL Query:
+    // SELECT u.node_key, u.day, u.booked_minutes FROM location_node_usage u WHERE (u.node_key, u.day) IN ((?, ?), ...);
+
+    // Add minutes to the usage of a node-day in one statement (concurrent meeting writes must not lose updates)
+    // Example SQL Query:
+    // UPDATE location_node_usage SET booked_minutes = booked_minutes + ? WHERE node_key = ? AND day = ?;
+    @Modifying
+    @Query("UPDATE LocationNodeUsage u SET u.bookedMinutes = u.bookedMinutes + :minutes " +
+            "WHERE u.id.nodeKey = :nodeKey AND u.id.day = :day")
+    int addBookedMinutes(String nodeKey, LocalDate day, long minutes);
+
+    // Subtract minutes from the usage of a node-day in one statement, never below zero
+    // Example SQL Query:
+    // UPDATE location_node_usage SET booked_minutes = GREATEST(booked_minutes - ?, 0) WHERE node_key = ? AND day = ?;
+    @Modifying
+    @Query("UPDATE LocationNodeUsage u SET u.bookedMinutes = greatest(u.bookedMinutes - :minutes, 0) " +
+            "WHERE u.id.nodeKey = :nodeKey AND u.id.day = :day")
+    int subtractBookedMinutes(String nodeKey, LocalDate day, long minutes);
+
+    // Insert a rebuilt node-day unless a concurrent transaction inserted it first (waits for that transaction)
+    // Example SQL Query:
+    // INSERT INTO location_node_usage (node_key, day, booked_minutes) VALUES (?, ?, ?) ON CONFLICT DO NOTHING;
+    @Modifying
+    @Query(value = "INSERT INTO location_node_usage (node_key, day, booked_minutes) " +
+            "VALUES (:nodeKey, :day, :bookedMinutes) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(String nodeKey, LocalDate day, long bookedMinutes);
+
+    // Delete the usage of the nodes on every day
+    // Example SQL Query:
+    // DELETE FROM location_node_usage u WHERE u.node_key IN (?, ...);
+    @Modifying
+    @Query("DELETE FROM LocationNodeUsage u WHERE u.id.nodeKey IN :nodeKeys")
+    int deleteByNodeKeyIn(Collection<String> nodeKeys);
+}
@@ -2,11 +2,15 @@ package com.truestayhere.meeting_scheduler.repository;
 
 
 import com.truestayhere.meeting_scheduler.model.Meeting;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
@@ -58,4 +62,33 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
     // SELECT m.id, m.title, m.startTime, m.endTime, m.location_id FROM meeting m WHERE m.location_id = ? AND m.startTime = ? AND m.endTime = ? ORDER BY m.startTime;
     List<Meeting> findByLocation_idAndStartTimeAndEndTime(Long location_id, LocalDateTime startTime, LocalDateTime endTime);
     // Returns List<> in case duplicates exist
+
+    // Find meetings attended by any of the attendees that overlap a timeframe (attendees are fetched in the same query)
+    // Example SQL Query:
+    // SELECT DISTINCT m.*, a.* FROM meeting m INNER JOIN meeting_attendee ma ON m.id = ma.meeting_id LEFT JOIN meeting_attendee fa ON m.id = fa.meeting_id LEFT JOIN attendee a ON a.id = fa.attendee_id WHERE ma.attendee_id IN (?, ...) AND m.startTime < ? AND m.endTime > ?;
+    @EntityGraph(attributePaths = "attendees")
+    List<Meeting> findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(Collection<Long> attendeeIds, LocalDateTime rangeEnd, LocalDateTime rangeStart);
+
+    // Find meetings held in any of the locations that overlap a timeframe
+    // Example SQL Query:
+    // SELECT m.id, m.title, m.startTime, m.endTime, m.location_id FROM meeting m WHERE m.location_id IN (?, ...) AND m.startTime < ? AND m.endTime > ?;
+    List<Meeting> findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(Collection<Long> locationIds, LocalDateTime rangeEnd, LocalDateTime rangeStart);
+
+    // Find the attendees of all meetings held in a location (their meeting lists show the location)
+    // Example SQL Query:
+    // SELECT DISTINCT ma.attendee_id FROM meeting m INNER JOIN meeting_attendee ma ON m.id = ma.meeting_id WHERE m.location_id = ?;
+    @Query("SELECT DISTINCT a.id FROM Meeting m JOIN m.attendees a WHERE m.location.id = :locationId")
+    Set<Long> findAttendeeIdsByLocationId(Long locationId);
+
+    // Find the locations of all meetings of an attendee (their meeting lists show the attendee)
+    // Example SQL Query:
+    // SELECT DISTINCT m.location_id FROM meeting m INNER JOIN meeting_attendee ma ON m.id = ma.meeting_id WHERE ma.attendee_id = ? AND m.location_id IS NOT NULL;
+    @Query("SELECT DISTINCT m.location.id FROM Meeting m JOIN m.attendees a WHERE a.id = :attendeeId AND m.location IS NOT NULL")
+    Set<Long> findLocationIdsByAttendeeId(Long attendeeId);
+
+    // Find the other attendees of all meetings of an attendee (their meeting lists show the attendee)
+    // Example SQL Query:
+    // SELECT DISTINCT oa.attendee_id FROM meeting_attendee ma INNER JOIN meeting_attendee oa ON ma.meeting_id = oa.meeting_id WHERE ma.attendee_id = ? AND oa.attendee_id <> ?;
+    @Query("SELECT DISTINCT other.id FROM Meeting m JOIN m.attendees a JOIN m.attendees other WHERE a.id = :attendeeId AND other.id <> :attendeeId")
+    Set<Long> findCoAttendeeIdsByAttendeeId(Long attendeeId);
 }
@@ -0,0 +1,34 @@
+package com.truestayhere.meeting_scheduler.repository;
+
+import com.truestayhere.meeting_scheduler.model.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    // Refresh tokens are verified by primary key (findById), the ID is part of the token value
+
+    // Find active tokens of a token family (used to revoke the family when a rotated token is reused)
+    // Example SQL Query:
+    // SELECT r.id, r.family_id, r.attendee_id, r.token_hash, r.expires_at, r.revoked FROM refresh_token r WHERE r.family_id = ? AND r.revoked = false;
+    List<RefreshToken> findByFamilyIdAndRevokedFalse(Long familyId);
+
+    // Find active tokens of an attendee (used to revoke every session of the attendee)
+    // Example SQL Query:
+    // SELECT r.id, r.family_id, r.attendee_id, r.token_hash, r.expires_at, r.revoked FROM refresh_token r WHERE r.attendee_id = ? AND r.revoked = false;
+    List<RefreshToken> findByAttendeeIdAndRevokedFalse(Long attendeeId);
+
+    // Delete expired tokens of an attendee
+    // Example SQL Query:
+    // DELETE FROM refresh_token r WHERE r.attendee_id = ? AND r.expires_at < ?;
+    void deleteByAttendeeIdAndExpiresAtBefore(Long attendeeId, Instant cutoff);
+
+    // Delete all tokens of an attendee
+    // Example SQL Query:
+    // DELETE FROM refresh_token r WHERE r.attendee_id = ?;
+    void deleteByAttendeeId(Long attendeeId);
+}
@@ -0,0 +1,35 @@
+package com.truestayhere.meeting_scheduler.repository;
+
+import com.truestayhere.meeting_scheduler.model.ResourceDayBusy;
+import com.truestayhere.meeting_scheduler.model.ResourceDayKey;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface ResourceDayBusyRepository extends JpaRepository<ResourceDayBusy, ResourceDayKey> {
+
+    // Lookups are done by primary key only (findById / findAllById)
+    // Example SQL Query:
+    // SELECT r.resource_type, r.resource_id, r.day, r.busy_intervals FROM resource_day_busy r WHERE (r.resource_type, r.resource_id, r.day) IN ((?, ?, ?), ...);
+
+    // Find a resource-day row and lock it until the end of the transaction (concurrent meeting writes must not lose intervals)
+    // Example SQL Query:
+    // SELECT r.resource_type, r.resource_id, r.day, r.busy_intervals FROM resource_day_busy r WHERE r.resource_type = ? AND r.resource_id = ? AND r.day = ? FOR UPDATE;
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ResourceDayBusy> findForUpdateById(ResourceDayKey id);
+
+    // Insert a rebuilt resource-day unless a concurrent transaction inserted it first (waits for that transaction)
+    // Example SQL Query:
+    // INSERT INTO resource_day_busy (resource_type, resource_id, day, busy_intervals) VALUES (?, ?, ?, ?) ON CONFLICT DO NOTHING;
+    @Modifying
+    @Query(value = "INSERT INTO resource_day_busy (resource_type, resource_id, day, busy_intervals) " +
+            "VALUES (:resourceType, :resourceId, :day, :busyIntervals) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(String resourceType, Long resourceId, LocalDate day, byte[] busyIntervals);
+}
@@ -0,0 +1,22 @@
+package com.truestayhere.meeting_scheduler.repository;
+
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.model.TimeOff;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TimeOffRepository extends JpaRepository<TimeOff, Long> {
+
+    // Find the time off of a resource ordered by start time
+    // Example SQL Query:
+    // SELECT t.* FROM time_off t WHERE t.resource_type = ? AND t.resource_id = ? ORDER BY t.start_time;
+    List<TimeOff> findByResourceTypeAndResourceIdOrderByStartTime(ResourceType resourceType, Long resourceId);
+
+    // Find global holidays ordered by start time
+    // Example SQL Query:
+    // SELECT t.* FROM time_off t WHERE t.resource_type IS NULL ORDER BY t.start_time;
+    List<TimeOff> findByResourceTypeIsNullOrderByStartTime();
+}
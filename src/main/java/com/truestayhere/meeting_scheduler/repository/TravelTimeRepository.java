@@ -0,0 +1,16 @@
+package com.truestayhere.meeting_scheduler.repository;
+
+import com.truestayhere.meeting_scheduler.model.TravelTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TravelTimeRepository extends JpaRepository<TravelTime, Long> {
+
+    // Find the travel time from one building to another
+    // Example SQL Query:
+    // SELECT t.* FROM travel_time t WHERE t.from_building = ? AND t.to_building = ?;
+    Optional<TravelTime> findByFromBuildingAndToBuilding(String fromBuilding, String toBuilding);
+}
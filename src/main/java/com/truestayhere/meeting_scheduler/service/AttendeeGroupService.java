@@ -0,0 +1,246 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.dto.request.CreateAttendeeGroupRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.UpdateAttendeeGroupRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.response.AttendeeGroupDTO;
+import com.truestayhere.meeting_scheduler.mapper.AttendeeGroupMapper;
+import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.AttendeeGroup;
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
+import com.truestayhere.meeting_scheduler.repository.AttendeeGroupRepository;
+import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Manages attendee groups. Groups can contain attendees and other groups (cycles are rejected);
+ * availability requests reference groups by ID and the engine expands them to attendees
+ * through the flattened membership cached by ReferenceDataService.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class AttendeeGroupService {
+
+    private final AttendeeGroupRepository attendeeGroupRepository;
+    private final AttendeeRepository attendeeRepository;
+    private final AttendeeGroupMapper attendeeGroupMapper;
+    private final ReferenceDataService referenceDataService;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    // === READ METHODS ===
+
+    /**
+     * Finds all attendee groups.
+     *
+     * @return List of AttendeeGroupDTO with direct members and subgroups.
+     */
+    public List<AttendeeGroupDTO> getAllGroups() {
+        log.debug("Fetching all attendee groups.");
+        List<AttendeeGroup> groups = attendeeGroupRepository.findAll();
+        log.debug("Fetched {} attendee groups.", groups.size());
+        return attendeeGroupMapper.mapToAttendeeGroupDTOList(groups);
+    }
+
+    /**
+     * Finds an attendee group by ID.
+     *
+     * @param id The ID of the group.
+     * @return AttendeeGroupDTO with direct members and subgroups.
+     * @throws EntityNotFoundException if the group does not exist.
+     */
+    public AttendeeGroupDTO getGroupById(Long id) {
+        log.debug("Fetching attendee group by ID: {}", id);
+        return attendeeGroupMapper.mapToAttendeeGroupDTO(findGroupEntityById(id));
+    }
+
+    /**
+     * Finds the IDs of all members of a group, including the members of nested groups (cached).
+     *
+     * @param id The ID of the group.
+     * @return Set of attendee IDs.
+     * @throws EntityNotFoundException if the group does not exist.
+     */
+    public Set<Long> getGroupMemberIds(Long id) {
+        log.debug("Fetching flattened members of attendee group ID: {}", id);
+        return referenceDataService.findGroupMemberIds(id)
+                .orElseThrow(() -> new EntityNotFoundException("Attendee group not found with ID: " + id));
+    }
+
+    // === END READ METHODS ===
+
+    // === WRITE METHODS ===
+
+    /**
+     * Creates a new attendee group.
+     *
+     * @param requestDTO The group name, member IDs and subgroup IDs.
+     * @return AttendeeGroupDTO of the created group.
+     * @throws IllegalArgumentException if a group with the name already exists.
+     * @throws EntityNotFoundException  if a member or subgroup does not exist.
+     */
+    @Transactional
+    public AttendeeGroupDTO createGroup(CreateAttendeeGroupRequestDTO requestDTO) {
+        log.debug("Attempting to create attendee group with name: {}", requestDTO.name());
+
+        checkDuplicateGroup(requestDTO.name(), null);
+
+        AttendeeGroup group = new AttendeeGroup(requestDTO.name());
+        group.setMembers(findAttendeesById(requestDTO.memberIds()));
+        group.setSubgroups(findGroupsById(requestDTO.subgroupIds()));
+        AttendeeGroup savedGroup = attendeeGroupRepository.save(group);
+
+        // A new group is not a subgroup of any other group yet, cached memberships are not affected
+        log.info("Successfully created attendee group with ID: {}", savedGroup.getId());
+        return attendeeGroupMapper.mapToAttendeeGroupDTO(savedGroup);
+    }
+
+    /**
+     * Updates an attendee group (null fields are left unchanged, sets replace the current members/subgroups).
+     *
+     * @param id         The ID of the group.
+     * @param requestDTO The new group name, member IDs and subgroup IDs.
+     * @return AttendeeGroupDTO of the updated group.
+     * @throws IllegalArgumentException if the name is taken or the subgroups would create a cycle.
+     * @throws EntityNotFoundException  if the group, a member or a subgroup does not exist.
+     */
+    @Transactional
+    public AttendeeGroupDTO updateGroup(Long id, UpdateAttendeeGroupRequestDTO requestDTO) {
+        log.debug("Attempting to update attendee group with ID: {}", id);
+
+        AttendeeGroup existingGroup = findGroupEntityById(id);
+
+        if (requestDTO.name() != null) {
+            checkDuplicateGroup(requestDTO.name(), id);
+            existingGroup.setName(requestDTO.name());
+        }
+        if (requestDTO.memberIds() != null) {
+            existingGroup.setMembers(findAttendeesById(requestDTO.memberIds()));
+        }
+        if (requestDTO.subgroupIds() != null) {
+            Set<AttendeeGroup> subgroups = findGroupsById(requestDTO.subgroupIds());
+            checkNoCycle(existingGroup, subgroups);
+            existingGroup.setSubgroups(subgroups);
+        }
+
+        // --- Evict Cached Memberships ---
+
+        referenceDataService.evictGroupMembers();
+        cacheInvalidationPublisher.publish(CacheInvalidation.attendeeGroups());
+
+        log.info("Successfully updated attendee group with ID: {}", id);
+        return attendeeGroupMapper.mapToAttendeeGroupDTO(existingGroup);
+    }
+
+    /**
+     * Deletes an attendee group and removes it from the groups containing it.
+     *
+     * @param id The ID of the group.
+     * @throws EntityNotFoundException if the group does not exist.
+     */
+    @Transactional
+    public void deleteGroup(Long id) {
+        log.debug("Attempting to delete attendee group with ID: {}", id);
+
+        AttendeeGroup group = findGroupEntityById(id);
+        attendeeGroupRepository.findBySubgroups_id(id).forEach(parent -> parent.getSubgroups().remove(group));
+        attendeeGroupRepository.delete(group);
+
+        referenceDataService.evictGroupMembers();
+        cacheInvalidationPublisher.publish(CacheInvalidation.attendeeGroups());
+
+        log.info("Successfully deleted attendee group with ID: {}", id);
+    }
+
+    /**
+     * Removes an attendee from every group (called before the attendee is deleted).
+     *
+     * @param attendeeId The ID of the attendee.
+     */
+    @Transactional
+    public void removeAttendeeFromGroups(Long attendeeId) {
+        List<AttendeeGroup> groups = attendeeGroupRepository.findByMembers_id(attendeeId);
+        if (groups.isEmpty()) {
+            return;
+        }
+        groups.forEach(group -> group.getMembers().removeIf(member -> member.getId().equals(attendeeId)));
+
+        referenceDataService.evictGroupMembers();
+        cacheInvalidationPublisher.publish(CacheInvalidation.attendeeGroups());
+        log.debug("Removed attendee ID: {} from {} groups", attendeeId, groups.size());
+    }
+
+    // === END WRITE METHODS ===
+
+    // === HELPER METHODS ===
+
+    // Accepts ID, returns AttendeeGroup Entity
+    private AttendeeGroup findGroupEntityById(Long id) {
+        return attendeeGroupRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Attendee group not found with ID: " + id));
+    }
+
+    // Accepts Set<Long> of attendee IDs, returns Set<Attendee> (throws if any attendee is missing)
+    private Set<Attendee> findAttendeesById(Set<Long> attendeeIds) {
+        if (attendeeIds == null || attendeeIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        Set<Attendee> attendees = new HashSet<>(attendeeRepository.findAllById(attendeeIds));
+        if (attendees.size() != attendeeIds.size()) {
+            Set<Long> missingIds = new TreeSet<>(attendeeIds);
+            attendees.forEach(attendee -> missingIds.remove(attendee.getId()));
+            throw new EntityNotFoundException("Attendee(s) not found with ID(s): " + missingIds);
+        }
+        return attendees;
+    }
+
+    // Accepts Set<Long> of group IDs, returns Set<AttendeeGroup> (throws if any group is missing)
+    private Set<AttendeeGroup> findGroupsById(Set<Long> groupIds) {
+        if (groupIds == null || groupIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        Set<AttendeeGroup> groups = new HashSet<>(attendeeGroupRepository.findAllById(groupIds));
+        if (groups.size() != groupIds.size()) {
+            Set<Long> missingIds = new TreeSet<>(groupIds);
+            groups.forEach(group -> missingIds.remove(group.getId()));
+            throw new EntityNotFoundException("Attendee group(s) not found with ID(s): " + missingIds);
+        }
+        return groups;
+    }
+
+    // Group cycle check - Accepts group and its new subgroups, throws IllegalArgumentException if the group would contain itself
+    private void checkNoCycle(AttendeeGroup group, Set<AttendeeGroup> subgroups) {
+        Deque<AttendeeGroup> pending = new ArrayDeque<>(subgroups);
+        Set<Long> visitedGroupIds = new HashSet<>();
+        while (!pending.isEmpty()) {
+            AttendeeGroup current = pending.pop();
+            if (current.getId().equals(group.getId())) {
+                String errorMessage = String.format("Attendee group (ID: %d) cannot contain itself, directly or through nested groups.", group.getId());
+                log.warn("Group cycle check failed: {}", errorMessage);
+                throw new IllegalArgumentException(errorMessage);
+            }
+            if (visitedGroupIds.add(current.getId())) {
+                pending.addAll(current.getSubgroups());
+            }
+        }
+    }
+
+    // Group duplicates check - Accepts name and the ID of the group being updated, throws IllegalArgumentException
+    private void checkDuplicateGroup(String name, Long idToExclude) {
+        attendeeGroupRepository.findByName(name)
+                .filter(duplicate -> !duplicate.getId().equals(idToExclude))
+                .ifPresent(duplicate -> {
+                    String errorMessage = "Attendee group with name '" + name + "' already exists.";
+                    log.warn(errorMessage);
+                    throw new IllegalArgumentException(errorMessage);
+                });
+    }
+
+    // === END HELPER METHODS ===
+}
@@ -2,11 +2,16 @@ package com.truestayhere.meeting_scheduler.service;
 
 import com.truestayhere.meeting_scheduler.dto.request.CreateAttendeeRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.UpdateAttendeeRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.WorkingScheduleRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.response.AttendeeDTO;
+import com.truestayhere.meeting_scheduler.dto.response.WorkingSegmentDTO;
 import com.truestayhere.meeting_scheduler.exception.ResourceInUseException;
 import com.truestayhere.meeting_scheduler.mapper.AttendeeMapper;
+import com.truestayhere.meeting_scheduler.mapper.WorkingScheduleMapper;
 import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
 import com.truestayhere.meeting_scheduler.model.Meeting;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
 import com.truestayhere.meeting_scheduler.model.Role;
 import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
 import com.truestayhere.meeting_scheduler.repository.MeetingRepository;
@@ -32,6 +37,12 @@ public class AttendeeService {
     private final MeetingRepository meetingRepository;
     private final AttendeeMapper attendeeMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ReferenceDataService referenceDataService;
+    private final RefreshTokenService refreshTokenService;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final CalendarVersionService calendarVersionService;
+    private final WorkingScheduleMapper workingScheduleMapper;
+    private final AttendeeGroupService attendeeGroupService;
 
 
     // === CRUD METHODS ===
@@ -117,20 +128,40 @@ public class AttendeeService {
 
         // --- Update the Attendee ---
 
+        AttendeeDTO previousAttendeeDTO = attendeeMapper.mapToAttendeeDTO(existingAttendee);
         attendeeMapper.updateAttendeeFromDto(requestDTO, existingAttendee);
+        AttendeeDTO updatedAttendeeDTO = attendeeMapper.mapToAttendeeDTO(existingAttendee);
 
         // --- Update the Password ---
 
         if (StringUtils.hasText(requestDTO.password())) {
             String hashedPassword = passwordEncoder.encode(requestDTO.password());
             existingAttendee.setPassword(hashedPassword);
+            // Sessions opened with the old password must log in again
+            refreshTokenService.revokeAllForAttendee(id);
             log.debug("Password updated for attendee ID: {}", id);
         }
 
+        // --- Evict Cached Working Hours ---
+
+        referenceDataService.evictAttendee(id);
+        cacheInvalidationPublisher.publish(CacheInvalidation.attendee(id));
+
+        // --- Bump Calendars ---
+
+        // Working hours are part of the attendee's availability;
+        // meeting lists of other attendees and of locations embed the attendee (name, email), their ETags must change with it
+        if (!previousAttendeeDTO.equals(updatedAttendeeDTO)) {
+            calendarVersionService.bumpWithSharedCalendars(ResourceType.ATTENDEE, id,
+                    meetingRepository.findCoAttendeeIdsByAttendeeId(id), meetingRepository.findLocationIdsByAttendeeId(id));
+        } else {
+            calendarVersionService.bump(ResourceType.ATTENDEE, id);
+        }
+
         // --- Return Updated Attendee ---
 
         log.info("Successfully updated attendee with ID: {}", id);
-        return attendeeMapper.mapToAttendeeDTO(existingAttendee);
+        return updatedAttendeeDTO;
     }
 
 
@@ -151,11 +182,54 @@ public class AttendeeService {
         checkMeetingsExistForAttendee(id);
 
         // --- Delete the Attendee
+        refreshTokenService.deleteAllForAttendee(id);
+        attendeeGroupService.removeAttendeeFromGroups(id);
         attendeeRepository.deleteById(id);
+        referenceDataService.evictAttendee(id);
+        cacheInvalidationPublisher.publish(CacheInvalidation.attendee(id));
+        calendarVersionService.bump(ResourceType.ATTENDEE, id);
         log.info("Successfully deleted attendee with ID: {}", id);
     }
 
 
+    /**
+     * Finds the weekly working schedule of an attendee.
+     *
+     * @param id The ID of the attendee.
+     * @return The working segments ordered by day of week and start time (empty if the daily working hours apply).
+     */
+    public List<WorkingSegmentDTO> getAttendeeWorkingSchedule(Long id) {
+        return workingScheduleMapper.mapToWorkingSegmentDTOList(findAttendeeEntityById(id).getWorkingSegments());
+    }
+
+
+    /**
+     * Replaces the weekly working schedule of an attendee.
+     * Segments replace the daily working hours; an empty schedule restores them.
+     *
+     * @param id         The ID of the attendee.
+     * @param requestDTO The WorkingScheduleRequestDTO with the new segments.
+     * @return The stored working segments.
+     */
+    @Transactional
+    public List<WorkingSegmentDTO> updateAttendeeWorkingSchedule(Long id, WorkingScheduleRequestDTO requestDTO) {
+        log.debug("Attempting to update working schedule of attendee with ID: {}", id);
+
+        Attendee existingAttendee = findAttendeeEntityById(id);
+        existingAttendee.getWorkingSegments().clear();
+        existingAttendee.getWorkingSegments().addAll(workingScheduleMapper.mapToWorkingSegments(requestDTO.segments()));
+
+        // --- Evict Cached Working Hours ---
+
+        referenceDataService.evictAttendee(id);
+        cacheInvalidationPublisher.publish(CacheInvalidation.attendee(id));
+        calendarVersionService.bump(ResourceType.ATTENDEE, id);
+
+        log.info("Successfully updated working schedule of attendee with ID: {} ({} segments)", id, requestDTO.segments().size());
+        return workingScheduleMapper.mapToWorkingSegmentDTOList(existingAttendee.getWorkingSegments());
+    }
+
+
     // === HELPER METHODS ===
 
 
@@ -1,18 +1,36 @@
 package com.truestayhere.meeting_scheduler.service;
 
+import com.truestayhere.meeting_scheduler.config.AvailabilityProperties;
+import com.truestayhere.meeting_scheduler.dto.request.BatchMeetingRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.BatchScheduleRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.CommonAvailabilityRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.FirstAvailableSuggestionRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.FreeCountHeatmapRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.LocationAvailabilityRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.LocationScopeRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.MeetingSuggestionRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.PendingMeetingRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.PreemptionPlanRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.QuorumAvailabilityRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.RecurringSuggestionRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.RoomAssignmentRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.response.AvailableSlotDTO;
+import com.truestayhere.meeting_scheduler.dto.response.BatchScheduleResultDTO;
+import com.truestayhere.meeting_scheduler.dto.response.DisplacedMeetingDTO;
+import com.truestayhere.meeting_scheduler.dto.response.FreeCountHeatmapDTO;
 import com.truestayhere.meeting_scheduler.dto.response.LocationDTO;
 import com.truestayhere.meeting_scheduler.dto.response.LocationTimeSlotDTO;
 import com.truestayhere.meeting_scheduler.dto.response.MeetingDTO;
+import com.truestayhere.meeting_scheduler.dto.response.PreemptionPlanDTO;
+import com.truestayhere.meeting_scheduler.dto.response.QuorumSlotDTO;
+import com.truestayhere.meeting_scheduler.dto.response.RoomAssignmentDTO;
+import com.truestayhere.meeting_scheduler.dto.response.RoomAssignmentResultDTO;
+import com.truestayhere.meeting_scheduler.dto.response.ScheduledMeetingDTO;
 import com.truestayhere.meeting_scheduler.mapper.LocationMapper;
 import com.truestayhere.meeting_scheduler.mapper.MeetingMapper;
-import com.truestayhere.meeting_scheduler.model.Attendee;
-import com.truestayhere.meeting_scheduler.model.Location;
-import com.truestayhere.meeting_scheduler.model.Meeting;
+import com.truestayhere.meeting_scheduler.model.*;
 import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import com.truestayhere.meeting_scheduler.repository.FreeSlotRepository;
 import com.truestayhere.meeting_scheduler.repository.LocationRepository;
 import com.truestayhere.meeting_scheduler.repository.MeetingRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -21,11 +39,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.*;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,14 +54,31 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 @Slf4j
 public class AvailabilityService {
-    // Default working hours
-    private static final LocalTime DEFAULT_WORKING_START_TIME = LocalTime.of(9, 0);
-    private static final LocalTime DEFAULT_WORKING_END_TIME = LocalTime.of(17, 0);
+    // Defaults and limits of the suggestion, heatmap, batch, recurring and preemption requests
+    private static final int DEFAULT_HORIZON_DAYS = 10;
+    private static final int DEFAULT_MAX_RESULTS = 5;
+    private static final int DEFAULT_BUCKET_MINUTES = 15;
+    private static final int DEFAULT_BATCH_HORIZON_DAYS = 5;
+    private static final int DEFAULT_OCCURRENCES = 4;
+    private static final int DEFAULT_MAX_PLANS = 3;
+    private static final int PREEMPTION_STEP_MINUTES = 15;
+    // Candidates completed with alternative slots per requested plan (plans whose meetings cannot move rank last)
+    private static final int PREEMPTION_CANDIDATES_PER_PLAN = 3;
+    private static final Duration MAX_HEATMAP_RANGE = Duration.ofDays(31);
+    private static final int MAX_HEATMAP_ATTENDEES = 1000;
     private final MeetingRepository meetingRepository;
     private final LocationRepository locationRepository;
     private final AttendeeRepository attendeeRepository;
     private final MeetingMapper meetingMapper;
     private final LocationMapper locationMapper;
+    private final BusyCalendarService busyCalendarService;
+    private final ReferenceDataService referenceDataService;
+    private final FreeSlotRepository freeSlotRepository;
+    private final AvailabilityProperties availabilityProperties;
+    private final WorkingWindowService workingWindowService;
+    private final TimeOffService timeOffService;
+    private final LocationUsageService locationUsageService;
+    private final BatchScheduleSolver batchScheduleSolver;
 
     // === AVAILABILITY METHODS ===
 
@@ -92,6 +130,7 @@ public class AvailabilityService {
 
     /**
      * Finds available time slots for a specific meeting within the working hours window on a specific day.
+     * Meetings in the location are extended by its setup/cleanup buffer.
      *
      * @param id   The ID of the location.
      * @param date The date of the working day.
@@ -105,16 +144,28 @@ public class AvailabilityService {
 
         // --- Handle Time Window Logic ---
 
-        AvailabilityService.TimeWindow workingDayWindow = getWorkingDayWindow(location.getWorkingStartTime(), location.getWorkingEndTime(), date);
-        log.debug("Working time window for location {}: {} to {}", id, workingDayWindow.start(), workingDayWindow.end());
+        List<WorkingWindow> workingWindows = getLocationWorkingWindows(location, date);
+        log.debug("Working time windows for location {}: {}", id, workingWindows);
+        if (workingWindows.isEmpty()) {
+            log.info("Location ID: {} does not work on {}", id, date);
+            return List.of();
+        }
+        LocalDateTime rangeStart = workingWindows.getFirst().start();
+        LocalDateTime rangeEnd = getLatestEnd(workingWindows);
 
         // --- End Time Window Logic Handling ---
 
-        // Fetch meetings active in the working time window
-        List<Meeting> existingMeetings = meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(id, workingDayWindow.end(), workingDayWindow.start());
-        log.debug("Found {} booked meetings for locationId: {}, sorted by start time.", existingMeetings.size(), id);
+        if (isSqlComputation()) {
+            return findFreeSlotsInDatabase(ResourceType.LOCATION, Map.of(id, workingWindows)).get(id);
+        }
+
+        // Read busy intervals from the materialized calendar, fall back to meetings active in the working time windows
+        List<BusyInterval> busyIntervals = busyCalendarService
+                .findBusyIntervals(ResourceType.LOCATION, id, rangeStart, rangeEnd)
+                .orElseGet(() -> toBusyIntervals(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(id, rangeEnd, rangeStart)));
+        log.debug("Found {} busy intervals for locationId: {}", busyIntervals.size(), id);
 
-        List<AvailableSlotDTO> availableSlots = findAvailableSlots(existingMeetings, workingDayWindow.start(), workingDayWindow.end());
+        List<AvailableSlotDTO> availableSlots = findAvailableSlots(busyIntervals, bufferPadding(location), workingWindows);
 
         log.info("Calculated {} available time slots for locationId: {} on date: {}", availableSlots.size(), id, date);
         return availableSlots;
@@ -123,8 +174,10 @@ public class AvailabilityService {
 
     /**
      * Finds available time slots for all locations on a given date that meet a minimum duration requirement.
+     * Locations are filtered by capacity, required features and hierarchy scope in the cached index, and locations
+     * in fully booked parts of the hierarchy are skipped, before any meetings are loaded.
      *
-     * @param request DTO containing date and minimum duration.
+     * @param request DTO containing date, minimum duration and optional capacity, required features and scope.
      * @return List of LocationTimeSlotDTO pairing locations with their qualifying available slots.
      */
     public List<LocationTimeSlotDTO> getAvailabilityForLocationsByDuration(
@@ -132,16 +185,19 @@ public class AvailabilityService {
         LocalDate date = request.date();
         int durationMinutes = request.durationMinutes();
         Integer minCapacity = request.minimumCapacity();
+        long requiredFeatures = LocationFeature.toMask(request.requiredFeatures());
+        LocationScopeRequestDTO scope = request.scope();
 
-        log.debug("Calculating location availability for date: {}, duration >= {}, minCapacity >= {}", date, durationMinutes, (minCapacity != null ? minCapacity : "N/A"));
+        log.debug("Calculating location availability for date: {}, duration >= {}, minCapacity >= {}, features: {}, scope: {}",
+                date, durationMinutes, (minCapacity != null ? minCapacity : "N/A"), request.requiredFeatures(), scope);
 
         // Fetch suitable locations
         List<Location> suitableLocations;
-        if (minCapacity != null) {
-            suitableLocations = findLocationsByCapacityMin(minCapacity);
-            log.debug("Found {} locations matching capacity >= {}", suitableLocations.size(), minCapacity);
+        if (minCapacity != null || requiredFeatures != 0L || scope != null) {
+            suitableLocations = findLocationsByCapacityMin(minCapacity != null ? minCapacity : 0, requiredFeatures, scope);
+            log.debug("Found {} locations matching capacity >= {}, features {} and scope {}", suitableLocations.size(), minCapacity, request.requiredFeatures(), scope);
         } else {
-            suitableLocations = locationRepository.findAll();
+            suitableLocations = referenceDataService.findAllLocations();
             log.debug("No capacity filter applied, considering all {} locations.", suitableLocations.size());
         }
         if (suitableLocations.isEmpty()) {
@@ -149,12 +205,22 @@ public class AvailabilityService {
             return List.of();
         }
 
+        // Skip whole sites, buildings and floors without enough free time left
+        suitableLocations = locationUsageService.pruneFullyBookedNodes(suitableLocations, date, durationMinutes);
+
         List<LocationTimeSlotDTO> resultSlots = new ArrayList<>();
 
+        // SQL computation: free slots of all suitable locations in one statement
+        Map<Long, List<AvailableSlotDTO>> freeSlotsByLocation = isSqlComputation()
+                ? findFreeSlotsInDatabase(ResourceType.LOCATION, getLocationWindows(suitableLocations, date))
+                : null;
+
         // Iterate through the locations matching the capacity criteria
         for (Location location : suitableLocations) {
             // Get available time resultSlots for a location
-            List<AvailableSlotDTO> locationAvailability = getAvailableTimeForLocation(location.getId(), date);
+            List<AvailableSlotDTO> locationAvailability = freeSlotsByLocation != null
+                    ? freeSlotsByLocation.get(location.getId())
+                    : getAvailableTimeForLocation(location.getId(), date);
 
             // Filter resultSlots by minimum duration
             List<AvailableSlotDTO> sufficientSlots = filterSlotsByDuration(locationAvailability, durationMinutes);
@@ -186,21 +252,34 @@ public class AvailabilityService {
     public List<AvailableSlotDTO> getAvailableTimeForAttendee(Long id, LocalDate date) {
         log.debug("Finding available time slots for attendeeId: {} on date: {}", id, date);
 
-        // fetch the attendee
-        Attendee attendee = findAttendeeEntityById(id);
+        // fetch the attendee working hours
+        WorkingHours workingHours = findAttendeeWorkingHoursById(id);
 
         // --- Handle Time Window Logic ---
 
-        AvailabilityService.TimeWindow workingDayWindow = getWorkingDayWindow(attendee.getWorkingStartTime(), attendee.getWorkingEndTime(), date);
-        log.debug("Working time window for attendeeId {}: {} to {}", id, workingDayWindow.start(), workingDayWindow.end());
+        List<WorkingWindow> workingWindows = getAttendeeWorkingWindows(workingHours, date);
+        log.debug("Working time windows for attendeeId {}: {}", id, workingWindows);
+        if (workingWindows.isEmpty()) {
+            log.info("Attendee ID: {} does not work on {}", id, date);
+            return List.of();
+        }
+        LocalDateTime rangeStart = workingWindows.getFirst().start();
+        LocalDateTime rangeEnd = getLatestEnd(workingWindows);
 
         // --- End Time Window Logic Handling ---
 
-        // Fetch meetings active in the working time window
-        List<Meeting> existingMeetings = meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(id, workingDayWindow.end(), workingDayWindow.start());
-        log.debug("Found {} booked meeting for attendeeId: {}, sorted by start time.", existingMeetings.size(), id);
+        if (isSqlComputation()) {
+            return findFreeSlotsInDatabase(ResourceType.ATTENDEE, Map.of(id, workingWindows)).get(id);
+        }
 
-        List<AvailableSlotDTO> availableSlots = findAvailableSlots(existingMeetings, workingDayWindow.start(), workingDayWindow.end());
+        // Read busy intervals from the materialized calendar, fall back to meetings active in the working time windows
+        List<BusyInterval> busyIntervals = busyCalendarService
+                .findBusyIntervals(ResourceType.ATTENDEE, id, rangeStart, rangeEnd)
+                .orElseGet(() -> toBusyIntervals(meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(id, rangeEnd, rangeStart)));
+        log.debug("Found {} busy intervals for attendeeId: {}", busyIntervals.size(), id);
+
+        // The location of the next meeting is not known here, travel times apply in the suggestion search
+        List<AvailableSlotDTO> availableSlots = findAvailableSlots(busyIntervals, BusyPadding.NONE, workingWindows);
 
         log.info("Calculated {} available time slots for attendeeId: {} on date: {}", availableSlots.size(), id, date);
         return availableSlots;
@@ -215,35 +294,52 @@ public class AvailabilityService {
      */
     public List<AvailableSlotDTO> getCommonAttendeeAvailability(
             CommonAvailabilityRequestDTO request) {
-        log.debug("Calculating common availability for attendeeIds: {} on date: {}",
-                request.attendeeIds(), request.date());
+        log.debug("Calculating common availability for attendeeIds: {}, groupIds: {} on date: {}",
+                request.attendeeIds(), request.groupIds(), request.date());
 
-        if (request.attendeeIds().isEmpty()) {
+        Set<Long> attendeeIds = resolveAttendeeIds(request.attendeeIds(), request.groupIds());
+        if (attendeeIds.isEmpty()) {
             log.info("Requested common availability for an empty attendee list.");
             return List.of();
         }
 
         // Calculate common time slots for attendees
-        List<AvailableSlotDTO> commonSlots = calculateAttendeeCommonAvailability(request.attendeeIds(), request.date());
+        List<AvailableSlotDTO> commonSlots = calculateAttendeeCommonAvailability(attendeeIds, request.date());
 
-        log.info("Found {} common available slots for attendees {} on {}", commonSlots.size(), request.attendeeIds(), request.date());
+        log.info("Found {} common available slots for attendees {} on {}", commonSlots.size(), attendeeIds, request.date());
         return commonSlots;
     }
 
 
     /**
      * Finds suitable meeting time slots (as available intersection gaps) and locations.
+     * When travel times between buildings are configured, attendees keep the travel time free
+     * between their other meetings and the suggested location.
      *
-     * @param request DTO containing attendee IDs, desired duration, date, and optional capacity.
+     * With BEST_FIT room selection a suggestion is left out when a smaller room is free for its whole time slot.
+     *
+     * @param request DTO containing attendee IDs, desired duration, date, and optional required location features.
      * @return A list of potential meeting suggestion gaps at specific locations where everyone is free.
      */
     public List<LocationTimeSlotDTO> findMeetingSuggestions(MeetingSuggestionRequestDTO request) {
-        log.info("Finding meeting suggestions for attendeeIds: {}, date: {}, duration: {} mins",
-                request.attendeeIds(), request.date(), request.durationMinutes());
+        log.info("Finding meeting suggestions for attendeeIds: {}, groupIds: {}, date: {}, duration: {} mins",
+                request.attendeeIds(), request.groupIds(), request.date(), request.durationMinutes());
+
+        Set<Long> attendeeIds = resolveAttendeeIds(request.attendeeIds(), request.groupIds());
+        boolean bestFit = request.roomSelection() == RoomSelection.BEST_FIT;
+
+        // Travel times depend on where every busy meeting is held, the meetings of the day are swept with their locations
+        if (!attendeeIds.isEmpty() && !referenceDataService.findTravelTimeMatrix().isEmpty()) {
+            List<LocationTimeSlotDTO> suggestions = searchSuggestions(attendeeIds, List.of(request.date()), request.durationMinutes(),
+                    LocationFeature.toMask(request.requiredFeatures()), request.scope(), bestFit, Integer.MAX_VALUE);
+            log.info("Found {} meeting suggestions (with travel times).", suggestions.size());
+            return suggestions;
+        }
 
         // Find common availability slots for the attendees
         CommonAvailabilityRequestDTO commonAvailabilityRequest = new CommonAvailabilityRequestDTO(
-                request.attendeeIds(),
+                attendeeIds,
+                null,
                 request.date()
         );
         List<AvailableSlotDTO> commonSlots = getCommonAttendeeAvailability(commonAvailabilityRequest);
@@ -264,11 +360,13 @@ public class AvailabilityService {
         log.debug("Found {} common slots after duration filter.", sufficientDurationGaps.size());
 
         // Find available time slots for locations matching the capacity and meeting duration criteria
-        int requiredCapacity = request.attendeeIds().size();
+        int requiredCapacity = attendeeIds.size();
         LocationAvailabilityRequestDTO locationAvailabilityRequest = new LocationAvailabilityRequestDTO(
                 request.date(),
                 durationMinutes,
-                requiredCapacity
+                requiredCapacity,
+                request.requiredFeatures(),
+                request.scope()
         );
         List<LocationTimeSlotDTO> locationSlots = getAvailabilityForLocationsByDuration(locationAvailabilityRequest);
         if (locationSlots.isEmpty()) {
@@ -279,11 +377,588 @@ public class AvailabilityService {
 
         // Filter locations availability time slots for matching requirements
         List<LocationTimeSlotDTO> suggestions = calculateIntersectionSuggestions(sufficientDurationGaps, locationSlots, durationMinutes);
+        if (bestFit) {
+            suggestions = selectBestFitRooms(suggestions);
+        }
         log.info("Found {} meeting suggestions.", suggestions.size());
 
         return suggestions;
     }
 
+
+    /**
+     * Finds the earliest meeting suggestions within a horizon of business days (Monday - Friday).
+     * The meetings of all attendees and candidate locations over the whole horizon are loaded with one range query
+     * per resource type; days are then scanned in order and the search stops as soon as enough suggestions are found.
+     *
+     * @param request DTO containing attendee and group IDs, desired duration, start date, horizon and the number of results.
+     * @return Up to maxResults suggestions ordered by start time (then smallest-fit location first).
+     */
+    public List<LocationTimeSlotDTO> findFirstAvailableSuggestions(FirstAvailableSuggestionRequestDTO request) {
+        int horizonDays = request.horizonDays() != null ? request.horizonDays() : DEFAULT_HORIZON_DAYS;
+        int maxResults = request.maxResults() != null ? request.maxResults() : DEFAULT_MAX_RESULTS;
+        int durationMinutes = request.durationMinutes();
+        Set<Long> attendeeIds = resolveAttendeeIds(request.attendeeIds(), request.groupIds());
+
+        log.info("Finding first {} meeting suggestions for attendeeIds: {}, groupIds: {}, from: {}, horizon: {} business days, duration: {} mins",
+                maxResults, request.attendeeIds(), request.groupIds(), request.startDate(), horizonDays, durationMinutes);
+
+        List<LocalDate> businessDays = getBusinessDays(request.startDate(), horizonDays);
+        List<LocationTimeSlotDTO> suggestions = searchSuggestions(attendeeIds, businessDays, durationMinutes,
+                LocationFeature.toMask(request.requiredFeatures()), request.scope(),
+                request.roomSelection() == RoomSelection.BEST_FIT, maxResults);
+
+        log.info("Found {} meeting suggestions within {} business days.", suggestions.size(), horizonDays);
+        return suggestions;
+    }
+
+    /**
+     * Finds meeting suggestions free on every occurrence of a weekly meeting (e.g. a weekly 1:1 or standup).
+     * The meetings of all attendees and candidate locations from the first to the last occurrence are loaded with one
+     * range query per resource type. The suggestions of each occurrence are shifted back to the first occurrence,
+     * keeping their local time of day in the requested time zone, and intersected per location as the occurrences are
+     * scanned; the scan stops at the first occurrence that leaves no common slot.
+     *
+     * @param request DTO containing the attendees, duration, first date, number of occurrences and time zone.
+     * @return Suggestions on the first date (UTC) free in the same location at the same local time on every occurrence,
+     * ordered by start time (then smallest-fit location first).
+     * @throws EntityNotFoundException if an attendee or attendee group is not found, or no location fits.
+     */
+    public List<LocationTimeSlotDTO> findRecurringSuggestions(RecurringSuggestionRequestDTO request) {
+        int occurrences = request.occurrences() != null ? request.occurrences() : DEFAULT_OCCURRENCES;
+        ZoneId timeZone = request.timeZone() != null ? request.timeZone() : ZoneOffset.UTC;
+        int durationMinutes = request.durationMinutes();
+        Set<Long> attendeeIds = resolveAttendeeIds(request.attendeeIds(), request.groupIds());
+
+        log.info("Finding weekly meeting suggestions for attendeeIds: {}, groupIds: {}, first date: {}, occurrences: {}, duration: {} mins",
+                request.attendeeIds(), request.groupIds(), request.firstDate(), occurrences, durationMinutes);
+
+        List<LocalDate> dates = new ArrayList<>(occurrences);
+        for (int week = 0; week < occurrences; week++) {
+            dates.add(request.firstDate().plusWeeks(week));
+        }
+        SuggestionSearchData data = loadSuggestionSearchData(attendeeIds, dates, durationMinutes,
+                LocationFeature.toMask(request.requiredFeatures()), request.scope());
+        if (data == null) {
+            return List.of();
+        }
+
+        // Free time of each location on the timeline of the first occurrence, narrowed by every following occurrence
+        Map<Long, LocationDTO> locationDTOs = new HashMap<>();
+        Map<Long, List<AvailableSlotDTO>> commonSlotsByLocation = null;
+        for (int week = 0; week < occurrences; week++) {
+            Map<Long, List<AvailableSlotDTO>> slotsByLocation = new HashMap<>();
+            for (LocationTimeSlotDTO suggestion : findSuggestionsForDay(dates.get(week), durationMinutes, data, locationDTOs)) {
+                slotsByLocation.computeIfAbsent(suggestion.location().id(), id -> new ArrayList<>())
+                        .add(shiftWeeksBack(suggestion.availableSlot(), week, timeZone));
+            }
+
+            if (commonSlotsByLocation == null) {
+                commonSlotsByLocation = slotsByLocation;
+            } else {
+                Map<Long, List<AvailableSlotDTO>> narrowedSlotsByLocation = new HashMap<>();
+                commonSlotsByLocation.forEach((locationId, slots) -> {
+                    List<AvailableSlotDTO> commonSlots = filterSlotsByDuration(
+                            intersectAvailability(slots, slotsByLocation.getOrDefault(locationId, List.of())), durationMinutes);
+                    if (!commonSlots.isEmpty()) {
+                        narrowedSlotsByLocation.put(locationId, commonSlots);
+                    }
+                });
+                commonSlotsByLocation = narrowedSlotsByLocation;
+            }
+            if (commonSlotsByLocation.isEmpty()) {
+                log.info("No weekly meeting suggestions, nothing is free on every occurrence up to {}", dates.get(week));
+                return List.of();
+            }
+        }
+
+        // Locations of the first day are ordered smallest-fit first
+        Map<Long, Integer> locationOrder = new HashMap<>();
+        List<Location> firstDayLocations = data.locationsByDay().get(dates.getFirst());
+        for (int i = 0; i < firstDayLocations.size(); i++) {
+            locationOrder.put(firstDayLocations.get(i).getId(), i);
+        }
+        List<LocationTimeSlotDTO> suggestions = commonSlotsByLocation.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream()
+                        .map(slot -> new LocationTimeSlotDTO(locationDTOs.get(entry.getKey()), slot)))
+                .sorted(Comparator.<LocationTimeSlotDTO, LocalDateTime>comparing(suggestion -> suggestion.availableSlot().startTime())
+                        .thenComparing(suggestion -> locationOrder.get(suggestion.location().id())))
+                .toList();
+        if (request.roomSelection() == RoomSelection.BEST_FIT) {
+            suggestions = selectBestFitRooms(suggestions);
+        }
+
+        log.info("Found {} weekly meeting suggestions free on all {} occurrences.", suggestions.size(), occurrences);
+        return suggestions;
+    }
+
+
+    /**
+     * Finds the best meeting slots on a date when not every attendee can attend (quorum mode).
+     * An attendee can attend a slot starting at s if one of their free runs contains [s, s + duration), so every run turns
+     * into a range of feasible starts. One sweep over the sorted ranges counts the attendees free at each slot boundary
+     * (counters only), and attendee sets are built just for the returned slots.
+     * Runs in O(total slots * log + candidates * maxResults + maxResults * attendees * log) instead of trying attendee subsets.
+     *
+     * @param request DTO containing attendee and group IDs, required attendee IDs, quorum size, date, duration and the number of results.
+     * @return Up to maxResults non-overlapping slots ordered by the number of free attendees (then start time).
+     * @throws IllegalArgumentException if the quorum is larger than the number of attendees.
+     */
+    public List<QuorumSlotDTO> findQuorumAvailability(QuorumAvailabilityRequestDTO request) {
+        Set<Long> requiredAttendeeIds = request.requiredAttendeeIds() != null ? request.requiredAttendeeIds() : Set.of();
+        Set<Long> attendeeIds = new LinkedHashSet<>(resolveAttendeeIds(request.attendeeIds(), request.groupIds()));
+        attendeeIds.addAll(requiredAttendeeIds);
+        int minAttendees = request.minAttendees() != null ? request.minAttendees() : Math.max(requiredAttendeeIds.size(), 1);
+        int maxResults = request.maxResults() != null ? request.maxResults() : DEFAULT_MAX_RESULTS;
+        Duration duration = Duration.ofMinutes(request.durationMinutes());
+
+        log.info("Finding quorum slots for attendeeIds: {} (required: {}), quorum: {}, date: {}, duration: {} mins",
+                attendeeIds, requiredAttendeeIds, minAttendees, request.date(), request.durationMinutes());
+
+        if (minAttendees > attendeeIds.size()) {
+            throw new IllegalArgumentException(String.format("Quorum of %d attendees is larger than the number of attendees (%d).", minAttendees, attendeeIds.size()));
+        }
+
+        // SQL computation: free slots of all attendees in one statement
+        Map<Long, List<AvailableSlotDTO>> freeSlotsByAttendee;
+        if (isSqlComputation()) {
+            freeSlotsByAttendee = findFreeSlotsInDatabase(ResourceType.ATTENDEE, getAttendeeWindows(attendeeIds, request.date()));
+        } else {
+            freeSlotsByAttendee = new LinkedHashMap<>();
+            for (Long attendeeId : attendeeIds) {
+                freeSlotsByAttendee.put(attendeeId, getAvailableTimeForAttendee(attendeeId, request.date()));
+            }
+        }
+
+        // Touching free slots of one attendee are one run, so a slot may span them
+        Map<Long, List<AvailableSlotDTO>> freeRunsByAttendee = new LinkedHashMap<>();
+        freeSlotsByAttendee.forEach((attendeeId, slots) -> freeRunsByAttendee.put(attendeeId, mergeOverlappingSlots(new ArrayList<>(slots))));
+
+        List<QuorumCandidate> candidates = sweepQuorumStarts(freeSlotsByAttendee, freeRunsByAttendee, duration, minAttendees, requiredAttendeeIds);
+        log.debug("Quorum sweep found {} candidate starts with a quorum of {}", candidates.size(), minAttendees);
+        candidates.sort(Comparator.comparingInt(QuorumCandidate::availableCount).reversed()
+                .thenComparing(QuorumCandidate::start));
+
+        // Best slots first, skipping slots overlapping a better one; attendee sets are built for the chosen slots only
+        List<QuorumSlotDTO> result = new ArrayList<>();
+        for (QuorumCandidate candidate : candidates) {
+            LocalDateTime slotEnd = candidate.start().plus(duration);
+            boolean overlapsChosen = result.stream().anyMatch(chosen ->
+                    candidate.start().isBefore(chosen.endTime()) && chosen.startTime().isBefore(slotEnd));
+            if (!overlapsChosen) {
+                result.add(toQuorumSlot(freeRunsByAttendee, candidate.start(), slotEnd, attendeeIds));
+                if (result.size() == maxResults) {
+                    break;
+                }
+            }
+        }
+
+        log.info("Found {} quorum slots on {}", result.size(), request.date());
+        return result;
+    }
+
+
+    /**
+     * Counts how many attendees are free in each bucket of a time range (heatmap for planning large meetings).
+     * An attendee is free in a bucket if the whole bucket is inside their working windows, outside their time off and meetings.
+     * Meetings of all attendees are fetched with one query; the blocked bucket ranges of each attendee are merged
+     * and added to a single difference array, so the counts are a prefix sum in O(total intervals * log + buckets).
+     *
+     * @param request DTO containing attendee IDs, the time range (UTC) and the bucket size.
+     * @return FreeCountHeatmapDTO with the free count of every bucket.
+     * @throws IllegalArgumentException if the range is longer than 31 days or there are more than 1000 attendees.
+     */
+    public FreeCountHeatmapDTO getFreeCountHeatmap(FreeCountHeatmapRequestDTO request) {
+        LocalDateTime rangeStart = request.startTime();
+        LocalDateTime rangeEnd = request.endTime();
+        Set<Long> attendeeIds = resolveAttendeeIds(request.attendeeIds(), request.groupIds());
+        int bucketMinutes = request.bucketMinutes() != null ? request.bucketMinutes() : DEFAULT_BUCKET_MINUTES;
+
+        log.info("Calculating free count heatmap of {} attendees from {} to {} ({} min buckets)",
+                attendeeIds.size(), rangeStart, rangeEnd, bucketMinutes);
+
+        if (Duration.between(rangeStart, rangeEnd).compareTo(MAX_HEATMAP_RANGE) > 0) {
+            throw new IllegalArgumentException(String.format("Heatmap range must not exceed %d days.", MAX_HEATMAP_RANGE.toDays()));
+        }
+        if (attendeeIds.size() > MAX_HEATMAP_ATTENDEES) {
+            throw new IllegalArgumentException(String.format("Heatmap is limited to %d attendees (%d requested).", MAX_HEATMAP_ATTENDEES, attendeeIds.size()));
+        }
+
+        long bucketSeconds = bucketMinutes * 60L;
+        int bucketCount = (int) Math.ceilDiv(Duration.between(rangeStart, rangeEnd).toSeconds(), bucketSeconds);
+
+        Map<Long, List<BusyInterval>> busyByAttendee = groupByAttendee(
+                meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(attendeeIds, rangeEnd, rangeStart),
+                attendeeIds);
+
+        // blockedDiff[b] - blockedDiff[b - 1] is the change in the number of attendees that are not free for the whole bucket b
+        int[] blockedDiff = new int[bucketCount + 1];
+        for (Long attendeeId : attendeeIds) {
+            List<BucketRange> blockedRanges = new ArrayList<>();
+
+            // Time outside of the working windows (time off is already removed from the windows)
+            LocalDateTime currentPointer = rangeStart;
+            for (WorkingWindow window : getAttendeeWorkingWindows(findAttendeeWorkingHoursById(attendeeId), rangeStart, rangeEnd)) {
+                if (window.start().isAfter(currentPointer)) {
+                    addBucketRange(blockedRanges, currentPointer, window.start(), rangeStart, bucketSeconds, bucketCount);
+                }
+                currentPointer = maxTime(currentPointer, window.end());
+            }
+            if (rangeEnd.isAfter(currentPointer)) {
+                addBucketRange(blockedRanges, currentPointer, rangeEnd, rangeStart, bucketSeconds, bucketCount);
+            }
+
+            // Meetings
+            for (BusyInterval busyInterval : busyByAttendee.getOrDefault(attendeeId, List.of())) {
+                addBucketRange(blockedRanges, busyInterval.startTime(), busyInterval.endTime(), rangeStart, bucketSeconds, bucketCount);
+            }
+
+            // Merged ranges count each attendee at most once per bucket
+            blockedRanges.sort(Comparator.comparingInt(BucketRange::from));
+            int mergedFrom = -1, mergedTo = -1;
+            for (BucketRange range : blockedRanges) {
+                if (range.from() <= mergedTo) {
+                    mergedTo = Math.max(mergedTo, range.to());
+                    continue;
+                }
+                if (mergedFrom >= 0) {
+                    blockedDiff[mergedFrom]++;
+                    blockedDiff[mergedTo]--;
+                }
+                mergedFrom = range.from();
+                mergedTo = range.to();
+            }
+            if (mergedFrom >= 0) {
+                blockedDiff[mergedFrom]++;
+                blockedDiff[mergedTo]--;
+            }
+        }
+
+        List<Integer> freeCounts = new ArrayList<>(bucketCount);
+        int blockedAttendees = 0;
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            blockedAttendees += blockedDiff[bucket];
+            freeCounts.add(attendeeIds.size() - blockedAttendees);
+        }
+
+        log.info("Calculated free count heatmap with {} buckets", bucketCount);
+        return new FreeCountHeatmapDTO(rangeStart, rangeEnd, bucketMinutes, attendeeIds.size(), freeCounts);
+    }
+
+
+    /**
+     * Assigns rooms to the pending meetings of a day in one batch.
+     * Meetings are placed in order of their end time (as in interval scheduling, this leaves the most room for the
+     * meetings placed later), each into the smallest free room that fits it and has the required features, so small
+     * meetings do not take the large rooms that larger meetings need.
+     * The meetings of all candidate rooms are loaded with one range query; the free slots of a room are computed
+     * when the room is first considered. Meetings placed by the batch keep the room's buffer free around them.
+     *
+     * @param request DTO containing the date and the pending meetings (UTC times).
+     * @return RoomAssignmentResultDTO with one assignment per meeting in request order and the seat utilization.
+     * @throws IllegalArgumentException if a meeting does not start on the date.
+     */
+    public RoomAssignmentResultDTO assignRooms(RoomAssignmentRequestDTO request) {
+        LocalDate date = request.date();
+        List<PendingMeetingRequestDTO> meetings = request.meetings();
+        log.info("Assigning rooms to {} pending meetings on {}", meetings.size(), date);
+
+        for (int i = 0; i < meetings.size(); i++) {
+            if (!meetings.get(i).startTime().toLocalDate().equals(date)) {
+                throw new IllegalArgumentException(String.format("Meeting %d does not start on %s.", i, date));
+            }
+        }
+
+        // Every room large enough for the smallest meeting is a candidate, their meetings are loaded with one range query
+        // (covering windows shifted by time zones and buffers around the day)
+        LocationCapacityIndex capacityIndex = referenceDataService.findLocationCapacityIndex();
+        int smallestMeeting = meetings.stream().mapToInt(PendingMeetingRequestDTO::attendeeCount).min().orElse(1);
+        List<Long> candidateLocationIds = capacityIndex.findByCapacityMin(smallestMeeting).stream()
+                .map(Location::getId)
+                .toList();
+        Map<Long, List<BusyInterval>> locationBusy = candidateLocationIds.isEmpty()
+                ? Map.of()
+                : groupByLocation(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(
+                candidateLocationIds, date.plusDays(2).atStartOfDay(), date.minusDays(1).atStartOfDay()));
+
+        // Earliest end first (leaves the most room for later meetings), then largest first (ties keep the request order)
+        List<Integer> placementOrder = new ArrayList<>();
+        for (int i = 0; i < meetings.size(); i++) {
+            placementOrder.add(i);
+        }
+        placementOrder.sort(Comparator.<Integer, LocalDateTime>comparing(index -> meetings.get(index).endTime())
+                .thenComparing(Comparator.<Integer>comparingInt(index -> meetings.get(index).attendeeCount()).reversed()));
+
+        Map<Long, RoomSchedule> roomSchedules = new HashMap<>();
+        Map<Long, LocationDTO> locationDTOs = new HashMap<>();
+        LocationDTO[] assignedLocations = new LocationDTO[meetings.size()];
+        long attendeeMinutes = 0;
+        long seatMinutes = 0;
+        int assignedCount = 0;
+
+        for (int index : placementOrder) {
+            PendingMeetingRequestDTO meeting = meetings.get(index);
+            long requiredFeatures = LocationFeature.toMask(meeting.requiredFeatures());
+            // Rooms are ordered smallest-fit first
+            for (Location location : capacityIndex.findByCapacityMinAndFeatures(meeting.attendeeCount(), requiredFeatures)) {
+                RoomSchedule roomSchedule = roomSchedules.computeIfAbsent(location.getId(), id ->
+                        new RoomSchedule(findAvailableSlots(locationBusy.get(id), bufferPadding(location), getLocationWorkingWindowsAround(location, date)),
+                                location.getBufferMinutes() != null ? location.getBufferMinutes() : 0));
+                if (roomSchedule.place(meeting.startTime(), meeting.endTime())) {
+                    assignedLocations[index] = locationDTOs.computeIfAbsent(location.getId(), id -> locationMapper.mapToLocationDTO(location));
+                    long minutes = Duration.between(meeting.startTime(), meeting.endTime()).toMinutes();
+                    attendeeMinutes += meeting.attendeeCount() * minutes;
+                    seatMinutes += location.getCapacity() * minutes;
+                    assignedCount++;
+                    break;
+                }
+            }
+        }
+
+        List<RoomAssignmentDTO> assignments = new ArrayList<>();
+        for (int i = 0; i < meetings.size(); i++) {
+            PendingMeetingRequestDTO meeting = meetings.get(i);
+            assignments.add(new RoomAssignmentDTO(i, meeting.startTime(), meeting.endTime(), meeting.attendeeCount(), assignedLocations[i]));
+        }
+        double seatUtilization = seatMinutes > 0 ? (double) attendeeMinutes / seatMinutes : 0.0;
+
+        log.info("Assigned rooms to {} of {} pending meetings on {} (seat utilization {})",
+                assignedCount, meetings.size(), date, String.format("%.2f", seatUtilization));
+        return new RoomAssignmentResultDTO(assignments, assignedCount, meetings.size() - assignedCount, seatUtilization);
+    }
+
+    /**
+     * Proposes conflict-free times and rooms for a batch of meetings (e.g. the interviews of a hiring week).
+     * The meetings of all attendees and candidate rooms over the horizon are loaded with one range query per resource
+     * type and turned into free intervals once; BatchScheduleSolver then places the meetings in memory so they overlap
+     * neither each other nor existing meetings, solving independent groups of meetings in parallel.
+     * Nothing is booked, the client creates the proposed meetings. Meetings without a fitting room are left unscheduled.
+     *
+     * @param request DTO containing the start date, the horizon and the meetings to place.
+     * @return BatchScheduleResultDTO with one entry per meeting in request order.
+     * @throws EntityNotFoundException if an attendee is not found.
+     */
+    public BatchScheduleResultDTO scheduleBatch(BatchScheduleRequestDTO request) {
+        int horizonDays = request.horizonDays() != null ? request.horizonDays() : DEFAULT_BATCH_HORIZON_DAYS;
+        List<BatchMeetingRequestDTO> requestedMeetings = request.meetings();
+        log.info("Scheduling batch of {} meetings within {} business days from {}",
+                requestedMeetings.size(), horizonDays, request.startDate());
+
+        List<LocalDate> businessDays = getBusinessDays(request.startDate(), horizonDays);
+        LocationCapacityIndex capacityIndex = referenceDataService.findLocationCapacityIndex();
+        Set<Long> attendeeIds = new LinkedHashSet<>();
+        Map<Long, Location> roomsById = new LinkedHashMap<>();
+        List<BatchScheduleSolver.BatchMeeting> meetings = new ArrayList<>();
+        for (int i = 0; i < requestedMeetings.size(); i++) {
+            BatchMeetingRequestDTO meeting = requestedMeetings.get(i);
+            // Rooms are ordered smallest-fit first
+            List<Location> rooms = capacityIndex.findByCapacityMinAndFeatures(
+                    meeting.attendeeIds().size(), LocationFeature.toMask(meeting.requiredFeatures()));
+            if (meeting.scope() != null) {
+                rooms = rooms.stream()
+                        .filter(location -> isInScope(location, meeting.scope()))
+                        .toList();
+            }
+            rooms.forEach(location -> roomsById.putIfAbsent(location.getId(), location));
+            attendeeIds.addAll(meeting.attendeeIds());
+            meetings.add(new BatchScheduleSolver.BatchMeeting(i, meeting.attendeeIds(), meeting.durationMinutes(), rooms));
+        }
+
+        // One range query per resource type (covering windows shifted by time zones and buffers around the horizon)
+        LocalDateTime rangeStart = businessDays.getFirst().minusDays(1).atStartOfDay();
+        LocalDateTime rangeEnd = businessDays.getLast().plusDays(2).atStartOfDay();
+        Map<Long, List<BusyInterval>> attendeeBusy = groupByAttendee(
+                meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(attendeeIds, rangeEnd, rangeStart), attendeeIds);
+        Map<Long, List<BusyInterval>> locationBusy = roomsById.isEmpty()
+                ? Map.of()
+                : groupByLocation(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(roomsById.keySet(), rangeEnd, rangeStart));
+
+        Map<Long, List<AvailableSlotDTO>> attendeeFreeSlots = new HashMap<>();
+        for (Long attendeeId : attendeeIds) {
+            WorkingHours workingHours = findAttendeeWorkingHoursById(attendeeId);
+            List<AvailableSlotDTO> freeSlots = new ArrayList<>();
+            for (LocalDate day : businessDays) {
+                freeSlots.addAll(findAvailableSlots(attendeeBusy.get(attendeeId), BusyPadding.NONE, getAttendeeWorkingWindows(workingHours, day)));
+            }
+            attendeeFreeSlots.put(attendeeId, freeSlots);
+        }
+        Map<Long, List<AvailableSlotDTO>> roomFreeSlots = new HashMap<>();
+        for (Location location : roomsById.values()) {
+            List<AvailableSlotDTO> freeSlots = new ArrayList<>();
+            for (LocalDate day : businessDays) {
+                freeSlots.addAll(findAvailableSlots(locationBusy.get(location.getId()), bufferPadding(location), getLocationWorkingWindows(location, day)));
+            }
+            roomFreeSlots.put(location.getId(), freeSlots);
+        }
+
+        BatchScheduleSolver.Placement[] placements = new BatchScheduleSolver.Placement[requestedMeetings.size()];
+        batchScheduleSolver.solve(meetings, attendeeFreeSlots, roomFreeSlots)
+                .forEach(placement -> placements[placement.index()] = placement);
+
+        Map<Long, LocationDTO> locationDTOs = new HashMap<>();
+        List<ScheduledMeetingDTO> scheduledMeetings = new ArrayList<>();
+        int scheduledCount = 0;
+        for (int i = 0; i < requestedMeetings.size(); i++) {
+            BatchScheduleSolver.Placement placement = placements[i];
+            String title = requestedMeetings.get(i).title();
+            if (placement == null) {
+                scheduledMeetings.add(new ScheduledMeetingDTO(i, title, null, null, null));
+                continue;
+            }
+            LocationDTO location = locationDTOs.computeIfAbsent(placement.room().getId(), id -> locationMapper.mapToLocationDTO(placement.room()));
+            scheduledMeetings.add(new ScheduledMeetingDTO(i, title, placement.startTime(), placement.endTime(), location));
+            scheduledCount++;
+        }
+
+        log.info("Scheduled {} of {} meetings of the batch", scheduledCount, requestedMeetings.size());
+        return new BatchScheduleResultDTO(scheduledMeetings, scheduledCount, requestedMeetings.size() - scheduledCount);
+    }
+
+    /**
+     * Plans where to put a meeting that must happen on a day without a free slot, by moving existing meetings of lower priority.
+     * The meetings of the attendees and candidate locations on the day are loaded with one range query per resource type;
+     * every start (15 minute steps) within the common working hours of the attendees is then evaluated in every candidate
+     * location over these in-memory calendars. A start qualifies if every meeting it overlaps (in the location, padded by
+     * its buffer, or of an attendee) has a lower priority and at most availability.preemption-max-displaced meetings
+     * have to move. The cheapest starts (fewest displaced meetings, then lowest total priority, then earliest start and
+     * smallest-fit location) get an alternative slot for each displaced meeting on the same day in its own location,
+     * from the calendars of its attendees (one more range query per resource type). The scan stops after
+     * availability.preemption-time-budget and plans with the starts evaluated so far. Nothing is moved.
+     *
+     * @param request DTO containing the attendees, duration, date, priority of the meeting and priorities of existing meetings.
+     * @return Up to maxResults plans with different sets of displaced meetings; plans whose displaced meetings all have
+     * an alternative slot come first, then the cheapest.
+     * @throws EntityNotFoundException if an attendee, attendee group or fitting location is not found.
+     */
+    public List<PreemptionPlanDTO> planPreemption(PreemptionPlanRequestDTO request) {
+        int maxResults = request.maxResults() != null ? request.maxResults() : DEFAULT_MAX_PLANS;
+        int durationMinutes = request.durationMinutes();
+        int priority = request.priority();
+        LocalDate date = request.date();
+        Map<Long, Integer> meetingPriorities = request.meetingPriorities() != null ? request.meetingPriorities() : Map.of();
+        int maxDisplaced = availabilityProperties.getPreemptionMaxDisplaced();
+        long deadline = System.nanoTime() + availabilityProperties.getPreemptionTimeBudget().toNanos();
+        Set<Long> attendeeIds = resolveAttendeeIds(request.attendeeIds(), request.groupIds());
+
+        log.info("Planning preemption for attendeeIds: {}, groupIds: {}, date: {}, duration: {} mins, priority: {}",
+                request.attendeeIds(), request.groupIds(), date, durationMinutes, priority);
+
+        List<Location> locations = findLocationsByCapacityMin(attendeeIds.size(), LocationFeature.toMask(request.requiredFeatures()), request.scope());
+
+        // Common working time of the attendees, their meetings are what the plan may move
+        List<AvailableSlotDTO> workingTime = null;
+        for (Long attendeeId : attendeeIds) {
+            List<AvailableSlotDTO> attendeeWorkingTime = findAvailableSlots(null, BusyPadding.NONE,
+                    getAttendeeWorkingWindows(findAttendeeWorkingHoursById(attendeeId), date));
+            workingTime = workingTime == null ? attendeeWorkingTime : intersectAvailability(workingTime, attendeeWorkingTime);
+        }
+        workingTime = workingTime != null ? filterSlotsByDuration(workingTime, durationMinutes) : List.of();
+        if (workingTime.isEmpty()) {
+            log.info("The attendees have no common working time of {} mins on {}", durationMinutes, date);
+            return List.of();
+        }
+
+        LocalDateTime rangeStart = date.minusDays(1).atStartOfDay();
+        LocalDateTime rangeEnd = date.plusDays(2).atStartOfDay();
+        List<Meeting> attendeeMeetings = meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(attendeeIds, rangeEnd, rangeStart);
+        List<Meeting> locationMeetings = meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(
+                locations.stream().map(Location::getId).toList(), rangeEnd, rangeStart);
+        Map<Long, List<Meeting>> meetingsByLocation = new HashMap<>();
+        locationMeetings.forEach(meeting -> meetingsByLocation.computeIfAbsent(meeting.getLocation().getId(), id -> new ArrayList<>()).add(meeting));
+
+        // Locations are ordered smallest-fit first, candidates keep that order for equal starts
+        List<PreemptionCandidate> candidates = new ArrayList<>();
+        boolean budgetExhausted = false;
+        for (Location location : locations) {
+            List<AvailableSlotDTO> openTime = filterSlotsByDuration(
+                    intersectAvailability(workingTime, findAvailableSlots(null, BusyPadding.NONE, getLocationWorkingWindows(location, date))),
+                    durationMinutes);
+            int bufferMinutes = location.getBufferMinutes() != null ? location.getBufferMinutes() : 0;
+            for (AvailableSlotDTO slot : openTime) {
+                for (LocalDateTime start = slot.startTime();
+                     !start.plusMinutes(durationMinutes).isAfter(slot.endTime());
+                     start = start.plusMinutes(PREEMPTION_STEP_MINUTES)) {
+                    if (System.nanoTime() > deadline) {
+                        budgetExhausted = true;
+                        break;
+                    }
+                    LocalDateTime end = start.plusMinutes(durationMinutes);
+                    Map<Long, Meeting> conflicts = new LinkedHashMap<>();
+                    for (Meeting meeting : meetingsByLocation.getOrDefault(location.getId(), List.of())) {
+                        if (meeting.getStartTime().minusMinutes(bufferMinutes).isBefore(end) && meeting.getEndTime().plusMinutes(bufferMinutes).isAfter(start)) {
+                            conflicts.putIfAbsent(meeting.getId(), meeting);
+                        }
+                    }
+                    for (Meeting meeting : attendeeMeetings) {
+                        if (meeting.getStartTime().isBefore(end) && meeting.getEndTime().isAfter(start)) {
+                            conflicts.putIfAbsent(meeting.getId(), meeting);
+                        }
+                    }
+                    if (conflicts.size() > maxDisplaced
+                            || conflicts.keySet().stream().anyMatch(id -> meetingPriorities.getOrDefault(id, 0) >= priority)) {
+                        continue;
+                    }
+                    int displacedPriority = conflicts.keySet().stream().mapToInt(id -> meetingPriorities.getOrDefault(id, 0)).sum();
+                    candidates.add(new PreemptionCandidate(location, start, end, List.copyOf(conflicts.values()), displacedPriority));
+                }
+                if (budgetExhausted) {
+                    break;
+                }
+            }
+            if (budgetExhausted) {
+                log.info("Preemption time budget exhausted, planning with {} candidate(s) found so far", candidates.size());
+                break;
+            }
+        }
+
+        // Cheapest candidate per set of displaced meetings
+        candidates.sort(Comparator.<PreemptionCandidate>comparingInt(candidate -> candidate.displaced().size())
+                .thenComparingInt(PreemptionCandidate::displacedPriority)
+                .thenComparing(PreemptionCandidate::start));
+        Map<Set<Long>, PreemptionCandidate> cheapestBySet = new LinkedHashMap<>();
+        for (PreemptionCandidate candidate : candidates) {
+            Set<Long> displacedIds = candidate.displaced().stream().map(Meeting::getId).collect(Collectors.toSet());
+            cheapestBySet.putIfAbsent(displacedIds, candidate);
+            if (cheapestBySet.size() == maxResults * PREEMPTION_CANDIDATES_PER_PLAN) {
+                break;
+            }
+        }
+        if (cheapestBySet.isEmpty()) {
+            log.info("No preemption plan found on {}: every slot overlaps a meeting of priority >= {} or more than {} meetings",
+                    date, priority, maxDisplaced);
+            return List.of();
+        }
+
+        // Calendars of the attendees and locations of the displaced meetings, for their alternative slots
+        Set<Long> displacedAttendeeIds = new HashSet<>();
+        Set<Long> displacedLocationIds = new HashSet<>();
+        cheapestBySet.values().forEach(candidate -> candidate.displaced().forEach(meeting -> {
+            meeting.getAttendees().forEach(attendee -> displacedAttendeeIds.add(attendee.getId()));
+            displacedLocationIds.add(meeting.getLocation().getId());
+        }));
+        Map<Long, List<BusyInterval>> displacedAttendeeBusy = displacedAttendeeIds.isEmpty()
+                ? Map.of()
+                : groupByAttendee(meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(displacedAttendeeIds, rangeEnd, rangeStart), displacedAttendeeIds);
+        Map<Long, List<BusyInterval>> displacedLocationBusy = displacedLocationIds.isEmpty()
+                ? Map.of()
+                : groupByLocation(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(displacedLocationIds, rangeEnd, rangeStart));
+
+        Map<Long, LocationDTO> locationDTOs = new HashMap<>();
+        List<PreemptionPlanDTO> plans = new ArrayList<>();
+        for (PreemptionCandidate candidate : cheapestBySet.values()) {
+            plans.add(completePreemptionPlan(candidate, attendeeIds, date, meetingPriorities,
+                    displacedAttendeeBusy, displacedLocationBusy, locationDTOs));
+        }
+        // Stable sort keeps the cost order within plans with the same number of meetings that cannot move
+        plans.sort(Comparator.comparingLong(plan -> plan.displacedMeetings().stream()
+                .filter(displaced -> displaced.alternativeSlot() == null)
+                .count()));
+
+        List<PreemptionPlanDTO> result = plans.subList(0, Math.min(maxResults, plans.size()));
+        log.info("Found {} preemption plan(s) on {}, the best moves {} meeting(s)", result.size(), date, result.getFirst().displacedMeetings().size());
+        return List.copyOf(result);
+    }
+
     // === END AVAILABILITY METHODS ===
 
     // === HELPER METHODS ===
@@ -291,24 +966,58 @@ public class AvailabilityService {
 
     // -- Fetch Methods ---
 
-    // Accepts ID, returns Location Entity
+    // Accepts attendee IDs and group IDs, returns the attendee IDs together with the (cached) flattened members of the groups
+    private Set<Long> resolveAttendeeIds(Set<Long> attendeeIds, Set<Long> groupIds) {
+        if (groupIds == null || groupIds.isEmpty()) {
+            return attendeeIds != null ? attendeeIds : Set.of();
+        }
+        Set<Long> resolvedIds = attendeeIds != null ? new LinkedHashSet<>(attendeeIds) : new LinkedHashSet<>();
+        for (Long groupId : groupIds) {
+            resolvedIds.addAll(referenceDataService.findGroupMemberIds(groupId)
+                    .orElseThrow(() -> new EntityNotFoundException("Attendee group not found with ID: " + groupId)));
+        }
+        log.debug("Resolved {} attendees from {} groups", resolvedIds.size(), groupIds.size());
+        return resolvedIds;
+    }
+
+    // Accepts ID, returns Location Entity (cached, read-only)
     private Location findLocationEntityById(Long id) {
-        return locationRepository.findById(id)
+        return referenceDataService.findLocationById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Location not found with ID: " + id));
     }
 
-    // Accepts int, returns List<Location>
-    private List<Location> findLocationsByCapacityMin(int minCapacity) {
-        List<Location> locations = locationRepository.findByCapacityGreaterThanEqual(minCapacity);
+    // Accepts int, a feature bitmask and an optional hierarchy scope,
+    // returns List<Location> with all the features within the scope ordered smallest-fit first (cached, read-only)
+    private List<Location> findLocationsByCapacityMin(int minCapacity, long requiredFeatures, LocationScopeRequestDTO scope) {
+        List<Location> locations = referenceDataService.findLocationCapacityIndex().findByCapacityMinAndFeatures(minCapacity, requiredFeatures);
+        if (scope != null) {
+            locations = locations.stream()
+                    .filter(location -> isInScope(location, scope))
+                    .toList();
+        }
         if (locations.isEmpty()) {
-            throw new EntityNotFoundException("Locations not found with capacity equal or greater than: " + minCapacity);
+            String errorMessage = "Locations not found with capacity equal or greater than: " + minCapacity;
+            if (requiredFeatures != 0L) {
+                errorMessage += " and features: " + LocationFeature.fromMask(requiredFeatures);
+            }
+            if (scope != null) {
+                errorMessage += String.format(" in site: %s, building: %s, floor: %s", scope.site(), scope.building(), scope.floor());
+            }
+            throw new EntityNotFoundException(errorMessage);
         }
         return locations;
     }
 
-    // Accepts ID, returns Attendee Entity
-    private Attendee findAttendeeEntityById(Long id) {
-        return attendeeRepository.findById(id)
+    // Returns true if the location is in the subtree of the location hierarchy (every provided level matches)
+    private boolean isInScope(Location location, LocationScopeRequestDTO scope) {
+        return (scope.site() == null || scope.site().equals(location.getSite()))
+                && (scope.building() == null || scope.building().equals(location.getBuilding()))
+                && (scope.floor() == null || scope.floor().equals(location.getFloor()));
+    }
+
+    // Accepts ID, returns WorkingHours of the attendee (cached)
+    private WorkingHours findAttendeeWorkingHoursById(Long id) {
+        return referenceDataService.findAttendeeWorkingHours(id)
                 .orElseThrow(() -> new EntityNotFoundException("Attendee not found with ID: " + id));
     }
 
@@ -331,21 +1040,26 @@ public class AvailabilityService {
     // --- Availability Helper Methods ---
 
     /**
-     * Finds available time slots between booked meetings in a specified time window.
+     * Finds available time slots between busy intervals in a specified time window.
+     * Every busy interval is extended by its padding (location buffer or travel time) while it is swept,
+     * so back-to-back meetings leave no bookable gap when a buffer or travel time applies.
      *
-     * @param meetings    The list of booked meetings.
-     * @param windowStart The start of the working time window.
-     * @param windowEnd   The end of the working time window.
+     * @param busyIntervals The list of busy intervals (booked meetings).
+     * @param padding       The minutes kept free before and after each busy interval.
+     * @param windowStart   The start of the working time window.
+     * @param windowEnd     The end of the working time window.
      * @return A List of AvailableSlotDTO with the available time slots for the specified time window.
      */
-    private List<AvailableSlotDTO> findAvailableSlots(List<Meeting> meetings, LocalDateTime windowStart, LocalDateTime windowEnd) {
+    private List<AvailableSlotDTO> findAvailableSlots(List<BusyInterval> busyIntervals, BusyPadding padding,
+                                                      LocalDateTime windowStart, LocalDateTime windowEnd) {
         // All day is free if there are no meetings
-        if (meetings == null || meetings.isEmpty()) {
+        if (busyIntervals == null || busyIntervals.isEmpty()) {
             return List.of(new AvailableSlotDTO(windowStart, windowEnd));
         }
 
-        // Sorting meetings by start time (in case it is not sorted)
-        meetings.sort(Comparator.comparing(Meeting::getStartTime));
+        // Sorting intervals by padded start time (in case it is not sorted, padding can change the order)
+        List<BusyInterval> sortedIntervals = new ArrayList<>(busyIntervals);
+        sortedIntervals.sort(Comparator.comparing(padding::start));
 
         List<AvailableSlotDTO> availableSlots = new ArrayList<>();
 
@@ -353,21 +1067,24 @@ public class AvailabilityService {
         LocalDateTime currentPointer = windowStart;
 
         // Calculating available time slots
-        for (Meeting meeting : meetings) {
+        for (BusyInterval busyInterval : sortedIntervals) {
             // Not taking into account time before or after the time-window
-            LocalDateTime meetingStart = maxTime(meeting.getStartTime(), windowStart);
-            LocalDateTime meetingEnd = minTime(meeting.getEndTime(), windowEnd);
+            LocalDateTime busyStart = maxTime(padding.start(busyInterval), windowStart);
+            LocalDateTime busyEnd = minTime(padding.end(busyInterval), windowEnd);
+            if (!busyStart.isBefore(busyEnd)) {
+                continue; // Outside of this window (a day can have several windows)
+            }
 
-            log.trace("Processing booked meeting: ID {}, Window Start: {}, Window End: {}", meeting.getId(), meetingStart, meetingEnd);
+            log.trace("Processing busy interval: meeting ID {}, Window Start: {}, Window End: {}", busyInterval.meetingId(), busyStart, busyEnd);
 
             // If there is a gap between currentPointer and meeting start - add time slot
-            if (meetingStart.isAfter(currentPointer)) {
-                log.trace("Found available slot: {} to {}", currentPointer, meetingStart);
-                availableSlots.add(new AvailableSlotDTO(currentPointer, meetingStart));
+            if (busyStart.isAfter(currentPointer)) {
+                log.trace("Found available slot: {} to {}", currentPointer, busyStart);
+                availableSlots.add(new AvailableSlotDTO(currentPointer, busyStart));
             }
 
             // Move a pointer to the end of the meeting (or not move in case meeting overlap)
-            currentPointer = maxTime(currentPointer, meetingEnd);
+            currentPointer = maxTime(currentPointer, busyEnd);
             log.trace("Pointer moved to: {}", currentPointer);
         }
 
@@ -381,6 +1098,389 @@ public class AvailabilityService {
         return availableSlots;
     }
 
+    // Accepts busy intervals and the working windows of a day, returns the available slots of all windows in order
+    private List<AvailableSlotDTO> findAvailableSlots(List<BusyInterval> busyIntervals, BusyPadding padding, List<WorkingWindow> windows) {
+        if (windows.size() == 1) {
+            return findAvailableSlots(busyIntervals, padding, windows.getFirst().start(), windows.getFirst().end());
+        }
+        List<AvailableSlotDTO> availableSlots = new ArrayList<>();
+        for (WorkingWindow window : windows) {
+            availableSlots.addAll(findAvailableSlots(busyIntervals, padding, window.start(), window.end()));
+        }
+        return availableSlots;
+    }
+
+    // Minutes kept free before and after busy intervals while sweeping
+    private record BusyPadding(ToIntFunction<BusyInterval> beforeMinutes, ToIntFunction<BusyInterval> afterMinutes) {
+        static final BusyPadding NONE = new BusyPadding(interval -> 0, interval -> 0);
+
+        LocalDateTime start(BusyInterval interval) {
+            return interval.startTime().minusMinutes(beforeMinutes.applyAsInt(interval));
+        }
+
+        LocalDateTime end(BusyInterval interval) {
+            return interval.endTime().plusMinutes(afterMinutes.applyAsInt(interval));
+        }
+    }
+
+    // Free slots of a room during a batch room assignment and the meetings placed in it so far
+    private static final class RoomSchedule {
+        private final List<AvailableSlotDTO> freeSlots;
+        private final int bufferMinutes;
+        // Placed meetings padded by the buffer, by padded start (they do not overlap, so padded ends are ordered too)
+        private final TreeMap<LocalDateTime, LocalDateTime> placedMeetings = new TreeMap<>();
+
+        RoomSchedule(List<AvailableSlotDTO> freeSlots, int bufferMinutes) {
+            this.freeSlots = freeSlots;
+            this.bufferMinutes = bufferMinutes;
+        }
+
+        // Places the meeting if it lies within a free slot and keeps the buffer to the placed meetings, returns true if placed
+        boolean place(LocalDateTime start, LocalDateTime end) {
+            boolean withinFreeSlot = freeSlots.stream()
+                    .anyMatch(slot -> !slot.startTime().isAfter(start) && !slot.endTime().isBefore(end));
+            if (!withinFreeSlot) {
+                return false;
+            }
+            Map.Entry<LocalDateTime, LocalDateTime> previous = placedMeetings.lowerEntry(end);
+            if (previous != null && previous.getValue().isAfter(start)) {
+                return false;
+            }
+            placedMeetings.put(start.minusMinutes(bufferMinutes), end.plusMinutes(bufferMinutes));
+            return true;
+        }
+    }
+
+    // Slot of the new meeting in a preemption plan and the existing meetings it overlaps
+    private record PreemptionCandidate(Location location, LocalDateTime start, LocalDateTime end,
+                                       List<Meeting> displaced, int displacedPriority) {
+    }
+
+    // Finds an alternative slot for each displaced meeting of the candidate, in order, with the new meeting and the
+    // alternatives chosen so far taking their time and the displaced meetings no longer taking theirs
+    private PreemptionPlanDTO completePreemptionPlan(PreemptionCandidate candidate, Set<Long> attendeeIds, LocalDate date,
+                                                     Map<Long, Integer> meetingPriorities,
+                                                     Map<Long, List<BusyInterval>> attendeeBusy,
+                                                     Map<Long, List<BusyInterval>> locationBusy,
+                                                     Map<Long, LocationDTO> locationDTOs) {
+        Set<Long> displacedIds = candidate.displaced().stream().map(Meeting::getId).collect(Collectors.toSet());
+        Map<Long, List<BusyInterval>> plannedByAttendee = new HashMap<>();
+        Map<Long, List<BusyInterval>> plannedByLocation = new HashMap<>();
+        BusyInterval newMeeting = new BusyInterval(null, candidate.location().getId(), candidate.start(), candidate.end());
+        attendeeIds.forEach(attendeeId -> plannedByAttendee.computeIfAbsent(attendeeId, id -> new ArrayList<>()).add(newMeeting));
+        plannedByLocation.computeIfAbsent(candidate.location().getId(), id -> new ArrayList<>()).add(newMeeting);
+
+        List<DisplacedMeetingDTO> displacedMeetings = new ArrayList<>();
+        for (Meeting meeting : candidate.displaced()) {
+            Location location = findLocationEntityById(meeting.getLocation().getId());
+            int durationMinutes = (int) Duration.between(meeting.getStartTime(), meeting.getEndTime()).toMinutes();
+
+            List<AvailableSlotDTO> freeSlots = findAvailableSlots(
+                    plannedCalendar(locationBusy.get(location.getId()), displacedIds, plannedByLocation.get(location.getId())),
+                    bufferPadding(location), getLocationWorkingWindows(location, date));
+            for (Attendee attendee : meeting.getAttendees()) {
+                if (freeSlots.isEmpty()) {
+                    break;
+                }
+                freeSlots = intersectAvailability(freeSlots, findAvailableSlots(
+                        plannedCalendar(attendeeBusy.get(attendee.getId()), displacedIds, plannedByAttendee.get(attendee.getId())),
+                        BusyPadding.NONE, getAttendeeWorkingWindows(findAttendeeWorkingHoursById(attendee.getId()), date)));
+            }
+            freeSlots = filterSlotsByDuration(freeSlots, durationMinutes);
+
+            AvailableSlotDTO alternativeSlot = null;
+            if (!freeSlots.isEmpty()) {
+                LocalDateTime start = freeSlots.getFirst().startTime();
+                alternativeSlot = new AvailableSlotDTO(start, start.plusMinutes(durationMinutes));
+                BusyInterval moved = new BusyInterval(meeting.getId(), location.getId(), start, start.plusMinutes(durationMinutes));
+                meeting.getAttendees().forEach(attendee -> plannedByAttendee.computeIfAbsent(attendee.getId(), id -> new ArrayList<>()).add(moved));
+                plannedByLocation.computeIfAbsent(location.getId(), id -> new ArrayList<>()).add(moved);
+            }
+            displacedMeetings.add(new DisplacedMeetingDTO(meeting.getId(), meeting.getTitle(), meetingPriorities.getOrDefault(meeting.getId(), 0),
+                    new AvailableSlotDTO(meeting.getStartTime(), meeting.getEndTime()), alternativeSlot));
+        }
+
+        LocationDTO locationDTO = locationDTOs.computeIfAbsent(candidate.location().getId(), id -> locationMapper.mapToLocationDTO(candidate.location()));
+        return new PreemptionPlanDTO(locationDTO, new AvailableSlotDTO(candidate.start(), candidate.end()), displacedMeetings);
+    }
+
+    // Accepts loaded busy intervals, returns them without the displaced meetings and with the intervals placed by the plan
+    private List<BusyInterval> plannedCalendar(List<BusyInterval> busyIntervals, Set<Long> displacedIds, List<BusyInterval> planned) {
+        List<BusyInterval> calendar = new ArrayList<>();
+        if (busyIntervals != null) {
+            busyIntervals.stream()
+                    .filter(interval -> !displacedIds.contains(interval.meetingId()))
+                    .forEach(calendar::add);
+        }
+        if (planned != null) {
+            calendar.addAll(planned);
+        }
+        return calendar;
+    }
+
+    // Accepts Location, returns the padding of its setup/cleanup buffer (applied to every meeting in the location)
+    private BusyPadding bufferPadding(Location location) {
+        int bufferMinutes = location.getBufferMinutes() != null ? location.getBufferMinutes() : 0;
+        return bufferMinutes > 0 ? new BusyPadding(interval -> bufferMinutes, interval -> bufferMinutes) : BusyPadding.NONE;
+    }
+
+    // Accepts the building of the new meeting, returns the padding of the travel time to and from the building of every busy interval
+    private BusyPadding travelPadding(String targetBuilding, TravelTimeMatrix travelTimes) {
+        if (targetBuilding == null || travelTimes.maxMinutes(targetBuilding) == 0) {
+            return BusyPadding.NONE;
+        }
+        Map<Long, String> buildingsByLocation = new HashMap<>();
+        referenceDataService.findAllLocations().stream()
+                .filter(location -> location.getBuilding() != null)
+                .forEach(location -> buildingsByLocation.put(location.getId(), location.getBuilding()));
+        return new BusyPadding(
+                interval -> travelTimes.minutesBetween(targetBuilding, buildingsByLocation.get(interval.locationId())),
+                interval -> travelTimes.minutesBetween(buildingsByLocation.get(interval.locationId()), targetBuilding));
+    }
+
+    // Returns true if free slots are computed in PostgreSQL instead of Java
+    private boolean isSqlComputation() {
+        return availabilityProperties.getComputation() == AvailabilityProperties.Computation.SQL;
+    }
+
+    /**
+     * Finds available time slots of several resources with a single SQL statement (window functions in PostgreSQL).
+     *
+     * @param resourceType The type of the resources.
+     * @param windows      Working time windows per resource ID.
+     * @return Available slots per resource ID (an empty list for fully booked resources and days off).
+     */
+    private Map<Long, List<AvailableSlotDTO>> findFreeSlotsInDatabase(ResourceType resourceType, Map<Long, List<WorkingWindow>> windows) {
+        List<ResourceInterval> resourceWindows = windows.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream()
+                        .map(window -> new ResourceInterval(entry.getKey(), window.start(), window.end())))
+                .toList();
+
+        Map<Long, List<AvailableSlotDTO>> slotsByResource = new HashMap<>();
+        windows.keySet().forEach(resourceId -> slotsByResource.put(resourceId, new ArrayList<>()));
+        for (ResourceInterval gap : freeSlotRepository.findFreeGaps(resourceType, resourceWindows)) {
+            slotsByResource.get(gap.resourceId()).add(new AvailableSlotDTO(gap.start(), gap.end()));
+        }
+
+        log.debug("Computed free slots of {} {} resource(s) in the database", windows.size(), resourceType);
+        return slotsByResource;
+    }
+
+    // Accepts locations and date, returns the working time windows of each location
+    private Map<Long, List<WorkingWindow>> getLocationWindows(List<Location> locations, LocalDate date) {
+        Map<Long, List<WorkingWindow>> windows = new LinkedHashMap<>();
+        for (Location location : locations) {
+            windows.put(location.getId(), getLocationWorkingWindows(location, date));
+        }
+        return windows;
+    }
+
+    // Accepts attendee IDs and date, returns the working time windows of each attendee (cached working hours)
+    private Map<Long, List<WorkingWindow>> getAttendeeWindows(Set<Long> attendeeIds, LocalDate date) {
+        Map<Long, List<WorkingWindow>> windows = new LinkedHashMap<>();
+        for (Long attendeeId : attendeeIds) {
+            WorkingHours workingHours = findAttendeeWorkingHoursById(attendeeId);
+            windows.put(attendeeId, getAttendeeWorkingWindows(workingHours, date));
+        }
+        return windows;
+    }
+
+    // Accepts List<Meeting>, returns List<BusyInterval> occupied by these meetings
+    private List<BusyInterval> toBusyIntervals(List<Meeting> meetings) {
+        if (meetings == null) {
+            return List.of();
+        }
+        return meetings.stream()
+                .map(this::toBusyInterval)
+                .toList();
+    }
+
+    // Accepts Meeting, returns the BusyInterval it occupies (with its location)
+    private BusyInterval toBusyInterval(Meeting meeting) {
+        Long locationId = meeting.getLocation() != null ? meeting.getLocation().getId() : null;
+        return new BusyInterval(meeting.getId(), locationId, meeting.getStartTime(), meeting.getEndTime());
+    }
+
+    /**
+     * Scans days in order for meeting suggestions. The meetings of all attendees and candidate locations over
+     * all days are loaded with one range query per resource type; buffers and travel times are applied in the sweep.
+     *
+     * @param attendeeIds      The attendees of the meeting.
+     * @param days             The days to scan, in order.
+     * @param durationMinutes  The duration of the meeting.
+     * @param requiredFeatures Bitmask of the LocationFeatures every suggested location must have.
+     * @param scope            The part of the location hierarchy to search, null for all locations.
+     * @param bestFit          Whether suggestions covered by a smaller free room are left out.
+     * @param maxResults       The number of suggestions after which the scan stops.
+     * @return Up to maxResults suggestions ordered by day and start time (then smallest-fit location first).
+     */
+    private List<LocationTimeSlotDTO> searchSuggestions(Set<Long> attendeeIds, List<LocalDate> days, int durationMinutes,
+                                                        long requiredFeatures, LocationScopeRequestDTO scope,
+                                                        boolean bestFit, int maxResults) {
+        SuggestionSearchData data = loadSuggestionSearchData(attendeeIds, days, durationMinutes, requiredFeatures, scope);
+        if (data == null) {
+            return List.of();
+        }
+
+        Map<Long, LocationDTO> locationDTOs = new HashMap<>();
+        List<LocationTimeSlotDTO> suggestions = new ArrayList<>();
+
+        for (LocalDate date : days) {
+            List<LocationTimeSlotDTO> daySuggestions = findSuggestionsForDay(date, durationMinutes, data, locationDTOs);
+            if (bestFit) {
+                daySuggestions = selectBestFitRooms(daySuggestions);
+            }
+            log.debug("Found {} suggestions on {}", daySuggestions.size(), date);
+
+            for (LocationTimeSlotDTO suggestion : daySuggestions) {
+                suggestions.add(suggestion);
+                if (suggestions.size() == maxResults) {
+                    log.info("Found {} meeting suggestions, stopping the search on {}", suggestions.size(), date);
+                    return suggestions;
+                }
+            }
+        }
+        return suggestions;
+    }
+
+    // Reference data and busy intervals of a suggestion search over several days
+    private record SuggestionSearchData(
+            Map<Long, WorkingHours> workingHoursByAttendee,
+            Map<LocalDate, List<Location>> locationsByDay,
+            Map<Long, List<BusyInterval>> attendeeBusy,
+            Map<Long, List<BusyInterval>> locationBusy,
+            TravelTimeMatrix travelTimes) {
+    }
+
+    // Loads the reference data (cached) and the meetings of all attendees and candidate locations from the first to the last day
+    // with one range query per resource type, returns null if every candidate location is in a fully booked part of the hierarchy
+    private SuggestionSearchData loadSuggestionSearchData(Set<Long> attendeeIds, List<LocalDate> days, int durationMinutes,
+                                                          long requiredFeatures, LocationScopeRequestDTO scope) {
+        Map<Long, WorkingHours> workingHoursByAttendee = new LinkedHashMap<>();
+        for (Long attendeeId : attendeeIds) {
+            workingHoursByAttendee.put(attendeeId, findAttendeeWorkingHoursById(attendeeId));
+        }
+        List<Location> locations = findLocationsByCapacityMin(attendeeIds.size(), requiredFeatures, scope);
+        TravelTimeMatrix travelTimes = referenceDataService.findTravelTimeMatrix();
+
+        // Skip whole sites, buildings and floors without enough free time left, meetings are loaded only for the remaining locations
+        Map<LocalDate, List<Location>> locationsByDay = locationUsageService.pruneFullyBookedNodes(locations, days, durationMinutes);
+        List<Long> remainingLocationIds = locationsByDay.values().stream()
+                .flatMap(List::stream)
+                .map(Location::getId)
+                .distinct()
+                .toList();
+        if (remainingLocationIds.isEmpty()) {
+            log.info("All {} candidate locations are in fully booked parts of the location hierarchy on {} - {}", locations.size(), days.getFirst(), days.getLast());
+            return null;
+        }
+
+        // One range query per resource type, covering windows shifted by time zones and overnight windows of the last day
+        LocalDateTime rangeStart = days.getFirst().minusDays(1).atStartOfDay();
+        LocalDateTime rangeEnd = days.getLast().plusDays(2).atStartOfDay();
+        Map<Long, List<BusyInterval>> attendeeBusy = groupByAttendee(
+                meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(attendeeIds, rangeEnd, rangeStart),
+                attendeeIds);
+        Map<Long, List<BusyInterval>> locationBusy = groupByLocation(
+                meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(remainingLocationIds, rangeEnd, rangeStart));
+        return new SuggestionSearchData(workingHoursByAttendee, locationsByDay, attendeeBusy, locationBusy, travelTimes);
+    }
+
+    // Accepts date and preloaded busy intervals, returns the suggestions of that day ordered by start time
+    // (common attendee gaps are calculated once per building of the candidate locations, travel times differ per building)
+    private List<LocationTimeSlotDTO> findSuggestionsForDay(
+            LocalDate date,
+            int durationMinutes,
+            SuggestionSearchData data,
+            Map<Long, LocationDTO> locationDTOs) {
+        Map<String, List<AvailableSlotDTO>> attendeeGapsByBuilding = new HashMap<>();
+        List<LocationTimeSlotDTO> suggestions = new ArrayList<>();
+        TravelTimeMatrix travelTimes = data.travelTimes();
+
+        // Locations are ordered smallest-fit first
+        for (Location location : data.locationsByDay().get(date)) {
+            String building = travelTimes.isEmpty() ? null : location.getBuilding();
+            List<AvailableSlotDTO> attendeeGaps = attendeeGapsByBuilding.computeIfAbsent(building, target ->
+                    findCommonAttendeeGaps(date, durationMinutes, data.workingHoursByAttendee(), data.attendeeBusy(), travelPadding(target, travelTimes)));
+            if (attendeeGaps.isEmpty()) {
+                continue;
+            }
+
+            List<AvailableSlotDTO> slots = filterSlotsByDuration(findAvailableSlots(
+                    data.locationBusy().get(location.getId()), bufferPadding(location), getLocationWorkingWindows(location, date)), durationMinutes);
+            if (!slots.isEmpty()) {
+                LocationDTO locationDTO = locationDTOs.computeIfAbsent(location.getId(), id -> locationMapper.mapToLocationDTO(location));
+                List<LocationTimeSlotDTO> locationSlots = slots.stream()
+                        .map(slot -> new LocationTimeSlotDTO(locationDTO, slot))
+                        .toList();
+                suggestions.addAll(calculateIntersectionSuggestions(attendeeGaps, locationSlots, durationMinutes));
+            }
+        }
+
+        // Stable sort keeps the smallest-fit location first among suggestions starting at the same time
+        return suggestions.stream()
+                .sorted(Comparator.comparing(suggestion -> suggestion.availableSlot().startTime()))
+                .toList();
+    }
+
+    // Accepts date and preloaded busy intervals, returns the common gaps of all attendees long enough for the meeting
+    private List<AvailableSlotDTO> findCommonAttendeeGaps(
+            LocalDate date,
+            int durationMinutes,
+            Map<Long, WorkingHours> workingHoursByAttendee,
+            Map<Long, List<BusyInterval>> attendeeBusy,
+            BusyPadding padding) {
+        List<AvailableSlotDTO> commonSlots = null;
+        for (Map.Entry<Long, WorkingHours> entry : workingHoursByAttendee.entrySet()) {
+            WorkingHours workingHours = entry.getValue();
+            List<AvailableSlotDTO> attendeeSlots = findAvailableSlots(
+                    attendeeBusy.get(entry.getKey()), padding, getAttendeeWorkingWindows(workingHours, date));
+
+            commonSlots = commonSlots == null ? attendeeSlots : intersectAvailability(commonSlots, attendeeSlots);
+            if (commonSlots.isEmpty()) {
+                return List.of();
+            }
+        }
+        return commonSlots != null ? filterSlotsByDuration(commonSlots, durationMinutes) : List.of();
+    }
+
+    // Accepts start date and number of business days, returns the dates from start date skipping weekends
+    private List<LocalDate> getBusinessDays(LocalDate startDate, int count) {
+        List<LocalDate> days = new ArrayList<>(count);
+        LocalDate date = startDate;
+        while (days.size() < count) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                days.add(date);
+            }
+            date = date.plusDays(1);
+        }
+        return days;
+    }
+
+    // Accepts meetings (with attendees fetched), returns busy intervals of each requested attendee
+    private Map<Long, List<BusyInterval>> groupByAttendee(List<Meeting> meetings, Set<Long> attendeeIds) {
+        Map<Long, List<BusyInterval>> busyByAttendee = new HashMap<>();
+        for (Meeting meeting : meetings) {
+            BusyInterval interval = toBusyInterval(meeting);
+            for (Attendee attendee : meeting.getAttendees()) {
+                if (attendeeIds.contains(attendee.getId())) {
+                    busyByAttendee.computeIfAbsent(attendee.getId(), id -> new ArrayList<>()).add(interval);
+                }
+            }
+        }
+        return busyByAttendee;
+    }
+
+    // Accepts meetings, returns busy intervals of each location
+    private Map<Long, List<BusyInterval>> groupByLocation(List<Meeting> meetings) {
+        Map<Long, List<BusyInterval>> busyByLocation = new HashMap<>();
+        for (Meeting meeting : meetings) {
+            busyByLocation.computeIfAbsent(meeting.getLocation().getId(), id -> new ArrayList<>())
+                    .add(toBusyInterval(meeting));
+        }
+        return busyByLocation;
+    }
+
     /**
      * Calculates the time slots where ALL provided attendees are available on a given date.
      *
@@ -397,12 +1497,19 @@ public class AvailabilityService {
             return List.of();
         }
 
+        // SQL computation: free slots of all attendees in one statement
+        Map<Long, List<AvailableSlotDTO>> freeSlotsByAttendee = isSqlComputation()
+                ? findFreeSlotsInDatabase(ResourceType.ATTENDEE, getAttendeeWindows(attendeeIds, date))
+                : null;
+
         // Initialize iterator
         Iterator<Long> iterator = attendeeIds.iterator();
         Long firstAttendeeId = iterator.next();
 
         // Assign the initial availability to the first attendee's available time slots
-        List<AvailableSlotDTO> commonAvailability = getAvailableTimeForAttendee(firstAttendeeId, date);
+        List<AvailableSlotDTO> commonAvailability = freeSlotsByAttendee != null
+                ? freeSlotsByAttendee.get(firstAttendeeId)
+                : getAvailableTimeForAttendee(firstAttendeeId, date);
         log.debug("Initial availability for attendee {}: {}", firstAttendeeId, commonAvailability.size());
 
         // Iterate through the attendee list
@@ -415,7 +1522,9 @@ public class AvailabilityService {
 
             // Get attendee availability
             Long currentAttendeeId = iterator.next();
-            List<AvailableSlotDTO> attendeeAvailability = getAvailableTimeForAttendee(currentAttendeeId, date);
+            List<AvailableSlotDTO> attendeeAvailability = freeSlotsByAttendee != null
+                    ? freeSlotsByAttendee.get(currentAttendeeId)
+                    : getAvailableTimeForAttendee(currentAttendeeId, date);
             log.debug("Availability for attendee {}: {}", currentAttendeeId, attendeeAvailability.size());
 
             // Intersect availability time slots with common time slots
@@ -428,6 +1537,127 @@ public class AvailabilityService {
         return commonAvailability;
     }
 
+    // Start of a quorum slot and the number of attendees free for the whole slot
+    private record QuorumCandidate(LocalDateTime start, int availableCount) {
+    }
+
+    /**
+     * Counts the attendees free for a slot of the duration starting at each boundary of the free slots.
+     * A free run [a, b) at least duration long allows starts in [a, b - duration]; the sorted range starts and ends
+     * are swept with two pointers each, so only counters (all attendees and required attendees) are kept per boundary.
+     *
+     * @param freeSlotsByAttendee Free slots per attendee ID (their boundaries are the candidate starts).
+     * @param freeRunsByAttendee  Merged free slots per attendee ID.
+     * @param duration            The slot duration.
+     * @param minAttendees        The quorum.
+     * @param requiredAttendeeIds Attendees that must be free.
+     * @return Candidates with the quorum and all required attendees, ordered by start time.
+     */
+    private List<QuorumCandidate> sweepQuorumStarts(
+            Map<Long, List<AvailableSlotDTO>> freeSlotsByAttendee, Map<Long, List<AvailableSlotDTO>> freeRunsByAttendee,
+            Duration duration, int minAttendees, Set<Long> requiredAttendeeIds) {
+        TreeSet<LocalDateTime> boundaries = new TreeSet<>();
+        freeSlotsByAttendee.values().forEach(slots -> slots.forEach(slot -> {
+            boundaries.add(slot.startTime());
+            boundaries.add(slot.endTime());
+        }));
+
+        List<LocalDateTime> firstStarts = new ArrayList<>();
+        List<LocalDateTime> lastStarts = new ArrayList<>();
+        List<LocalDateTime> requiredFirstStarts = new ArrayList<>();
+        List<LocalDateTime> requiredLastStarts = new ArrayList<>();
+        freeRunsByAttendee.forEach((attendeeId, runs) -> {
+            boolean required = requiredAttendeeIds.contains(attendeeId);
+            for (AvailableSlotDTO run : runs) {
+                LocalDateTime lastStart = run.endTime().minus(duration);
+                if (lastStart.isBefore(run.startTime())) {
+                    continue; // Too short for the slot
+                }
+                firstStarts.add(run.startTime());
+                lastStarts.add(lastStart);
+                if (required) {
+                    requiredFirstStarts.add(run.startTime());
+                    requiredLastStarts.add(lastStart);
+                }
+            }
+        });
+        firstStarts.sort(null);
+        lastStarts.sort(null);
+        requiredFirstStarts.sort(null);
+        requiredLastStarts.sort(null);
+
+        List<QuorumCandidate> candidates = new ArrayList<>();
+        int opened = 0;
+        int closed = 0;
+        int requiredOpened = 0;
+        int requiredClosed = 0;
+        for (LocalDateTime start : boundaries) {
+            // Ranges that began at or before the start, minus ranges that ended before it
+            opened = countUntil(firstStarts, opened, start, true);
+            closed = countUntil(lastStarts, closed, start, false);
+            requiredOpened = countUntil(requiredFirstStarts, requiredOpened, start, true);
+            requiredClosed = countUntil(requiredLastStarts, requiredClosed, start, false);
+
+            int availableCount = opened - closed;
+            if (availableCount >= minAttendees && requiredOpened - requiredClosed == requiredAttendeeIds.size()) {
+                candidates.add(new QuorumCandidate(start, availableCount));
+            }
+        }
+        return candidates;
+    }
+
+    // Accepts sorted times and the count already passed, returns the count of times before (or at, if inclusive) the given time
+    private int countUntil(List<LocalDateTime> sortedTimes, int count, LocalDateTime time, boolean inclusive) {
+        while (count < sortedTimes.size()
+                && (sortedTimes.get(count).isBefore(time) || (inclusive && sortedTimes.get(count).equals(time)))) {
+            count++;
+        }
+        return count;
+    }
+
+    // Accepts merged free runs and a chosen slot, returns the slot with the attendees free (or not) for all of it
+    private QuorumSlotDTO toQuorumSlot(Map<Long, List<AvailableSlotDTO>> freeRunsByAttendee,
+                                       LocalDateTime slotStart, LocalDateTime slotEnd, Set<Long> attendeeIds) {
+        Set<Long> freeAttendeeIds = new TreeSet<>();
+        Set<Long> unavailableAttendeeIds = new TreeSet<>();
+        for (Long attendeeId : attendeeIds) {
+            List<AvailableSlotDTO> runs = freeRunsByAttendee.getOrDefault(attendeeId, List.of());
+            // Last run starting at or before the slot start (runs are sorted and disjoint)
+            int low = 0;
+            int high = runs.size() - 1;
+            int index = -1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (!runs.get(middle).startTime().isAfter(slotStart)) {
+                    index = middle;
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            if (index >= 0 && !runs.get(index).endTime().isBefore(slotEnd)) {
+                freeAttendeeIds.add(attendeeId);
+            } else {
+                unavailableAttendeeIds.add(attendeeId);
+            }
+        }
+        return new QuorumSlotDTO(slotStart, slotEnd, freeAttendeeIds.size(), freeAttendeeIds, unavailableAttendeeIds);
+    }
+
+    // Range of heatmap buckets [from, to)
+    private record BucketRange(int from, int to) {
+    }
+
+    // Accepts a blocked interval, adds the range of buckets it touches (clamped to the heatmap) to the list
+    private void addBucketRange(List<BucketRange> ranges, LocalDateTime start, LocalDateTime end,
+                                LocalDateTime rangeStart, long bucketSeconds, int bucketCount) {
+        int from = (int) Math.max(0, Math.floorDiv(Duration.between(rangeStart, start).toSeconds(), bucketSeconds));
+        int to = (int) Math.min(bucketCount, Math.ceilDiv(Duration.between(rangeStart, end).toSeconds(), bucketSeconds));
+        if (from < to) {
+            ranges.add(new BucketRange(from, to));
+        }
+    }
+
     // Finds intersecting time slots between two AvailableSlotDTO lists, Accepts List<AvailableSlotDTO>, returns List<AvailableSlotDTO> intersected slot list.
     private List<AvailableSlotDTO> intersectAvailability(List<AvailableSlotDTO> list1, List<AvailableSlotDTO> list2) {
         log.debug("Intersecting availability lists. List1 size: {}, List2 size: {}", list1.size(), list2.size());
@@ -563,43 +1793,136 @@ public class AvailabilityService {
         return distinctSuggestions;
     }
 
+    // Accepts suggestions, returns them in the same order without the ones whose time slot lies within the slot
+    // of a smaller (or equally sized, earlier) room - every start time stays available, in the smallest room free for it
+    private List<LocationTimeSlotDTO> selectBestFitRooms(List<LocationTimeSlotDTO> suggestions) {
+        List<Integer> indicesBySize = new ArrayList<>();
+        for (int i = 0; i < suggestions.size(); i++) {
+            indicesBySize.add(i);
+        }
+        // Stable sort keeps the given order among rooms of the same capacity
+        indicesBySize.sort(Comparator.comparingInt(index -> suggestions.get(index).location().capacity()));
+
+        boolean[] selected = new boolean[suggestions.size()];
+        List<AvailableSlotDTO> selectedSlots = new ArrayList<>();
+        for (int index : indicesBySize) {
+            AvailableSlotDTO slot = suggestions.get(index).availableSlot();
+            boolean coveredBySmallerRoom = selectedSlots.stream().anyMatch(smallerSlot ->
+                    !smallerSlot.startTime().isAfter(slot.startTime()) && !smallerSlot.endTime().isBefore(slot.endTime()));
+            if (!coveredBySmallerRoom) {
+                selected[index] = true;
+                selectedSlots.add(slot);
+            }
+        }
+
+        List<LocationTimeSlotDTO> bestFitSuggestions = new ArrayList<>();
+        for (int i = 0; i < suggestions.size(); i++) {
+            if (selected[i]) {
+                bestFitSuggestions.add(suggestions.get(i));
+            }
+        }
+        log.debug("Best-fit room selection kept {} of {} suggestions.", bestFitSuggestions.size(), suggestions.size());
+        return bestFitSuggestions;
+    }
+
 
     // --- End of Availability Helper Methods ---
 
 
     // --- Time Management Methods ---
 
+    // Accepts Location and date, returns the location's working windows in UTC without its time off (windows cached per location and date)
+    private List<WorkingWindow> getLocationWorkingWindows(Location location, LocalDate date) {
+        List<WorkingWindow> windows = workingWindowService.findWorkingWindows(ResourceType.LOCATION, WorkingHours.of(location), date);
+        return removeTimeOff(windows, ResourceType.LOCATION, location.getId());
+    }
+
+    // Accepts attendee WorkingHours and date, returns the attendee's working windows in UTC without its time off (windows cached per attendee and date)
+    private List<WorkingWindow> getAttendeeWorkingWindows(WorkingHours workingHours, LocalDate date) {
+        List<WorkingWindow> windows = workingWindowService.findWorkingWindows(ResourceType.ATTENDEE, workingHours, date);
+        return removeTimeOff(windows, ResourceType.ATTENDEE, workingHours.resourceId());
+    }
+
     /**
-     * Calculate working shift time for the specified date.
+     * Removes the time off of a resource (and global holidays) from its working windows.
+     * Time off is treated like busy time that is never bookable, so every availability path
+     * (Java, SQL and the suggestion search) sees it without extra queries.
      *
-     * @param startTime The working day start time.
-     * @param endTime   The working day end time.
-     * @param date      The date to be assigned.
-     * @return TimeWindow record with LocalDateTime working shift start and end time with an assigned date.
+     * @param windows      The working windows of the day (UTC, ordered by start time).
+     * @param resourceType The type of the resource.
+     * @param resourceId   The ID of the resource.
+     * @return The remaining working windows (empty if the whole day is off).
      */
-    private AvailabilityService.TimeWindow getWorkingDayWindow(LocalTime startTime, LocalTime endTime, LocalDate date) {
-        LocalTime workStart = startTime != null ?
-                startTime : DEFAULT_WORKING_START_TIME;
-        LocalTime workEnd = endTime != null ?
-                endTime : DEFAULT_WORKING_END_TIME;
-
-        LocalDateTime windowStart;
-        LocalDateTime windowEnd;
-
-        // Calculate night shift
-        if (workEnd.isBefore(workStart)) {
-            windowStart = date.atTime(workStart);
-            windowEnd = date.plusDays(1).atTime(workEnd);
-            log.trace("Calculated overnight working window: {} - {}",
-                    windowStart, windowEnd);
-        } else {
-            windowStart = date.atTime(workStart);
-            windowEnd = date.atTime(workEnd);
-            log.trace("Calculated same-day working window: {} - {}",
-                    windowStart, windowEnd);
+    private List<WorkingWindow> removeTimeOff(List<WorkingWindow> windows, ResourceType resourceType, Long resourceId) {
+        if (windows.isEmpty()) {
+            return windows;
         }
+        List<TimeOff> timeOff = timeOffService.findEffectiveTimeOff(resourceType, resourceId);
+        if (timeOff.isEmpty()) {
+            return windows;
+        }
+
+        List<WorkingWindow> remainingWindows = new ArrayList<>();
+        for (WorkingWindow window : windows) {
+            LocalDateTime currentPointer = window.start();
+            // Time off is ordered by start time, the pointer skips every period overlapping the window
+            for (TimeOff period : timeOff) {
+                if (!period.overlaps(currentPointer, window.end())) {
+                    continue;
+                }
+                if (period.getStartTime().isAfter(currentPointer)) {
+                    remainingWindows.add(new WorkingWindow(currentPointer, period.getStartTime()));
+                }
+                currentPointer = maxTime(currentPointer, period.getEndTime());
+            }
+            if (window.end().isAfter(currentPointer)) {
+                remainingWindows.add(new WorkingWindow(currentPointer, window.end()));
+            }
+        }
+        log.trace("Working windows of {} ID: {} without time off: {}", resourceType, resourceId, remainingWindows);
+        return remainingWindows;
+    }
+
+    // Accepts Location and a UTC date, returns the location's working windows of the surrounding working days without time off
+    // (a working day in another time zone can start on the previous or end on the next UTC day)
+    private List<WorkingWindow> getLocationWorkingWindowsAround(Location location, LocalDate date) {
+        List<WorkingWindow> windows = new ArrayList<>();
+        for (LocalDate day = date.minusDays(1); !day.isAfter(date.plusDays(1)); day = day.plusDays(1)) {
+            windows.addAll(getLocationWorkingWindows(location, day));
+        }
+        return windows;
+    }
+
+    // Accepts attendee WorkingHours and a UTC range, returns the attendee's working windows overlapping the range ordered by start time
+    // (computed without the working windows cache: a heatmap covers up to 1000 attendees * 31 days and would flush it)
+    private List<WorkingWindow> getAttendeeWorkingWindows(WorkingHours workingHours, LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        List<WorkingWindow> windows = new ArrayList<>();
+        // Windows of the previous day may reach into the range (time zones, overnight windows)
+        for (LocalDate date = rangeStart.toLocalDate().minusDays(1); !date.isAfter(rangeEnd.toLocalDate()); date = date.plusDays(1)) {
+            removeTimeOff(workingHours.windowsOn(date), ResourceType.ATTENDEE, workingHours.resourceId()).stream()
+                    .filter(window -> window.start().isBefore(rangeEnd) && window.end().isAfter(rangeStart))
+                    .forEach(windows::add);
+        }
+        windows.sort(Comparator.comparing(WorkingWindow::start));
+        return windows;
+    }
+
+    // Accepts non-empty working windows, returns the latest end (an overnight window may end after later-starting ones)
+    private LocalDateTime getLatestEnd(List<WorkingWindow> windows) {
+        return windows.stream().map(WorkingWindow::end).max(Comparator.naturalOrder()).orElseThrow();
+    }
+
+    // Accepts a slot of an occurrence (UTC), returns the slot at the same local time of day in the zone the given number of weeks earlier
+    private AvailableSlotDTO shiftWeeksBack(AvailableSlotDTO slot, int weeks, ZoneId timeZone) {
+        return new AvailableSlotDTO(shiftWeeksBack(slot.startTime(), weeks, timeZone), shiftWeeksBack(slot.endTime(), weeks, timeZone));
+    }
 
-        return new AvailabilityService.TimeWindow(windowStart, windowEnd);
+    private LocalDateTime shiftWeeksBack(LocalDateTime utcTime, int weeks, ZoneId timeZone) {
+        return utcTime.atZone(ZoneOffset.UTC)
+                .withZoneSameInstant(timeZone)
+                .minusWeeks(weeks)
+                .withZoneSameInstant(ZoneOffset.UTC)
+                .toLocalDateTime();
     }
 
     /**
@@ -630,9 +1953,6 @@ public class AvailabilityService {
         return d1.isBefore(d2) ? d1 : d2;
     }
 
-    private record TimeWindow(LocalDateTime start, LocalDateTime end) {
-    }
-
     // --- End of Time Management Methods ---
     // === END HELPER METHODS ===
 }
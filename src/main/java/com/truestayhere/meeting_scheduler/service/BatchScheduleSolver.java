@@ -0,0 +1,469 @@
+package com.truestayhere.meeting_scheduler.service;
+
+
+import com.truestayhere.meeting_scheduler.config.BatchSchedulingProperties;
+import com.truestayhere.meeting_scheduler.dto.response.AvailableSlotDTO;
+import com.truestayhere.meeting_scheduler.model.Location;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Finds conflict-free start times and rooms for a batch of meetings (e.g. the interviews of a hiring week)
+ * over precomputed free intervals of the attendees and rooms. Works on in-memory intervals only.
+ * <p>
+ * Meetings that share no attendee can only conflict over rooms, so the batch is split into the connected components
+ * of the attendee graph and the components are solved in parallel on a small pool. Room contention between components
+ * is resolved afterwards: placements are kept in component order, a placement whose room was taken moves to another
+ * candidate room at the same time or to another start, and the components contending for the rooms of meetings that no
+ * longer fit are solved once more together, around the kept placements of the others.
+ * Each component is solved by a depth-first search that places the most constrained meeting first (fewest candidate
+ * start times), takes the smallest free room at each start and checks after every placement that each unplaced
+ * meeting sharing an attendee still has a feasible start (forward checking). If the search proves the component
+ * infeasible or runs out of its budget, the meetings are placed greedily in the same order and the ones that do not fit
+ * are left unscheduled.
+ */
+@Component
+@Slf4j
+public class BatchScheduleSolver implements DisposableBean {
+    private final BatchSchedulingProperties batchSchedulingProperties;
+    private final ExecutorService solverExecutor;
+
+    public BatchScheduleSolver(BatchSchedulingProperties batchSchedulingProperties) {
+        this.batchSchedulingProperties = batchSchedulingProperties;
+        this.solverExecutor = Executors.newFixedThreadPool(batchSchedulingProperties.getSolverThreads(), namedThreads("batch-schedule-solver"));
+    }
+
+    /**
+     * A meeting of the batch.
+     *
+     * @param index           The position of the meeting in the request.
+     * @param attendeeIds     The attendees of the meeting.
+     * @param durationMinutes The duration of the meeting.
+     * @param rooms           The candidate rooms, smallest-fit first.
+     */
+    public record BatchMeeting(int index, Set<Long> attendeeIds, int durationMinutes, List<Location> rooms) {
+    }
+
+    /**
+     * A scheduled meeting of the batch.
+     *
+     * @param index     The position of the meeting in the request.
+     * @param startTime The start time (UTC).
+     * @param endTime   The end time (UTC).
+     * @param room      The room the meeting is placed in.
+     */
+    public record Placement(int index, LocalDateTime startTime, LocalDateTime endTime, Location room) {
+    }
+
+    /**
+     * Schedules the meetings without overlaps between meetings sharing an attendee or a room.
+     *
+     * @param meetings          The meetings of the batch.
+     * @param attendeeFreeSlots The free intervals of every attendee (UTC, ordered, not overlapping).
+     * @param roomFreeSlots     The free intervals of every candidate room, already padded by its buffer around existing meetings.
+     * @return The placements of the scheduled meetings ordered by index; unscheduled meetings are left out.
+     */
+    public List<Placement> solve(List<BatchMeeting> meetings,
+                                 Map<Long, List<AvailableSlotDTO>> attendeeFreeSlots,
+                                 Map<Long, List<AvailableSlotDTO>> roomFreeSlots) {
+        List<List<BatchMeeting>> components = findComponents(meetings);
+        log.debug("Solving batch of {} meetings in {} independent component(s)", meetings.size(), components.size());
+
+        if (components.size() == 1) {
+            Bookings bookings = new Bookings(roomFreeSlots);
+            new ComponentSearch(components.getFirst(), attendeeFreeSlots, bookings, batchSchedulingProperties).run();
+            return bookings.sortedPlacements();
+        }
+
+        List<Future<List<Placement>>> futures = components.stream()
+                .map(component -> solverExecutor.submit(() -> {
+                    Bookings bookings = new Bookings(roomFreeSlots);
+                    new ComponentSearch(component, attendeeFreeSlots, bookings, batchSchedulingProperties).run();
+                    return bookings.sortedPlacements();
+                }))
+                .toList();
+        List<List<Placement>> componentPlacements = new ArrayList<>();
+        for (Future<List<Placement>> future : futures) {
+            componentPlacements.add(await(future));
+        }
+        return reconcileRooms(meetings, components, componentPlacements, attendeeFreeSlots, roomFreeSlots);
+    }
+
+    @Override
+    public void destroy() {
+        solverExecutor.shutdownNow();
+    }
+
+    // Groups meetings sharing an attendee (directly or through other meetings), components keep the meeting order
+    static List<List<BatchMeeting>> findComponents(List<BatchMeeting> meetings) {
+        int[] parent = new int[meetings.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        Map<Long, Integer> firstByAttendee = new HashMap<>();
+        for (int i = 0; i < meetings.size(); i++) {
+            int position = i;
+            // The first meeting seen for an attendee represents it
+            for (Long attendeeId : meetings.get(i).attendeeIds()) {
+                union(parent, position, firstByAttendee.computeIfAbsent(attendeeId, id -> position));
+            }
+        }
+
+        Map<Integer, List<BatchMeeting>> componentsByRoot = new LinkedHashMap<>();
+        for (int i = 0; i < meetings.size(); i++) {
+            componentsByRoot.computeIfAbsent(find(parent, i), root -> new ArrayList<>()).add(meetings.get(i));
+        }
+        return new ArrayList<>(componentsByRoot.values());
+    }
+
+    // Merges the placements of independently solved components into one schedule without double-booked rooms
+    private List<Placement> reconcileRooms(List<BatchMeeting> meetings,
+                                           List<List<BatchMeeting>> components,
+                                           List<List<Placement>> componentPlacements,
+                                           Map<Long, List<AvailableSlotDTO>> attendeeFreeSlots,
+                                           Map<Long, List<AvailableSlotDTO>> roomFreeSlots) {
+        Map<Integer, BatchMeeting> meetingsByIndex = new HashMap<>();
+        meetings.forEach(meeting -> meetingsByIndex.put(meeting.index(), meeting));
+        long stepMinutes = stepMinutes(batchSchedulingProperties);
+
+        // Keep each placement, in another free room at the same time if its room was taken by an earlier component
+        Bookings bookings = new Bookings(roomFreeSlots);
+        List<BatchMeeting> displaced = new ArrayList<>();
+        for (List<Placement> placements : componentPlacements) {
+            for (Placement placement : placements) {
+                BatchMeeting meeting = meetingsByIndex.get(placement.index());
+                Location room = bookings.roomFree(placement.room(), placement.startTime(), placement.endTime())
+                        ? placement.room()
+                        : bookings.findFreeRoom(meeting, placement.startTime(), placement.endTime());
+                if (room != null) {
+                    bookings.place(meeting, placement.startTime(), room);
+                } else {
+                    displaced.add(meeting);
+                }
+            }
+        }
+
+        // Attendees are not shared between components, so a displaced meeting only has to avoid its own component
+        List<BatchMeeting> unfit = new ArrayList<>();
+        for (BatchMeeting meeting : displaced) {
+            boolean placed = false;
+            for (LocalDateTime start : findCandidateStarts(meeting, attendeeFreeSlots, bookings, stepMinutes)) {
+                LocalDateTime end = start.plusMinutes(meeting.durationMinutes());
+                if (bookings.attendeesFree(meeting, start, end)) {
+                    bookings.place(meeting, start, bookings.findFreeRoom(meeting, start, end));
+                    placed = true;
+                    break;
+                }
+            }
+            if (!placed) {
+                unfit.add(meeting);
+            }
+        }
+        if (unfit.isEmpty()) {
+            log.debug("Reconciled rooms of {} components, {} meeting(s) moved", components.size(), displaced.size());
+            return bookings.sortedPlacements();
+        }
+
+        // Solve the components contending for the rooms of the unfit meetings together, around the other placements
+        Set<Long> contendedRoomIds = new HashSet<>();
+        unfit.forEach(meeting -> meeting.rooms().forEach(room -> contendedRoomIds.add(room.getId())));
+        List<BatchMeeting> contended = new ArrayList<>();
+        for (List<BatchMeeting> component : components) {
+            boolean contending = component.stream()
+                    .anyMatch(meeting -> meeting.rooms().stream().anyMatch(room -> contendedRoomIds.contains(room.getId())));
+            if (contending) {
+                contended.addAll(component);
+            }
+        }
+        contended.forEach(bookings::unplace);
+        log.debug("{} meeting(s) did not fit after reconciling rooms, solving {} contending meetings together",
+                unfit.size(), contended.size());
+        new ComponentSearch(contended, attendeeFreeSlots, bookings, batchSchedulingProperties).run();
+        return bookings.sortedPlacements();
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    private static List<Placement> await(Future<List<Placement>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while solving the batch schedule.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to solve the batch schedule.", e.getCause());
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static long stepMinutes(BatchSchedulingProperties properties) {
+        return Math.max(1, properties.getSlotStep().toMinutes());
+    }
+
+    // Returns the start times within the common free intervals of all attendees at which some candidate room is free
+    private static List<LocalDateTime> findCandidateStarts(BatchMeeting meeting,
+                                                           Map<Long, List<AvailableSlotDTO>> attendeeFreeSlots,
+                                                           Bookings bookings,
+                                                           long stepMinutes) {
+        List<AvailableSlotDTO> commonSlots = null;
+        for (Long attendeeId : meeting.attendeeIds()) {
+            List<AvailableSlotDTO> slots = attendeeFreeSlots.getOrDefault(attendeeId, List.of());
+            commonSlots = commonSlots == null ? slots : intersect(commonSlots, slots);
+        }
+        if (commonSlots == null) {
+            return List.of();
+        }
+        List<LocalDateTime> starts = new ArrayList<>();
+        for (AvailableSlotDTO slot : commonSlots) {
+            for (LocalDateTime start = slot.startTime();
+                 !start.plusMinutes(meeting.durationMinutes()).isAfter(slot.endTime());
+                 start = start.plusMinutes(stepMinutes)) {
+                if (bookings.findFreeRoom(meeting, start, start.plusMinutes(meeting.durationMinutes())) != null) {
+                    starts.add(start);
+                }
+            }
+        }
+        return starts;
+    }
+
+    // Accepts two ordered lists of intervals, returns their intersection
+    private static List<AvailableSlotDTO> intersect(List<AvailableSlotDTO> list1, List<AvailableSlotDTO> list2) {
+        List<AvailableSlotDTO> result = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < list1.size() && j < list2.size()) {
+            AvailableSlotDTO slot1 = list1.get(i);
+            AvailableSlotDTO slot2 = list2.get(j);
+            LocalDateTime start = slot1.startTime().isAfter(slot2.startTime()) ? slot1.startTime() : slot2.startTime();
+            LocalDateTime end = slot1.endTime().isBefore(slot2.endTime()) ? slot1.endTime() : slot2.endTime();
+            if (start.isBefore(end)) {
+                result.add(new AvailableSlotDTO(start, end));
+            }
+            if (slot1.endTime().isBefore(slot2.endTime())) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+
+    // Placed meetings per attendee and per room (room intervals padded by the room's buffer), confined to one thread
+    private static final class Bookings {
+        private final Map<Long, List<AvailableSlotDTO>> roomFreeSlots;
+        private final Map<Integer, Placement> placements = new HashMap<>();
+        private final Map<Long, TreeMap<LocalDateTime, LocalDateTime>> attendeeBookings = new HashMap<>();
+        private final Map<Long, TreeMap<LocalDateTime, LocalDateTime>> roomBookings = new HashMap<>();
+
+        Bookings(Map<Long, List<AvailableSlotDTO>> roomFreeSlots) {
+            this.roomFreeSlots = roomFreeSlots;
+        }
+
+        boolean isPlaced(BatchMeeting meeting) {
+            return placements.containsKey(meeting.index());
+        }
+
+        void place(BatchMeeting meeting, LocalDateTime start, Location room) {
+            LocalDateTime end = start.plusMinutes(meeting.durationMinutes());
+            int bufferMinutes = bufferMinutes(room);
+            for (Long attendeeId : meeting.attendeeIds()) {
+                attendeeBookings.computeIfAbsent(attendeeId, id -> new TreeMap<>()).put(start, end);
+            }
+            roomBookings.computeIfAbsent(room.getId(), id -> new TreeMap<>())
+                    .put(start.minusMinutes(bufferMinutes), end.plusMinutes(bufferMinutes));
+            placements.put(meeting.index(), new Placement(meeting.index(), start, end, room));
+        }
+
+        // Removes the placement of the meeting, if it is placed
+        void unplace(BatchMeeting meeting) {
+            Placement placement = placements.remove(meeting.index());
+            if (placement == null) {
+                return;
+            }
+            for (Long attendeeId : meeting.attendeeIds()) {
+                attendeeBookings.get(attendeeId).remove(placement.startTime());
+            }
+            roomBookings.get(placement.room().getId()).remove(placement.startTime().minusMinutes(bufferMinutes(placement.room())));
+        }
+
+        boolean attendeesFree(BatchMeeting meeting, LocalDateTime start, LocalDateTime end) {
+            for (Long attendeeId : meeting.attendeeIds()) {
+                if (overlaps(attendeeBookings.get(attendeeId), start, end)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Returns the smallest candidate room free for the interval or null
+        Location findFreeRoom(BatchMeeting meeting, LocalDateTime start, LocalDateTime end) {
+            for (Location room : meeting.rooms()) {
+                if (roomFree(room, start, end)) {
+                    return room;
+                }
+            }
+            return null;
+        }
+
+        // Returns true if the interval is within a free slot of the room and away from placed meetings
+        boolean roomFree(Location room, LocalDateTime start, LocalDateTime end) {
+            boolean withinFreeSlot = roomFreeSlots.getOrDefault(room.getId(), List.of()).stream()
+                    .anyMatch(slot -> !slot.startTime().isAfter(start) && !slot.endTime().isBefore(end));
+            return withinFreeSlot && !overlaps(roomBookings.get(room.getId()), start, end);
+        }
+
+        List<Placement> sortedPlacements() {
+            List<Placement> sorted = new ArrayList<>(placements.values());
+            sorted.sort(Comparator.comparingInt(Placement::index));
+            return sorted;
+        }
+
+        // Accepts placed intervals by start (not overlapping), returns true if one of them overlaps the interval
+        private static boolean overlaps(TreeMap<LocalDateTime, LocalDateTime> bookings, LocalDateTime start, LocalDateTime end) {
+            if (bookings == null) {
+                return false;
+            }
+            Map.Entry<LocalDateTime, LocalDateTime> previous = bookings.lowerEntry(end);
+            return previous != null && previous.getValue().isAfter(start);
+        }
+
+        private static int bufferMinutes(Location room) {
+            return room.getBufferMinutes() != null ? room.getBufferMinutes() : 0;
+        }
+    }
+
+    // Search state of one component (confined to one thread), places its meetings into the bookings
+    private static final class ComponentSearch {
+        private final Bookings bookings;
+        // Meetings in placement order: fewest candidate starts first, then most attendees
+        private final List<BatchMeeting> order;
+        // Candidate starts and meetings sharing an attendee by meeting index
+        private final Map<Integer, List<LocalDateTime>> candidateStarts = new HashMap<>();
+        private final Map<Integer, List<BatchMeeting>> attendeeNeighbours = new HashMap<>();
+        private int remainingBudget;
+
+        ComponentSearch(List<BatchMeeting> meetings,
+                        Map<Long, List<AvailableSlotDTO>> attendeeFreeSlots,
+                        Bookings bookings,
+                        BatchSchedulingProperties properties) {
+            this.bookings = bookings;
+            this.remainingBudget = properties.getSearchBudget();
+            long stepMinutes = stepMinutes(properties);
+            for (BatchMeeting meeting : meetings) {
+                candidateStarts.put(meeting.index(), findCandidateStarts(meeting, attendeeFreeSlots, bookings, stepMinutes));
+            }
+            this.order = meetings.stream()
+                    .sorted(Comparator.<BatchMeeting>comparingInt(meeting -> candidateStarts.get(meeting.index()).size())
+                            .thenComparing(Comparator.<BatchMeeting>comparingInt(meeting -> meeting.attendeeIds().size()).reversed())
+                            .thenComparingInt(BatchMeeting::index))
+                    .toList();
+            for (BatchMeeting meeting : meetings) {
+                attendeeNeighbours.put(meeting.index(), meetings.stream()
+                        .filter(other -> other.index() != meeting.index() && !Collections.disjoint(other.attendeeIds(), meeting.attendeeIds()))
+                        .toList());
+            }
+        }
+
+        void run() {
+            if (search(0)) {
+                return;
+            }
+            // Infeasible or out of budget: the search unwound all placements, place what fits in the same order
+            log.debug("Batch search of {} meetings ended without a full schedule (budget left: {}), placing greedily",
+                    order.size(), Math.max(0, remainingBudget));
+            for (BatchMeeting meeting : order) {
+                for (LocalDateTime start : candidateStarts.get(meeting.index())) {
+                    if (tryPlace(meeting, start)) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        // Places the meetings from the position on, returns true if all of them were placed
+        private boolean search(int position) {
+            if (position == order.size()) {
+                return true;
+            }
+            BatchMeeting meeting = order.get(position);
+            for (LocalDateTime start : candidateStarts.get(meeting.index())) {
+                if (--remainingBudget < 0) {
+                    return false;
+                }
+                if (!tryPlace(meeting, start)) {
+                    continue;
+                }
+                if (neighboursStillFeasible(meeting) && search(position + 1)) {
+                    return true;
+                }
+                bookings.unplace(meeting);
+                if (remainingBudget < 0) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        // Places the meeting at the start in the smallest free room if all attendees are free, returns true if placed
+        private boolean tryPlace(BatchMeeting meeting, LocalDateTime start) {
+            LocalDateTime end = start.plusMinutes(meeting.durationMinutes());
+            if (!bookings.attendeesFree(meeting, start, end)) {
+                return false;
+            }
+            Location room = bookings.findFreeRoom(meeting, start, end);
+            if (room == null) {
+                return false;
+            }
+            bookings.place(meeting, start, room);
+            return true;
+        }
+
+        // Returns true if every unplaced meeting sharing an attendee with the meeting still has a feasible start
+        private boolean neighboursStillFeasible(BatchMeeting meeting) {
+            for (BatchMeeting neighbour : attendeeNeighbours.get(meeting.index())) {
+                if (bookings.isPlaced(neighbour)) {
+                    continue;
+                }
+                boolean feasible = candidateStarts.get(neighbour.index()).stream().anyMatch(start -> {
+                    LocalDateTime end = start.plusMinutes(neighbour.durationMinutes());
+                    return bookings.attendeesFree(neighbour, start, end) && bookings.findFreeRoom(neighbour, start, end) != null;
+                });
+                if (!feasible) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
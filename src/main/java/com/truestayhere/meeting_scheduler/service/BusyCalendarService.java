@@ -0,0 +1,212 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.*;
+import com.truestayhere.meeting_scheduler.repository.MeetingRepository;
+import com.truestayhere.meeting_scheduler.repository.ResourceDayBusyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Maintains the resource_day_busy materialization: busy intervals per attendee/location per calendar day.
+ * Rows are updated incrementally by MeetingService on every meeting write, so availability reads
+ * only need a primary-key lookup per resource-day.
+ * A missing row means the day was never materialized - readers fall back to the meeting overlap queries.
+ * Writers lock the rows they change (SELECT ... FOR UPDATE) and create missing rows with INSERT ... ON CONFLICT DO NOTHING,
+ * so concurrent bookings of the same resource-day wait for each other instead of failing.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class BusyCalendarService {
+    private final ResourceDayBusyRepository resourceDayBusyRepository;
+    private final MeetingRepository meetingRepository;
+
+    // === READ METHODS ===
+
+    /**
+     * Finds the busy intervals of a resource that overlap the given window.
+     *
+     * @param resourceType The type of the resource.
+     * @param resourceId   The ID of the resource.
+     * @param windowStart  The start of the time window.
+     * @param windowEnd    The end of the time window.
+     * @return Busy intervals sorted by start time, or an empty Optional if any day of the window is not materialized.
+     */
+    public Optional<List<BusyInterval>> findBusyIntervals(ResourceType resourceType, Long resourceId, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        List<ResourceDayKey> keys = getDays(windowStart, windowEnd).stream()
+                .map(day -> new ResourceDayKey(resourceType, resourceId, day))
+                .toList();
+
+        List<ResourceDayBusy> rows = resourceDayBusyRepository.findAllById(keys);
+        if (rows.size() != keys.size()) {
+            log.debug("Busy calendar of {} ID: {} is not materialized for {} - {}", resourceType, resourceId, windowStart, windowEnd);
+            return Optional.empty();
+        }
+
+        List<BusyInterval> busyIntervals = new ArrayList<>();
+        for (ResourceDayBusy row : rows) {
+            for (BusyInterval interval : BusyIntervalCodec.decode(row.getId().getDay(), row.getBusyIntervals())) {
+                if (interval.startTime().isBefore(windowEnd) && interval.endTime().isAfter(windowStart)) {
+                    busyIntervals.add(interval);
+                }
+            }
+        }
+        busyIntervals.sort(Comparator.comparing(BusyInterval::startTime));
+
+        log.debug("Read {} busy intervals of {} ID: {} from {} materialized day(s)", busyIntervals.size(), resourceType, resourceId, rows.size());
+        return Optional.of(busyIntervals);
+    }
+
+    // === END READ METHODS ===
+
+    // === MAINTENANCE METHODS ===
+
+    /**
+     * Adds a newly created meeting to the busy calendars of its location and attendees.
+     *
+     * @param meeting The saved meeting.
+     */
+    @Transactional
+    public void recordMeeting(Meeting meeting) {
+        addFootprint(MeetingFootprint.of(meeting));
+    }
+
+    /**
+     * Moves an updated meeting from its previous calendar position to the current one.
+     *
+     * @param previous The footprint of the meeting taken before the update.
+     * @param meeting  The updated meeting.
+     */
+    @Transactional
+    public void replaceMeeting(MeetingFootprint previous, Meeting meeting) {
+        removeFootprint(previous);
+        addFootprint(MeetingFootprint.of(meeting));
+    }
+
+    /**
+     * Removes a meeting from the busy calendars. Must be called before the meeting is deleted.
+     *
+     * @param meetingId The ID of the meeting to be deleted.
+     * @return The footprint of the removed meeting, or empty if the meeting does not exist.
+     */
+    @Transactional
+    public Optional<MeetingFootprint> removeMeeting(Long meetingId) {
+        Optional<MeetingFootprint> footprint = meetingRepository.findById(meetingId).map(MeetingFootprint::of);
+        footprint.ifPresent(this::removeFootprint);
+        return footprint;
+    }
+
+    // === END MAINTENANCE METHODS ===
+
+    // === HELPER METHODS ===
+
+    private void addFootprint(MeetingFootprint footprint) {
+        for (ResourceDayKey key : getKeys(footprint)) {
+            Optional<ResourceDayBusy> existingRow = resourceDayBusyRepository.findForUpdateById(key);
+
+            if (existingRow.isEmpty()) {
+                // The day was never materialized - build it from the meetings table (includes the current meeting)
+                ResourceDayBusy rebuiltRow = rebuildDay(key);
+                if (resourceDayBusyRepository.insertIfAbsent(key.getResourceType().name(), key.getResourceId(), key.getDay(),
+                        rebuiltRow.getBusyIntervals()) > 0) {
+                    continue;
+                }
+                // A concurrent write inserted the day first, its rebuild could not see the current (uncommitted) meeting
+                existingRow = resourceDayBusyRepository.findForUpdateById(key);
+                if (existingRow.isEmpty()) {
+                    throw new IllegalStateException("Busy calendar " + key + " was neither inserted nor found.");
+                }
+            }
+
+            ResourceDayBusy row = existingRow.get();
+            List<BusyInterval> intervals = BusyIntervalCodec.decode(key.getDay(), row.getBusyIntervals());
+            intervals.removeIf(interval -> footprint.meetingId().equals(interval.meetingId()));
+            intervals.add(clipToDay(footprint.meetingId(), footprint.locationId(), footprint.startTime(), footprint.endTime(), key.getDay()));
+            row.setBusyIntervals(BusyIntervalCodec.encode(key.getDay(), intervals));
+            log.trace("Added meeting ID: {} to busy calendar {}", footprint.meetingId(), key);
+        }
+    }
+
+    private void removeFootprint(MeetingFootprint footprint) {
+        for (ResourceDayKey key : getKeys(footprint)) {
+            resourceDayBusyRepository.findForUpdateById(key).ifPresent(row -> {
+                List<BusyInterval> intervals = BusyIntervalCodec.decode(key.getDay(), row.getBusyIntervals());
+                if (intervals.removeIf(interval -> footprint.meetingId().equals(interval.meetingId()))) {
+                    row.setBusyIntervals(BusyIntervalCodec.encode(key.getDay(), intervals));
+                    log.trace("Removed meeting ID: {} from busy calendar {}", footprint.meetingId(), key);
+                }
+            });
+        }
+    }
+
+    // Builds a resource-day row from the meetings overlapping that day
+    private ResourceDayBusy rebuildDay(ResourceDayKey key) {
+        List<BusyInterval> intervals = loadDayIntervals(key);
+        log.debug("Materialized busy calendar {} with {} interval(s)", key, intervals.size());
+        return new ResourceDayBusy(key, BusyIntervalCodec.encode(key.getDay(), intervals));
+    }
+
+    // Returns the intervals of the meetings overlapping the day of the key, clipped to the day
+    private List<BusyInterval> loadDayIntervals(ResourceDayKey key) {
+        LocalDateTime dayStart = key.getDay().atStartOfDay();
+        LocalDateTime dayEnd = dayStart.plusDays(1);
+
+        List<Meeting> meetings = switch (key.getResourceType()) {
+            case LOCATION ->
+                    meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(key.getResourceId(), dayEnd, dayStart);
+            case ATTENDEE ->
+                    meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(key.getResourceId(), dayEnd, dayStart);
+        };
+
+        return meetings.stream()
+                .map(meeting -> clipToDay(meeting.getId(), meeting.getLocation() != null ? meeting.getLocation().getId() : null,
+                        meeting.getStartTime(), meeting.getEndTime(), key.getDay()))
+                .toList();
+    }
+
+    // Returns the keys of every resource-day the meeting occupies, in one fixed order so concurrent writers lock rows without deadlocks
+    private List<ResourceDayKey> getKeys(MeetingFootprint footprint) {
+        List<LocalDate> days = getDays(footprint.startTime(), footprint.endTime());
+        List<ResourceDayKey> keys = new ArrayList<>();
+        for (LocalDate day : days) {
+            if (footprint.locationId() != null) {
+                keys.add(new ResourceDayKey(ResourceType.LOCATION, footprint.locationId(), day));
+            }
+            for (Long attendeeId : footprint.attendeeIds()) {
+                keys.add(new ResourceDayKey(ResourceType.ATTENDEE, attendeeId, day));
+            }
+        }
+        keys.sort(Comparator.comparing(ResourceDayKey::getResourceType)
+                .thenComparing(ResourceDayKey::getResourceId)
+                .thenComparing(ResourceDayKey::getDay));
+        return keys;
+    }
+
+    // Returns calendar days touched by the interval (an interval ending exactly at midnight does not touch the next day)
+    static List<LocalDate> getDays(LocalDateTime start, LocalDateTime end) {
+        LocalDate firstDay = start.toLocalDate();
+        LocalDate lastDay = end.toLocalTime().equals(LocalTime.MIDNIGHT) ? end.toLocalDate().minusDays(1) : end.toLocalDate();
+        if (lastDay.isBefore(firstDay)) {
+            lastDay = firstDay;
+        }
+        return firstDay.datesUntil(lastDay.plusDays(1)).toList();
+    }
+
+    private BusyInterval clipToDay(Long meetingId, Long locationId, LocalDateTime start, LocalDateTime end, LocalDate day) {
+        LocalDateTime dayStart = day.atStartOfDay();
+        LocalDateTime dayEnd = dayStart.plusDays(1);
+        LocalDateTime clippedStart = start.isBefore(dayStart) ? dayStart : start;
+        LocalDateTime clippedEnd = end.isAfter(dayEnd) ? dayEnd : end;
+        return new BusyInterval(meetingId, locationId, clippedStart, clippedEnd);
+    }
+
+    // === END HELPER METHODS ===
+}
@@ -0,0 +1,81 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.BusyInterval;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes busy intervals of one calendar day into a compact byte array.
+ * Every interval takes 24 bytes: start and end as seconds from the start of the day (int),
+ * the meeting ID and the location ID (long).
+ */
+final class BusyIntervalCodec {
+    private static final int ENTRY_SIZE = Integer.BYTES * 2 + Long.BYTES * 2;
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private BusyIntervalCodec() {
+    }
+
+    /**
+     * Encodes intervals that are already clipped to the given day.
+     *
+     * @param day       The day the intervals belong to.
+     * @param intervals The busy intervals (clipped to [day 00:00, day+1 00:00]).
+     * @return The encoded intervals, sorted by start time.
+     */
+    static byte[] encode(LocalDate day, List<BusyInterval> intervals) {
+        LocalDateTime dayStart = day.atStartOfDay();
+        List<BusyInterval> sorted = new ArrayList<>(intervals);
+        sorted.sort((a, b) -> a.startTime().compareTo(b.startTime()));
+
+        ByteBuffer buffer = ByteBuffer.allocate(sorted.size() * ENTRY_SIZE);
+        for (BusyInterval interval : sorted) {
+            buffer.putInt(toSecondOfDay(dayStart, interval.startTime()));
+            buffer.putInt(toSecondOfDay(dayStart, interval.endTime()));
+            buffer.putLong(interval.meetingId() != null ? interval.meetingId() : 0L);
+            buffer.putLong(interval.locationId() != null ? interval.locationId() : 0L);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decodes intervals stored for the given day.
+     *
+     * @param day     The day the intervals belong to.
+     * @param encoded The encoded intervals.
+     * @return A list of BusyInterval sorted by start time.
+     */
+    static List<BusyInterval> decode(LocalDate day, byte[] encoded) {
+        if (encoded == null || encoded.length == 0) {
+            return new ArrayList<>();
+        }
+        if (encoded.length % ENTRY_SIZE != 0) {
+            throw new IllegalStateException("Corrupted busy intervals for day " + day + ": " + encoded.length + " bytes.");
+        }
+
+        LocalDateTime dayStart = day.atStartOfDay();
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        List<BusyInterval> intervals = new ArrayList<>(encoded.length / ENTRY_SIZE);
+        while (buffer.hasRemaining()) {
+            LocalDateTime start = dayStart.plusSeconds(buffer.getInt());
+            LocalDateTime end = dayStart.plusSeconds(buffer.getInt());
+            long meetingId = buffer.getLong();
+            long locationId = buffer.getLong();
+            intervals.add(new BusyInterval(meetingId != 0L ? meetingId : null, locationId != 0L ? locationId : null, start, end));
+        }
+        return intervals;
+    }
+
+    private static int toSecondOfDay(LocalDateTime dayStart, LocalDateTime time) {
+        long seconds = Duration.between(dayStart, time).getSeconds();
+        if (seconds < 0 || seconds > SECONDS_PER_DAY) {
+            throw new IllegalArgumentException("Interval time " + time + " is outside of the day starting at " + dayStart);
+        }
+        return (int) seconds;
+    }
+}
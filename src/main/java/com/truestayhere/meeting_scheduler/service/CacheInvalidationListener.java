@@ -0,0 +1,123 @@
+package com.truestayhere.meeting_scheduler.service;
+
+
+import com.truestayhere.meeting_scheduler.config.ClusterCacheProperties;
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Listens on the PostgreSQL cache invalidation channel on a dedicated connection
+ * and republishes invalidations from other nodes as local application events (CacheInvalidation).
+ * After a lost connection an ALL invalidation is published, since notifications may have been missed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationListener implements SmartLifecycle {
+
+    private final DataSource dataSource;
+    private final ClusterCacheProperties clusterCacheProperties;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Override
+    public void start() {
+        if (!clusterCacheProperties.isEnabled()) {
+            log.info("Cluster cache invalidation is disabled.");
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            try {
+                listenerThread.join(clusterCacheProperties.getPollTimeout().multipliedBy(2).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Listener loop: (re)connects, subscribes and dispatches notifications until stopped
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + clusterCacheProperties.getChannel());
+                }
+                log.info("Listening for cache invalidations on channel '{}' (node ID: {})",
+                        clusterCacheProperties.getChannel(), cacheInvalidationPublisher.getNodeId());
+
+                if (reconnecting) {
+                    applicationEventPublisher.publishEvent(CacheInvalidation.all());
+                }
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                int timeoutMillis = (int) clusterCacheProperties.getPollTimeout().toMillis();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener lost its connection, reconnecting in {}: {}",
+                        clusterCacheProperties.getReconnectDelay(), e.getMessage());
+                reconnecting = true;
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    // Accepts a NOTIFY payload, publishes the invalidation locally unless this node sent it
+    private void dispatch(String payload) {
+        CacheInvalidation.fromPayload(payload).ifPresentOrElse(received -> {
+            if (cacheInvalidationPublisher.getNodeId().equals(received.nodeId())) {
+                return;
+            }
+            log.debug("Received cache invalidation from node {}: {}", received.nodeId(), received.invalidation());
+            applicationEventPublisher.publishEvent(received.invalidation());
+        }, () -> log.warn("Ignoring malformed cache invalidation payload: {}", payload));
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(clusterCacheProperties.getReconnectDelay().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
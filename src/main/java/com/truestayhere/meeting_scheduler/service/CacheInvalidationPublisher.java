@@ -0,0 +1,63 @@
+package com.truestayhere.meeting_scheduler.service;
+
+
+import com.truestayhere.meeting_scheduler.config.ClusterCacheProperties;
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
+import com.truestayhere.meeting_scheduler.model.MeetingFootprint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Publishes cache invalidations to the other nodes with PostgreSQL NOTIFY.
+ * NOTIFY joins the caller's transaction: other nodes receive it only after the commit
+ * and never for a rolled back change. The publishing node evicts its own caches itself.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterCacheProperties clusterCacheProperties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * Publishes the invalidation to every node (delivered when the current transaction commits).
+     *
+     * @param invalidation The invalidation to publish.
+     */
+    @Transactional
+    public void publish(CacheInvalidation invalidation) {
+        if (!clusterCacheProperties.isEnabled()) {
+            return;
+        }
+        log.debug("Publishing cache invalidation: {}", invalidation);
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null,
+                clusterCacheProperties.getChannel(), invalidation.toPayload(nodeId));
+    }
+
+
+    /**
+     * Publishes calendar invalidations for the location and attendees of a meeting.
+     *
+     * @param footprint The meeting footprint (before or after the change).
+     */
+    @Transactional
+    public void publishMeetingChange(MeetingFootprint footprint) {
+        if (footprint.locationId() != null) {
+            publish(new CacheInvalidation(CacheInvalidation.Kind.LOCATION_CALENDAR, footprint.locationId()));
+        }
+        footprint.attendeeIds().forEach(attendeeId ->
+                publish(new CacheInvalidation(CacheInvalidation.Kind.ATTENDEE_CALENDAR, attendeeId)));
+    }
+
+    // Returns the ID of this node (notifications sent by this node are ignored by its listener)
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,293 @@
+package com.truestayhere.meeting_scheduler.service;
+
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truestayhere.meeting_scheduler.config.ChangeStreamProperties;
+import com.truestayhere.meeting_scheduler.dto.response.CalendarChangeDTO;
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
+import com.truestayhere.meeting_scheduler.model.CalendarVersionKey;
+import com.truestayhere.meeting_scheduler.model.MeetingFootprint;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans out meeting changes to server-sent event subscribers of attendee and location calendars.
+ * Publishing only serializes the delta once and appends it to each subscriber's bounded buffer;
+ * a small sender pool writes the buffers to the connections, so slow clients never block MeetingService.
+ * A subscriber whose buffer overflows loses its pending deltas and receives a single RESYNC event instead.
+ * Changes made on other nodes arrive as calendar cache invalidations and are forwarded as RESYNC.
+ */
+@Component
+@Slf4j
+public class CalendarChangeBroadcaster implements DisposableBean {
+    static final String HEARTBEAT = "heartbeat";
+
+    private final ChangeStreamProperties changeStreamProperties;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService senderExecutor;
+    private final ScheduledExecutorService heartbeatScheduler;
+    private final Frame resyncFrame;
+
+    private final ConcurrentMap<CalendarVersionKey, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    public CalendarChangeBroadcaster(ChangeStreamProperties changeStreamProperties, ObjectMapper objectMapper) {
+        this.changeStreamProperties = changeStreamProperties;
+        this.objectMapper = objectMapper;
+        this.resyncFrame = toFrame(new CalendarChangeDTO(CalendarChangeDTO.Type.RESYNC, null, null))
+                .orElseThrow(() -> new IllegalStateException("Could not serialize the RESYNC event."));
+        this.senderExecutor = Executors.newFixedThreadPool(changeStreamProperties.getSenderThreads(), namedThreads("change-stream-sender"));
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(namedThreads("change-stream-heartbeat"));
+
+        long heartbeatMillis = changeStreamProperties.getHeartbeatInterval().toMillis();
+        heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // === SUBSCRIPTION METHODS ===
+
+    /**
+     * Opens a change stream for the calendar of a resource.
+     *
+     * @param resourceType The type of the resource.
+     * @param resourceId   The ID of the resource.
+     * @return The emitter streaming CalendarChangeDTO events.
+     */
+    public SseEmitter subscribe(ResourceType resourceType, Long resourceId) {
+        SseEmitter emitter = new SseEmitter(changeStreamProperties.getTimeout().toMillis());
+        register(new CalendarVersionKey(resourceType, resourceId), emitter);
+        return emitter;
+    }
+
+    /**
+     * Counts the open streams of a resource calendar.
+     *
+     * @param resourceType The type of the resource.
+     * @param resourceId   The ID of the resource.
+     * @return The number of subscribers.
+     */
+    public int getSubscriberCount(ResourceType resourceType, Long resourceId) {
+        return subscribers.getOrDefault(new CalendarVersionKey(resourceType, resourceId), Set.of()).size();
+    }
+
+    // Registers an emitter (package-private so tests can pass a recording emitter)
+    Subscriber register(CalendarVersionKey key, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(key, emitter, changeStreamProperties.getBufferSize(), resyncFrame);
+        subscribers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(error -> unregister(subscriber));
+
+        log.debug("Opened change stream for {} ID: {}", key.getResourceType(), key.getResourceId());
+        return subscriber;
+    }
+
+    // === END SUBSCRIPTION METHODS ===
+
+    // === EVENT LISTENERS ===
+
+    /**
+     * Pushes a committed meeting change to the subscribers of every affected calendar.
+     * Calendars the meeting left receive DELETED, all others CREATED or UPDATED.
+     *
+     * @param event The meeting change.
+     */
+    @TransactionalEventListener
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        Set<CalendarVersionKey> previousKeys = getKeys(event.previous());
+        Set<CalendarVersionKey> currentKeys = getKeys(event.current());
+        Long meetingId = event.current() != null ? event.current().meetingId() : event.previous().meetingId();
+
+        if (!currentKeys.isEmpty()) {
+            CalendarChangeDTO.Type type = event.previous() == null ? CalendarChangeDTO.Type.CREATED : CalendarChangeDTO.Type.UPDATED;
+            broadcast(currentKeys, new CalendarChangeDTO(type, meetingId, event.meeting()));
+        }
+
+        previousKeys.removeAll(currentKeys);
+        if (!previousKeys.isEmpty()) {
+            broadcast(previousKeys, new CalendarChangeDTO(CalendarChangeDTO.Type.DELETED, meetingId, null));
+        }
+    }
+
+    /**
+     * Forwards calendar changes made on other nodes as RESYNC (the delta itself is not transmitted between nodes).
+     *
+     * @param invalidation The cache invalidation received from another node.
+     */
+    @EventListener
+    public void onCacheInvalidation(CacheInvalidation invalidation) {
+        CalendarChangeDTO resync = new CalendarChangeDTO(CalendarChangeDTO.Type.RESYNC, null, null);
+        switch (invalidation.kind()) {
+            case ATTENDEE_CALENDAR ->
+                    broadcast(Set.of(new CalendarVersionKey(ResourceType.ATTENDEE, invalidation.resourceId())), resync);
+            case LOCATION_CALENDAR ->
+                    broadcast(Set.of(new CalendarVersionKey(ResourceType.LOCATION, invalidation.resourceId())), resync);
+            case ALL -> broadcast(subscribers.keySet(), resync);
+            default -> {
+                // Reference data changes are not part of the calendar streams
+            }
+        }
+    }
+
+    // === END EVENT LISTENERS ===
+
+    @Override
+    public void destroy() {
+        heartbeatScheduler.shutdownNow();
+        senderExecutor.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    // === HELPER METHODS ===
+
+    // Serializes the change once and queues it for every subscriber of the calendars
+    private void broadcast(Collection<CalendarVersionKey> keys, CalendarChangeDTO change) {
+        Optional<Frame> serialized = toFrame(change);
+        if (serialized.isEmpty()) {
+            return;
+        }
+
+        Frame frame = serialized.get();
+        for (CalendarVersionKey key : keys) {
+            for (Subscriber subscriber : subscribers.getOrDefault(key, Set.of())) {
+                subscriber.offer(frame);
+                scheduleDrain(subscriber);
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        Frame heartbeat = new Frame(HEARTBEAT, null);
+        subscribers.values().forEach(set -> set.forEach(subscriber -> {
+            subscriber.offer(heartbeat);
+            scheduleDrain(subscriber);
+        }));
+    }
+
+    // Submits a drain task unless one is already pending for the subscriber
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senderExecutor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    // Writes the buffered frames of a subscriber to its connection (runs on a sender thread)
+    private void drain(Subscriber subscriber) {
+        try {
+            Frame frame;
+            while ((frame = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(toEvent(frame));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away (or the emitter is already completed)
+            log.debug("Closing change stream for {} ID: {}: {}",
+                    subscriber.key.getResourceType(), subscriber.key.getResourceId(), e.getMessage());
+            unregister(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        // A frame offered after the last poll but before the flag was cleared must not be left behind
+        if (!subscriber.buffer.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private Optional<Frame> toFrame(CalendarChangeDTO change) {
+        try {
+            return Optional.of(new Frame(change.type().name(), objectMapper.writeValueAsString(change)));
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize calendar change {}", change, e);
+            return Optional.empty();
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(Frame frame) {
+        if (frame.data() == null) {
+            return SseEmitter.event().comment(frame.name());
+        }
+        return SseEmitter.event().name(frame.name()).data(frame.data());
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscriber.buffer.clear();
+        subscribers.computeIfPresent(subscriber.key, (key, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    // Returns the calendar keys occupied by a meeting footprint (empty for null)
+    private static Set<CalendarVersionKey> getKeys(MeetingFootprint footprint) {
+        Set<CalendarVersionKey> keys = new HashSet<>();
+        if (footprint == null) {
+            return keys;
+        }
+        if (footprint.locationId() != null) {
+            keys.add(new CalendarVersionKey(ResourceType.LOCATION, footprint.locationId()));
+        }
+        footprint.attendeeIds().forEach(attendeeId -> keys.add(new CalendarVersionKey(ResourceType.ATTENDEE, attendeeId)));
+        return keys;
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // === END HELPER METHODS ===
+
+    // A serialized event (data is null for comments such as heartbeats)
+    record Frame(String name, String data) {
+    }
+
+    // Open stream with its bounded buffer of pending frames
+    static final class Subscriber {
+        private final CalendarVersionKey key;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Frame> buffer;
+        private final Frame resyncFrame;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(CalendarVersionKey key, SseEmitter emitter, int bufferSize, Frame resyncFrame) {
+            this.key = key;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+            this.resyncFrame = resyncFrame;
+        }
+
+        // Never blocks: on overflow the pending frames are replaced by a single RESYNC
+        synchronized void offer(Frame frame) {
+            if (!buffer.offer(frame)) {
+                buffer.clear();
+                buffer.offer(resyncFrame);
+            }
+        }
+
+        int getBufferedCount() {
+            return buffer.size();
+        }
+    }
+}
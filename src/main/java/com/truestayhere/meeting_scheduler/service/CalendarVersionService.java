@@ -0,0 +1,138 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.CalendarVersion;
+import com.truestayhere.meeting_scheduler.model.CalendarVersionKey;
+import com.truestayhere.meeting_scheduler.model.MeetingFootprint;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.repository.CalendarVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.TreeSet;
+
+/**
+ * Maintains a revision counter per attendee/location calendar.
+ * Counters are bumped in the same transaction as the meeting (or resource) write,
+ * and serve as strong ETags for calendar reads (availability, meetings by resource),
+ * so polling clients get 304 Not Modified after a single primary-key lookup.
+ * A resource that never had a calendar write has revision 0.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class CalendarVersionService {
+    private static final Comparator<CalendarVersionKey> KEY_ORDER = Comparator
+            .comparing(CalendarVersionKey::getResourceType)
+            .thenComparing(CalendarVersionKey::getResourceId);
+
+    private final CalendarVersionRepository calendarVersionRepository;
+
+    // === READ METHODS ===
+
+    /**
+     * Finds the current calendar revision of a resource.
+     *
+     * @param resourceType The type of the resource.
+     * @param resourceId   The ID of the resource.
+     * @return The revision, 0 if the calendar was never written.
+     */
+    public long getRevision(ResourceType resourceType, Long resourceId) {
+        return calendarVersionRepository.findById(new CalendarVersionKey(resourceType, resourceId))
+                .map(CalendarVersion::getRevision)
+                .orElse(0L);
+    }
+
+    /**
+     * Builds the ETag value of a calendar revision.
+     *
+     * @param resourceType The type of the resource.
+     * @param resourceId   The ID of the resource.
+     * @param revision     The calendar revision.
+     * @return The ETag value (without quotes).
+     */
+    public static String toETag(ResourceType resourceType, Long resourceId, long revision) {
+        return resourceType.name().toLowerCase() + "-" + resourceId + "-" + revision;
+    }
+
+    // === END READ METHODS ===
+
+    // === WRITE METHODS ===
+
+    /**
+     * Bumps the calendars of every location and attendee occupied by the meeting footprints
+     * (each calendar once, even if it appears in several footprints).
+     *
+     * @param footprints Footprints of the meeting before and/or after the write.
+     */
+    @Transactional
+    public void bumpMeetingChange(MeetingFootprint... footprints) {
+        // Upsert rows in a fixed order so concurrent meeting writes can not deadlock
+        TreeSet<CalendarVersionKey> keys = new TreeSet<>(KEY_ORDER);
+        for (MeetingFootprint footprint : footprints) {
+            if (footprint.locationId() != null) {
+                keys.add(new CalendarVersionKey(ResourceType.LOCATION, footprint.locationId()));
+            }
+            footprint.attendeeIds().forEach(attendeeId -> keys.add(new CalendarVersionKey(ResourceType.ATTENDEE, attendeeId)));
+        }
+        keys.forEach(this::bump);
+    }
+
+    /**
+     * Bumps the calendar of a single resource (e.g. after its working hours changed).
+     *
+     * @param resourceType The type of the resource.
+     * @param resourceId   The ID of the resource.
+     */
+    @Transactional
+    public void bump(ResourceType resourceType, Long resourceId) {
+        bump(new CalendarVersionKey(resourceType, resourceId));
+    }
+
+    /**
+     * Bumps the calendars of several resources of the same type (e.g. after a global holiday changed).
+     *
+     * @param resourceType The type of the resources.
+     * @param resourceIds  The IDs of the resources.
+     */
+    @Transactional
+    public void bumpAll(ResourceType resourceType, Collection<Long> resourceIds) {
+        // Same lock order as bumpMeetingChange
+        new TreeSet<>(resourceIds).forEach(resourceId -> bump(new CalendarVersionKey(resourceType, resourceId)));
+    }
+
+    /**
+     * Bumps the calendar of a resource together with the calendars whose meeting lists show it
+     * (e.g. after a rename: meetings embed the names of their location and attendees).
+     *
+     * @param resourceType The type of the changed resource.
+     * @param resourceId   The ID of the changed resource.
+     * @param attendeeIds  The attendees sharing meetings with the resource.
+     * @param locationIds  The locations of the meetings of the resource.
+     */
+    @Transactional
+    public void bumpWithSharedCalendars(ResourceType resourceType, Long resourceId, Collection<Long> attendeeIds, Collection<Long> locationIds) {
+        // Same lock order as bumpMeetingChange
+        TreeSet<CalendarVersionKey> keys = new TreeSet<>(KEY_ORDER);
+        keys.add(new CalendarVersionKey(resourceType, resourceId));
+        attendeeIds.forEach(attendeeId -> keys.add(new CalendarVersionKey(ResourceType.ATTENDEE, attendeeId)));
+        locationIds.forEach(locationId -> keys.add(new CalendarVersionKey(ResourceType.LOCATION, locationId)));
+        keys.forEach(this::bump);
+    }
+
+    // === END WRITE METHODS ===
+
+    // === HELPER METHODS ===
+
+    private void bump(CalendarVersionKey key) {
+        // Upsert: the first write of the calendar creates revision 1, later writes increment it (row stays locked until commit)
+        calendarVersionRepository.incrementRevision(key.getResourceType().name(), key.getResourceId());
+        log.trace("Bumped calendar version of {} ID: {}", key.getResourceType(), key.getResourceId());
+    }
+
+    // === END HELPER METHODS ===
+}
@@ -4,10 +4,12 @@ package com.truestayhere.meeting_scheduler.service;
 import com.truestayhere.meeting_scheduler.model.Attendee;
 import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -17,7 +19,8 @@ import java.util.Collections;
 
 @Service
 @RequiredArgsConstructor
-public class JpaUserDetailsService implements UserDetailsService {
+@Slf4j
+public class JpaUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final AttendeeRepository attendeeRepository;
 
@@ -29,6 +32,24 @@ public class JpaUserDetailsService implements UserDetailsService {
         Attendee attendee = attendeeRepository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
 
+        return toUserDetails(attendee);
+    }
+
+    // Called by Spring Security after a successful login when the stored hash uses an outdated algorithm or strength
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Attendee attendee = attendeeRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + user.getUsername()));
+
+        attendee.setPassword(newPassword);
+        log.info("Upgraded password hash for user: {}", attendee.getEmail());
+
+        return toUserDetails(attendee);
+    }
+
+    // Accepts Attendee, returns Spring Security User object
+    private UserDetails toUserDetails(Attendee attendee) {
         // Convert an Attendee role to Spring Security GrantedAuthority
         GrantedAuthority authority = new SimpleGrantedAuthority(attendee.getRole().getValue());
 
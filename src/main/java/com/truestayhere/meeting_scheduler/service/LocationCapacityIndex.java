@@ -0,0 +1,86 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.Location;
+import com.truestayhere.meeting_scheduler.model.LocationFeature;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable snapshot of all locations sorted by capacity (ascending, then by ID).
+ * Answers "capacity >= N" queries with a binary search and returns rooms ordered smallest-fit first.
+ * Required features are matched with a bitwise test against the feature masks kept next to the capacities.
+ * Instances are cached by ReferenceDataService and rebuilt after location writes.
+ */
+public final class LocationCapacityIndex {
+    private final int[] capacities;
+    private final long[] featureMasks;
+    private final List<Location> locations;
+
+    private LocationCapacityIndex(List<Location> sortedLocations) {
+        this.locations = sortedLocations;
+        this.capacities = sortedLocations.stream().mapToInt(Location::getCapacity).toArray();
+        this.featureMasks = sortedLocations.stream().mapToLong(Location::getFeatureMask).toArray();
+    }
+
+    /**
+     * Builds an index over the given locations.
+     *
+     * @param locations The locations to index.
+     * @return The capacity index.
+     */
+    public static LocationCapacityIndex of(Collection<Location> locations) {
+        List<Location> sorted = locations.stream()
+                .sorted(Comparator.comparing(Location::getCapacity).thenComparing(Location::getId))
+                .toList();
+        return new LocationCapacityIndex(sorted);
+    }
+
+    /**
+     * Finds locations that can hold at least the given number of people.
+     *
+     * @param minCapacity The minimum capacity.
+     * @return Matching locations ordered by capacity ascending (smallest fit first).
+     */
+    public List<Location> findByCapacityMin(int minCapacity) {
+        return locations.subList(lowerBound(minCapacity), locations.size());
+    }
+
+    /**
+     * Finds locations that can hold at least the given number of people and have all required features.
+     *
+     * @param minCapacity      The minimum capacity.
+     * @param requiredFeatures Bitmask of the required LocationFeatures (0 matches every location).
+     * @return Matching locations ordered by capacity ascending (smallest fit first).
+     */
+    public List<Location> findByCapacityMinAndFeatures(int minCapacity, long requiredFeatures) {
+        int from = lowerBound(minCapacity);
+        if (requiredFeatures == 0L) {
+            return locations.subList(from, locations.size());
+        }
+        List<Location> matching = new ArrayList<>();
+        for (int i = from; i < featureMasks.length; i++) {
+            if (LocationFeature.hasAll(featureMasks[i], requiredFeatures)) {
+                matching.add(locations.get(i));
+            }
+        }
+        return matching;
+    }
+
+    // Returns the index of the first capacity equal or greater than provided (capacities.length if none)
+    private int lowerBound(int minCapacity) {
+        int low = 0;
+        int high = capacities.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (capacities[mid] < minCapacity) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
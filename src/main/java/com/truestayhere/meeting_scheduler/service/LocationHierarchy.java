@@ -0,0 +1,51 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.Location;
+import com.truestayhere.meeting_scheduler.model.LocationNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the location hierarchy (site > building > floor).
+ * Maps every node to the locations of its subtree, so node summaries can be checked
+ * without touching the locations one by one.
+ * Instances are cached by ReferenceDataService and rebuilt after location writes.
+ */
+public final class LocationHierarchy {
+    private final Map<LocationNode, List<Location>> locationsByNode;
+
+    private LocationHierarchy(Map<LocationNode, List<Location>> locationsByNode) {
+        this.locationsByNode = locationsByNode;
+    }
+
+    /**
+     * Builds the hierarchy over the given locations.
+     *
+     * @param locations The locations to organize.
+     * @return The location hierarchy.
+     */
+    public static LocationHierarchy of(Collection<Location> locations) {
+        Map<LocationNode, List<Location>> locationsByNode = new HashMap<>();
+        for (Location location : locations) {
+            for (LocationNode node : LocationNode.of(location)) {
+                locationsByNode.computeIfAbsent(node, key -> new ArrayList<>()).add(location);
+            }
+        }
+        locationsByNode.replaceAll((node, nodeLocations) -> List.copyOf(nodeLocations));
+        return new LocationHierarchy(Map.copyOf(locationsByNode));
+    }
+
+    /**
+     * Finds the locations in the subtree of a node.
+     *
+     * @param node The hierarchy node.
+     * @return The locations of the node and its descendants (empty if the node is unknown).
+     */
+    public List<Location> findLocations(LocationNode node) {
+        return locationsByNode.getOrDefault(node, List.of());
+    }
+}
@@ -2,11 +2,18 @@ package com.truestayhere.meeting_scheduler.service;
 
 import com.truestayhere.meeting_scheduler.dto.request.CreateLocationRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.UpdateLocationRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.WorkingScheduleRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.response.LocationDTO;
+import com.truestayhere.meeting_scheduler.dto.response.WorkingSegmentDTO;
 import com.truestayhere.meeting_scheduler.exception.ResourceInUseException;
 import com.truestayhere.meeting_scheduler.mapper.LocationMapper;
+import com.truestayhere.meeting_scheduler.mapper.WorkingScheduleMapper;
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
 import com.truestayhere.meeting_scheduler.model.Location;
+import com.truestayhere.meeting_scheduler.model.LocationNode;
 import com.truestayhere.meeting_scheduler.model.Meeting;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.model.WorkingHours;
 import com.truestayhere.meeting_scheduler.repository.LocationRepository;
 import com.truestayhere.meeting_scheduler.repository.MeetingRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -27,6 +34,11 @@ public class LocationService {
     private final LocationRepository locationRepository;
     private final MeetingRepository meetingRepository;
     private final LocationMapper locationMapper;
+    private final ReferenceDataService referenceDataService;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final CalendarVersionService calendarVersionService;
+    private final WorkingScheduleMapper workingScheduleMapper;
+    private final LocationUsageService locationUsageService;
 
 
     // === CRUD METHODS ===
@@ -54,6 +66,11 @@ public class LocationService {
 
         Location savedLocation = locationRepository.save(newLocation);
 
+        // --- Evict Cached Location Lists ---
+
+        referenceDataService.evictLocation(savedLocation.getId());
+        cacheInvalidationPublisher.publish(CacheInvalidation.location(savedLocation.getId()));
+
         log.info("Successfully created location with ID: {}", savedLocation.getId());
         return locationMapper.mapToLocationDTO(savedLocation);
     }
@@ -103,12 +120,36 @@ public class LocationService {
 
         // --- Update the Location ---
 
+        List<LocationNode> previousNodes = LocationNode.of(existingLocation);
+        WorkingHours previousWorkingHours = WorkingHours.of(existingLocation);
+        LocationDTO previousLocationDTO = locationMapper.mapToLocationDTO(existingLocation);
+
         locationMapper.updateLocationFromDto(requestDTO, existingLocation);
+        LocationDTO updatedLocationDTO = locationMapper.mapToLocationDTO(existingLocation);
+
+        // Booked minutes of the hierarchy nodes depend on the node and the working hours of the location
+        if (!previousNodes.equals(LocationNode.of(existingLocation)) || !previousWorkingHours.equals(WorkingHours.of(existingLocation))) {
+            locationUsageService.invalidateLocation(previousNodes, existingLocation);
+        }
+
+        // --- Evict Cached Location ---
+
+        referenceDataService.evictLocation(id);
+        cacheInvalidationPublisher.publish(CacheInvalidation.location(id));
+
+        // --- Bump Calendars ---
+
+        // Meeting lists of the attendees embed the location (name, capacity, ...), their ETags must change with it
+        if (!previousLocationDTO.equals(updatedLocationDTO)) {
+            calendarVersionService.bumpWithSharedCalendars(ResourceType.LOCATION, id, meetingRepository.findAttendeeIdsByLocationId(id), List.of());
+        } else {
+            calendarVersionService.bump(ResourceType.LOCATION, id);
+        }
 
         // --- Return Updated Location ---
 
         log.info("Successfully updated location with ID: {}", existingLocation.getId());
-        return locationMapper.mapToLocationDTO(existingLocation);
+        return updatedLocationDTO;
     }
 
 
@@ -130,10 +171,52 @@ public class LocationService {
 
         // --- Delete the location ---
         locationRepository.deleteById(id);
+        referenceDataService.evictLocation(id);
+        cacheInvalidationPublisher.publish(CacheInvalidation.location(id));
+        calendarVersionService.bump(ResourceType.LOCATION, id);
         log.info("Successfully deleted location with ID: {}", id);
     }
 
 
+    /**
+     * Finds the weekly working schedule of a location.
+     *
+     * @param id The ID of the location.
+     * @return The working segments ordered by day of week and start time (empty if the daily working hours apply).
+     */
+    public List<WorkingSegmentDTO> getLocationWorkingSchedule(Long id) {
+        return workingScheduleMapper.mapToWorkingSegmentDTOList(findLocationEntityById(id).getWorkingSegments());
+    }
+
+
+    /**
+     * Replaces the weekly working schedule of a location.
+     * Segments replace the daily working hours; an empty schedule restores them.
+     *
+     * @param id         The ID of the location.
+     * @param requestDTO The WorkingScheduleRequestDTO with the new segments.
+     * @return The stored working segments.
+     */
+    @Transactional
+    public List<WorkingSegmentDTO> updateLocationWorkingSchedule(Long id, WorkingScheduleRequestDTO requestDTO) {
+        log.debug("Attempting to update working schedule of location with ID: {}", id);
+
+        Location existingLocation = findLocationEntityById(id);
+        existingLocation.getWorkingSegments().clear();
+        existingLocation.getWorkingSegments().addAll(workingScheduleMapper.mapToWorkingSegments(requestDTO.segments()));
+        locationUsageService.invalidateLocation(LocationNode.of(existingLocation), existingLocation);
+
+        // --- Evict Cached Working Hours ---
+
+        referenceDataService.evictLocation(id);
+        cacheInvalidationPublisher.publish(CacheInvalidation.location(id));
+        calendarVersionService.bump(ResourceType.LOCATION, id);
+
+        log.info("Successfully updated working schedule of location with ID: {} ({} segments)", id, requestDTO.segments().size());
+        return workingScheduleMapper.mapToWorkingSegmentDTOList(existingLocation.getWorkingSegments());
+    }
+
+
     // === HELPER METHODS ===
 
 
@@ -0,0 +1,247 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.*;
+import com.truestayhere.meeting_scheduler.repository.LocationNodeUsageRepository;
+import com.truestayhere.meeting_scheduler.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Maintains the location_node_usage materialization: minutes booked per node of the location hierarchy
+ * (site > building > floor) per working day. Rows are updated incrementally by MeetingService on every meeting write
+ * and let the suggestion search skip whole subtrees that have no free time left, without evaluating their rooms.
+ * <p>
+ * Booked minutes are counted within the working hours of each location (time off is not subtracted), so
+ * free minutes = working minutes of the node's locations - booked minutes is an upper bound of the free time
+ * of the node: a node with less free minutes than the meeting duration has no room with a long enough gap.
+ * A missing row means the node-day was never materialized (or was invalidated by a location change) -
+ * such nodes are never pruned, the row is rebuilt from the meetings table on the next meeting write.
+ * Rows are changed by single UPDATE / INSERT ... ON CONFLICT statements, so concurrent bookings in rooms of the same
+ * site never conflict on the shared site and building rows.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class LocationUsageService {
+    private final LocationNodeUsageRepository locationNodeUsageRepository;
+    private final MeetingRepository meetingRepository;
+    private final ReferenceDataService referenceDataService;
+
+    // === READ METHODS ===
+
+    /**
+     * Removes the locations of fully booked hierarchy nodes (less free minutes than the duration) on a working day.
+     *
+     * @param locations       The candidate locations.
+     * @param date            The working day of the locations.
+     * @param durationMinutes The duration of the meeting.
+     * @return The locations outside fully booked nodes, in the given order.
+     */
+    public List<Location> pruneFullyBookedNodes(List<Location> locations, LocalDate date, int durationMinutes) {
+        return pruneFullyBookedNodes(locations, List.of(date), durationMinutes).get(date);
+    }
+
+    /**
+     * Removes the locations of fully booked hierarchy nodes (less free minutes than the duration) on each working day.
+     * The node summaries of all days are read with one primary-key lookup.
+     *
+     * @param locations       The candidate locations.
+     * @param days            The working days of the locations.
+     * @param durationMinutes The duration of the meeting.
+     * @return The locations outside fully booked nodes per day, in the given order.
+     */
+    public Map<LocalDate, List<Location>> pruneFullyBookedNodes(List<Location> locations, List<LocalDate> days, int durationMinutes) {
+        Map<LocalDate, List<Location>> locationsByDay = new LinkedHashMap<>();
+        days.forEach(day -> locationsByDay.put(day, locations));
+
+        Map<Location, List<LocationNode>> nodesByLocation = new LinkedHashMap<>();
+        Map<LocationNodeDayKey, LocationNode> nodesByKey = new HashMap<>();
+        for (Location location : locations) {
+            List<LocationNode> nodes = LocationNode.of(location);
+            nodesByLocation.put(location, nodes);
+            for (LocationNode node : nodes) {
+                days.forEach(day -> nodesByKey.put(new LocationNodeDayKey(node.key(), day), node));
+            }
+        }
+        if (nodesByKey.isEmpty()) {
+            return locationsByDay;
+        }
+
+        LocationHierarchy hierarchy = referenceDataService.findLocationHierarchy();
+        Map<LocalDate, Set<LocationNode>> fullyBookedNodesByDay = new HashMap<>();
+        for (LocationNodeUsage usage : locationNodeUsageRepository.findAllById(nodesByKey.keySet())) {
+            LocationNode node = nodesByKey.get(usage.getId());
+            LocalDate day = usage.getId().getDay();
+            long workingMinutes = hierarchy.findLocations(node).stream()
+                    .mapToLong(location -> getWorkingMinutes(location, day))
+                    .sum();
+            if (workingMinutes - usage.getBookedMinutes() < durationMinutes) {
+                fullyBookedNodesByDay.computeIfAbsent(day, key -> new HashSet<>()).add(node);
+            }
+        }
+
+        fullyBookedNodesByDay.forEach((day, fullyBookedNodes) -> {
+            List<Location> remainingLocations = nodesByLocation.entrySet().stream()
+                    .filter(entry -> entry.getValue().stream().noneMatch(fullyBookedNodes::contains))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            log.debug("Pruned {} location(s) in {} fully booked node(s) on {}: {}",
+                    locations.size() - remainingLocations.size(), fullyBookedNodes.size(), day, fullyBookedNodes);
+            locationsByDay.put(day, remainingLocations);
+        });
+        return locationsByDay;
+    }
+
+    // === END READ METHODS ===
+
+    // === MAINTENANCE METHODS ===
+
+    /**
+     * Adds a newly created or updated meeting to the usage of the nodes containing its location.
+     *
+     * @param footprint The footprint of the saved meeting.
+     */
+    @Transactional
+    public void recordMeeting(MeetingFootprint footprint) {
+        Location location = findLocation(footprint);
+        if (location == null) {
+            return;
+        }
+        getBookedMinutesByDay(location, footprint.startTime(), footprint.endTime()).forEach((day, minutes) -> {
+            for (LocationNode node : LocationNode.of(location)) {
+                if (locationNodeUsageRepository.addBookedMinutes(node.key(), day, minutes) > 0) {
+                    log.trace("Added {} minutes of meeting ID: {} to node usage {} on {}", minutes, footprint.meetingId(), node.key(), day);
+                    continue;
+                }
+                // The node-day was never materialized - build it from the meetings table (includes the current meeting)
+                LocationNodeUsage row = rebuildNodeDay(node, day);
+                if (locationNodeUsageRepository.insertIfAbsent(node.key(), day, row.getBookedMinutes()) == 0) {
+                    // A concurrent write inserted the row first, its rebuild could not see the current (uncommitted) meeting
+                    locationNodeUsageRepository.addBookedMinutes(node.key(), day, minutes);
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes a meeting from the usage of the nodes containing its location.
+     * Must be called with the footprint taken before the meeting was modified or deleted.
+     *
+     * @param footprint The previous footprint of the meeting.
+     */
+    @Transactional
+    public void removeMeeting(MeetingFootprint footprint) {
+        Location location = findLocation(footprint);
+        if (location == null) {
+            return;
+        }
+        getBookedMinutesByDay(location, footprint.startTime(), footprint.endTime()).forEach((day, minutes) -> {
+            for (LocationNode node : LocationNode.of(location)) {
+                // Node-days that were never materialized have nothing to subtract from
+                if (locationNodeUsageRepository.subtractBookedMinutes(node.key(), day, minutes) > 0) {
+                    log.trace("Removed {} minutes of meeting ID: {} from node usage {} on {}", minutes, footprint.meetingId(), node.key(), day);
+                }
+            }
+        });
+    }
+
+    /**
+     * Drops the usage of the nodes a location belonged to before and belongs to after a change of its
+     * hierarchy position or working hours (booked minutes depend on both). The rows are rebuilt on the next meeting write.
+     *
+     * @param previousNodes The nodes of the location before the change.
+     * @param location      The changed location.
+     */
+    @Transactional
+    public void invalidateLocation(List<LocationNode> previousNodes, Location location) {
+        Set<String> nodeKeys = new HashSet<>();
+        previousNodes.forEach(node -> nodeKeys.add(node.key()));
+        LocationNode.of(location).forEach(node -> nodeKeys.add(node.key()));
+        if (nodeKeys.isEmpty()) {
+            return;
+        }
+        int deletedRows = locationNodeUsageRepository.deleteByNodeKeyIn(nodeKeys);
+        log.debug("Invalidated {} node usage row(s) of nodes {} after a change of location ID: {}", deletedRows, nodeKeys, location.getId());
+    }
+
+    // === END MAINTENANCE METHODS ===
+
+    // === HELPER METHODS ===
+
+    // Accepts footprint, returns its location (cached, read-only) or null if the meeting has no location in the hierarchy
+    private Location findLocation(MeetingFootprint footprint) {
+        if (footprint.locationId() == null) {
+            return null;
+        }
+        return referenceDataService.findLocationById(footprint.locationId())
+                .filter(location -> !LocationNode.of(location).isEmpty())
+                .orElse(null);
+    }
+
+    // Builds a node-day row from the meetings of all locations of the node
+    private LocationNodeUsage rebuildNodeDay(LocationNode node, LocalDate day) {
+        Map<Long, Location> locationsById = new HashMap<>();
+        LocalDateTime rangeStart = null;
+        LocalDateTime rangeEnd = null;
+        for (Location location : referenceDataService.findLocationHierarchy().findLocations(node)) {
+            locationsById.put(location.getId(), location);
+            for (WorkingWindow window : WorkingHours.of(location).windowsOn(day)) {
+                rangeStart = rangeStart == null || window.start().isBefore(rangeStart) ? window.start() : rangeStart;
+                rangeEnd = rangeEnd == null || window.end().isAfter(rangeEnd) ? window.end() : rangeEnd;
+            }
+        }
+
+        long bookedMinutes = 0;
+        if (rangeStart != null) {
+            for (Meeting meeting : meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(locationsById.keySet(), rangeEnd, rangeStart)) {
+                bookedMinutes += getBookedMinutes(locationsById.get(meeting.getLocation().getId()), meeting.getStartTime(), meeting.getEndTime(), day);
+            }
+        }
+        log.debug("Materialized node usage {} on {} with {} booked minute(s)", node.key(), day, bookedMinutes);
+        return new LocationNodeUsage(new LocationNodeDayKey(node.key(), day), bookedMinutes);
+    }
+
+    // Returns the minutes of the interval within the location's working hours, per working day (days without overlap are left out)
+    private Map<LocalDate, Long> getBookedMinutesByDay(Location location, LocalDateTime start, LocalDateTime end) {
+        Map<LocalDate, Long> minutesByDay = new LinkedHashMap<>();
+        // Working windows are in UTC, a working day of a location can start on the previous or end on the next UTC day
+        LocalDate lastDay = end.toLocalDate().plusDays(1);
+        for (LocalDate day = start.toLocalDate().minusDays(1); !day.isAfter(lastDay); day = day.plusDays(1)) {
+            long minutes = getBookedMinutes(location, start, end, day);
+            if (minutes > 0) {
+                minutesByDay.put(day, minutes);
+            }
+        }
+        return minutesByDay;
+    }
+
+    // Returns the minutes of the interval within the location's working windows of the day
+    private long getBookedMinutes(Location location, LocalDateTime start, LocalDateTime end, LocalDate day) {
+        long minutes = 0;
+        for (WorkingWindow window : WorkingHours.of(location).windowsOn(day)) {
+            LocalDateTime overlapStart = start.isAfter(window.start()) ? start : window.start();
+            LocalDateTime overlapEnd = end.isBefore(window.end()) ? end : window.end();
+            if (overlapStart.isBefore(overlapEnd)) {
+                minutes += Duration.between(overlapStart, overlapEnd).toMinutes();
+            }
+        }
+        return minutes;
+    }
+
+    // Returns the working minutes of the location on the day (time off is not subtracted)
+    private long getWorkingMinutes(Location location, LocalDate day) {
+        return WorkingHours.of(location).windowsOn(day).stream()
+                .mapToLong(window -> Duration.between(window.start(), window.end()).toMinutes())
+                .sum();
+    }
+
+    // === END HELPER METHODS ===
+}
@@ -0,0 +1,30 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.dto.response.MeetingDTO;
+import com.truestayhere.meeting_scheduler.model.MeetingFootprint;
+
+/**
+ * Application event published by MeetingService on every meeting write.
+ *
+ * @param previous Footprint before the write (null for a created meeting).
+ * @param current  Footprint after the write (null for a deleted meeting).
+ * @param meeting  The meeting after the write (null for a deleted meeting).
+ */
+public record MeetingChangedEvent(
+        MeetingFootprint previous,
+        MeetingFootprint current,
+        MeetingDTO meeting
+) {
+
+    public static MeetingChangedEvent created(MeetingFootprint current, MeetingDTO meeting) {
+        return new MeetingChangedEvent(null, current, meeting);
+    }
+
+    public static MeetingChangedEvent updated(MeetingFootprint previous, MeetingFootprint current, MeetingDTO meeting) {
+        return new MeetingChangedEvent(previous, current, meeting);
+    }
+
+    public static MeetingChangedEvent deleted(MeetingFootprint previous) {
+        return new MeetingChangedEvent(previous, null, null);
+    }
+}
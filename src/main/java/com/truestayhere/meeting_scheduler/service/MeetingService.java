@@ -9,20 +9,29 @@ import com.truestayhere.meeting_scheduler.mapper.MeetingMapper;
 import com.truestayhere.meeting_scheduler.model.Attendee;
 import com.truestayhere.meeting_scheduler.model.Location;
 import com.truestayhere.meeting_scheduler.model.Meeting;
+import com.truestayhere.meeting_scheduler.model.MeetingFootprint;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.model.TimeOff;
+import com.truestayhere.meeting_scheduler.model.WorkingHours;
+import com.truestayhere.meeting_scheduler.model.WorkingWindow;
 import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
 import com.truestayhere.meeting_scheduler.repository.LocationRepository;
 import com.truestayhere.meeting_scheduler.repository.MeetingRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -33,13 +42,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MeetingService {
     // Default working hours
-    private static final LocalTime DEFAULT_WORKING_START_TIME = LocalTime.of(9, 0);
-    private static final LocalTime DEFAULT_WORKING_END_TIME = LocalTime.of(17, 0);
     private final MeetingRepository meetingRepository;
     private final LocationRepository locationRepository;
     private final AttendeeRepository attendeeRepository;
     private final MeetingMapper meetingMapper;
     private final LocationMapper locationMapper;
+    private final BusyCalendarService busyCalendarService;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final CalendarVersionService calendarVersionService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TimeOffService timeOffService;
+    private final ReferenceDataService referenceDataService;
+    private final LocationUsageService locationUsageService;
 
     // === CRUD METHODS ===
 
@@ -71,8 +85,8 @@ public class MeetingService {
         // --- Conflict/Overlap Check ---
 
         log.debug("Performing conflict checks before creating meeting.");
-        checkLocationConflict(requestDTO.locationId(), requestDTO.startTime(), requestDTO.endTime(), null);
-        checkAttendeeConflicts(requestDTO.attendeeIds(), requestDTO.startTime(), requestDTO.endTime(), null);
+        checkLocationConflict(location, requestDTO.startTime(), requestDTO.endTime(), null);
+        checkAttendeeConflicts(requestDTO.attendeeIds(), location, requestDTO.startTime(), requestDTO.endTime(), null);
         log.debug("Conflict checks passed");
 
         // --- Working Hours Check ---
@@ -80,6 +94,7 @@ public class MeetingService {
         log.debug("Checking if meeting time is within location and attendees working hours.");
         checkMeetingWithinLocationWorkingHours(location, requestDTO.startTime(), requestDTO.endTime());
         checkMeetingWithinAttendeesWorkingHours(attendees, requestDTO.startTime(), requestDTO.endTime());
+        checkMeetingOutsideTimeOff(location, attendees, requestDTO.startTime(), requestDTO.endTime());
         log.debug("Working hours checks passed");
 
         // --- Capacity Check ---
@@ -103,8 +118,18 @@ public class MeetingService {
 
         Meeting savedMeeting = meetingRepository.save(newMeeting);
 
+        // --- Update Busy Calendars and Hierarchy Usage ---
+
+        busyCalendarService.recordMeeting(savedMeeting);
+        MeetingFootprint footprint = MeetingFootprint.of(savedMeeting);
+        locationUsageService.recordMeeting(footprint);
+        cacheInvalidationPublisher.publishMeetingChange(footprint);
+        calendarVersionService.bumpMeetingChange(footprint);
+
         log.info("Successfully created meeting with ID: {}", savedMeeting.getId());
-        return meetingMapper.mapToMeetingDTO(savedMeeting);
+        MeetingDTO createdMeeting = meetingMapper.mapToMeetingDTO(savedMeeting);
+        applicationEventPublisher.publishEvent(MeetingChangedEvent.created(footprint, createdMeeting)); // Streamed after commit
+        return createdMeeting;
     }
 
     /**
@@ -176,8 +201,8 @@ public class MeetingService {
         // --- Conflict/Overlap Check ---
 
         log.debug("Performing conflict checks before updating meeting ID: {}", id);
-        checkLocationConflict(effectiveLocationId, effectiveStartTime, effectiveEndTime, id);
-        checkAttendeeConflicts(effectiveAttendeeIds, effectiveStartTime, effectiveEndTime, id);
+        checkLocationConflict(location, effectiveStartTime, effectiveEndTime, id);
+        checkAttendeeConflicts(effectiveAttendeeIds, location, effectiveStartTime, effectiveEndTime, id);
         log.debug("Conflict checks passed for update");
 
         // --- Working Hours Check ---
@@ -185,6 +210,7 @@ public class MeetingService {
         log.debug("Checking if updated meeting time is within location and attendees working hours.");
         checkMeetingWithinLocationWorkingHours(location, effectiveStartTime, effectiveEndTime);
         checkMeetingWithinAttendeesWorkingHours(attendees, effectiveStartTime, effectiveEndTime);
+        checkMeetingOutsideTimeOff(location, attendees, effectiveStartTime, effectiveEndTime);
         log.debug("Update working hours checks passed");
 
         // --- Capacity Check ---
@@ -195,6 +221,8 @@ public class MeetingService {
 
         // --- Updating Meeting ---
 
+        MeetingFootprint previousFootprint = MeetingFootprint.of(existingMeeting);
+
         if (requestDTO.title() != null) existingMeeting.setTitle(requestDTO.title());
         if (requestDTO.startTime() != null) existingMeeting.setStartTime(requestDTO.startTime());
         if (requestDTO.endTime() != null) existingMeeting.setEndTime(requestDTO.endTime());
@@ -208,9 +236,21 @@ public class MeetingService {
             throw new IllegalArgumentException("Start time must be before end time.");
         }
 
+        // --- Update Busy Calendars and Hierarchy Usage ---
+
+        busyCalendarService.replaceMeeting(previousFootprint, existingMeeting);
+        MeetingFootprint currentFootprint = MeetingFootprint.of(existingMeeting);
+        locationUsageService.removeMeeting(previousFootprint);
+        locationUsageService.recordMeeting(currentFootprint);
+        cacheInvalidationPublisher.publishMeetingChange(previousFootprint);
+        cacheInvalidationPublisher.publishMeetingChange(currentFootprint);
+        calendarVersionService.bumpMeetingChange(previousFootprint, currentFootprint);
+
         // --- Return the Updated Meeting ---
         log.info("Successfully updated meeting with ID: {}", existingMeeting.getId());
-        return meetingMapper.mapToMeetingDTO(existingMeeting);
+        MeetingDTO updatedMeeting = meetingMapper.mapToMeetingDTO(existingMeeting);
+        applicationEventPublisher.publishEvent(MeetingChangedEvent.updated(previousFootprint, currentFootprint, updatedMeeting));
+        return updatedMeeting;
     }
 
     /**
@@ -226,6 +266,12 @@ public class MeetingService {
             throw new EntityNotFoundException("Meeting not found with ID: " + id);
         }
 
+        busyCalendarService.removeMeeting(id).ifPresent(footprint -> {
+            locationUsageService.removeMeeting(footprint);
+            cacheInvalidationPublisher.publishMeetingChange(footprint);
+            calendarVersionService.bumpMeetingChange(footprint);
+            applicationEventPublisher.publishEvent(MeetingChangedEvent.deleted(footprint));
+        });
         meetingRepository.deleteById(id);
         log.info("Successfully deleted meeting with ID: {}", id);
     }
@@ -268,12 +314,15 @@ public class MeetingService {
     // -- Validation Methods ---
 
 
-    // Location Conflict Check (meeting overlap) - Accepts ID, LocalDateTime, throws MeetingConflictException
-    private void checkLocationConflict(Long locationId, LocalDateTime startTime, LocalDateTime endTime, Long meetingIdToExclude) {
-        log.debug("Checking location conflict for locationId: {}, startTime: {}, endTime: {}", locationId, startTime, endTime);
+    // Location Conflict Check (meeting overlap, including the location buffer) - Accepts Location, LocalDateTime, throws MeetingConflictException
+    private void checkLocationConflict(Location location, LocalDateTime startTime, LocalDateTime endTime, Long meetingIdToExclude) {
+        Long locationId = location.getId();
+        int bufferMinutes = location.getBufferMinutes() != null ? location.getBufferMinutes() : 0;
+        log.debug("Checking location conflict for locationId: {}, startTime: {}, endTime: {}, buffer: {} min", locationId, startTime, endTime, bufferMinutes);
 
-        // fetch conflicting meetings from the list
-        List<Meeting> conflictMeetings = meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, endTime, startTime);
+        // fetch conflicting meetings from the list (meetings closer than the buffer conflict too)
+        List<Meeting> conflictMeetings = meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(
+                locationId, endTime.plusMinutes(bufferMinutes), startTime.minusMinutes(bufferMinutes));
 
         // remove an excluded meeting from the list (for the meeting update scenario)
         if (meetingIdToExclude != null) {
@@ -287,7 +336,10 @@ public class MeetingService {
             String conflictMeetingIds = conflictMeetings.stream()
                     .map(m -> m.getId().toString())
                     .collect(Collectors.joining(", "));
-            String errorMessage = String.format("Location conflict detected. Location ID %d is booked during the requested time by the meeting(s) with ID(s): %s", locationId, conflictMeetingIds);
+            boolean overlapping = bufferMinutes == 0 || conflictMeetings.stream().anyMatch(meeting -> overlaps(meeting, startTime, endTime));
+            String errorMessage = overlapping
+                    ? String.format("Location conflict detected. Location ID %d is booked during the requested time by the meeting(s) with ID(s): %s", locationId, conflictMeetingIds)
+                    : String.format("Location conflict detected. Location ID %d keeps %d minutes free between meetings, the requested time is too close to the meeting(s) with ID(s): %s", locationId, bufferMinutes, conflictMeetingIds);
             log.warn(errorMessage);
 
             throw new MeetingConflictException(errorMessage);
@@ -295,21 +347,27 @@ public class MeetingService {
         log.debug("No location conflict found for locationId: {}", locationId);
     }
 
-    // Attendee conflict Check (meeting overlap) - Accepts ID, LocalDateTime, throws MeetingConflictException
-    private void checkAttendeeConflicts(Set<Long> attendeeIds, LocalDateTime startTime, LocalDateTime endTime, Long meetingIdToExclude) {
+    // Attendee conflict Check (meeting overlap and travel time from/to the location) - Accepts ID, Location, LocalDateTime, throws MeetingConflictException
+    private void checkAttendeeConflicts(Set<Long> attendeeIds, Location location, LocalDateTime startTime, LocalDateTime endTime, Long meetingIdToExclude) {
         if (attendeeIds == null || attendeeIds.isEmpty()) {
             log.debug("No attendees provided, skipping attendee conflict check.");
             return;
         }
 
-        log.debug("Checking attendee conflicts for attendeeIds: {}, startTime: {}, endTime: {}", attendeeIds, startTime, endTime);
+        // Meetings further away than the longest travel time of the building can not conflict
+        TravelTimeMatrix travelTimes = referenceDataService.findTravelTimeMatrix();
+        String building = location.getBuilding();
+        int maxTravelMinutes = travelTimes.maxMinutes(building);
+
+        log.debug("Checking attendee conflicts for attendeeIds: {}, startTime: {}, endTime: {}, max travel: {} min", attendeeIds, startTime, endTime, maxTravelMinutes);
 
         // for each attendee id in a list perform conflict check
         for (Long attendeeId : attendeeIds) {
             log.debug("Checking conflicts for attendeeId: {}", attendeeId);
 
-            // fetch conflicting meetings from the database
-            List<Meeting> conflictingMeetings = meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(attendeeId, endTime, startTime);
+            // fetch meetings overlapping the requested time widened by the travel time from the database
+            List<Meeting> conflictingMeetings = meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(
+                    attendeeId, endTime.plusMinutes(maxTravelMinutes), startTime.minusMinutes(maxTravelMinutes));
 
             // remove an excluded meeting from the list (for the meeting update scenario)
             if (meetingIdToExclude != null) {
@@ -318,6 +376,28 @@ public class MeetingService {
                         .toList();
             }
 
+            // meetings that do not overlap conflict only if there is not enough time to travel between the buildings
+            if (maxTravelMinutes > 0) {
+                List<Meeting> unreachableMeetings = conflictingMeetings.stream()
+                        .filter(meeting -> !overlaps(meeting, startTime, endTime))
+                        .filter(meeting -> !isReachable(meeting, building, startTime, endTime, travelTimes))
+                        .toList();
+                conflictingMeetings = conflictingMeetings.stream()
+                        .filter(meeting -> overlaps(meeting, startTime, endTime))
+                        .toList();
+
+                if (conflictingMeetings.isEmpty() && !unreachableMeetings.isEmpty()) {
+                    String unreachableMeetingIds = unreachableMeetings.stream()
+                            .map(m -> m.getId().toString())
+                            .collect(Collectors.joining(", "));
+                    String errorMessage = String.format("Attendee conflict detected. Attendee ID %d cannot travel between location ID %d and the meeting(s) with ID(s): %s in time.", attendeeId, location.getId(), unreachableMeetingIds);
+
+                    log.warn(errorMessage);
+
+                    throw new MeetingConflictException(errorMessage);
+                }
+            }
+
             // if conflicting meetings found - throw MeetingConflictException
             if (!conflictingMeetings.isEmpty()) {
                 String conflictingMeetingsIds = conflictingMeetings.stream()
@@ -334,6 +414,20 @@ public class MeetingService {
         log.debug("No attendee conflicts found for the provided list.");
     }
 
+    // Accepts Meeting and an interval, returns true if the meeting overlaps it
+    private boolean overlaps(Meeting meeting, LocalDateTime startTime, LocalDateTime endTime) {
+        return meeting.getStartTime().isBefore(endTime) && meeting.getEndTime().isAfter(startTime);
+    }
+
+    // Accepts a meeting before or after the requested time, returns true if attendees can travel between it and the building in time
+    private boolean isReachable(Meeting meeting, String building, LocalDateTime startTime, LocalDateTime endTime, TravelTimeMatrix travelTimes) {
+        String meetingBuilding = meeting.getLocation() != null ? meeting.getLocation().getBuilding() : null;
+        if (!meeting.getEndTime().isAfter(startTime)) {
+            return !meeting.getEndTime().plusMinutes(travelTimes.minutesBetween(meetingBuilding, building)).isAfter(startTime);
+        }
+        return !endTime.plusMinutes(travelTimes.minutesBetween(building, meetingBuilding)).isAfter(meeting.getStartTime());
+    }
+
     // Meeting Duplicates Check - Accepts ID, LocalDateTime, throws IllegalArgumentException
     private void checkMeetingDuplicates(Long locationId, LocalDateTime startTime, LocalDateTime endTime, Long meetingIdToExclude) {
 
@@ -366,7 +460,12 @@ public class MeetingService {
             return;
         }
 
-        TimeWindow locationTimeWindow = getWorkingDayWindow(location.getWorkingStartTime(), location.getWorkingEndTime(), startTime.toLocalDate());
+        WorkingWindow locationTimeWindow = getWorkingWindow(WorkingHours.of(location), startTime)
+                .orElseThrow(() -> {
+                    String errorMessage = String.format("Meeting start time (%s) is on a day off of the location.", startTime);
+                    log.warn("Location working hours violation: {}", errorMessage);
+                    return new IllegalArgumentException(errorMessage);
+                });
 
         if (startTime.isBefore(locationTimeWindow.start())) {
             String errorMessage = String.format("Meeting start time (%s) is before location's working start time (%s).", startTime, locationTimeWindow.start());
@@ -390,7 +489,12 @@ public class MeetingService {
         }
 
         for (Attendee attendee : attendees) {
-            TimeWindow locationTimeWindow = getWorkingDayWindow(attendee.getWorkingStartTime(), attendee.getWorkingEndTime(), startTime.toLocalDate());
+            WorkingWindow locationTimeWindow = getWorkingWindow(WorkingHours.of(attendee), startTime)
+                    .orElseThrow(() -> {
+                        String errorMessage = String.format("Meeting start time (%s) is on a day off of attendee ID: %d.", startTime, attendee.getId());
+                        log.warn("Attendee working hours violation: {}", errorMessage);
+                        return new IllegalArgumentException(errorMessage);
+                    });
 
             if (startTime.isBefore(locationTimeWindow.start())) {
                 String errorMessage = String.format("Meeting start time (%s) is before attendee ID: %d working start time (%s).", startTime, attendee.getId(), locationTimeWindow.start());
@@ -407,6 +511,39 @@ public class MeetingService {
         log.debug("Meeting times are within attendees working hours.");
     }
 
+    // Meeting outside of time off check (location, attendees and global holidays) - Accepts Location, Attendees, LocalDateTime, throws IllegalArgumentException
+    private void checkMeetingOutsideTimeOff(Location location, Set<Attendee> attendees, LocalDateTime startTime, LocalDateTime endTime) {
+        if (location != null) {
+            findOverlappingTimeOff(ResourceType.LOCATION, location.getId(), startTime, endTime).ifPresent(timeOff -> {
+                String errorMessage = timeOff.isGlobal()
+                        ? String.format("Meeting overlaps a holiday (%s - %s).", timeOff.getStartTime(), timeOff.getEndTime())
+                        : String.format("Meeting overlaps time off of the location (%s - %s).", timeOff.getStartTime(), timeOff.getEndTime());
+                log.warn("Time off violation: {}", errorMessage);
+                throw new IllegalArgumentException(errorMessage);
+            });
+        }
+
+        if (attendees != null) {
+            for (Attendee attendee : attendees) {
+                findOverlappingTimeOff(ResourceType.ATTENDEE, attendee.getId(), startTime, endTime).ifPresent(timeOff -> {
+                    String errorMessage = timeOff.isGlobal()
+                            ? String.format("Meeting overlaps a holiday (%s - %s).", timeOff.getStartTime(), timeOff.getEndTime())
+                            : String.format("Meeting overlaps time off of attendee ID: %d (%s - %s).", attendee.getId(), timeOff.getStartTime(), timeOff.getEndTime());
+                    log.warn("Time off violation: {}", errorMessage);
+                    throw new IllegalArgumentException(errorMessage);
+                });
+            }
+        }
+        log.debug("Meeting does not overlap any time off.");
+    }
+
+    // Accepts resource and meeting times, returns the first time off of the resource (or global holiday) overlapping the meeting
+    private Optional<TimeOff> findOverlappingTimeOff(ResourceType resourceType, Long resourceId, LocalDateTime startTime, LocalDateTime endTime) {
+        return timeOffService.findEffectiveTimeOff(resourceType, resourceId).stream()
+                .filter(timeOff -> timeOff.overlaps(startTime, endTime))
+                .findFirst();
+    }
+
     // Meeting location's capacity check - Accepts Location, Integer, throws IllegalArgumentException
     private void checkLocationCapacity(Location location, Integer requiredCapacity) {
         if (requiredCapacity == null) {
@@ -432,39 +569,33 @@ public class MeetingService {
     // --- Time Management Methods ---
 
     /**
-     * Calculate working shift time for the specified date.
+     * Finds the working window a meeting start falls into.
+     * Meeting times are UTC; the working day is the local date of the meeting start in the resource's time zone.
+     * Windows of the previous day are considered too, for meetings in the after-midnight part of an overnight period.
+     * If no window contains the start, the next window of the day is returned (the start is too early)
+     * or else the last one (the meeting is too late).
      *
-     * @param startTime The working day start time.
-     * @param endTime   The working day end time.
-     * @param date      The date to be assigned.
-     * @return TimeWindow record with LocalDateTime working shift start and end time with an assigned date.
+     * @param workingHours The working hours of the resource.
+     * @param startTime    The meeting start time (UTC).
+     * @return WorkingWindow with the working period start and end time in UTC, empty on days off.
      */
-    private TimeWindow getWorkingDayWindow(LocalTime startTime, LocalTime endTime, LocalDate date) {
-        LocalTime workStart = startTime != null ?
-                startTime : DEFAULT_WORKING_START_TIME;
-        LocalTime workEnd = endTime != null ?
-                endTime : DEFAULT_WORKING_END_TIME;
-
-        LocalDateTime windowStart;
-        LocalDateTime windowEnd;
-
-        // Calculate night shift
-        if (workEnd.isBefore(workStart)) {
-            windowStart = date.atTime(workStart);
-            windowEnd = date.plusDays(1).atTime(workEnd);
-            log.trace("Calculated overnight working window: {} - {}",
-                    windowStart, windowEnd);
-        } else {
-            windowStart = date.atTime(workStart);
-            windowEnd = date.atTime(workEnd);
-            log.trace("Calculated same-day working window: {} - {}",
-                    windowStart, windowEnd);
+    private Optional<WorkingWindow> getWorkingWindow(WorkingHours workingHours, LocalDateTime startTime) {
+        ZoneId zone = workingHours.timeZone() != null ? workingHours.timeZone() : ZoneOffset.UTC;
+        LocalDate localDate = startTime.atOffset(ZoneOffset.UTC).atZoneSameInstant(zone).toLocalDate();
+
+        List<WorkingWindow> dayWindows = workingHours.windowsOn(localDate);
+        List<WorkingWindow> candidates = new ArrayList<>(workingHours.windowsOn(localDate.minusDays(1)));
+        candidates.addAll(dayWindows);
+        for (WorkingWindow window : candidates) {
+            if (!startTime.isBefore(window.start()) && startTime.isBefore(window.end())) {
+                return Optional.of(window);
+            }
         }
 
-        return new TimeWindow(windowStart, windowEnd);
-    }
-
-    private record TimeWindow(LocalDateTime start, LocalDateTime end) {
+        return dayWindows.stream()
+                .filter(window -> window.start().isAfter(startTime))
+                .findFirst()
+                .or(() -> dayWindows.isEmpty() ? Optional.empty() : Optional.of(dayWindows.getLast()));
     }
 
     // --- End of Time Management Methods ---
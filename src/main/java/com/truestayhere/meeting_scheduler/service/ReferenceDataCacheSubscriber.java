@@ -0,0 +1,42 @@
+package com.truestayhere.meeting_scheduler.service;
+
+
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies cache invalidations received from other nodes to the local reference data caches.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataCacheSubscriber {
+
+    private final ReferenceDataService referenceDataService;
+    private final CacheManager cacheManager;
+
+    @EventListener
+    public void onCacheInvalidation(CacheInvalidation invalidation) {
+        switch (invalidation.kind()) {
+            case LOCATION -> referenceDataService.evictLocation(invalidation.resourceId());
+            case ATTENDEE -> referenceDataService.evictAttendee(invalidation.resourceId());
+            case LOCATION_TIME_OFF -> referenceDataService.evictTimeOff(ResourceType.LOCATION, invalidation.resourceId());
+            case ATTENDEE_TIME_OFF -> referenceDataService.evictTimeOff(ResourceType.ATTENDEE, invalidation.resourceId());
+            case GLOBAL_TIME_OFF -> referenceDataService.evictGlobalTimeOff();
+            case ATTENDEE_GROUP -> referenceDataService.evictGroupMembers();
+            case TRAVEL_TIME -> referenceDataService.evictTravelTimes();
+            case ALL -> {
+                log.info("Clearing all reference data caches after missed cache invalidations.");
+                cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+            }
+            default -> {
+                // Calendar changes do not affect reference data
+            }
+        }
+    }
+}
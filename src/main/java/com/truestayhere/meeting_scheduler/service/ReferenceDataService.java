@@ -0,0 +1,183 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.AttendeeGroup;
+import com.truestayhere.meeting_scheduler.model.Location;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.model.TimeOff;
+import com.truestayhere.meeting_scheduler.model.WorkingHours;
+import com.truestayhere.meeting_scheduler.repository.AttendeeGroupRepository;
+import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import com.truestayhere.meeting_scheduler.repository.LocationRepository;
+import com.truestayhere.meeting_scheduler.repository.TimeOffRepository;
+import com.truestayhere.meeting_scheduler.repository.TravelTimeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Cached read access to rarely changing reference data used by the availability engine.
+ * Returned locations are detached and must be treated as read-only;
+ * services that modify entities keep loading them from the repositories.
+ * Entries are evicted explicitly by LocationService and AttendeeService on writes
+ * (together with the working window table of WorkingWindowService, which is derived from this data),
+ * time off calendars by TimeOffService, group memberships by AttendeeGroupService and travel times by TravelTimeService.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class ReferenceDataService {
+    public static final String LOCATIONS_CACHE = "locations";
+    public static final String LOCATION_LISTS_CACHE = "locationLists";
+    public static final String ATTENDEE_WORKING_HOURS_CACHE = "attendeeWorkingHours";
+    public static final String TIME_OFF_CACHE = "timeOff";
+    public static final String GROUP_MEMBERS_CACHE = "groupMembers";
+    public static final String TRAVEL_TIMES_CACHE = "travelTimes";
+
+    private final LocationRepository locationRepository;
+    private final AttendeeRepository attendeeRepository;
+    private final TimeOffRepository timeOffRepository;
+    private final AttendeeGroupRepository attendeeGroupRepository;
+    private final TravelTimeRepository travelTimeRepository;
+
+    // === CACHED READ METHODS ===
+
+    // Accepts ID, returns Optional<Location> (missing locations are not cached)
+    @Cacheable(cacheNames = LOCATIONS_CACHE, key = "#id", unless = "#result == null")
+    public Optional<Location> findLocationById(Long id) {
+        log.debug("Location cache miss for ID: {}", id);
+        return locationRepository.findById(id);
+    }
+
+    // Returns all locations
+    @Cacheable(cacheNames = LOCATION_LISTS_CACHE, key = "'all'")
+    public List<Location> findAllLocations() {
+        log.debug("Location list cache miss for all locations");
+        return List.copyOf(locationRepository.findAll());
+    }
+
+    // Returns the capacity index over all locations (answers capacity >= N queries without a DB round trip)
+    @Cacheable(cacheNames = LOCATION_LISTS_CACHE, key = "'capacityIndex'")
+    public LocationCapacityIndex findLocationCapacityIndex() {
+        log.debug("Location capacity index cache miss, rebuilding");
+        return LocationCapacityIndex.of(locationRepository.findAll());
+    }
+
+    // Returns the site > building > floor hierarchy over all locations
+    @Cacheable(cacheNames = LOCATION_LISTS_CACHE, key = "'hierarchy'")
+    public LocationHierarchy findLocationHierarchy() {
+        log.debug("Location hierarchy cache miss, rebuilding");
+        return LocationHierarchy.of(locationRepository.findAll());
+    }
+
+    // Accepts ID, returns Optional<WorkingHours> of the attendee (missing attendees are not cached)
+    @Cacheable(cacheNames = ATTENDEE_WORKING_HOURS_CACHE, key = "#id", unless = "#result == null")
+    public Optional<WorkingHours> findAttendeeWorkingHours(Long id) {
+        log.debug("Attendee working hours cache miss for ID: {}", id);
+        return attendeeRepository.findById(id).map(WorkingHours::of);
+    }
+
+    // Accepts resource type and ID, returns the time off of the resource ordered by start time
+    @Cacheable(cacheNames = TIME_OFF_CACHE, key = "{#resourceType, #resourceId}")
+    public List<TimeOff> findTimeOff(ResourceType resourceType, Long resourceId) {
+        log.debug("Time off cache miss for {} ID: {}", resourceType, resourceId);
+        return List.copyOf(timeOffRepository.findByResourceTypeAndResourceIdOrderByStartTime(resourceType, resourceId));
+    }
+
+    // Returns the global holidays ordered by start time
+    @Cacheable(cacheNames = TIME_OFF_CACHE, key = "'global'")
+    public List<TimeOff> findGlobalTimeOff() {
+        log.debug("Time off cache miss for global holidays");
+        return List.copyOf(timeOffRepository.findByResourceTypeIsNullOrderByStartTime());
+    }
+
+    // Accepts group ID, returns the IDs of all members of the group and its nested groups (missing groups are not cached)
+    @Cacheable(cacheNames = GROUP_MEMBERS_CACHE, key = "#groupId", unless = "#result == null")
+    public Optional<Set<Long>> findGroupMemberIds(Long groupId) {
+        log.debug("Group members cache miss for group ID: {}", groupId);
+        return attendeeGroupRepository.findById(groupId).map(group -> {
+            Set<Long> memberIds = new TreeSet<>();
+            collectMemberIds(group, memberIds, new HashSet<>());
+            return Set.copyOf(memberIds);
+        });
+    }
+
+    // Returns the travel time matrix between buildings
+    @Cacheable(cacheNames = TRAVEL_TIMES_CACHE, key = "'matrix'")
+    public TravelTimeMatrix findTravelTimeMatrix() {
+        log.debug("Travel time matrix cache miss, rebuilding");
+        return TravelTimeMatrix.of(travelTimeRepository.findAll());
+    }
+
+    // === END CACHED READ METHODS ===
+
+    // === EVICTION METHODS ===
+
+    // Evicts the location, every cached location list, the capacity index, the hierarchy and the working window table (applied after the current transaction commits)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = LOCATIONS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = LOCATION_LISTS_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = WorkingWindowService.WORKING_WINDOWS_CACHE, allEntries = true)
+    })
+    public void evictLocation(Long id) {
+        log.debug("Evicting cached location ID: {}", id);
+    }
+
+    // Evicts the attendee's working hours and the working window table (applied after the current transaction commits)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = ATTENDEE_WORKING_HOURS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = WorkingWindowService.WORKING_WINDOWS_CACHE, allEntries = true)
+    })
+    public void evictAttendee(Long id) {
+        log.debug("Evicting cached working hours of attendee ID: {}", id);
+    }
+
+    // Evicts the time off of the resource (applied after the current transaction commits)
+    @CacheEvict(cacheNames = TIME_OFF_CACHE, key = "{#resourceType, #resourceId}")
+    public void evictTimeOff(ResourceType resourceType, Long resourceId) {
+        log.debug("Evicting cached time off of {} ID: {}", resourceType, resourceId);
+    }
+
+    // Evicts the global holidays (applied after the current transaction commits)
+    @CacheEvict(cacheNames = TIME_OFF_CACHE, key = "'global'")
+    public void evictGlobalTimeOff() {
+        log.debug("Evicting cached global holidays");
+    }
+
+    // Evicts the flattened members of every group, a change can affect all enclosing groups (applied after the current transaction commits)
+    @CacheEvict(cacheNames = GROUP_MEMBERS_CACHE, allEntries = true)
+    public void evictGroupMembers() {
+        log.debug("Evicting cached group members");
+    }
+
+    // Evicts the travel time matrix (applied after the current transaction commits)
+    @CacheEvict(cacheNames = TRAVEL_TIMES_CACHE, allEntries = true)
+    public void evictTravelTimes() {
+        log.debug("Evicting cached travel times");
+    }
+
+    // === END EVICTION METHODS ===
+
+    // === HELPER METHODS ===
+
+    // Accepts group, adds the IDs of its members and the members of its nested groups (each group visited once)
+    private void collectMemberIds(AttendeeGroup group, Set<Long> memberIds, Set<Long> visitedGroupIds) {
+        if (!visitedGroupIds.add(group.getId())) {
+            return;
+        }
+        group.getMembers().forEach(member -> memberIds.add(member.getId()));
+        group.getSubgroups().forEach(subgroup -> collectMemberIds(subgroup, memberIds, visitedGroupIds));
+    }
+
+    // === END HELPER METHODS ===
+}
@@ -0,0 +1,203 @@
+package com.truestayhere.meeting_scheduler.service;
+
+
+import com.truestayhere.meeting_scheduler.config.JwtProperties;
+import com.truestayhere.meeting_scheduler.dto.response.LoginResponseDTO;
+import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.RefreshToken;
+import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import com.truestayhere.meeting_scheduler.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Issues, rotates and revokes refresh tokens.
+ * A refresh token has the form "{id}.{secret}": the ID locates the row by primary key,
+ * only the SHA-256 hash of the 32-byte random secret is stored.
+ * Every refresh revokes the presented token and issues a new one of the same family;
+ * presenting a revoked token again revokes the whole family (the token was leaked or replayed).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class RefreshTokenService {
+    private static final int SECRET_BYTES = 32;
+    private static final String INVALID_TOKEN_MESSAGE = "Invalid or expired refresh token.";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AttendeeRepository attendeeRepository;
+    private final TokenService tokenService;
+    private final JwtProperties jwtProperties;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    // === TOKEN METHODS ===
+
+    /**
+     * Issues an access token and a new refresh token family after a successful login.
+     *
+     * @param authentication The authenticated user.
+     * @return LoginResponseDTO with the access and refresh tokens.
+     */
+    @Transactional
+    public LoginResponseDTO issueTokens(Authentication authentication) {
+        Attendee attendee = attendeeRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new BadCredentialsException("User not found with email: " + authentication.getName()));
+
+        // Drop expired tokens of the attendee so the table does not grow with every login
+        refreshTokenRepository.deleteByAttendeeIdAndExpiresAtBefore(attendee.getId(), Instant.now());
+
+        String refreshToken = createRefreshToken(secureRandom.nextLong(), attendee.getId());
+        log.info("Issued new refresh token family for attendee ID: {}", attendee.getId());
+
+        return new LoginResponseDTO(tokenService.generateToken(authentication), refreshToken);
+    }
+
+
+    /**
+     * Exchanges a refresh token for a new access token and a new (rotated) refresh token.
+     * No password verification is done: the token secret is checked against its stored hash.
+     *
+     * @param refreshToken The refresh token issued by a previous login or refresh.
+     * @return LoginResponseDTO with the new access and refresh tokens.
+     * @throws BadCredentialsException if the token is unknown, expired, revoked or its attendee no longer exists.
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class) // Keep family revocation on reuse
+    public LoginResponseDTO refresh(String refreshToken) {
+        RefreshToken storedToken = findVerifiedToken(refreshToken);
+
+        if (storedToken.isRevoked()) {
+            log.warn("Revoked refresh token ID: {} was presented again, revoking token family of attendee ID: {}",
+                    storedToken.getId(), storedToken.getAttendeeId());
+            revokeTokens(refreshTokenRepository.findByFamilyIdAndRevokedFalse(storedToken.getFamilyId()));
+            throw new BadCredentialsException(INVALID_TOKEN_MESSAGE);
+        }
+        if (!storedToken.getExpiresAt().isAfter(Instant.now())) {
+            throw new BadCredentialsException(INVALID_TOKEN_MESSAGE);
+        }
+
+        Attendee attendee = attendeeRepository.findById(storedToken.getAttendeeId())
+                .orElseThrow(() -> new BadCredentialsException(INVALID_TOKEN_MESSAGE));
+
+        // Rotate: the presented token can not be used again
+        storedToken.setRevoked(true);
+        String newRefreshToken = createRefreshToken(storedToken.getFamilyId(), attendee.getId());
+        String accessToken = tokenService.generateToken(attendee.getEmail(), attendee.getRole().getValue());
+
+        log.info("Refreshed tokens for attendee ID: {}", attendee.getId());
+        return new LoginResponseDTO(accessToken, newRefreshToken);
+    }
+
+
+    /**
+     * Revokes the token family of the refresh token (logout of one session).
+     * Unknown or already revoked tokens are ignored.
+     *
+     * @param refreshToken The refresh token to revoke.
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        RefreshToken storedToken;
+        try {
+            storedToken = findVerifiedToken(refreshToken);
+        } catch (BadCredentialsException e) {
+            log.debug("Ignoring revocation of an unknown refresh token.");
+            return;
+        }
+        revokeTokens(refreshTokenRepository.findByFamilyIdAndRevokedFalse(storedToken.getFamilyId()));
+        log.info("Revoked refresh token family of attendee ID: {}", storedToken.getAttendeeId());
+    }
+
+
+    /**
+     * Revokes every refresh token of an attendee (e.g. after a password change).
+     *
+     * @param attendeeId The ID of the attendee.
+     */
+    @Transactional
+    public void revokeAllForAttendee(Long attendeeId) {
+        revokeTokens(refreshTokenRepository.findByAttendeeIdAndRevokedFalse(attendeeId));
+        log.debug("Revoked all refresh tokens of attendee ID: {}", attendeeId);
+    }
+
+
+    /**
+     * Deletes every refresh token of an attendee (the attendee is being deleted).
+     *
+     * @param attendeeId The ID of the attendee.
+     */
+    @Transactional
+    public void deleteAllForAttendee(Long attendeeId) {
+        refreshTokenRepository.deleteByAttendeeId(attendeeId);
+        log.debug("Deleted all refresh tokens of attendee ID: {}", attendeeId);
+    }
+
+    // === END TOKEN METHODS ===
+
+    // === HELPER METHODS ===
+
+    // Accepts token family and attendee ID, stores the hash of a new secret and returns the token value
+    private String createRefreshToken(Long familyId, Long attendeeId) {
+        byte[] secret = new byte[SECRET_BYTES];
+        secureRandom.nextBytes(secret);
+
+        Instant expiresAt = Instant.now().plus(jwtProperties.getRefreshTokenTimeToLive());
+        RefreshToken savedToken = refreshTokenRepository.save(new RefreshToken(familyId, attendeeId, hash(secret), expiresAt));
+
+        return savedToken.getId() + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+    }
+
+    // Accepts token value, returns the stored token if the secret matches (revocation and expiry are not checked)
+    private RefreshToken findVerifiedToken(String refreshToken) {
+        int separator = refreshToken.indexOf('.');
+        if (separator <= 0) {
+            throw new BadCredentialsException(INVALID_TOKEN_MESSAGE);
+        }
+
+        long id;
+        byte[] secret;
+        try {
+            id = Long.parseLong(refreshToken.substring(0, separator));
+            secret = Base64.getUrlDecoder().decode(refreshToken.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new BadCredentialsException(INVALID_TOKEN_MESSAGE);
+        }
+
+        RefreshToken storedToken = refreshTokenRepository.findById(id)
+                .orElseThrow(() -> new BadCredentialsException(INVALID_TOKEN_MESSAGE));
+
+        // Constant-time comparison
+        if (!MessageDigest.isEqual(hash(secret), storedToken.getTokenHash())) {
+            throw new BadCredentialsException(INVALID_TOKEN_MESSAGE);
+        }
+        return storedToken;
+    }
+
+    // Marks the tokens revoked (persisted on commit)
+    private void revokeTokens(List<RefreshToken> tokens) {
+        tokens.forEach(token -> token.setRevoked(true));
+    }
+
+    // Accepts the token secret, returns its SHA-256 hash
+    private static byte[] hash(byte[] secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required to be available on every Java platform
+            throw new IllegalStateException("SHA-256 algorithm is not available.", e);
+        }
+    }
+
+    // === END HELPER METHODS ===
+}
@@ -0,0 +1,175 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.dto.request.CreateTimeOffRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.response.TimeOffDTO;
+import com.truestayhere.meeting_scheduler.mapper.TimeOffMapper;
+import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
+import com.truestayhere.meeting_scheduler.model.Location;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.model.TimeOff;
+import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import com.truestayhere.meeting_scheduler.repository.LocationRepository;
+import com.truestayhere.meeting_scheduler.repository.TimeOffRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Manages time off calendars: blackout periods of a single attendee or location
+ * and global holidays that apply to every resource.
+ * Time off is stored apart from meetings and read through the cache of ReferenceDataService,
+ * it removes working time in availability calculations and blocks meetings in MeetingService.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class TimeOffService {
+
+    private final TimeOffRepository timeOffRepository;
+    private final TimeOffMapper timeOffMapper;
+    private final AttendeeRepository attendeeRepository;
+    private final LocationRepository locationRepository;
+    private final ReferenceDataService referenceDataService;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final CalendarVersionService calendarVersionService;
+
+    // === READ METHODS ===
+
+    /**
+     * Finds the time off periods of a resource, or the global holidays.
+     *
+     * @param resourceType The type of the resource (null for global holidays).
+     * @param resourceId   The ID of the resource (null for global holidays).
+     * @return List of TimeOffDTO ordered by start time.
+     * @throws IllegalArgumentException if only one of resource type and ID is provided.
+     * @throws EntityNotFoundException  if the resource does not exist.
+     */
+    public List<TimeOffDTO> getTimeOff(ResourceType resourceType, Long resourceId) {
+        log.debug("Fetching time off of {} ID: {}", resourceType, resourceId);
+
+        checkResource(resourceType, resourceId);
+        List<TimeOff> timeOff = resourceType == null
+                ? referenceDataService.findGlobalTimeOff()
+                : referenceDataService.findTimeOff(resourceType, resourceId);
+
+        log.debug("Found {} time off periods of {} ID: {}", timeOff.size(), resourceType, resourceId);
+        return timeOffMapper.mapToTimeOffDTOList(timeOff);
+    }
+
+    /**
+     * Finds every period a resource can not be booked: its own time off and the global holidays (cached).
+     *
+     * @param resourceType The type of the resource.
+     * @param resourceId   The ID of the resource.
+     * @return List of TimeOff (detached, read-only) ordered by start time.
+     */
+    public List<TimeOff> findEffectiveTimeOff(ResourceType resourceType, Long resourceId) {
+        List<TimeOff> resourceTimeOff = referenceDataService.findTimeOff(resourceType, resourceId);
+        List<TimeOff> globalTimeOff = referenceDataService.findGlobalTimeOff();
+        if (globalTimeOff.isEmpty()) {
+            return resourceTimeOff;
+        }
+        if (resourceTimeOff.isEmpty()) {
+            return globalTimeOff;
+        }
+
+        List<TimeOff> timeOff = new ArrayList<>(resourceTimeOff);
+        timeOff.addAll(globalTimeOff);
+        timeOff.sort(Comparator.comparing(TimeOff::getStartTime));
+        return timeOff;
+    }
+
+    // === END READ METHODS ===
+
+    // === WRITE METHODS ===
+
+    /**
+     * Creates a time off period of a resource, or a global holiday if no resource is provided.
+     *
+     * @param requestDTO The time off details.
+     * @return TimeOffDTO of the created time off.
+     * @throws IllegalArgumentException if only one of resource type and ID is provided.
+     * @throws EntityNotFoundException  if the resource does not exist.
+     */
+    @Transactional
+    public TimeOffDTO createTimeOff(CreateTimeOffRequestDTO requestDTO) {
+        log.debug("Attempting to create time off of {} ID: {} from {} to {}",
+                requestDTO.resourceType(), requestDTO.resourceId(), requestDTO.startTime(), requestDTO.endTime());
+
+        checkResource(requestDTO.resourceType(), requestDTO.resourceId());
+        TimeOff savedTimeOff = timeOffRepository.save(timeOffMapper.mapToTimeOff(requestDTO));
+
+        onTimeOffChanged(savedTimeOff);
+
+        log.info("Successfully created time off with ID: {}", savedTimeOff.getId());
+        return timeOffMapper.mapToTimeOffDTO(savedTimeOff);
+    }
+
+    /**
+     * Deletes a time off period.
+     *
+     * @param id The ID of the time off.
+     * @throws EntityNotFoundException if the time off does not exist.
+     */
+    @Transactional
+    public void deleteTimeOff(Long id) {
+        log.debug("Attempting to delete time off with ID: {}", id);
+
+        TimeOff timeOff = timeOffRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Time off not found with ID: " + id));
+        timeOffRepository.delete(timeOff);
+
+        onTimeOffChanged(timeOff);
+
+        log.info("Successfully deleted time off with ID: {}", id);
+    }
+
+    // === END WRITE METHODS ===
+
+    // === HELPER METHODS ===
+
+    // Accepts resource type and ID, throws if only one of them is provided or the resource does not exist
+    private void checkResource(ResourceType resourceType, Long resourceId) {
+        if (resourceType == null && resourceId == null) {
+            return;
+        }
+        if (resourceType == null || resourceId == null) {
+            throw new IllegalArgumentException("Resource type and resource ID must be provided together (omit both for a global holiday).");
+        }
+
+        boolean exists = resourceType == ResourceType.LOCATION
+                ? locationRepository.existsById(resourceId)
+                : attendeeRepository.existsById(resourceId);
+        if (!exists) {
+            String errorMessage = String.format("%s not found with ID: %d", resourceType == ResourceType.LOCATION ? "Location" : "Attendee", resourceId);
+            log.warn("Time off resource check failed: {}", errorMessage);
+            throw new EntityNotFoundException(errorMessage);
+        }
+    }
+
+    // Evicts the cached time off on every node and bumps the calendar versions (availability ETags) it affects
+    private void onTimeOffChanged(TimeOff timeOff) {
+        cacheInvalidationPublisher.publish(CacheInvalidation.timeOff(timeOff.getResourceType(), timeOff.getResourceId()));
+
+        if (!timeOff.isGlobal()) {
+            referenceDataService.evictTimeOff(timeOff.getResourceType(), timeOff.getResourceId());
+            calendarVersionService.bump(timeOff.getResourceType(), timeOff.getResourceId());
+            return;
+        }
+
+        // Global holidays change the availability of every resource (rare administrative write)
+        referenceDataService.evictGlobalTimeOff();
+        calendarVersionService.bumpAll(ResourceType.ATTENDEE, attendeeRepository.findAll().stream().map(Attendee::getId).toList());
+        calendarVersionService.bumpAll(ResourceType.LOCATION, locationRepository.findAll().stream().map(Location::getId).toList());
+    }
+
+    // === END HELPER METHODS ===
+}
@@ -26,20 +26,25 @@ public class TokenService {
     private final JwtProperties jwtProperties;
 
     public String generateToken(Authentication authentication) {
-        Instant now = Instant.now();
-        Instant expiresAt = now.plus(jwtProperties.getExpirationMinutes(), ChronoUnit.MINUTES);
-
         // Collect roles into a string
         String scope = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(" "));
 
+        return generateToken(authentication.getName(), scope);
+    }
+
+    // Generates the access token for a user (subject) with the given space-separated roles (scope)
+    public String generateToken(String subject, String scope) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(jwtProperties.getExpirationMinutes(), ChronoUnit.MINUTES);
+
         // Build JWT claims
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer(jwtProperties.getIssuer()) // Who issued the token
                 .issuedAt(now) // When the token was issued
                 .expiresAt(expiresAt) // When the token expires
-                .subject(authentication.getName()) // The user's email
+                .subject(subject) // The user's email
                 .claim("scope", scope) // Claim for roles
                 .build();
 
@@ -55,7 +60,7 @@ public class TokenService {
         // Encode the claims into a JWT string
         String tokenValue = jwtEncoder.encode(parameters).getTokenValue();
 
-        log.info("Generated JWT for user: {}", authentication.getName());
+        log.info("Generated JWT for user: {}", subject);
         log.debug("Token scope: {}", scope);
         return tokenValue;
     }
@@ -0,0 +1,75 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.TravelTime;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the travel times between buildings.
+ * A missing direction falls back to the reverse one; unknown pairs and meetings in the same building need no travel.
+ * Instances are cached by ReferenceDataService and rebuilt after travel time writes.
+ */
+public final class TravelTimeMatrix {
+    public static final TravelTimeMatrix EMPTY = new TravelTimeMatrix(Map.of(), Map.of());
+
+    private final Map<String, Map<String, Integer>> minutesByRoute;
+    private final Map<String, Integer> maxMinutesByBuilding;
+
+    private TravelTimeMatrix(Map<String, Map<String, Integer>> minutesByRoute, Map<String, Integer> maxMinutesByBuilding) {
+        this.minutesByRoute = minutesByRoute;
+        this.maxMinutesByBuilding = maxMinutesByBuilding;
+    }
+
+    /**
+     * Builds a matrix from the stored travel times.
+     *
+     * @param travelTimes The travel times between buildings.
+     * @return The travel time matrix.
+     */
+    public static TravelTimeMatrix of(Collection<TravelTime> travelTimes) {
+        Map<String, Map<String, Integer>> minutesByRoute = new HashMap<>();
+        Map<String, Integer> maxMinutesByBuilding = new HashMap<>();
+        for (TravelTime travelTime : travelTimes) {
+            minutesByRoute.computeIfAbsent(travelTime.getFromBuilding(), building -> new HashMap<>())
+                    .put(travelTime.getToBuilding(), travelTime.getMinutes());
+            maxMinutesByBuilding.merge(travelTime.getFromBuilding(), travelTime.getMinutes(), Math::max);
+            maxMinutesByBuilding.merge(travelTime.getToBuilding(), travelTime.getMinutes(), Math::max);
+        }
+        return new TravelTimeMatrix(minutesByRoute, maxMinutesByBuilding);
+    }
+
+    /**
+     * Finds the minutes needed to get from one building to another.
+     *
+     * @param fromBuilding The building of the previous meeting (null if unknown).
+     * @param toBuilding   The building of the next meeting (null if unknown).
+     * @return The travel minutes, 0 for the same building, unknown buildings or pairs without a travel time.
+     */
+    public int minutesBetween(String fromBuilding, String toBuilding) {
+        if (fromBuilding == null || toBuilding == null || Objects.equals(fromBuilding, toBuilding)) {
+            return 0;
+        }
+        Integer minutes = minutesByRoute.getOrDefault(fromBuilding, Map.of()).get(toBuilding);
+        if (minutes == null) {
+            minutes = minutesByRoute.getOrDefault(toBuilding, Map.of()).get(fromBuilding);
+        }
+        return minutes != null ? minutes : 0;
+    }
+
+    /**
+     * Finds the longest travel time to or from a building (bounds how far around a meeting other meetings matter).
+     *
+     * @param building The building (null if unknown).
+     * @return The longest travel minutes of any route of the building, 0 if it has none.
+     */
+    public int maxMinutes(String building) {
+        return building != null ? maxMinutesByBuilding.getOrDefault(building, 0) : 0;
+    }
+
+    public boolean isEmpty() {
+        return minutesByRoute.isEmpty();
+    }
+}
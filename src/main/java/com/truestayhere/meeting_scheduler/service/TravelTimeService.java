@@ -0,0 +1,110 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.dto.request.SetTravelTimeRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.response.TravelTimeDTO;
+import com.truestayhere.meeting_scheduler.mapper.TravelTimeMapper;
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
+import com.truestayhere.meeting_scheduler.model.TravelTime;
+import com.truestayhere.meeting_scheduler.repository.TravelTimeRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Manages the travel times between buildings. The availability engine keeps the travel time free
+ * between meetings held in different buildings, and MeetingService rejects meetings attendees cannot reach in time.
+ * The matrix is read through the cache of ReferenceDataService.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class TravelTimeService {
+
+    private final TravelTimeRepository travelTimeRepository;
+    private final TravelTimeMapper travelTimeMapper;
+    private final ReferenceDataService referenceDataService;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    // === READ METHODS ===
+
+    /**
+     * Finds all travel times.
+     *
+     * @return List of TravelTimeDTO.
+     */
+    public List<TravelTimeDTO> getAllTravelTimes() {
+        log.debug("Fetching all travel times.");
+        return travelTimeMapper.mapToTravelTimeDTOList(travelTimeRepository.findAll());
+    }
+
+    // === END READ METHODS ===
+
+    // === WRITE METHODS ===
+
+    /**
+     * Sets the travel time from one building to another, replacing an existing one.
+     *
+     * @param requestDTO The buildings and the travel minutes.
+     * @return TravelTimeDTO of the saved travel time.
+     * @throws IllegalArgumentException if both buildings are the same.
+     */
+    @Transactional
+    public TravelTimeDTO setTravelTime(SetTravelTimeRequestDTO requestDTO) {
+        log.debug("Attempting to set travel time from '{}' to '{}' to {} minutes",
+                requestDTO.fromBuilding(), requestDTO.toBuilding(), requestDTO.minutes());
+
+        if (requestDTO.fromBuilding().equals(requestDTO.toBuilding())) {
+            String errorMessage = "Travel time must connect two different buildings.";
+            log.warn(errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        TravelTime travelTime = travelTimeRepository
+                .findByFromBuildingAndToBuilding(requestDTO.fromBuilding(), requestDTO.toBuilding())
+                .orElseGet(() -> new TravelTime(requestDTO.fromBuilding(), requestDTO.toBuilding(), requestDTO.minutes()));
+        travelTime.setMinutes(requestDTO.minutes());
+        TravelTime savedTravelTime = travelTimeRepository.save(travelTime);
+
+        onTravelTimesChanged();
+
+        log.info("Successfully set travel time with ID: {}", savedTravelTime.getId());
+        return travelTimeMapper.mapToTravelTimeDTO(savedTravelTime);
+    }
+
+    /**
+     * Deletes a travel time by ID.
+     *
+     * @param id The ID of the travel time.
+     * @throws EntityNotFoundException if the travel time does not exist.
+     */
+    @Transactional
+    public void deleteTravelTime(Long id) {
+        log.debug("Attempting to delete travel time with ID: {}", id);
+
+        if (!travelTimeRepository.existsById(id)) {
+            throw new EntityNotFoundException("Travel time not found with ID: " + id);
+        }
+        travelTimeRepository.deleteById(id);
+
+        onTravelTimesChanged();
+
+        log.info("Successfully deleted travel time with ID: {}", id);
+    }
+
+    // === END WRITE METHODS ===
+
+    // === HELPER METHODS ===
+
+    // Evicts the cached matrix locally and on other nodes
+    private void onTravelTimesChanged() {
+        referenceDataService.evictTravelTimes();
+        cacheInvalidationPublisher.publish(CacheInvalidation.travelTimes());
+    }
+
+    // === END HELPER METHODS ===
+}
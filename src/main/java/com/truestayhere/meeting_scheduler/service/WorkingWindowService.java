@@ -0,0 +1,38 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.model.WorkingHours;
+import com.truestayhere.meeting_scheduler.model.WorkingWindow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Cached table of working windows per (resource, date), in UTC.
+ * Windows are computed from the resource's working hours (or weekly schedule) and time zone on first use;
+ * ReferenceDataService clears the table whenever working hours of a location or attendee are evicted.
+ */
+@Service
+@Slf4j
+public class WorkingWindowService {
+    public static final String WORKING_WINDOWS_CACHE = "workingWindows";
+
+    /**
+     * Finds the working windows of a resource on a working day (several for split shifts, none on days off).
+     * The cache key is the resource and the date: callers pass the current (cached) working hours of the resource.
+     *
+     * @param resourceType The type of the resource.
+     * @param workingHours The working hours of the resource.
+     * @param date         The working day in the resource's time zone.
+     * @return WorkingWindows in UTC ordered by start time.
+     */
+    @Cacheable(cacheNames = WORKING_WINDOWS_CACHE, key = "{#resourceType, #workingHours.resourceId(), #date}")
+    public List<WorkingWindow> findWorkingWindows(ResourceType resourceType, WorkingHours workingHours, LocalDate date) {
+        List<WorkingWindow> windows = workingHours.windowsOn(date);
+        log.trace("Calculated working windows of {} ID: {} on {}: {} (UTC)", resourceType, workingHours.resourceId(), date, windows);
+        return windows;
+    }
+}
@@ -0,0 +1,99 @@
+package com.truestayhere.meeting_scheduler.config;
+
+import com.truestayhere.meeting_scheduler.exception.LoginThrottledException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class BoundedPasswordEncoderTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (boundedPasswordEncoder != null) {
+            boundedPasswordEncoder.destroy();
+        }
+    }
+
+    @Test
+    void matches_shouldReturnDelegateResult() {
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new PlainPasswordEncoder(null), 1, 1, Duration.ofSeconds(5));
+
+        assertTrue(boundedPasswordEncoder.matches("password", "password"));
+        assertFalse(boundedPasswordEncoder.matches("password", "other"));
+        assertEquals("password", boundedPasswordEncoder.encode("password"));
+    }
+
+    @Test
+    void matches_throwsLoginThrottledException_whenExecutorAndQueueAreFull() throws Exception {
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new PlainPasswordEncoder(release), 1, 1, Duration.ofSeconds(5));
+
+        // One verification running, one queued
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.matches("password", "password"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.matches("password", "password"));
+        waitForQueuedVerification();
+
+        assertThrows(LoginThrottledException.class, () -> boundedPasswordEncoder.matches("password", "password"));
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void matches_throwsLoginThrottledException_whenVerificationTimesOut() {
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new PlainPasswordEncoder(release), 1, 1, Duration.ofMillis(50));
+
+        assertThrows(LoginThrottledException.class, () -> boundedPasswordEncoder.matches("password", "password"));
+    }
+
+    // Waits until the second verification is waiting in the executor queue
+    private void waitForQueuedVerification() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (boundedPasswordEncoder.getQueuedVerificationCount() == 0) {
+            if (System.nanoTime() > deadline) {
+                fail("Second verification was not queued.");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    // Compares raw values; optionally blocks until released so the executor can be saturated
+    private class PlainPasswordEncoder implements PasswordEncoder {
+        private final CountDownLatch gate;
+
+        PlainPasswordEncoder(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (gate != null) {
+                started.countDown();
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
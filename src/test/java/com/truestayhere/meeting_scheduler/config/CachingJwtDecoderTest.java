@@ -0,0 +1,88 @@
+package com.truestayhere.meeting_scheduler.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+public class CachingJwtDecoderTest {
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private JwtDecoder delegate;
+    private CachingJwtDecoder cachingJwtDecoder;
+
+    @BeforeEach
+    void setUp() {
+        cachingJwtDecoder = new CachingJwtDecoder(delegate, 100, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void decode_shouldVerifyTokenOnlyOnce_whenTokenIsDecodedRepeatedly() {
+        Jwt jwt = buildJwt(NOW.plusSeconds(3600));
+        when(delegate.decode(TOKEN)).thenReturn(jwt);
+
+        assertSame(jwt, cachingJwtDecoder.decode(TOKEN));
+        assertSame(jwt, cachingJwtDecoder.decode(TOKEN));
+
+        verify(delegate, times(1)).decode(TOKEN);
+        assertEquals(1, cachingJwtDecoder.getCache().stats().hitCount());
+    }
+
+    @Test
+    void decode_shouldNotCacheToken_whenTokenIsAlreadyExpired() {
+        Jwt jwt = buildJwt(NOW.minusSeconds(1));
+        when(delegate.decode(TOKEN)).thenReturn(jwt);
+
+        cachingJwtDecoder.decode(TOKEN);
+        cachingJwtDecoder.decode(TOKEN);
+
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    @Test
+    void decode_shouldNotCacheToken_whenTokenHasNoExpiration() {
+        Jwt jwt = buildJwt(null);
+        when(delegate.decode(TOKEN)).thenReturn(jwt);
+
+        cachingJwtDecoder.decode(TOKEN);
+        cachingJwtDecoder.decode(TOKEN);
+
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    @Test
+    void decode_shouldPropagateExceptionAndNotCache_whenTokenIsInvalid() {
+        when(delegate.decode(TOKEN)).thenThrow(new BadJwtException("Invalid signature"));
+
+        assertThrows(BadJwtException.class, () -> cachingJwtDecoder.decode(TOKEN));
+        assertThrows(BadJwtException.class, () -> cachingJwtDecoder.decode(TOKEN));
+
+        verify(delegate, times(2)).decode(TOKEN);
+        assertEquals(0, cachingJwtDecoder.getCache().estimatedSize());
+    }
+
+    private Jwt buildJwt(Instant expiresAt) {
+        return Jwt.withTokenValue(TOKEN)
+                .header("alg", "HS256")
+                .subject("attendee@test.com")
+                .claim("scope", "ROLE_USER")
+                .issuedAt(NOW.minusSeconds(60))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.truestayhere.meeting_scheduler.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class PasswordEncoderConfigTest {
+    private static final String RAW_PASSWORD = "password";
+
+    private PasswordHashingProperties properties;
+    private String legacyHash;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PasswordHashingProperties();
+        properties.setBcryptStrength(4);
+        // Hash stored before the delegating encoder was introduced (no {id} prefix)
+        legacyHash = new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+    }
+
+    @Test
+    void delegatingPasswordEncoder_shouldMatchLegacyHashAndRequestUpgrade() {
+        PasswordEncoder encoder = PasswordEncoderConfig.delegatingPasswordEncoder(properties);
+
+        assertTrue(encoder.matches(RAW_PASSWORD, legacyHash));
+        assertTrue(encoder.upgradeEncoding(legacyHash));
+    }
+
+    @Test
+    void delegatingPasswordEncoder_shouldNotRequestUpgrade_whenHashUsesConfiguredAlgorithmAndStrength() {
+        PasswordEncoder encoder = PasswordEncoderConfig.delegatingPasswordEncoder(properties);
+
+        String hash = encoder.encode(RAW_PASSWORD);
+
+        assertTrue(hash.startsWith("{bcrypt}"));
+        assertTrue(encoder.matches(RAW_PASSWORD, hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void delegatingPasswordEncoder_shouldRequestUpgrade_whenStrengthWasIncreased() {
+        String weakHash = PasswordEncoderConfig.delegatingPasswordEncoder(properties).encode(RAW_PASSWORD);
+        properties.setBcryptStrength(5);
+
+        PasswordEncoder encoder = PasswordEncoderConfig.delegatingPasswordEncoder(properties);
+
+        assertTrue(encoder.matches(RAW_PASSWORD, weakHash));
+        assertTrue(encoder.upgradeEncoding(weakHash));
+    }
+
+    @Test
+    void delegatingPasswordEncoder_shouldHashWithPbkdf2AndStillMatchBcrypt_whenAlgorithmIsPbkdf2() {
+        String bcryptHash = PasswordEncoderConfig.delegatingPasswordEncoder(properties).encode(RAW_PASSWORD);
+        properties.setAlgorithm(PasswordHashingProperties.Algorithm.PBKDF2);
+
+        PasswordEncoder encoder = PasswordEncoderConfig.delegatingPasswordEncoder(properties);
+
+        assertTrue(encoder.encode(RAW_PASSWORD).startsWith("{pbkdf2}"));
+        assertTrue(encoder.matches(RAW_PASSWORD, bcryptHash));
+        assertTrue(encoder.upgradeEncoding(bcryptHash));
+    }
+}
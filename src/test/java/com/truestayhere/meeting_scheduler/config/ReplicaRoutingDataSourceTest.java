@@ -0,0 +1,162 @@
+package com.truestayhere.meeting_scheduler.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class ReplicaRoutingDataSourceTest {
+    private static final Instant NOW = Instant.parse("2030-01-15T10:00:00Z");
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = routingDataSource(Duration.ofMinutes(1));
+        startRequest();
+    }
+
+    @AfterEach
+    void tearDown() {
+        endTransaction();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRouteToReplica_whenTransactionIsReadOnly() {
+        beginTransaction(true);
+
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRouteToPrimary_whenTransactionIsReadWrite() {
+        beginTransaction(false);
+
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRouteToPrimary_whenNoTransactionIsActive() {
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRouteReadsToPrimary_whenSameRequestCommittedWrite() {
+        beginTransaction(false);
+        routingDataSource.determineCurrentLookupKey();
+        commitTransaction();
+
+        beginTransaction(true);
+
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRouteReadsToPrimaryOnAnyNode_whenClientSendsRecentWriteMarker() {
+        beginTransaction(false);
+        routingDataSource.determineCurrentLookupKey();
+        commitTransaction();
+        Cookie marker = response.getCookie(ReadYourWritesGuard.LAST_WRITE_COOKIE);
+        assertNotNull(marker);
+        assertEquals(Long.toString(NOW.toEpochMilli()), response.getHeader(ReadYourWritesGuard.LAST_WRITE_HEADER));
+
+        // Next request of the same client lands on another node
+        ReplicaRoutingDataSource otherNode = routingDataSource(Duration.ofMinutes(1));
+        startRequest();
+        request.setCookies(marker);
+        beginTransaction(true);
+
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, otherNode.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRouteReadsToPrimary_whenClientSendsRecentWriteHeader() {
+        request.addHeader(ReadYourWritesGuard.LAST_WRITE_HEADER, Long.toString(NOW.minusSeconds(30).toEpochMilli()));
+        beginTransaction(true);
+
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRouteReadsToReplica_whenWriteMarkerIsOlderThanWindow() {
+        request.addHeader(ReadYourWritesGuard.LAST_WRITE_HEADER, Long.toString(NOW.minusSeconds(61).toEpochMilli()));
+        beginTransaction(true);
+
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRouteReadsToReplica_whenReadWriteTransactionDidNotCommit() {
+        beginTransaction(false);
+        routingDataSource.determineCurrentLookupKey();
+        endTransaction(); // Rolled back, no afterCommit callback
+
+        beginTransaction(true);
+
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, routingDataSource.determineCurrentLookupKey());
+        assertNull(response.getCookie(ReadYourWritesGuard.LAST_WRITE_COOKIE));
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRouteReadsToReplica_whenOnlyNonTransactionalWorkUsedPrimary() {
+        routingDataSource.determineCurrentLookupKey();
+
+        beginTransaction(true);
+
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRouteReadsToReplica_whenNoRequestIsBound() {
+        RequestContextHolder.resetRequestAttributes();
+        request.addHeader(ReadYourWritesGuard.LAST_WRITE_HEADER, Long.toString(NOW.toEpochMilli()));
+        beginTransaction(true);
+
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    // === HELPER METHODS ===
+
+    private ReplicaRoutingDataSource routingDataSource(Duration window) {
+        return new ReplicaRoutingDataSource(new ReadYourWritesGuard(window, Clock.fixed(NOW, ZoneOffset.UTC)));
+    }
+
+    private void startRequest() {
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        endTransaction();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private void commitTransaction() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        endTransaction();
+    }
+
+    private void endTransaction() {
+        TransactionSynchronizationManager.clear();
+    }
+}
@@ -10,6 +10,8 @@ import com.truestayhere.meeting_scheduler.helper.AttendeeTestHelper;
 import com.truestayhere.meeting_scheduler.model.Role;
 import com.truestayhere.meeting_scheduler.service.AttendeeService;
 import com.truestayhere.meeting_scheduler.service.AvailabilityService;
+import com.truestayhere.meeting_scheduler.service.CalendarChangeBroadcaster;
+import com.truestayhere.meeting_scheduler.service.CalendarVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -39,6 +41,10 @@ public class AttendeeControllerSecurityTest {
     @MockitoBean
     AvailabilityService availabilityService;
     @MockitoBean
+    CalendarVersionService calendarVersionService;
+    @MockitoBean
+    CalendarChangeBroadcaster calendarChangeBroadcaster;
+    @MockitoBean
     CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     @MockitoBean
     JwtDecoder jwtDecoder;
@@ -66,7 +72,8 @@ public class AttendeeControllerSecurityTest {
                 "rawPassword",
                 Role.USER,
                 LocalTime.of(9, 0),
-                LocalTime.of(17, 0)
+                LocalTime.of(17, 0),
+                null
         );
 
         updateAttendee = new UpdateAttendeeRequestDTO(
@@ -75,6 +82,7 @@ public class AttendeeControllerSecurityTest {
                 null,
                 null,
                 null,
+                null,
                 null
         );
     }
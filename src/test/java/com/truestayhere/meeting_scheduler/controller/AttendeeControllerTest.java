@@ -11,9 +11,12 @@ import com.truestayhere.meeting_scheduler.dto.response.AvailableSlotDTO;
 import com.truestayhere.meeting_scheduler.exception.GlobalExceptionHandler;
 import com.truestayhere.meeting_scheduler.exception.ResourceInUseException;
 import com.truestayhere.meeting_scheduler.helper.AttendeeTestHelper;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
 import com.truestayhere.meeting_scheduler.model.Role;
 import com.truestayhere.meeting_scheduler.service.AttendeeService;
 import com.truestayhere.meeting_scheduler.service.AvailabilityService;
+import com.truestayhere.meeting_scheduler.service.CalendarChangeBroadcaster;
+import com.truestayhere.meeting_scheduler.service.CalendarVersionService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -62,6 +66,10 @@ public class AttendeeControllerTest {
     @MockitoBean
     AvailabilityService availabilityService;
     @MockitoBean
+    CalendarVersionService calendarVersionService;
+    @MockitoBean
+    CalendarChangeBroadcaster calendarChangeBroadcaster;
+    @MockitoBean
     CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     @MockitoBean
     JwtDecoder jwtDecoder;
@@ -98,7 +106,8 @@ public class AttendeeControllerTest {
                 "rawPassword",
                 Role.USER,
                 LocalTime.of(9, 0),
-                LocalTime.of(17, 0)
+                LocalTime.of(17, 0),
+                null
         );
 
         updateRequest = new UpdateAttendeeRequestDTO(
@@ -107,7 +116,8 @@ public class AttendeeControllerTest {
                 "rawPasswordUpdated",
                 Role.ADMIN,
                 LocalTime.of(10, 0),
-                LocalTime.of(18, 0)
+                LocalTime.of(18, 0),
+                null
         );
     }
 
@@ -128,49 +138,49 @@ public class AttendeeControllerTest {
         return Stream.of(
                 Arguments.of(
                         "Name is null/blank",
-                        new CreateAttendeeRequestDTO(null, validEmail, validPassword, validRole, validStartTime, validEndTime),
+                        new CreateAttendeeRequestDTO(null, validEmail, validPassword, validRole, validStartTime, validEndTime, null),
                         "name",
                         "Attendee name cannot be blank."
                 ),
                 Arguments.of(
                         "Name longer than max",
-                        new CreateAttendeeRequestDTO(longName, validEmail, validPassword, validRole, validStartTime, validEndTime),
+                        new CreateAttendeeRequestDTO(longName, validEmail, validPassword, validRole, validStartTime, validEndTime, null),
                         "name",
                         "Attendee name cannot exceed 100 characters."
                 ),
                 Arguments.of(
                         "Email is null/blank",
-                        new CreateAttendeeRequestDTO(validName, null, validPassword, validRole, validStartTime, validEndTime),
+                        new CreateAttendeeRequestDTO(validName, null, validPassword, validRole, validStartTime, validEndTime, null),
                         "email",
                         "Attendee email cannot be blank."
                 ),
                 Arguments.of(
                         "Email longer that max",
-                        new CreateAttendeeRequestDTO(validName, longEmail, validPassword, validRole, validStartTime, validEndTime),
+                        new CreateAttendeeRequestDTO(validName, longEmail, validPassword, validRole, validStartTime, validEndTime, null),
                         "email",
                         "Email cannot exceed 100 characters."
                 ),
                 Arguments.of(
                         "Email is invalid format",
-                        new CreateAttendeeRequestDTO(validName, invalidEmail, validPassword, validRole, validStartTime, validEndTime),
+                        new CreateAttendeeRequestDTO(validName, invalidEmail, validPassword, validRole, validStartTime, validEndTime, null),
                         "email",
                         "Invalid email format."
                 ),
                 Arguments.of(
                         "Password is null/blank",
-                        new CreateAttendeeRequestDTO(validName, validEmail, null, validRole, validStartTime, validEndTime),
+                        new CreateAttendeeRequestDTO(validName, validEmail, null, validRole, validStartTime, validEndTime, null),
                         "password",
                         "Password cannot be blank."
                 ),
                 Arguments.of(
                         "Password is less than min",
-                        new CreateAttendeeRequestDTO(validName, validEmail, shortPassword, validRole, validStartTime, validEndTime),
+                        new CreateAttendeeRequestDTO(validName, validEmail, shortPassword, validRole, validStartTime, validEndTime, null),
                         "password",
                         "Password must be at leat 8 characters long."
                 ),
                 Arguments.of(
                         "Working start time equals end time",
-                        new CreateAttendeeRequestDTO(validName, validEmail, validPassword, validRole, sameTime, sameTime),
+                        new CreateAttendeeRequestDTO(validName, validEmail, validPassword, validRole, sameTime, sameTime, null),
                         "createAttendeeRequestDTO",
                         "Working start time and end time cannot be the same."
                 )
@@ -194,31 +204,31 @@ public class AttendeeControllerTest {
         return Stream.of(
                 Arguments.of(
                         "Name longer than max",
-                        new UpdateAttendeeRequestDTO(longName, validEmail, validPassword, validRole, validStartTime, validEndTime),
+                        new UpdateAttendeeRequestDTO(longName, validEmail, validPassword, validRole, validStartTime, validEndTime, null),
                         "name",
                         "Attendee name cannot exceed 100 characters."
                 ),
                 Arguments.of(
                         "Email longer that max",
-                        new UpdateAttendeeRequestDTO(validName, longEmail, validPassword, validRole, validStartTime, validEndTime),
+                        new UpdateAttendeeRequestDTO(validName, longEmail, validPassword, validRole, validStartTime, validEndTime, null),
                         "email",
                         "Email cannot exceed 100 characters."
                 ),
                 Arguments.of(
                         "Email is invalid format",
-                        new UpdateAttendeeRequestDTO(validName, invalidEmail, validPassword, validRole, validStartTime, validEndTime),
+                        new UpdateAttendeeRequestDTO(validName, invalidEmail, validPassword, validRole, validStartTime, validEndTime, null),
                         "email",
                         "Invalid email format."
                 ),
                 Arguments.of(
                         "Password is less than min",
-                        new UpdateAttendeeRequestDTO(validName, validEmail, shortPassword, validRole, validStartTime, validEndTime),
+                        new UpdateAttendeeRequestDTO(validName, validEmail, shortPassword, validRole, validStartTime, validEndTime, null),
                         "password",
                         "Password must be at leat 8 characters long."
                 ),
                 Arguments.of(
                         "Working start time equals end time",
-                        new UpdateAttendeeRequestDTO(validName, validEmail, validPassword, validRole, sameTime, sameTime),
+                        new UpdateAttendeeRequestDTO(validName, validEmail, validPassword, validRole, sameTime, sameTime, null),
                         "updateAttendeeRequestDTO",
                         "Working start time and end time cannot be the same."
                 )
@@ -236,19 +246,19 @@ public class AttendeeControllerTest {
         return Stream.of(
                 Arguments.of(
                         "AttendeeIds is null/empty",
-                        new CommonAvailabilityRequestDTO(Set.of(), validDate),
+                        new CommonAvailabilityRequestDTO(Set.of(), null, validDate),
                         "attendeeIds",
                         "At least one attendee ID must be provided."
                 ),
                 Arguments.of(
                         "AttendeeIds contains a null element",
-                        new CommonAvailabilityRequestDTO(attendeeIdsWithNullElement, validDate),
+                        new CommonAvailabilityRequestDTO(attendeeIdsWithNullElement, null, validDate),
                         "attendeeIds[]",
                         "must not be null"
                 ),
                 Arguments.of(
                         "Date is null",
-                        new CommonAvailabilityRequestDTO(validAttendeeIds, null),
+                        new CommonAvailabilityRequestDTO(validAttendeeIds, null, null),
                         "date",
                         "A date must be provided."
                 )
@@ -450,7 +460,8 @@ public class AttendeeControllerTest {
                 updateRequest.password(),
                 updateRequest.role(),
                 updateRequest.workingStartTime(),
-                updateRequest.workingEndTime()
+                updateRequest.workingEndTime(),
+                null
         );
 
         AttendeeDTO expectedResponse = new AttendeeDTO(
@@ -482,7 +493,8 @@ public class AttendeeControllerTest {
                 updateRequest.password(),
                 updateRequest.role(),
                 updateRequest.workingStartTime(),
-                updateRequest.workingEndTime()
+                updateRequest.workingEndTime(),
+                null
         );
 
         AttendeeDTO expectedResponse = new AttendeeDTO(
@@ -701,6 +713,62 @@ public class AttendeeControllerTest {
         verify(availabilityService).getAvailableTimeForAttendee(attendeeId, date);
     }
 
+
+    @Test
+    @WithMockUser(authorities = {"USER"})
+    void getAttendeeAvailability_whenCalendarVersionExists_shouldReturnETagOfCalendarVersion() throws Exception {
+        Long attendeeId = attendeeDTO1.id();
+        LocalDate date = DEFAULT_DATE;
+
+        when(calendarVersionService.getRevision(ResourceType.ATTENDEE, attendeeId)).thenReturn(7L);
+        when(availabilityService.getAvailableTimeForAttendee(attendeeId, date)).thenReturn(List.of());
+
+        ResultActions resultActions = attendeeTestHelper.performGetAttendeeAvailability(attendeeId, date);
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"attendee-" + attendeeId + "-7\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+    }
+
+    @Test
+    @WithMockUser(authorities = {"USER"})
+    void getAttendeeAvailability_whenIfNoneMatchEqualsCalendarVersion_shouldReturn304NotModifiedWithoutComputingSlots() throws Exception {
+        Long attendeeId = attendeeDTO1.id();
+
+        when(calendarVersionService.getRevision(ResourceType.ATTENDEE, attendeeId)).thenReturn(7L);
+
+        ResultActions resultActions = mockMvc.perform(get("/api/attendees/{id}/availability", attendeeId)
+                .param("date", DEFAULT_DATE.toString())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"attendee-" + attendeeId + "-7\""));
+
+        resultActions
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(availabilityService, never()).getAvailableTimeForAttendee(anyLong(), any(LocalDate.class));
+    }
+
+    @Test
+    @WithMockUser(authorities = {"USER"})
+    void getAttendeeAvailability_whenCalendarVersionChanged_shouldReturn200Ok() throws Exception {
+        Long attendeeId = attendeeDTO1.id();
+        LocalDate date = DEFAULT_DATE;
+
+        when(calendarVersionService.getRevision(ResourceType.ATTENDEE, attendeeId)).thenReturn(8L);
+        when(availabilityService.getAvailableTimeForAttendee(attendeeId, date)).thenReturn(List.of());
+
+        ResultActions resultActions = mockMvc.perform(get("/api/attendees/{id}/availability", attendeeId)
+                .param("date", date.toString())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"attendee-" + attendeeId + "-7\""));
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"attendee-" + attendeeId + "-8\""));
+
+        verify(availabilityService).getAvailableTimeForAttendee(attendeeId, date);
+    }
+
     @Test
     @WithMockUser(authorities = {"USER"})
     void getAttendeeAvailability_whenAttendeeNotFound_shouldReturn404NotFound() throws Exception {
@@ -764,6 +832,7 @@ public class AttendeeControllerTest {
         Set<Long> attendeeIds = Set.of(attendeeDTO1.id(), attendeeDTO2.id());
         CommonAvailabilityRequestDTO requestDTO = new CommonAvailabilityRequestDTO(
                 attendeeIds,
+                null,
                 date
         );
 
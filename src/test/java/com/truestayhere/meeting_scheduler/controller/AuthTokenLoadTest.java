@@ -0,0 +1,92 @@
+package com.truestayhere.meeting_scheduler.controller;
+
+import com.truestayhere.meeting_scheduler.AbstractIntegrationTest;
+import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.Role;
+import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Load test for POST /api/auth/token (login storm).
+ * Excluded from the default build, run with: mvn test -Pload-test
+ * Request count and concurrency can be overridden with -Dloadtest.requests and -Dloadtest.concurrency.
+ */
+@AutoConfigureMockMvc
+@Slf4j
+public class AuthTokenLoadTest extends AbstractIntegrationTest {
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 500);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 50);
+    private static final String CREDENTIALS = "{\"email\":\"load@test.com\", \"password\":\"password\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private AttendeeRepository attendeeRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        attendeeRepository.deleteAll();
+        attendeeRepository.save(new Attendee("Load Test", "load@test.com", passwordEncoder.encode("password"), Role.USER));
+    }
+
+    @Test
+    void tokenEndpoint_shouldServeOrThrottleEveryRequest_underConcurrentLogins() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        List<Long> latenciesMillis = Collections.synchronizedList(new ArrayList<>());
+        Map<Integer, Integer> statusCounts = new ConcurrentHashMap<>();
+
+        long started = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(clients.submit(() -> {
+                long requestStarted = System.nanoTime();
+                int status = mockMvc.perform(post("/api/auth/token")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(CREDENTIALS))
+                        .andReturn().getResponse().getStatus();
+                latenciesMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestStarted));
+                statusCounts.merge(status, 1, Integer::sum);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        clients.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latenciesMillis);
+        Collections.sort(sorted);
+        log.info("Token endpoint: {} requests, concurrency {}, {} ms total, {} req/s, p50 {} ms, p95 {} ms, p99 {} ms, statuses {}",
+                REQUESTS, CONCURRENCY, elapsedMillis, REQUESTS * 1000L / elapsedMillis,
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), statusCounts);
+
+        // Every login either succeeds or is throttled (never fails with a server error)
+        assertThat(statusCounts.keySet()).isSubsetOf(200, 503);
+        assertThat(statusCounts.getOrDefault(200, 0)).isPositive();
+    }
+
+    // Accepts sorted latencies, returns the requested percentile
+    private long percentile(List<Long> sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+}
@@ -62,5 +62,27 @@ public class AuthenticationFlowIntegrationTest extends AbstractIntegrationTest {
 
         mockMvc.perform(get("/api/locations"))
                 .andExpect(status().isUnauthorized());
+
+        // Renew the access token with the refresh token (rotates the refresh token)
+        String refreshRequest = "{\"refreshToken\":\"" + responseMap.get("refreshToken") + "\"}";
+
+        MvcResult refreshResult = mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshRequest))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        java.util.Map<String, String> refreshedMap = objectMapper.readValue(refreshResult.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+
+        mockMvc.perform(get("/api/locations")
+                        .header("Authorization", "Bearer " + refreshedMap.get("token")))
+                .andExpect(status().isOk());
+
+        // The rotated refresh token can not be used again
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshRequest))
+                .andExpect(status().isUnauthorized());
     }
 }
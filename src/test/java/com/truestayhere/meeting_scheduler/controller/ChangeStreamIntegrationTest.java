@@ -0,0 +1,76 @@
+package com.truestayhere.meeting_scheduler.controller;
+
+import com.truestayhere.meeting_scheduler.AbstractIntegrationTest;
+import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.Location;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.model.Role;
+import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import com.truestayhere.meeting_scheduler.repository.LocationRepository;
+import com.truestayhere.meeting_scheduler.service.CalendarChangeBroadcaster;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Open change streams must not hold database connections: more subscribers than pooled connections
+ * are opened and the node still serves regular requests.
+ */
+@AutoConfigureMockMvc
+public class ChangeStreamIntegrationTest extends AbstractIntegrationTest {
+    private static final int POOL_SIZE = 2;
+    private static final int STREAMS_PER_RESOURCE = POOL_SIZE + 1;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private AttendeeRepository attendeeRepository;
+    @Autowired
+    private LocationRepository locationRepository;
+    @Autowired
+    private CalendarChangeBroadcaster calendarChangeBroadcaster;
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void configurePool(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> POOL_SIZE);
+        // Fail fast instead of waiting 30s if a stream kept its connection
+        registry.add("spring.datasource.hikari.connection-timeout", () -> 1000);
+    }
+
+    @Test
+    @WithMockUser(authorities = {"USER"})
+    void streams_shouldNotHoldConnections_whenMoreSubscribersThanPoolSize() throws Exception {
+        Attendee attendee = attendeeRepository.save(new Attendee("Stream Test", "stream@test.com", "password", Role.USER));
+        Location location = locationRepository.save(new Location("Stream Room", 4));
+
+        for (int i = 0; i < STREAMS_PER_RESOURCE; i++) {
+            mockMvc.perform(get("/api/attendees/{id}/changes", attendee.getId()))
+                    .andExpect(request().asyncStarted());
+            mockMvc.perform(get("/api/locations/{id}/changes", location.getId()))
+                    .andExpect(request().asyncStarted());
+        }
+
+        assertEquals(STREAMS_PER_RESOURCE, calendarChangeBroadcaster.getSubscriberCount(ResourceType.ATTENDEE, attendee.getId()));
+        assertEquals(STREAMS_PER_RESOURCE, calendarChangeBroadcaster.getSubscriberCount(ResourceType.LOCATION, location.getId()));
+        assertEquals(0, dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections());
+
+        mockMvc.perform(get("/api/attendees/{id}", attendee.getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/locations/{id}", location.getId()))
+                .andExpect(status().isOk());
+    }
+}
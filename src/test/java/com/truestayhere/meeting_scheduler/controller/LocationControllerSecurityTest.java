@@ -8,6 +8,8 @@ import com.truestayhere.meeting_scheduler.dto.request.UpdateLocationRequestDTO;
 import com.truestayhere.meeting_scheduler.exception.GlobalExceptionHandler;
 import com.truestayhere.meeting_scheduler.helper.LocationTestHelper;
 import com.truestayhere.meeting_scheduler.service.AvailabilityService;
+import com.truestayhere.meeting_scheduler.service.CalendarChangeBroadcaster;
+import com.truestayhere.meeting_scheduler.service.CalendarVersionService;
 import com.truestayhere.meeting_scheduler.service.LocationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -38,6 +40,10 @@ class LocationControllerSecurityTest {
     @MockitoBean
     AvailabilityService availabilityService;
     @MockitoBean
+    CalendarVersionService calendarVersionService;
+    @MockitoBean
+    CalendarChangeBroadcaster calendarChangeBroadcaster;
+    @MockitoBean
     CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     @MockitoBean
     JwtDecoder jwtDecoder;
@@ -63,14 +69,26 @@ class LocationControllerSecurityTest {
                 "Test Room",
                 5,
                 LocalTime.of(9, 0),
-                LocalTime.of(17, 0)
+                LocalTime.of(17, 0),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         updateLocation = new UpdateLocationRequestDTO(
                 "Updated Room",
                 10,
                 LocalTime.of(8, 0),
-                LocalTime.of(18, 0)
+                LocalTime.of(18, 0),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
     }
 
@@ -6,14 +6,20 @@ import com.truestayhere.meeting_scheduler.config.CustomAuthenticationEntryPoint;
 import com.truestayhere.meeting_scheduler.config.SecurityConfig;
 import com.truestayhere.meeting_scheduler.dto.request.CreateLocationRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.LocationAvailabilityRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.PendingMeetingRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.RoomAssignmentRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.UpdateLocationRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.response.AvailableSlotDTO;
 import com.truestayhere.meeting_scheduler.dto.response.LocationDTO;
 import com.truestayhere.meeting_scheduler.dto.response.LocationTimeSlotDTO;
+import com.truestayhere.meeting_scheduler.dto.response.RoomAssignmentDTO;
+import com.truestayhere.meeting_scheduler.dto.response.RoomAssignmentResultDTO;
 import com.truestayhere.meeting_scheduler.exception.GlobalExceptionHandler;
 import com.truestayhere.meeting_scheduler.exception.ResourceInUseException;
 import com.truestayhere.meeting_scheduler.helper.LocationTestHelper;
 import com.truestayhere.meeting_scheduler.service.AvailabilityService;
+import com.truestayhere.meeting_scheduler.service.CalendarChangeBroadcaster;
+import com.truestayhere.meeting_scheduler.service.CalendarVersionService;
 import com.truestayhere.meeting_scheduler.service.LocationService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -60,6 +66,10 @@ public class LocationControllerTest {
     @MockitoBean
     AvailabilityService availabilityService;
     @MockitoBean
+    CalendarVersionService calendarVersionService;
+    @MockitoBean
+    CalendarChangeBroadcaster calendarChangeBroadcaster;
+    @MockitoBean
     CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     @MockitoBean
     JwtDecoder jwtDecoder;
@@ -84,27 +94,49 @@ public class LocationControllerTest {
         locationDTO1 = new LocationDTO(
                 1L,
                 "Room 1",
-                10
+                10,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         locationDTO2 = new LocationDTO(
                 2L,
                 "Room 2",
-                20
+                20,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         createRequest = new CreateLocationRequestDTO(
                 locationDTO1.name(),
                 locationDTO1.capacity(),
                 LocalTime.of(9, 0),
-                LocalTime.of(17, 0)
+                LocalTime.of(17, 0),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         updateRequest = new UpdateLocationRequestDTO(
                 locationDTO1.name() + " Updated",
                 locationDTO1.capacity() + 10,
                 LocalTime.of(10, 0),
-                LocalTime.of(18, 0)
+                LocalTime.of(18, 0),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
     }
 
@@ -120,31 +152,31 @@ public class LocationControllerTest {
         return Stream.of(
                 Arguments.of(
                         "Name is null/blank",
-                        new CreateLocationRequestDTO(null, validCapacity, validStartTime, validEndTime),
+                        new CreateLocationRequestDTO(null, validCapacity, validStartTime, validEndTime, null, null, null, null, null, null),
                         "name",
                         "Location name cannot be blank."
                 ),
                 Arguments.of(
                         "Name longer than max",
-                        new CreateLocationRequestDTO(longName, validCapacity, validStartTime, validEndTime),
+                        new CreateLocationRequestDTO(longName, validCapacity, validStartTime, validEndTime, null, null, null, null, null, null),
                         "name",
                         "Location name cannot exceed 150 characters."
                 ),
                 Arguments.of(
                         "Capacity is null",
-                        new CreateLocationRequestDTO(validName, null, validStartTime, validEndTime),
+                        new CreateLocationRequestDTO(validName, null, validStartTime, validEndTime, null, null, null, null, null, null),
                         "capacity",
                         "Location capacity cannot be empty."
                 ),
                 Arguments.of(
                         "Capacity less than min",
-                        new CreateLocationRequestDTO(validName, 0, validStartTime, validEndTime),
+                        new CreateLocationRequestDTO(validName, 0, validStartTime, validEndTime, null, null, null, null, null, null),
                         "capacity",
                         "Location capacity must be at least 1."
                 ),
                 Arguments.of(
                         "Working start time equals end time",
-                        new CreateLocationRequestDTO(validName, validCapacity, sameTime, sameTime),
+                        new CreateLocationRequestDTO(validName, validCapacity, sameTime, sameTime, null, null, null, null, null, null),
                         "createLocationRequestDTO",
                         "Working start time and end time cannot be the same."
                 )
@@ -163,19 +195,19 @@ public class LocationControllerTest {
         return Stream.of(
                 Arguments.of(
                         "Name longer than max",
-                        new UpdateLocationRequestDTO(longName, validCapacity, validStartTime, validEndTime),
+                        new UpdateLocationRequestDTO(longName, validCapacity, validStartTime, validEndTime, null, null, null, null, null, null),
                         "name",
                         "Location name cannot exceed 150 characters."
                 ),
                 Arguments.of(
                         "Capacity less than min",
-                        new UpdateLocationRequestDTO(validName, 0, validStartTime, validEndTime),
+                        new UpdateLocationRequestDTO(validName, 0, validStartTime, validEndTime, null, null, null, null, null, null),
                         "capacity",
                         "Location capacity must be at least 1."
                 ),
                 Arguments.of(
                         "Working start time equals end time",
-                        new UpdateLocationRequestDTO(validName, validCapacity, sameTime, sameTime),
+                        new UpdateLocationRequestDTO(validName, validCapacity, sameTime, sameTime, null, null, null, null, null, null),
                         "updateLocationRequestDTO",
                         "Working start time and end time cannot be the same."
                 )
@@ -190,25 +222,33 @@ public class LocationControllerTest {
         LocationAvailabilityRequestDTO missingDateRequest = new LocationAvailabilityRequestDTO(
                 null,
                 validDuration,
-                validMinCapacity
+                validMinCapacity,
+                null,
+                null
         );
 
         LocationAvailabilityRequestDTO missingDurationRequest = new LocationAvailabilityRequestDTO(
                 validDate,
                 null,
-                validMinCapacity
+                validMinCapacity,
+                null,
+                null
         );
 
         LocationAvailabilityRequestDTO invalidDurationRequest = new LocationAvailabilityRequestDTO(
                 validDate,
                 0,
-                validMinCapacity
+                validMinCapacity,
+                null,
+                null
         );
 
         LocationAvailabilityRequestDTO invalidCapacityRequest = new LocationAvailabilityRequestDTO(
                 validDate,
                 validDuration,
-                0
+                0,
+                null,
+                null
         );
 
         return Stream.of(
@@ -386,7 +426,12 @@ public class LocationControllerTest {
         LocationDTO updatedLocationDTO = new LocationDTO(
                 locationIdToUpdate,
                 updateRequest.name(),
-                updateRequest.capacity()
+                updateRequest.capacity(),
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         when(locationService.updateLocation(eq(locationIdToUpdate), any(UpdateLocationRequestDTO.class)))
@@ -427,13 +472,24 @@ public class LocationControllerTest {
                 null,
                 updateRequest.capacity(),
                 updateRequest.workingStartTime(),
-                updateRequest.workingEndTime()
+                updateRequest.workingEndTime(),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         LocationDTO expectedResponse = new LocationDTO(
                 locationIdToUpdate,
                 existingName,
-                requestWithNameNull.capacity()
+                requestWithNameNull.capacity(),
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         when(locationService.updateLocation(eq(locationIdToUpdate), any(UpdateLocationRequestDTO.class))).thenReturn(expectedResponse);
@@ -457,13 +513,24 @@ public class LocationControllerTest {
                 updateRequest.name(),
                 null,
                 updateRequest.workingStartTime(),
-                updateRequest.workingEndTime()
+                updateRequest.workingEndTime(),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         LocationDTO expectedResponse = new LocationDTO(
                 locationIdToUpdate,
                 requestWithCapacityNull.name(),
-                existingCapacity
+                existingCapacity,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         when(locationService.updateLocation(eq(locationIdToUpdate), any(UpdateLocationRequestDTO.class))).thenReturn(expectedResponse);
@@ -708,7 +775,9 @@ public class LocationControllerTest {
         LocationAvailabilityRequestDTO requestDTO = new LocationAvailabilityRequestDTO(
                 date,
                 durationMinutes,
-                minCapacity
+                minCapacity,
+                null,
+                null
         );
 
         DateTimeFormatter expectedJsonFormat = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
@@ -751,6 +820,8 @@ public class LocationControllerTest {
         LocationAvailabilityRequestDTO requestDTOWithNullCapacity = new LocationAvailabilityRequestDTO(
                 date,
                 durationMinutes,
+                null,
+                null,
                 null
         );
 
@@ -806,4 +877,46 @@ public class LocationControllerTest {
 
     // === END AVAILABILITY BY DURATION ===
 
+    // === ROOM ASSIGNMENTS ===
+
+    @Test
+    @WithMockUser(authorities = {"USER"})
+    void assignRooms_whenValidRequestDTO_shouldReturn200OkAndAssignments() throws Exception {
+        LocalDate date = LocalDate.of(Year.now().getValue() + 1, 8, 14);
+        RoomAssignmentRequestDTO requestDTO = new RoomAssignmentRequestDTO(date, List.of(
+                new PendingMeetingRequestDTO(date.atTime(10, 0), date.atTime(11, 0), 4, null),
+                new PendingMeetingRequestDTO(date.atTime(10, 0), date.atTime(11, 0), 40, null)));
+        RoomAssignmentResultDTO expectedResult = new RoomAssignmentResultDTO(List.of(
+                new RoomAssignmentDTO(0, date.atTime(10, 0), date.atTime(11, 0), 4, locationDTO1),
+                new RoomAssignmentDTO(1, date.atTime(10, 0), date.atTime(11, 0), 40, null)), 1, 1, 0.4);
+        when(availabilityService.assignRooms(requestDTO)).thenReturn(expectedResult);
+
+        ResultActions resultActions = locationTestHelper.performAssignRooms(requestDTO);
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assignments.length()", is(2)))
+                .andExpect(jsonPath("$.assignments[0].location.id", is(locationDTO1.id().intValue())))
+                .andExpect(jsonPath("$.assignments[1].location").doesNotExist())
+                .andExpect(jsonPath("$.assignedCount", is(1)))
+                .andExpect(jsonPath("$.unassignedCount", is(1)));
+
+        verify(availabilityService).assignRooms(requestDTO);
+    }
+
+    @Test
+    @WithMockUser(authorities = {"USER"})
+    void assignRooms_whenMeetingEndsBeforeItStarts_shouldReturn400BadRequest() throws Exception {
+        LocalDate date = LocalDate.of(Year.now().getValue() + 1, 8, 14);
+        RoomAssignmentRequestDTO invalidRequest = new RoomAssignmentRequestDTO(date, List.of(
+                new PendingMeetingRequestDTO(date.atTime(11, 0), date.atTime(10, 0), 4, null)));
+
+        ResultActions resultActions = locationTestHelper.performAssignRooms(invalidRequest);
+
+        resultActions.andExpect(status().isBadRequest());
+        verify(availabilityService, never()).assignRooms(any());
+    }
+
+    // === END ROOM ASSIGNMENTS ===
+
 }
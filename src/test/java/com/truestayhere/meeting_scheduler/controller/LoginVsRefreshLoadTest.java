@@ -0,0 +1,94 @@
+package com.truestayhere.meeting_scheduler.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truestayhere.meeting_scheduler.AbstractIntegrationTest;
+import com.truestayhere.meeting_scheduler.dto.request.RefreshTokenRequestDTO;
+import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.Role;
+import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Benchmark comparing token renewal by login (password verification) against renewal by refresh token.
+ * Excluded from the default build, run with: mvn test -Pload-test
+ * The number of renewals can be overridden with -Dloadtest.requests.
+ */
+@AutoConfigureMockMvc
+@Slf4j
+public class LoginVsRefreshLoadTest extends AbstractIntegrationTest {
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 200);
+    private static final String CREDENTIALS = "{\"email\":\"refresh@test.com\", \"password\":\"password\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private AttendeeRepository attendeeRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        attendeeRepository.deleteAll();
+        attendeeRepository.save(new Attendee("Refresh Test", "refresh@test.com", passwordEncoder.encode("password"), Role.USER));
+    }
+
+    @Test
+    void refresh_shouldBeCheaperThanLogin() throws Exception {
+        // Warm up both paths
+        String refreshToken = login().get("refreshToken").asText();
+        refreshToken = refresh(refreshToken).get("refreshToken").asText();
+
+        long loginStarted = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            login();
+        }
+        long loginMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - loginStarted) / REQUESTS;
+
+        long refreshStarted = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            refreshToken = refresh(refreshToken).get("refreshToken").asText();
+        }
+        long refreshMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - refreshStarted) / REQUESTS;
+
+        log.info("Token renewal over {} requests: login {} us/request, refresh {} us/request ({}x)",
+                REQUESTS, loginMicros, refreshMicros, String.format("%.1f", (double) loginMicros / Math.max(1, refreshMicros)));
+
+        assertThat(refreshMicros).isLessThan(loginMicros);
+    }
+
+    // POST /api/auth/token, returns the response body
+    private JsonNode login() throws Exception {
+        String body = mockMvc.perform(post("/api/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREDENTIALS))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    // POST /api/auth/refresh, returns the response body
+    private JsonNode refresh(String refreshToken) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequestDTO(refreshToken))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
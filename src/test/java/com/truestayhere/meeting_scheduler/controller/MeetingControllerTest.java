@@ -3,13 +3,18 @@ package com.truestayhere.meeting_scheduler.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.truestayhere.meeting_scheduler.config.CustomAuthenticationEntryPoint;
 import com.truestayhere.meeting_scheduler.config.SecurityConfig;
+import com.truestayhere.meeting_scheduler.dto.request.BatchMeetingRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.BatchScheduleRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.CreateMeetingRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.MeetingSuggestionRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.PreemptionPlanRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.RecurringSuggestionRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.UpdateMeetingRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.response.*;
 import com.truestayhere.meeting_scheduler.exception.GlobalExceptionHandler;
 import com.truestayhere.meeting_scheduler.helper.MeetingTestHelper;
 import com.truestayhere.meeting_scheduler.service.AvailabilityService;
+import com.truestayhere.meeting_scheduler.service.CalendarVersionService;
 import com.truestayhere.meeting_scheduler.service.MeetingService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,8 +38,10 @@ import org.springframework.test.web.servlet.ResultActions;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Year;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -55,6 +62,8 @@ public class MeetingControllerTest {
     @MockitoBean
     AvailabilityService availabilityService;
     @MockitoBean
+    CalendarVersionService calendarVersionService;
+    @MockitoBean
     CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     @MockitoBean
     JwtDecoder jwtDecoder;
@@ -93,13 +102,23 @@ public class MeetingControllerTest {
         locationDTO1 = new LocationDTO(
                 201L,
                 "Location One",
-                10
+                10,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         locationDTO2 = new LocationDTO(
                 202L,
                 "Location Two",
-                20
+                20,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         meetingDTO1 = new MeetingDTO(
@@ -284,25 +303,25 @@ public class MeetingControllerTest {
         return Stream.of(
                 Arguments.of(
                         "AttendeeIds is null or empty",
-                        new MeetingSuggestionRequestDTO(null, validDurationMinutes, validDate),
+                        new MeetingSuggestionRequestDTO(null, null, validDurationMinutes, validDate, null, null, null),
                         "attendeeIds",
                         "Attendee list cannot be empty."
                 ),
                 Arguments.of(
                         "Date is null",
-                        new MeetingSuggestionRequestDTO(validAttendeeIds, validDurationMinutes, null),
+                        new MeetingSuggestionRequestDTO(validAttendeeIds, null, validDurationMinutes, null, null, null, null),
                         "date",
                         "A date must be provided."
                 ),
                 Arguments.of(
                         "DurationMinutes is null",
-                        new MeetingSuggestionRequestDTO(validAttendeeIds, null, validDate),
+                        new MeetingSuggestionRequestDTO(validAttendeeIds, null, null, validDate, null, null, null),
                         "durationMinutes",
                         "Meeting duration cannot be empty."
                 ),
                 Arguments.of(
                         "DurationMinutes less than min",
-                        new MeetingSuggestionRequestDTO(validAttendeeIds, 0, validDate),
+                        new MeetingSuggestionRequestDTO(validAttendeeIds, null, 0, validDate, null, null, null),
                         "durationMinutes",
                         "Duration must me at least 1 minute."
                 )
@@ -883,8 +902,12 @@ public class MeetingControllerTest {
         LocalDate date = DEFAULT_DATE;
         MeetingSuggestionRequestDTO requestDTO = new MeetingSuggestionRequestDTO(
                 attendeeIds,
+                null,
                 durationMinutes,
-                date
+                date,
+                null,
+                null,
+                null
         );
 
         DateTimeFormatter expectedJsonFormat = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
@@ -962,8 +985,12 @@ public class MeetingControllerTest {
         LocalDate date = DEFAULT_DATE;
         MeetingSuggestionRequestDTO requestDTOWithNonExistentAttendee = new MeetingSuggestionRequestDTO(
                 Set.of(nonExistentAttendeeId),
+                null,
                 durationMinutes,
-                date
+                date,
+                null,
+                null,
+                null
         );
         String expectedErrorMessage = "Attendee not found with ID: " + nonExistentAttendeeId;
         when(availabilityService.findMeetingSuggestions(any(MeetingSuggestionRequestDTO.class))).thenThrow(new EntityNotFoundException(expectedErrorMessage));
@@ -975,6 +1002,113 @@ public class MeetingControllerTest {
         verify(availabilityService).findMeetingSuggestions(any(MeetingSuggestionRequestDTO.class));
     }
 
+    @Test
+    @WithMockUser(authorities = {"USER"})
+    void findRecurringSuggestions_whenValidRequest_shouldReturn200OkAndListOfSuggestions() throws Exception {
+        RecurringSuggestionRequestDTO requestDTO = new RecurringSuggestionRequestDTO(
+                Set.of(attendeeDTO1.id()), null, 30, DEFAULT_DATE, 8, ZoneId.of("Europe/Berlin"), null, null, null);
+        List<LocationTimeSlotDTO> expectedResults = List.of(
+                new LocationTimeSlotDTO(locationDTO1, new AvailableSlotDTO(DEFAULT_DATE.atTime(10, 0), DEFAULT_DATE.atTime(11, 0))));
+        when(availabilityService.findRecurringSuggestions(requestDTO)).thenReturn(expectedResults);
+
+        ResultActions resultActions = meetingTestHelper.performFindRecurringSuggestions(requestDTO);
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$[0].location.id", is(locationDTO1.id().intValue())))
+                .andExpect(jsonPath("$[0].availableSlot.startTime", is(DEFAULT_DATE.atTime(10, 0).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))));
+
+        verify(availabilityService).findRecurringSuggestions(requestDTO);
+    }
+
+    @Test
+    @WithMockUser(authorities = {"USER"})
+    void findRecurringSuggestions_whenTooManyOccurrences_shouldReturn400BadRequest() throws Exception {
+        RecurringSuggestionRequestDTO invalidRequest = new RecurringSuggestionRequestDTO(
+                Set.of(attendeeDTO1.id()), null, 30, DEFAULT_DATE, 27, null, null, null, null);
+
+        ResultActions resultActions = meetingTestHelper.performFindRecurringSuggestions(invalidRequest);
+
+        meetingTestHelper.assertValidationError(resultActions, "occurrences", "At most 26 occurrences can be requested.");
+        verify(availabilityService, never()).findRecurringSuggestions(any());
+    }
+
+    @Test
+    @WithMockUser(authorities = {"USER"})
+    void planPreemption_whenValidRequest_shouldReturn200OkAndPlans() throws Exception {
+        PreemptionPlanRequestDTO requestDTO = new PreemptionPlanRequestDTO(
+                Set.of(attendeeDTO1.id()), null, 60, DEFAULT_DATE, null, null, 5, Map.of(7L, 1), null);
+        AvailableSlotDTO slot = new AvailableSlotDTO(DEFAULT_DATE.atTime(10, 0), DEFAULT_DATE.atTime(11, 0));
+        List<PreemptionPlanDTO> expectedPlans = List.of(new PreemptionPlanDTO(locationDTO1, slot, List.of(
+                new DisplacedMeetingDTO(7L, "Sync", 1, slot, new AvailableSlotDTO(DEFAULT_DATE.atTime(15, 0), DEFAULT_DATE.atTime(16, 0))))));
+        when(availabilityService.planPreemption(requestDTO)).thenReturn(expectedPlans);
+
+        ResultActions resultActions = meetingTestHelper.performPlanPreemption(requestDTO);
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$[0].location.id", is(locationDTO1.id().intValue())))
+                .andExpect(jsonPath("$[0].displacedMeetings[0].meetingId", is(7)))
+                .andExpect(jsonPath("$[0].displacedMeetings[0].alternativeSlot.startTime", is(DEFAULT_DATE.atTime(15, 0).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))));
+
+        verify(availabilityService).planPreemption(requestDTO);
+    }
+
+    @Test
+    @WithMockUser(authorities = {"USER"})
+    void planPreemption_whenPriorityMissing_shouldReturn400BadRequest() throws Exception {
+        PreemptionPlanRequestDTO invalidRequest = new PreemptionPlanRequestDTO(
+                Set.of(attendeeDTO1.id()), null, 60, DEFAULT_DATE, null, null, null, null, null);
+
+        ResultActions resultActions = meetingTestHelper.performPlanPreemption(invalidRequest);
+
+        meetingTestHelper.assertValidationError(resultActions, "priority", "Meeting priority cannot be empty.");
+        verify(availabilityService, never()).planPreemption(any());
+    }
+
     // === END MEETING SUGGESTIONS ===
 
+    // === BATCH SCHEDULING ===
+
+    @Test
+    @WithMockUser(authorities = {"USER"})
+    void scheduleBatch_whenValidRequest_shouldReturn200OkAndSchedule() throws Exception {
+        BatchScheduleRequestDTO requestDTO = new BatchScheduleRequestDTO(DEFAULT_DATE, 5, List.of(
+                new BatchMeetingRequestDTO("Interview 1", Set.of(attendeeDTO1.id(), attendeeDTO2.id()), 60, null, null),
+                new BatchMeetingRequestDTO("Interview 2", Set.of(attendeeDTO1.id()), 60, null, null)));
+        BatchScheduleResultDTO expectedResult = new BatchScheduleResultDTO(List.of(
+                new ScheduledMeetingDTO(0, "Interview 1", DEFAULT_DATE.atTime(10, 0), DEFAULT_DATE.atTime(11, 0), locationDTO1),
+                new ScheduledMeetingDTO(1, "Interview 2", null, null, null)), 1, 1);
+        when(availabilityService.scheduleBatch(requestDTO)).thenReturn(expectedResult);
+
+        ResultActions resultActions = meetingTestHelper.performScheduleBatch(requestDTO);
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meetings.length()", is(2)))
+                .andExpect(jsonPath("$.meetings[0].location.id", is(locationDTO1.id().intValue())))
+                .andExpect(jsonPath("$.meetings[0].startTime", is(DEFAULT_DATE.atTime(10, 0).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))))
+                .andExpect(jsonPath("$.meetings[1].startTime").doesNotExist())
+                .andExpect(jsonPath("$.scheduledCount", is(1)))
+                .andExpect(jsonPath("$.unscheduledCount", is(1)));
+
+        verify(availabilityService).scheduleBatch(requestDTO);
+    }
+
+    @Test
+    @WithMockUser(authorities = {"USER"})
+    void scheduleBatch_whenMeetingHasNoAttendees_shouldReturn400BadRequest() throws Exception {
+        BatchScheduleRequestDTO invalidRequest = new BatchScheduleRequestDTO(DEFAULT_DATE, null, List.of(
+                new BatchMeetingRequestDTO("Interview", Set.of(), 60, null, null)));
+
+        ResultActions resultActions = meetingTestHelper.performScheduleBatch(invalidRequest);
+
+        resultActions.andExpect(status().isBadRequest());
+        verify(availabilityService, never()).scheduleBatch(any());
+    }
+
+    // === END BATCH SCHEDULING ===
+
 }
@@ -0,0 +1,70 @@
+package com.truestayhere.meeting_scheduler.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truestayhere.meeting_scheduler.AbstractIntegrationTest;
+import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.Role;
+import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Login and refresh with replica routing enabled. The "replica" is the same database reached through a read-only pool,
+ * so a write that ends up on a replica connection fails just like on a real standby.
+ */
+@AutoConfigureMockMvc
+public class ReplicaRoutingIntegrationTest extends AbstractIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private AttendeeRepository attendeeRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @DynamicPropertySource
+    static void configureReplica(DynamicPropertyRegistry registry) {
+        registry.add("datasource.replica.enabled", () -> "true");
+        registry.add("datasource.replica.url", postgres::getJdbcUrl);
+        registry.add("datasource.replica.username", postgres::getUsername);
+        registry.add("datasource.replica.password", postgres::getPassword);
+    }
+
+    @Test
+    void loginAndRefresh_shouldWriteToPrimary_whenUserWasLoadedFromReplica() throws Exception {
+        attendeeRepository.save(new Attendee(
+                "Replica User",
+                "replica@test.com",
+                passwordEncoder.encode("password"),
+                Role.USER));
+
+        // The user is loaded in a read-only transaction (replica), the refresh token is inserted afterwards (primary)
+        MvcResult loginResult = mockMvc.perform(post("/api/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"replica@test.com\", \"password\":\"password\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        Map<String, String> tokens = objectMapper.readValue(loginResult.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + tokens.get("refreshToken") + "\"}"))
+                .andExpect(status().isOk());
+    }
+}
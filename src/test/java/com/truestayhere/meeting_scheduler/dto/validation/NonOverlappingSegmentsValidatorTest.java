@@ -0,0 +1,61 @@
+package com.truestayhere.meeting_scheduler.dto.validation;
+
+import com.truestayhere.meeting_scheduler.dto.request.WorkingSegmentRequestDTO;
+import jakarta.validation.ConstraintValidatorContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class NonOverlappingSegmentsValidatorTest {
+
+    private NonOverlappingSegmentsValidator validator;
+
+    @Mock
+    private ConstraintValidatorContext constraintValidatorContext;
+
+    @BeforeEach
+    void setUp() {
+        validator = new NonOverlappingSegmentsValidator();
+    }
+
+    @ParameterizedTest(name = "{0} {1}-{2} and {3} {4}-{5}, Expected: {6}")
+    @CsvSource({
+            // Split shift
+            "MONDAY, 09:00, 12:00, MONDAY, 13:00, 17:00, true",
+            // Back to back
+            "MONDAY, 09:00, 12:00, MONDAY, 12:00, 17:00, true",
+            "MONDAY, 09:00, 13:00, MONDAY, 12:00, 17:00, false",
+            // Overnight segment running into the next day
+            "MONDAY, 22:00, 06:00, TUESDAY, 05:00, 09:00, false",
+            "MONDAY, 22:00, 06:00, TUESDAY, 06:00, 09:00, true",
+            // Sunday overnight segment wraps to Monday
+            "SUNDAY, 22:00, 06:00, MONDAY, 05:00, 09:00, false",
+            "SUNDAY, 22:00, 06:00, MONDAY, 09:00, 17:00, true"
+    })
+    void segmentOverlapScenarios(DayOfWeek firstDay, String firstStart, String firstEnd,
+                                 DayOfWeek secondDay, String secondStart, String secondEnd, boolean expectedResult) {
+        List<WorkingSegmentRequestDTO> segments = List.of(
+                new WorkingSegmentRequestDTO(firstDay, LocalTime.parse(firstStart), LocalTime.parse(firstEnd)),
+                new WorkingSegmentRequestDTO(secondDay, LocalTime.parse(secondStart), LocalTime.parse(secondEnd)));
+
+        assertThat(validator.isValid(segments, constraintValidatorContext)).isEqualTo(expectedResult);
+    }
+
+    @Test
+    void isValid_shouldReturnTrue_whenSegmentsAreNullOrIncomplete() {
+        assertThat(validator.isValid(null, constraintValidatorContext)).isTrue();
+        assertThat(validator.isValid(List.of(new WorkingSegmentRequestDTO(DayOfWeek.MONDAY, null, LocalTime.NOON)),
+                constraintValidatorContext)).isTrue();
+    }
+}
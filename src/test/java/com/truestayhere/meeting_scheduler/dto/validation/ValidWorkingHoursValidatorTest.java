@@ -53,7 +53,13 @@ public class ValidWorkingHoursValidatorTest {
                 "Test Location",
                 10,
                 startTime,
-                endTime
+                endTime,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         boolean actualResult = validator.isValid(dto, constraintValidatorContext);
@@ -67,13 +73,25 @@ public class ValidWorkingHoursValidatorTest {
                 "Null Start",
                 10,
                 null,
-                DEFAULT_TIME
+                DEFAULT_TIME,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         CreateLocationRequestDTO dtoWithNullEnd = new CreateLocationRequestDTO(
                 "Null End",
                 10,
                 DEFAULT_TIME,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         );
 
@@ -81,6 +99,12 @@ public class ValidWorkingHoursValidatorTest {
                 "Both Null",
                 10,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         );
 
@@ -3,6 +3,7 @@ package com.truestayhere.meeting_scheduler.helper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.truestayhere.meeting_scheduler.dto.request.CreateLocationRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.LocationAvailabilityRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.RoomAssignmentRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.UpdateLocationRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.response.LocationDTO;
 import org.springframework.test.web.servlet.MockMvc;
@@ -54,6 +55,10 @@ public class LocationTestHelper extends MockMvcTestHelper {
         return performPostRequest(LOCATIONS_ENDPOINT + "/availability-by-duration", request);
     }
 
+    public ResultActions performAssignRooms(RoomAssignmentRequestDTO request) throws Exception {
+        return performPostRequest(LOCATIONS_ENDPOINT + "/assignments", request);
+    }
+
     // Response assertion methods
     public void assertLocationResponse(ResultActions resultActions, LocationDTO expected) throws Exception {
         assertEntityResponse(resultActions, expected, this::validateLocationFields);
@@ -1,8 +1,11 @@
 package com.truestayhere.meeting_scheduler.helper;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truestayhere.meeting_scheduler.dto.request.BatchScheduleRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.CreateMeetingRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.MeetingSuggestionRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.PreemptionPlanRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.RecurringSuggestionRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.UpdateMeetingRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.response.MeetingDTO;
 import org.springframework.test.web.servlet.MockMvc;
@@ -60,6 +63,18 @@ public class MeetingTestHelper extends MockMvcTestHelper {
         return performPostRequest(MEETINGS_ENDPOINT + "/suggestions", requestDTO);
     }
 
+    public ResultActions performFindRecurringSuggestions(RecurringSuggestionRequestDTO requestDTO) throws Exception {
+        return performPostRequest(MEETINGS_ENDPOINT + "/suggestions/recurring", requestDTO);
+    }
+
+    public ResultActions performPlanPreemption(PreemptionPlanRequestDTO requestDTO) throws Exception {
+        return performPostRequest(MEETINGS_ENDPOINT + "/suggestions/preemption", requestDTO);
+    }
+
+    public ResultActions performScheduleBatch(BatchScheduleRequestDTO requestDTO) throws Exception {
+        return performPostRequest(MEETINGS_ENDPOINT + "/suggestions/batch", requestDTO);
+    }
+
     // Response assertion methods using custom validators
     public void assertMeetingResponse(ResultActions resultActions, MeetingDTO expected) throws Exception {
         assertEntityResponse(resultActions, expected, this::validateMeetingFields);
@@ -0,0 +1,92 @@
+package com.truestayhere.meeting_scheduler.repository;
+
+import com.truestayhere.meeting_scheduler.AbstractIntegrationTest;
+import com.truestayhere.meeting_scheduler.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FreeSlotRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    private final LocalDate DEFAULT_DATE = LocalDate.of(Year.now().getValue() + 1, 8, 14);
+    @Autowired
+    private FreeSlotRepository freeSlotRepository;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private LocationRepository locationRepository;
+    @Autowired
+    private AttendeeRepository attendeeRepository;
+    private Location location;
+    private Attendee attendee1, attendee2;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        locationRepository.deleteAll();
+        attendeeRepository.deleteAll();
+
+        location = locationRepository.save(new Location("Room 1", 10));
+        attendee1 = attendeeRepository.save(new Attendee("Attendee One", "attendeeone@test.com", "hash1"));
+        attendee2 = attendeeRepository.save(new Attendee("Attendee Two", "attendeetwo@test.com", "hash2"));
+    }
+
+    @Test
+    void findFreeGaps_shouldMergeOverlappingMeetingsAndClampToWindow() {
+        createMeeting(at(8, 0), at(9, 30), attendee1);   // starts before the window
+        createMeeting(at(11, 0), at(13, 0), attendee1);
+        createMeeting(at(11, 30), at(12, 0), attendee1); // contained in the previous meeting
+        createMeeting(at(16, 30), at(18, 0), attendee1); // ends after the window
+
+        List<ResourceInterval> gaps = freeSlotRepository.findFreeGaps(ResourceType.ATTENDEE,
+                List.of(new ResourceInterval(attendee1.getId(), at(9, 0), at(17, 0))));
+
+        assertThat(gaps).containsExactly(
+                new ResourceInterval(attendee1.getId(), at(9, 30), at(11, 0)),
+                new ResourceInterval(attendee1.getId(), at(13, 0), at(16, 30)));
+    }
+
+    @Test
+    void findFreeGaps_shouldReturnWholeWindow_whenResourceHasNoMeetings() {
+        createMeeting(at(10, 0), at(11, 0), attendee1);
+
+        List<ResourceInterval> gaps = freeSlotRepository.findFreeGaps(ResourceType.ATTENDEE, List.of(
+                new ResourceInterval(attendee1.getId(), at(9, 0), at(17, 0)),
+                new ResourceInterval(attendee2.getId(), at(9, 0), at(17, 0))));
+
+        assertThat(gaps).containsExactly(
+                new ResourceInterval(attendee1.getId(), at(9, 0), at(10, 0)),
+                new ResourceInterval(attendee1.getId(), at(11, 0), at(17, 0)),
+                new ResourceInterval(attendee2.getId(), at(9, 0), at(17, 0)));
+    }
+
+    @Test
+    void findFreeGaps_shouldReturnNoGaps_whenLocationIsBookedForWholeWindow() {
+        createMeeting(at(9, 0), at(13, 0), attendee1);
+        createMeeting(at(13, 0), at(17, 0), attendee2);
+
+        List<ResourceInterval> gaps = freeSlotRepository.findFreeGaps(ResourceType.LOCATION,
+                List.of(new ResourceInterval(location.getId(), at(9, 0), at(17, 0))));
+
+        assertThat(gaps).isEmpty();
+    }
+
+    // === HELPER METHODS ===
+
+    private LocalDateTime at(int hour, int minute) {
+        return DEFAULT_DATE.atTime(hour, minute);
+    }
+
+    private void createMeeting(LocalDateTime start, LocalDateTime end, Attendee attendee) {
+        Meeting meeting = new Meeting("Meeting", start, end, location);
+        meeting.addAttendee(attendee);
+        meetingRepository.save(meeting);
+    }
+}
@@ -0,0 +1,140 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.dto.request.CreateAttendeeGroupRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.UpdateAttendeeGroupRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.response.AttendeeGroupDTO;
+import com.truestayhere.meeting_scheduler.mapper.AttendeeGroupMapper;
+import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.AttendeeGroup;
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
+import com.truestayhere.meeting_scheduler.repository.AttendeeGroupRepository;
+import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+public class AttendeeGroupServiceTest {
+    @Mock
+    private AttendeeGroupRepository attendeeGroupRepository;
+    @Mock
+    private AttendeeRepository attendeeRepository;
+    @Spy
+    private AttendeeGroupMapper attendeeGroupMapper;
+    @Mock
+    private ReferenceDataService referenceDataService;
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+    @InjectMocks
+    private AttendeeGroupService attendeeGroupService;
+
+    private Attendee attendee;
+    private AttendeeGroup department;
+    private AttendeeGroup team;
+
+    @BeforeEach
+    void setUp() {
+        attendee = new Attendee("Attendee One", "attendeeone@test.com", "password");
+        attendee.setId(1L);
+
+        department = new AttendeeGroup("Department");
+        department.setId(10L);
+        team = new AttendeeGroup("Team");
+        team.setId(20L);
+        department.getSubgroups().add(team);
+    }
+
+    @Test
+    void createGroup_shouldSaveGroupWithMembersAndSubgroups() {
+        CreateAttendeeGroupRequestDTO requestDTO = new CreateAttendeeGroupRequestDTO("Engineering", Set.of(1L), Set.of(20L));
+        when(attendeeGroupRepository.findByName("Engineering")).thenReturn(Optional.empty());
+        when(attendeeRepository.findAllById(Set.of(1L))).thenReturn(List.of(attendee));
+        when(attendeeGroupRepository.findAllById(Set.of(20L))).thenReturn(List.of(team));
+        when(attendeeGroupRepository.save(any(AttendeeGroup.class))).thenAnswer(invocation -> {
+            AttendeeGroup group = invocation.getArgument(0);
+            group.setId(30L);
+            return group;
+        });
+
+        AttendeeGroupDTO result = attendeeGroupService.createGroup(requestDTO);
+
+        assertEquals(new AttendeeGroupDTO(30L, "Engineering", Set.of(1L), Set.of(20L)), result);
+        verifyNoInteractions(referenceDataService, cacheInvalidationPublisher);
+    }
+
+    @Test
+    void createGroup_shouldThrowEntityNotFoundException_whenMemberDoesNotExist() {
+        CreateAttendeeGroupRequestDTO requestDTO = new CreateAttendeeGroupRequestDTO("Engineering", Set.of(1L, 2L), null);
+        when(attendeeGroupRepository.findByName("Engineering")).thenReturn(Optional.empty());
+        when(attendeeRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(attendee));
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> attendeeGroupService.createGroup(requestDTO));
+
+        assertEquals("Attendee(s) not found with ID(s): [2]", exception.getMessage());
+        verify(attendeeGroupRepository, never()).save(any());
+    }
+
+    @Test
+    void updateGroup_shouldThrowIllegalArgumentException_whenSubgroupsWouldCreateCycle() {
+        UpdateAttendeeGroupRequestDTO requestDTO = new UpdateAttendeeGroupRequestDTO(null, null, Set.of(10L));
+        when(attendeeGroupRepository.findById(20L)).thenReturn(Optional.of(team));
+        when(attendeeGroupRepository.findAllById(Set.of(10L))).thenReturn(List.of(department));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> attendeeGroupService.updateGroup(20L, requestDTO));
+
+        assertEquals("Attendee group (ID: 20) cannot contain itself, directly or through nested groups.", exception.getMessage());
+        assertTrue(team.getSubgroups().isEmpty());
+        verifyNoInteractions(referenceDataService, cacheInvalidationPublisher);
+    }
+
+    @Test
+    void updateGroup_shouldReplaceMembersAndInvalidateMemberships() {
+        UpdateAttendeeGroupRequestDTO requestDTO = new UpdateAttendeeGroupRequestDTO(null, Set.of(1L), null);
+        when(attendeeGroupRepository.findById(20L)).thenReturn(Optional.of(team));
+        when(attendeeRepository.findAllById(Set.of(1L))).thenReturn(List.of(attendee));
+
+        AttendeeGroupDTO result = attendeeGroupService.updateGroup(20L, requestDTO);
+
+        assertEquals(Set.of(1L), result.memberIds());
+        verify(referenceDataService).evictGroupMembers();
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.attendeeGroups());
+    }
+
+    @Test
+    void deleteGroup_shouldDetachGroupFromParentsAndInvalidateMemberships() {
+        when(attendeeGroupRepository.findById(20L)).thenReturn(Optional.of(team));
+        when(attendeeGroupRepository.findBySubgroups_id(20L)).thenReturn(List.of(department));
+
+        attendeeGroupService.deleteGroup(20L);
+
+        assertTrue(department.getSubgroups().isEmpty());
+        verify(attendeeGroupRepository).delete(team);
+        verify(referenceDataService).evictGroupMembers();
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.attendeeGroups());
+    }
+
+    @Test
+    void removeAttendeeFromGroups_shouldNotInvalidate_whenAttendeeIsInNoGroup() {
+        when(attendeeGroupRepository.findByMembers_id(1L)).thenReturn(List.of());
+
+        attendeeGroupService.removeAttendeeFromGroups(1L);
+
+        verifyNoInteractions(referenceDataService, cacheInvalidationPublisher);
+    }
+}
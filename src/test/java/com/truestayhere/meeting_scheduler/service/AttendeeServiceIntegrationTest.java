@@ -59,7 +59,8 @@ public class AttendeeServiceIntegrationTest extends AbstractIntegrationTest {
                 "rawPassword",
                 Role.USER,
                 LocalTime.of(9, 0),
-                LocalTime.of(17, 0)
+                LocalTime.of(17, 0),
+                null
         );
 
         AttendeeDTO createdAttendee = attendeeService.createAttendee(requestDTO);
@@ -92,7 +93,8 @@ public class AttendeeServiceIntegrationTest extends AbstractIntegrationTest {
                 "rawPassword",
                 Role.USER,
                 LocalTime.of(9, 0),
-                LocalTime.of(17, 0)
+                LocalTime.of(17, 0),
+                null
         );
 
         String expectedErrorMessage = "Attendee with email '" + duplicateEmail + "' already exists.";
@@ -181,7 +183,8 @@ public class AttendeeServiceIntegrationTest extends AbstractIntegrationTest {
                 null,
                 null,
                 LocalTime.of(9, 0),
-                LocalTime.of(17, 0)
+                LocalTime.of(17, 0),
+                null
         );
 
         AttendeeDTO updatedAttendeeDTO = attendeeService.updateAttendee(attendeeId, requestDTO);
@@ -205,6 +208,7 @@ public class AttendeeServiceIntegrationTest extends AbstractIntegrationTest {
                 null,
                 null,
                 null,
+                null,
                 null
         );
         String expectedErrorMessage = "Attendee not found with ID: " + nonExistentAttendeeId;
@@ -251,6 +255,7 @@ public class AttendeeServiceIntegrationTest extends AbstractIntegrationTest {
                 null,
                 null,
                 null,
+                null,
                 null
         );
 
@@ -395,20 +400,23 @@ public class AttendeeServiceIntegrationTest extends AbstractIntegrationTest {
                 "rawPassword",
                 Role.USER,
                 LocalTime.of(9, 0),
-                LocalTime.of(17, 0)
+                LocalTime.of(17, 0),
+                null
         );
         AttendeeDTO initialAttendee = attendeeService.createAttendee(createRequest);
         Long attendeeId = initialAttendee.id();
 
         // Update 1
         UpdateAttendeeRequestDTO nameUpdate = new UpdateAttendeeRequestDTO(
-                "Attendee Name Updated", null, null, null, null, null
+                "Attendee Name Updated", null, null, null, null, null,
+                null
         );
         attendeeService.updateAttendee(attendeeId, nameUpdate);
 
         // Update 2
         UpdateAttendeeRequestDTO emailUpdate = new UpdateAttendeeRequestDTO(
-                null, "updated@test.com", null, null, null, null
+                null, "updated@test.com", null, null, null, null,
+                null
         );
         attendeeService.updateAttendee(attendeeId, emailUpdate);
 
@@ -426,7 +434,8 @@ public class AttendeeServiceIntegrationTest extends AbstractIntegrationTest {
                 "rawPassword",
                 Role.USER,
                 LocalTime.of(9, 0),
-                LocalTime.of(17, 0)
+                LocalTime.of(17, 0),
+                null
         );
         AttendeeDTO initialAttendee = attendeeService.createAttendee(createRequest);
         Long attendeeId = initialAttendee.id();
@@ -435,7 +444,8 @@ public class AttendeeServiceIntegrationTest extends AbstractIntegrationTest {
 
         for (String name : names) {
             UpdateAttendeeRequestDTO nameUpdate = new UpdateAttendeeRequestDTO(
-                    name, null, null, null, null, null
+                    name, null, null, null, null, null,
+                    null
             );
             assertDoesNotThrow(() -> attendeeService.updateAttendee(attendeeId, nameUpdate));
         }
@@ -5,8 +5,11 @@ import com.truestayhere.meeting_scheduler.dto.request.UpdateAttendeeRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.response.AttendeeDTO;
 import com.truestayhere.meeting_scheduler.exception.ResourceInUseException;
 import com.truestayhere.meeting_scheduler.mapper.AttendeeMapper;
+import com.truestayhere.meeting_scheduler.mapper.WorkingScheduleMapper;
 import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
 import com.truestayhere.meeting_scheduler.model.Meeting;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
 import com.truestayhere.meeting_scheduler.model.Role;
 import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
 import com.truestayhere.meeting_scheduler.repository.MeetingRepository;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -24,6 +28,7 @@ import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -45,6 +50,18 @@ public class AttendeeServiceTest {
     private AttendeeMapper attendeeMapper;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private ReferenceDataService referenceDataService;
+    @Mock
+    private RefreshTokenService refreshTokenService;
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+    @Mock
+    private CalendarVersionService calendarVersionService;
+    @Spy
+    private WorkingScheduleMapper workingScheduleMapper;
+    @Mock
+    private AttendeeGroupService attendeeGroupService;
     @InjectMocks
     private AttendeeService attendeeService;
     private CreateAttendeeRequestDTO defaultCreateRequest;
@@ -62,6 +79,7 @@ public class AttendeeServiceTest {
                 DEFAULT_RAW_PASSWORD,
                 null,
                 null,
+                null,
                 null
         );
 
@@ -72,7 +90,8 @@ public class AttendeeServiceTest {
                 DEFAULT_RAW_PASSWORD + "Update",
                 Role.ADMIN,
                 LocalTime.of(12, 0),
-                LocalTime.of(19, 0)
+                LocalTime.of(19, 0),
+                null
         );
 
         defaultAttendee = new Attendee();
@@ -244,7 +263,8 @@ public class AttendeeServiceTest {
 
         UpdateAttendeeRequestDTO updateRequest = new UpdateAttendeeRequestDTO(
                 "Updated Name", "updated@example.com", null, Role.ADMIN,
-                LocalTime.of(10, 0), LocalTime.of(18, 0)
+                LocalTime.of(10, 0), LocalTime.of(18, 0),
+                null
         );
 
         Attendee existingAttendee = new Attendee();
@@ -278,7 +298,7 @@ public class AttendeeServiceTest {
         AttendeeDTO result = attendeeService.updateAttendee(attendeeId, updateRequest);
 
         ArgumentCaptor<Attendee> entityCaptor = ArgumentCaptor.forClass(Attendee.class);
-        verify(attendeeMapper).mapToAttendeeDTO(entityCaptor.capture());
+        verify(attendeeMapper, times(2)).mapToAttendeeDTO(entityCaptor.capture());
 
         Attendee capturedEntity = entityCaptor.getValue();
         assertNotNull(capturedEntity);
@@ -291,6 +311,10 @@ public class AttendeeServiceTest {
         assertEquals(expectedResponse, result);
 
         verify(attendeeRepository).findById(attendeeId);
+        verify(referenceDataService).evictAttendee(attendeeId);
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.attendee(attendeeId));
+        verify(calendarVersionService).bump(ResourceType.ATTENDEE, attendeeId);
+        verify(refreshTokenService, never()).revokeAllForAttendee(anyLong());
     }
 
     @Test
@@ -301,7 +325,8 @@ public class AttendeeServiceTest {
 
         UpdateAttendeeRequestDTO updateRequestWithPassword = new UpdateAttendeeRequestDTO(
                 "Updated Name", "updated@example.com", newRawPassword, Role.ADMIN,
-                LocalTime.of(10, 0), LocalTime.of(18, 0)
+                LocalTime.of(10, 0), LocalTime.of(18, 0),
+                null
         );
 
         Attendee existingAttendee = new Attendee();
@@ -332,7 +357,7 @@ public class AttendeeServiceTest {
         AttendeeDTO result = attendeeService.updateAttendee(attendeeId, updateRequestWithPassword);
 
         ArgumentCaptor<Attendee> entityCaptor = ArgumentCaptor.forClass(Attendee.class);
-        verify(attendeeMapper).mapToAttendeeDTO(entityCaptor.capture());
+        verify(attendeeMapper, times(2)).mapToAttendeeDTO(entityCaptor.capture());
         Attendee capturedEntity = entityCaptor.getValue();
         assertNotNull(capturedEntity);
         assertEquals("Updated Name", capturedEntity.getName());
@@ -343,6 +368,7 @@ public class AttendeeServiceTest {
 
         verify(attendeeRepository).findById(attendeeId);
         verify(passwordEncoder).encode(newRawPassword);
+        verify(refreshTokenService).revokeAllForAttendee(attendeeId);
     }
 
 
@@ -357,6 +383,7 @@ public class AttendeeServiceTest {
                 null,
                 null,
                 null,
+                null,
                 null
         );
 
@@ -386,10 +413,37 @@ public class AttendeeServiceTest {
         verify(attendeeRepository).findById(attendeeId);
         verify(attendeeRepository).findByEmail(originalEmail);
         verify(attendeeMapper).updateAttendeeFromDto(eq(updateRequest), any(Attendee.class));
-        verify(attendeeMapper).mapToAttendeeDTO(any(Attendee.class));
+        verify(attendeeMapper, times(2)).mapToAttendeeDTO(any(Attendee.class));
     }
 
 
+    @Test
+    void updateAttendee_shouldBumpCalendarsSharingMeetings_whenAttendeeIsRenamed() {
+        Long attendeeId = DEFAULT_ATTENDEE_ID;
+        UpdateAttendeeRequestDTO updateRequest = new UpdateAttendeeRequestDTO(
+                "Renamed User", null, null, null, null, null, null);
+
+        Attendee existingAttendee = new Attendee();
+        existingAttendee.setId(attendeeId);
+        existingAttendee.setName("Original Name");
+        existingAttendee.setEmail("user@example.com");
+
+        when(attendeeRepository.findById(attendeeId)).thenReturn(Optional.of(existingAttendee));
+        when(attendeeRepository.findByEmail("user@example.com")).thenReturn(Optional.of(existingAttendee));
+        AttendeeDTO previousDTO = new AttendeeDTO(attendeeId, "Original Name", "user@example.com");
+        AttendeeDTO updatedDTO = new AttendeeDTO(attendeeId, "Renamed User", "user@example.com");
+        when(attendeeMapper.mapToAttendeeDTO(existingAttendee)).thenReturn(previousDTO, updatedDTO);
+        when(meetingRepository.findCoAttendeeIdsByAttendeeId(attendeeId)).thenReturn(Set.of(5L));
+        when(meetingRepository.findLocationIdsByAttendeeId(attendeeId)).thenReturn(Set.of(7L));
+
+        AttendeeDTO result = attendeeService.updateAttendee(attendeeId, updateRequest);
+
+        assertEquals(updatedDTO, result);
+        // Meeting lists of the other attendees and of the locations show the attendee name
+        verify(calendarVersionService).bumpWithSharedCalendars(ResourceType.ATTENDEE, attendeeId, Set.of(5L), Set.of(7L));
+        verify(calendarVersionService, never()).bump(any(ResourceType.class), anyLong());
+    }
+
     @Test
     void updateAttendee_shouldThrowEntityNotFoundException_whenAttendeeDoesNotExist() {
         Long nonExistentAttendeeId = DEFAULT_ATTENDEE_ID;
@@ -419,7 +473,8 @@ public class AttendeeServiceTest {
         String conflictingEmail = defaultAttendee.getEmail();
 
         UpdateAttendeeRequestDTO updateRequest = new UpdateAttendeeRequestDTO(
-                defaultUpdateRequest.name(), conflictingEmail, null, null, null, null
+                defaultUpdateRequest.name(), conflictingEmail, null, null, null, null,
+                null
         );
 
         Attendee attendeeBeingUpdated = new Attendee();
@@ -460,7 +515,12 @@ public class AttendeeServiceTest {
 
         verify(attendeeRepository).existsById(attendeeIdToDelete);
         verify(meetingRepository).findByAttendees_id(attendeeIdToDelete);
+        verify(attendeeGroupService).removeAttendeeFromGroups(attendeeIdToDelete);
         verify(attendeeRepository).deleteById(attendeeIdToDelete);
+        verify(referenceDataService).evictAttendee(attendeeIdToDelete);
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.attendee(attendeeIdToDelete));
+        verify(calendarVersionService).bump(ResourceType.ATTENDEE, attendeeIdToDelete);
+        verify(refreshTokenService).deleteAllForAttendee(attendeeIdToDelete);
     }
 
 
@@ -480,6 +540,7 @@ public class AttendeeServiceTest {
         verify(attendeeRepository).existsById(nonExistentAttendeeId);
         verify(meetingRepository, never()).findByAttendees_id(anyLong());
         verify(attendeeRepository, never()).deleteById(anyLong());
+        verify(refreshTokenService, never()).deleteAllForAttendee(anyLong());
     }
 
 
@@ -330,6 +330,8 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
         LocationAvailabilityRequestDTO requestDTO = new LocationAvailabilityRequestDTO(
                 DEFAULT_DATE,
                 60,
+                null,
+                null,
                 null
         );
 
@@ -362,7 +364,9 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
         LocationAvailabilityRequestDTO requestDTO = new LocationAvailabilityRequestDTO(
                 DEFAULT_DATE,
                 60,
-                5
+                5,
+                null,
+                null
         );
 
         List<LocationTimeSlotDTO> slots = availabilityService.getAvailabilityForLocationsByDuration(requestDTO);
@@ -386,6 +390,8 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
         LocationAvailabilityRequestDTO request = new LocationAvailabilityRequestDTO(
                 DEFAULT_DATE,
                 60,
+                null,
+                null,
                 null
         );
 
@@ -411,7 +417,9 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
         LocationAvailabilityRequestDTO request = new LocationAvailabilityRequestDTO(
                 DEFAULT_DATE,
                 60,
-                greaterCapacity
+                greaterCapacity,
+                null,
+                null
         );
 
         EntityNotFoundException thrownException = assertThrows(EntityNotFoundException.class, () -> {
@@ -430,6 +438,8 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
         LocationAvailabilityRequestDTO request = new LocationAvailabilityRequestDTO(
                 DEFAULT_DATE,
                 60,
+                null,
+                null,
                 null
         );
 
@@ -444,6 +454,7 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
     void getCommonAttendeeAvailability_shouldReturnIntersectionOfWorkingHours_whenNoMeetings() {
         CommonAvailabilityRequestDTO requestDTO = new CommonAvailabilityRequestDTO(
                 Set.of(attendee1.getId(), attendee3.getId()), // Work 9-17, 10-18
+                null,
                 DEFAULT_DATE
         );
 
@@ -463,6 +474,7 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
 
         CommonAvailabilityRequestDTO requestDTO = new CommonAvailabilityRequestDTO(
                 Set.of(attendee1.getId(), attendee2.getId()), // Work 9-17, 9-17
+                null,
                 DEFAULT_DATE
         );
 
@@ -489,6 +501,7 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
 
         CommonAvailabilityRequestDTO requestDTO = new CommonAvailabilityRequestDTO(
                 Set.of(attendee1.getId(), attendee3.getId()), // Work 9-17, 10-18
+                null,
                 DEFAULT_DATE
         );
 
@@ -503,6 +516,7 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
         String expectedErrorMessage = "Attendee not found with ID: " + nonExistentAttendeeId;
         CommonAvailabilityRequestDTO request = new CommonAvailabilityRequestDTO(
                 Set.of(attendee1.getId(), nonExistentAttendeeId),
+                null,
                 DEFAULT_DATE
         );
 
@@ -519,8 +533,12 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
     void findMeetingSuggestions_shouldSuggestSlots_whenAttendeesAndLocationAreFree() {
         MeetingSuggestionRequestDTO requestDTO = new MeetingSuggestionRequestDTO(
                 Set.of(attendee1.getId(), attendee2.getId()), // Work 9-17, 9-17
+                null,
                 60,
-                DEFAULT_DATE
+                DEFAULT_DATE,
+                null,
+                null,
+                null
         );
 
         List<LocationTimeSlotDTO> slots = availabilityService.findMeetingSuggestions(requestDTO);
@@ -570,8 +588,12 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
 
         MeetingSuggestionRequestDTO requestDTO = new MeetingSuggestionRequestDTO(
                 Set.of(attendee1.getId(), attendee2.getId()), // Work 9-17, 9-17
+                null,
                 30,
-                DEFAULT_DATE
+                DEFAULT_DATE,
+                null,
+                null,
+                null
         );
 
         List<LocationTimeSlotDTO> slots = availabilityService.findMeetingSuggestions(requestDTO);
@@ -627,8 +649,12 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
 
         MeetingSuggestionRequestDTO requestDTO = new MeetingSuggestionRequestDTO(
                 Set.of(attendee1.getId(), attendee2.getId(), attendee3.getId()), // Location2 capacity doesn't match
+                null,
                 60,
-                DEFAULT_DATE
+                DEFAULT_DATE,
+                null,
+                null,
+                null
         );
 
         List<LocationTimeSlotDTO> slots = availabilityService.findMeetingSuggestions(requestDTO);
@@ -646,8 +672,12 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
 
         MeetingSuggestionRequestDTO requestDTO = new MeetingSuggestionRequestDTO(
                 Set.of(attendee1.getId(), attendee3.getId()),
+                null,
                 60,
-                DEFAULT_DATE
+                DEFAULT_DATE,
+                null,
+                null,
+                null
         );
 
         List<LocationTimeSlotDTO> slots = availabilityService.findMeetingSuggestions(requestDTO);
@@ -668,8 +698,12 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
 
         MeetingSuggestionRequestDTO requestDTO = new MeetingSuggestionRequestDTO(
                 Set.of(attendee1.getId(), attendee3.getId()),
+                null,
                 90, // Duration longer that available free time
-                DEFAULT_DATE
+                DEFAULT_DATE,
+                null,
+                null,
+                null
         );
 
         List<LocationTimeSlotDTO> slots = availabilityService.findMeetingSuggestions(requestDTO);
@@ -683,8 +717,12 @@ public class AvailabilityServiceIntegrationTest extends AbstractIntegrationTest
         String expectedErrorMessage = "Attendee not found with ID: " + nonExistentAttendeeId;
         MeetingSuggestionRequestDTO requestDTO = new MeetingSuggestionRequestDTO(
                 Set.of(attendee1.getId(), nonExistentAttendeeId),
+                null,
                 60,
-                DEFAULT_DATE
+                DEFAULT_DATE,
+                null,
+                null,
+                null
         );
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
@@ -1,15 +1,26 @@
 package com.truestayhere.meeting_scheduler.service;
 
+import com.truestayhere.meeting_scheduler.config.AvailabilityProperties;
+import com.truestayhere.meeting_scheduler.config.BatchSchedulingProperties;
+import com.truestayhere.meeting_scheduler.dto.request.BatchMeetingRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.BatchScheduleRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.CommonAvailabilityRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.FirstAvailableSuggestionRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.FreeCountHeatmapRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.LocationAvailabilityRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.LocationScopeRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.MeetingSuggestionRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.PendingMeetingRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.PreemptionPlanRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.QuorumAvailabilityRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.RecurringSuggestionRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.RoomAssignmentRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.response.*;
 import com.truestayhere.meeting_scheduler.mapper.LocationMapper;
 import com.truestayhere.meeting_scheduler.mapper.MeetingMapper;
-import com.truestayhere.meeting_scheduler.model.Attendee;
-import com.truestayhere.meeting_scheduler.model.Location;
-import com.truestayhere.meeting_scheduler.model.Meeting;
+import com.truestayhere.meeting_scheduler.model.*;
 import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import com.truestayhere.meeting_scheduler.repository.FreeSlotRepository;
 import com.truestayhere.meeting_scheduler.repository.LocationRepository;
 import com.truestayhere.meeting_scheduler.repository.MeetingRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -21,12 +32,18 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Year;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -51,6 +68,22 @@ public class AvailabilityServiceTest {
     private MeetingMapper meetingMapper;
     @Mock
     private LocationMapper locationMapper;
+    @Mock
+    private BusyCalendarService busyCalendarService;
+    @Mock
+    private ReferenceDataService referenceDataService;
+    @Mock
+    private FreeSlotRepository freeSlotRepository;
+    @Mock
+    private AvailabilityProperties availabilityProperties;
+    @Spy
+    private WorkingWindowService workingWindowService = new WorkingWindowService();
+    @Mock
+    private TimeOffService timeOffService;
+    @Mock
+    private LocationUsageService locationUsageService;
+    @Spy
+    private BatchScheduleSolver batchScheduleSolver = new BatchScheduleSolver(new BatchSchedulingProperties());
     @Spy
 
     @InjectMocks
@@ -67,6 +100,20 @@ public class AvailabilityServiceTest {
 
     @BeforeEach
     void setUp() {
+        // No travel times unless a test sets them up
+        lenient().when(referenceDataService.findTravelTimeMatrix()).thenReturn(TravelTimeMatrix.EMPTY);
+        // No fully booked parts of the location hierarchy unless a test sets them up
+        lenient().when(locationUsageService.pruneFullyBookedNodes(anyList(), any(LocalDate.class), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(locationUsageService.pruneFullyBookedNodes(anyList(), anyList(), anyInt()))
+                .thenAnswer(invocation -> {
+                    List<Location> locations = invocation.getArgument(0);
+                    List<LocalDate> days = invocation.getArgument(1);
+                    Map<LocalDate, List<Location>> locationsByDay = new LinkedHashMap<>();
+                    days.forEach(day -> locationsByDay.put(day, locations));
+                    return locationsByDay;
+                });
+
         mockLocation1 = new Location();
         mockLocation1.setId(1L);
         mockLocation1.setName("Room 1");
@@ -81,8 +128,8 @@ public class AvailabilityServiceTest {
         mockLocation2.setWorkingStartTime(LocalTime.of(8, 0));
         mockLocation2.setWorkingEndTime(LocalTime.of(16, 0));
 
-        mockLocationDTO1 = new LocationDTO(mockLocation1.getId(), mockLocation1.getName(), mockLocation1.getCapacity());
-        mockLocationDTO2 = new LocationDTO(mockLocation2.getId(), mockLocation2.getName(), mockLocation2.getCapacity());
+        mockLocationDTO1 = new LocationDTO(mockLocation1.getId(), mockLocation1.getName(), mockLocation1.getCapacity(), null, null, null, null, null);
+        mockLocationDTO2 = new LocationDTO(mockLocation2.getId(), mockLocation2.getName(), mockLocation2.getCapacity(), null, null, null, null, null);
 
         mockAttendee1 = new Attendee();
         mockAttendee1.setId(1L);
@@ -146,11 +193,14 @@ public class AvailabilityServiceTest {
         defaultLocationAvailabilityRequest = new LocationAvailabilityRequestDTO(
                 DEFAULT_DATE,
                 1,
-                1
+                1,
+                null,
+                null
         );
 
         defaultCommonAvailabilityRequest = new CommonAvailabilityRequestDTO(
                 mockAttendees.stream().map(Attendee::getId).collect(Collectors.toSet()),
+                null,
                 DEFAULT_DATE
         );
     }
@@ -301,7 +351,7 @@ public class AvailabilityServiceTest {
         LocalDateTime rangeEnd = mockLocation1.getWorkingEndTime().atDate(date);
         AvailableSlotDTO fullDaySlot = new AvailableSlotDTO(rangeStart, rangeEnd);
 
-        when(locationRepository.findById(locationId)).thenReturn(Optional.of(mockLocation1));
+        when(referenceDataService.findLocationById(locationId)).thenReturn(Optional.of(mockLocation1));
         when(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, rangeEnd, rangeStart)).thenReturn(List.of());
 
         List<AvailableSlotDTO> results = availabilityService.getAvailableTimeForLocation(locationId, date);
@@ -310,7 +360,7 @@ public class AvailabilityServiceTest {
         assertEquals(1, results.size());
         assertTrue(results.contains(fullDaySlot));
 
-        verify(locationRepository).findById(locationId);
+        verify(referenceDataService).findLocationById(locationId);
         verify(meetingRepository).findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, rangeEnd, rangeStart);
     }
 
@@ -325,7 +375,7 @@ public class AvailabilityServiceTest {
         AvailableSlotDTO slot1 = new AvailableSlotDTO(rangeStart, mockMeeting1.getStartTime());
         AvailableSlotDTO slot2 = new AvailableSlotDTO(mockMeeting1.getEndTime(), rangeEnd);
 
-        when(locationRepository.findById(locationId)).thenReturn(Optional.of(mockLocation1));
+        when(referenceDataService.findLocationById(locationId)).thenReturn(Optional.of(mockLocation1));
         when(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, rangeEnd, rangeStart)).thenReturn(meetingsFromRepo);
 
         List<AvailableSlotDTO> results = availabilityService.getAvailableTimeForLocation(locationId, date);
@@ -335,10 +385,26 @@ public class AvailabilityServiceTest {
         assertTrue(results.contains(slot1));
         assertTrue(results.contains(slot2));
 
-        verify(locationRepository).findById(locationId);
+        verify(referenceDataService).findLocationById(locationId);
         verify(meetingRepository).findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, rangeEnd, rangeStart);
     }
 
+    @Test
+    void getAvailableTimeForLocation_shouldKeepBufferFreeAroundMeetings_whenLocationHasBuffer() {
+        Long locationId = mockLocation1.getId();
+        LocalDateTime rangeStart = mockLocation1.getWorkingStartTime().atDate(DEFAULT_DATE);
+        LocalDateTime rangeEnd = mockLocation1.getWorkingEndTime().atDate(DEFAULT_DATE);
+        mockLocation1.setBufferMinutes(15);
+
+        when(referenceDataService.findLocationById(locationId)).thenReturn(Optional.of(mockLocation1));
+        when(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, rangeEnd, rangeStart)).thenReturn(List.of(mockMeeting1));
+
+        List<AvailableSlotDTO> results = availabilityService.getAvailableTimeForLocation(locationId, DEFAULT_DATE);
+
+        // Meeting 13:00 - 14:00 with 15 minutes of setup and cleanup
+        assertEquals(List.of(slot("09:00", "12:45"), slot("14:15", "17:00")), results);
+    }
+
     @Test
     void getAvailableTimeForLocation_shouldReturnCorrectSlots_whenMultipleMeetingsExist() {
         Long locationId = mockLocation1.getId();
@@ -352,7 +418,7 @@ public class AvailabilityServiceTest {
         AvailableSlotDTO slot2 = new AvailableSlotDTO(mockMeeting1.getEndTime(), mockMeeting2.getStartTime());
         AvailableSlotDTO slot3 = new AvailableSlotDTO(mockMeeting2.getEndTime(), rangeEnd);
 
-        when(locationRepository.findById(locationId)).thenReturn(Optional.of(mockLocation1));
+        when(referenceDataService.findLocationById(locationId)).thenReturn(Optional.of(mockLocation1));
         when(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, rangeEnd, rangeStart)).thenReturn(meetingsFromRepo);
 
         List<AvailableSlotDTO> results = availabilityService.getAvailableTimeForLocation(locationId, date);
@@ -363,7 +429,7 @@ public class AvailabilityServiceTest {
         assertTrue(results.contains(slot2));
         assertTrue(results.contains(slot3));
 
-        verify(locationRepository).findById(locationId);
+        verify(referenceDataService).findLocationById(locationId);
         verify(meetingRepository).findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, rangeEnd, rangeStart);
     }
 
@@ -385,7 +451,7 @@ public class AvailabilityServiceTest {
         AvailableSlotDTO slot1 = new AvailableSlotDTO(rangeStart, mockMeeting1.getStartTime());
         AvailableSlotDTO slot2 = new AvailableSlotDTO(meetingBackToBack.getEndTime(), rangeEnd);
 
-        when(locationRepository.findById(locationId)).thenReturn(Optional.of(mockLocation1));
+        when(referenceDataService.findLocationById(locationId)).thenReturn(Optional.of(mockLocation1));
         when(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, rangeEnd, rangeStart)).thenReturn(meetingsFromRepo);
 
         List<AvailableSlotDTO> results = availabilityService.getAvailableTimeForLocation(locationId, date);
@@ -395,7 +461,7 @@ public class AvailabilityServiceTest {
         assertTrue(results.contains(slot1));
         assertTrue(results.contains(slot2));
 
-        verify(locationRepository).findById(locationId);
+        verify(referenceDataService).findLocationById(locationId);
         verify(meetingRepository).findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, rangeEnd, rangeStart);
     }
 
@@ -416,7 +482,7 @@ public class AvailabilityServiceTest {
 
         AvailableSlotDTO slot1 = new AvailableSlotDTO(meetingStartsAtRangeStart.getEndTime(), rangeEnd);
 
-        when(locationRepository.findById(locationId)).thenReturn(Optional.of(mockLocation1));
+        when(referenceDataService.findLocationById(locationId)).thenReturn(Optional.of(mockLocation1));
         when(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, rangeEnd, rangeStart)).thenReturn(meetingsFromRepo);
 
         List<AvailableSlotDTO> results = availabilityService.getAvailableTimeForLocation(locationId, date);
@@ -425,7 +491,7 @@ public class AvailabilityServiceTest {
         assertEquals(1, results.size());
         assertTrue(results.contains(slot1));
 
-        verify(locationRepository).findById(locationId);
+        verify(referenceDataService).findLocationById(locationId);
         verify(meetingRepository).findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, rangeEnd, rangeStart);
     }
 
@@ -446,7 +512,7 @@ public class AvailabilityServiceTest {
 
         AvailableSlotDTO slot1 = new AvailableSlotDTO(rangeStart, meetingEndAtRangeEnd.getStartTime());
 
-        when(locationRepository.findById(locationId)).thenReturn(Optional.of(mockLocation1));
+        when(referenceDataService.findLocationById(locationId)).thenReturn(Optional.of(mockLocation1));
         when(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, rangeEnd, rangeStart)).thenReturn(meetingsFromRepo);
 
         List<AvailableSlotDTO> results = availabilityService.getAvailableTimeForLocation(locationId, date);
@@ -455,24 +521,45 @@ public class AvailabilityServiceTest {
         assertEquals(1, results.size());
         assertTrue(results.contains(slot1));
 
-        verify(locationRepository).findById(locationId);
+        verify(referenceDataService).findLocationById(locationId);
         verify(meetingRepository).findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, rangeEnd, rangeStart);
     }
 
+    @Test
+    void getAvailableTimeForLocation_shouldUseMaterializedBusyIntervals_whenCalendarIsMaterialized() {
+        Long locationId = mockLocation1.getId();
+        LocalDate date = DEFAULT_DATE;
+        LocalDateTime rangeStart = mockLocation1.getWorkingStartTime().atDate(date);
+        LocalDateTime rangeEnd = mockLocation1.getWorkingEndTime().atDate(date);
+        BusyInterval busyInterval = new BusyInterval(mockMeeting1.getId(), mockMeeting1.getStartTime(), mockMeeting1.getEndTime());
+
+        when(referenceDataService.findLocationById(locationId)).thenReturn(Optional.of(mockLocation1));
+        when(busyCalendarService.findBusyIntervals(ResourceType.LOCATION, locationId, rangeStart, rangeEnd)).thenReturn(Optional.of(List.of(busyInterval)));
+
+        List<AvailableSlotDTO> results = availabilityService.getAvailableTimeForLocation(locationId, date);
+
+        assertEquals(List.of(
+                new AvailableSlotDTO(rangeStart, mockMeeting1.getStartTime()),
+                new AvailableSlotDTO(mockMeeting1.getEndTime(), rangeEnd)), results);
+
+        verify(busyCalendarService).findBusyIntervals(ResourceType.LOCATION, locationId, rangeStart, rangeEnd);
+        verify(meetingRepository, never()).findByLocation_idAndStartTimeBeforeAndEndTimeAfter(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
     @Test
     void getAvailableTimeForLocation_shouldThrowEntityNotFoundException_whenLocationDoesNotExist() {
         Long nonExistentLocationId = mockLocation1.getId();
         LocalDate date = DEFAULT_DATE;
         String expectedErrorMessage = "Location not found with ID: " + nonExistentLocationId;
 
-        when(locationRepository.findById(nonExistentLocationId)).thenReturn(Optional.empty());
+        when(referenceDataService.findLocationById(nonExistentLocationId)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
             availabilityService.getAvailableTimeForLocation(nonExistentLocationId, date);
         });
         assertEquals(expectedErrorMessage, exception.getMessage());
 
-        verify(locationRepository).findById(nonExistentLocationId);
+        verify(referenceDataService).findLocationById(nonExistentLocationId);
         verify(meetingRepository, never()).findByLocation_idAndStartTimeBeforeAndEndTimeAfter(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
@@ -484,7 +571,7 @@ public class AvailabilityServiceTest {
         LocalDate date = defaultLocationAvailabilityRequest.date();
         List<Location> locationsFromRepo = List.of(mockLocation1, mockLocation2);
 
-        when(locationRepository.findByCapacityGreaterThanEqual(minCapacity)).thenReturn(locationsFromRepo);
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(locationsFromRepo));
 
         AvailableSlotDTO slot1_loc1 = new AvailableSlotDTO(
                 date.atTime(9, 0), date.atTime(10, 30)
@@ -520,7 +607,7 @@ public class AvailabilityServiceTest {
         assertEquals(3, results.size(), "Number of slots meeting duration criteria did not match.");
         assertTrue(results.containsAll(expectedResults) && expectedResults.containsAll(results), "Resulting slots do not match expected slots based on duration.");
 
-        verify(locationRepository).findByCapacityGreaterThanEqual(minCapacity);
+        verify(referenceDataService).findLocationCapacityIndex();
         verify(availabilityService).getAvailableTimeForLocation(mockLocation1.getId(), date);
         verify(availabilityService).getAvailableTimeForLocation(mockLocation2.getId(), date);
         verify(locationMapper).mapToLocationDTO(mockLocation1);
@@ -532,17 +619,19 @@ public class AvailabilityServiceTest {
         LocationAvailabilityRequestDTO requestWithNullCapacity = new LocationAvailabilityRequestDTO(
                 defaultLocationAvailabilityRequest.date(),
                 defaultLocationAvailabilityRequest.durationMinutes(),
+                null,
+                null,
                 null
         );
-        when(locationRepository.findAll()).thenReturn(List.of());
+        when(referenceDataService.findAllLocations()).thenReturn(List.of());
 
         List<LocationTimeSlotDTO> results = availabilityService.getAvailabilityForLocationsByDuration(requestWithNullCapacity);
 
         assertNotNull(results);
         assertTrue(results.isEmpty());
 
-        verify(locationRepository).findAll();
-        verify(locationRepository, never()).findByCapacityGreaterThanEqual(anyInt());
+        verify(referenceDataService).findAllLocations();
+        verify(referenceDataService, never()).findLocationCapacityIndex();
         verify(availabilityService, never()).getAvailableTimeForLocation(anyLong(), any(LocalDate.class));
         verify(locationMapper, never()).mapToLocationDTO(any(Location.class));
     }
@@ -552,14 +641,14 @@ public class AvailabilityServiceTest {
         Integer minCapacity = defaultLocationAvailabilityRequest.minimumCapacity();
         String expectedErrorMessage = "Locations not found with capacity equal or greater than: " + minCapacity;
 
-        when(locationRepository.findByCapacityGreaterThanEqual(minCapacity)).thenReturn(List.of());
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of()));
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
             availabilityService.getAvailabilityForLocationsByDuration(defaultLocationAvailabilityRequest);
         });
         assertEquals(expectedErrorMessage, exception.getMessage());
 
-        verify(locationRepository).findByCapacityGreaterThanEqual(minCapacity);
+        verify(referenceDataService).findLocationCapacityIndex();
         verify(availabilityService, never()).getAvailableTimeForLocation(anyLong(), any(LocalDate.class));
         verify(locationMapper, never()).mapToLocationDTO(any(Location.class));
     }
@@ -570,12 +659,14 @@ public class AvailabilityServiceTest {
         LocationAvailabilityRequestDTO requestWithGreaterCapacity = new LocationAvailabilityRequestDTO(
                 defaultLocationAvailabilityRequest.date(),
                 defaultLocationAvailabilityRequest.durationMinutes(),
-                specificMinCapacity
+                specificMinCapacity,
+                null,
+                null
         );
         LocalDate date = requestWithGreaterCapacity.date();
         List<Location> locationsFromRepo = List.of(mockLocation1);
 
-        when(locationRepository.findByCapacityGreaterThanEqual(specificMinCapacity)).thenReturn(locationsFromRepo);
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(locationsFromRepo));
 
         AvailableSlotDTO slot1 = new AvailableSlotDTO(
                 date.atTime(10, 0), date.atTime(12, 0)
@@ -594,24 +685,199 @@ public class AvailabilityServiceTest {
         assertEquals(1, results.size(), "Should only contain slots from locations meeting capacity criteria.");
         assertTrue(results.containsAll(expectedResult) && expectedResult.containsAll(results));
 
-        verify(locationRepository).findByCapacityGreaterThanEqual(specificMinCapacity);
+        verify(referenceDataService).findLocationCapacityIndex();
         verify(availabilityService).getAvailableTimeForLocation(mockLocation1.getId(), date);
         verify(availabilityService, never()).getAvailableTimeForLocation(mockLocation2.getId(), date);
         verify(locationMapper).mapToLocationDTO(mockLocation1);
         verify(locationMapper, never()).mapToLocationDTO(mockLocation2);
     }
 
+    @Test
+    void getAvailabilityForLocationsByDuration_shouldSkipLocationsWithoutRequiredFeatures_beforeLoadingMeetings() {
+        LocalDate date = defaultLocationAvailabilityRequest.date();
+        LocationAvailabilityRequestDTO requestWithFeatures = new LocationAvailabilityRequestDTO(
+                date,
+                defaultLocationAvailabilityRequest.durationMinutes(),
+                null,
+                Set.of(LocationFeature.VIDEO_CONFERENCE),
+                null
+        );
+        mockLocation1.setFeatures(LocationFeature.toMask(Set.of(LocationFeature.VIDEO_CONFERENCE, LocationFeature.WHITEBOARD)));
+        mockLocation2.setFeatures(LocationFeature.toMask(Set.of(LocationFeature.WHITEBOARD)));
+        AvailableSlotDTO slot = new AvailableSlotDTO(date.atTime(10, 0), date.atTime(12, 0));
+
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation1, mockLocation2)));
+        doReturn(List.of(slot)).when(availabilityService).getAvailableTimeForLocation(mockLocation1.getId(), date);
+        when(locationMapper.mapToLocationDTO(mockLocation1)).thenReturn(mockLocationDTO1);
+
+        List<LocationTimeSlotDTO> results = availabilityService.getAvailabilityForLocationsByDuration(requestWithFeatures);
+
+        assertEquals(List.of(new LocationTimeSlotDTO(mockLocationDTO1, slot)), results);
+        verify(availabilityService, never()).getAvailableTimeForLocation(mockLocation2.getId(), date);
+        verify(referenceDataService, never()).findAllLocations();
+    }
+
+    @Test
+    void getAvailabilityForLocationsByDuration_shouldOnlyEvaluateLocationsInScope() {
+        LocalDate date = defaultLocationAvailabilityRequest.date();
+        LocationAvailabilityRequestDTO requestWithScope = new LocationAvailabilityRequestDTO(
+                date,
+                defaultLocationAvailabilityRequest.durationMinutes(),
+                null,
+                null,
+                new LocationScopeRequestDTO("HQ", "North", null)
+        );
+        mockLocation1.setSite("HQ");
+        mockLocation1.setBuilding("North");
+        mockLocation2.setSite("HQ");
+        mockLocation2.setBuilding("South");
+        AvailableSlotDTO slot = new AvailableSlotDTO(date.atTime(10, 0), date.atTime(12, 0));
+
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation1, mockLocation2)));
+        doReturn(List.of(slot)).when(availabilityService).getAvailableTimeForLocation(mockLocation1.getId(), date);
+        when(locationMapper.mapToLocationDTO(mockLocation1)).thenReturn(mockLocationDTO1);
+
+        List<LocationTimeSlotDTO> results = availabilityService.getAvailabilityForLocationsByDuration(requestWithScope);
+
+        assertEquals(List.of(new LocationTimeSlotDTO(mockLocationDTO1, slot)), results);
+        verify(availabilityService, never()).getAvailableTimeForLocation(mockLocation2.getId(), date);
+    }
+
+    @Test
+    void getAvailabilityForLocationsByDuration_shouldSkipLocationsOfFullyBookedNodes() {
+        LocalDate date = defaultLocationAvailabilityRequest.date();
+        int durationMinutes = defaultLocationAvailabilityRequest.durationMinutes();
+        LocationAvailabilityRequestDTO requestWithScope = new LocationAvailabilityRequestDTO(
+                date,
+                durationMinutes,
+                null,
+                null,
+                new LocationScopeRequestDTO("HQ", null, null)
+        );
+        mockLocation1.setSite("HQ");
+        mockLocation2.setSite("HQ");
+        AvailableSlotDTO slot = new AvailableSlotDTO(date.atTime(10, 0), date.atTime(12, 0));
+
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation1, mockLocation2)));
+        when(locationUsageService.pruneFullyBookedNodes(anyList(), eq(date), eq(durationMinutes))).thenReturn(List.of(mockLocation2));
+        doReturn(List.of(slot)).when(availabilityService).getAvailableTimeForLocation(mockLocation2.getId(), date);
+        when(locationMapper.mapToLocationDTO(mockLocation2)).thenReturn(mockLocationDTO2);
+
+        List<LocationTimeSlotDTO> results = availabilityService.getAvailabilityForLocationsByDuration(requestWithScope);
+
+        assertEquals(List.of(new LocationTimeSlotDTO(mockLocationDTO2, slot)), results);
+        verify(availabilityService, never()).getAvailableTimeForLocation(mockLocation1.getId(), date);
+    }
+
+    @Test
+    void findFirstAvailableSuggestions_shouldThrowEntityNotFoundException_whenNoLocationHasRequiredFeatures() {
+        LocalDate monday = DEFAULT_DATE.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee2.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee2)));
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation1, mockLocation2)));
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> availabilityService.findFirstAvailableSuggestions(
+                new FirstAvailableSuggestionRequestDTO(Set.of(mockAttendee2.getId()), null, DEFAULT_DURATION, monday, 1, 1, Set.of(LocationFeature.PROJECTOR), null, null)));
+
+        assertEquals("Locations not found with capacity equal or greater than: 1 and features: [PROJECTOR]", exception.getMessage());
+        verifyNoInteractions(meetingRepository);
+    }
+
+    @Test
+    void findRecurringSuggestions_shouldReturnSlotsFreeOnEveryOccurrence_withOneQueryPerResourceType() {
+        // Attendee 2: 09:00 - 17:00; Room 1 (10 seats): 09:00 - 17:00; Room 2 (5 seats): 08:00 - 16:00
+        LocalDate monday = DEFAULT_DATE.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        Meeting attendeeMeeting = new Meeting("First week", monday.atTime(10, 0), monday.atTime(11, 0), null);
+        attendeeMeeting.addAttendee(mockAttendee2);
+        Meeting locationMeeting = new Meeting("Second week", monday.plusWeeks(1).atTime(13, 0), monday.plusWeeks(1).atTime(14, 0), mockLocation2);
+
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee2.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee2)));
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation1, mockLocation2)));
+        when(meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any())).thenReturn(List.of(attendeeMeeting));
+        when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any())).thenReturn(List.of(locationMeeting));
+        when(locationMapper.mapToLocationDTO(mockLocation1)).thenReturn(mockLocationDTO1);
+        when(locationMapper.mapToLocationDTO(mockLocation2)).thenReturn(mockLocationDTO2);
+
+        List<LocationTimeSlotDTO> results = availabilityService.findRecurringSuggestions(new RecurringSuggestionRequestDTO(
+                Set.of(mockAttendee2.getId()), null, DEFAULT_DURATION, monday, 3, null, null, null, null));
+
+        // The attendee is busy 10:00 - 11:00 in the first week, Room 2 13:00 - 14:00 in the second week
+        assertEquals(List.of(
+                new LocationTimeSlotDTO(mockLocationDTO2, new AvailableSlotDTO(monday.atTime(9, 0), monday.atTime(10, 0))),
+                new LocationTimeSlotDTO(mockLocationDTO1, new AvailableSlotDTO(monday.atTime(9, 0), monday.atTime(10, 0))),
+                new LocationTimeSlotDTO(mockLocationDTO2, new AvailableSlotDTO(monday.atTime(11, 0), monday.atTime(13, 0))),
+                new LocationTimeSlotDTO(mockLocationDTO1, new AvailableSlotDTO(monday.atTime(11, 0), monday.atTime(17, 0))),
+                new LocationTimeSlotDTO(mockLocationDTO2, new AvailableSlotDTO(monday.atTime(14, 0), monday.atTime(16, 0)))), results);
+        verify(meetingRepository, times(1)).findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(
+                Set.of(mockAttendee2.getId()), monday.plusWeeks(2).plusDays(2).atStartOfDay(), monday.minusDays(1).atStartOfDay());
+        verify(meetingRepository, times(1)).findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any());
+    }
+
+    @Test
+    void findRecurringSuggestions_shouldKeepLocalTimeOfDayAcrossDaylightSavingChange() {
+        // Attendee 2 works 09:00 - 17:00 Berlin time (08:00 - 16:00 UTC in March, 07:00 - 15:00 UTC in April),
+        // Room 2 is open 08:00 - 16:00 UTC; the first occurrence is before, the last after the change to summer time
+        LocalDate firstMondayOfApril = LocalDate.of(DEFAULT_DATE.getYear(), 4, 1).with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        LocalDate firstDate = firstMondayOfApril.minusWeeks(2);
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+        mockAttendee2.setTimeZone(berlin);
+
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee2.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee2)));
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation2)));
+        when(meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any())).thenReturn(List.of());
+        when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any())).thenReturn(List.of());
+        when(locationMapper.mapToLocationDTO(mockLocation2)).thenReturn(mockLocationDTO2);
+
+        List<LocationTimeSlotDTO> results = availabilityService.findRecurringSuggestions(new RecurringSuggestionRequestDTO(
+                Set.of(mockAttendee2.getId()), null, DEFAULT_DURATION, firstDate, 3, berlin, null, null, null));
+
+        // In April the room closes at 16:00 UTC = 18:00 Berlin time but opens at 08:00 UTC = 10:00 Berlin time,
+        // so 10:00 - 17:00 Berlin time is free every week, i.e. 09:00 - 16:00 UTC on the first date
+        assertEquals(List.of(new LocationTimeSlotDTO(mockLocationDTO2, new AvailableSlotDTO(firstDate.atTime(9, 0), firstDate.atTime(16, 0)))), results);
+    }
+
+    @Test
+    void getAvailabilityForLocationsByDuration_shouldOrderLocationsSmallestFitFirst_whenMinCapacityProvided() {
+        LocalDate date = defaultLocationAvailabilityRequest.date();
+        List<Location> locationsFromRepo = List.of(mockLocation1, mockLocation2);
+
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(locationsFromRepo));
+
+        AvailableSlotDTO slot = new AvailableSlotDTO(
+                date.atTime(10, 0), date.atTime(12, 0)
+        );
+
+        doReturn(List.of(slot)).when(availabilityService).getAvailableTimeForLocation(anyLong(), eq(date));
+
+        when(locationMapper.mapToLocationDTO(mockLocation1)).thenReturn(mockLocationDTO1);
+        when(locationMapper.mapToLocationDTO(mockLocation2)).thenReturn(mockLocationDTO2);
+
+        List<LocationTimeSlotDTO> expectedResults = List.of(
+                new LocationTimeSlotDTO(mockLocationDTO2, slot),
+                new LocationTimeSlotDTO(mockLocationDTO1, slot)
+        );
+
+        List<LocationTimeSlotDTO> results = availabilityService.getAvailabilityForLocationsByDuration(defaultLocationAvailabilityRequest);
+
+        assertEquals(expectedResults, results, "Smaller locations should be listed before larger ones.");
+
+        verify(referenceDataService).findLocationCapacityIndex();
+        verify(locationRepository, never()).findByCapacityGreaterThanEqual(anyInt());
+    }
+
     @Test
     void getAvailabilityForLocationsByDuration_shouldCorrectlyFilterByMinDuration() {
         LocalDate date = defaultCommonAvailabilityRequest.date();
         LocationAvailabilityRequestDTO requestWithGreaterDuration = new LocationAvailabilityRequestDTO(
                 date,
                 60,
+                null,
+                null,
                 null
         );
         List<Location> locationsFromRepo = List.of(mockLocation1, mockLocation2);
 
-        when(locationRepository.findAll()).thenReturn(locationsFromRepo);
+        when(referenceDataService.findAllLocations()).thenReturn(locationsFromRepo);
 
         AvailableSlotDTO slot1_loc1_longEnough = new AvailableSlotDTO(
                 date.atTime(9, 0), date.atTime(10, 30)
@@ -643,7 +909,7 @@ public class AvailabilityServiceTest {
         assertEquals(2, results.size(), "Number of slots meeting duration criteria did not match.");
         assertTrue(results.containsAll(expectedResults) && expectedResults.containsAll(results), "Resulting slots do not match expected slots based on duration.");
 
-        verify(locationRepository).findAll();
+        verify(referenceDataService).findAllLocations();
         verify(availabilityService).getAvailableTimeForLocation(mockLocation1.getId(), date);
         verify(availabilityService).getAvailableTimeForLocation(mockLocation2.getId(), date);
         verify(locationMapper).mapToLocationDTO(mockLocation1);
@@ -660,7 +926,7 @@ public class AvailabilityServiceTest {
         LocalDateTime rangeEnd = mockAttendee1.getWorkingEndTime().atDate(date);
         AvailableSlotDTO fullDaySlot = new AvailableSlotDTO(rangeStart, rangeEnd);
 
-        when(attendeeRepository.findById(attendeeId)).thenReturn(Optional.of(mockAttendee1));
+        when(referenceDataService.findAttendeeWorkingHours(attendeeId)).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
         when(meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(attendeeId, rangeEnd, rangeStart)).thenReturn(List.of());
 
         List<AvailableSlotDTO> results = availabilityService.getAvailableTimeForAttendee(attendeeId, date);
@@ -669,7 +935,7 @@ public class AvailabilityServiceTest {
         assertEquals(1, results.size());
         assertTrue(results.contains(fullDaySlot));
 
-        verify(attendeeRepository).findById(attendeeId);
+        verify(referenceDataService).findAttendeeWorkingHours(attendeeId);
         verify(meetingRepository).findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(attendeeId, rangeEnd, rangeStart);
     }
 
@@ -684,7 +950,7 @@ public class AvailabilityServiceTest {
         AvailableSlotDTO slot1 = new AvailableSlotDTO(rangeStart, mockMeeting1.getStartTime());
         AvailableSlotDTO slot2 = new AvailableSlotDTO(mockMeeting1.getEndTime(), rangeEnd);
 
-        when(attendeeRepository.findById(attendeeId)).thenReturn(Optional.of(mockAttendee1));
+        when(referenceDataService.findAttendeeWorkingHours(attendeeId)).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
         when(meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(attendeeId, rangeEnd, rangeStart)).thenReturn(meetingsFromRepo);
 
         List<AvailableSlotDTO> results = availabilityService.getAvailableTimeForAttendee(attendeeId, date);
@@ -694,7 +960,7 @@ public class AvailabilityServiceTest {
         assertTrue(results.contains(slot1));
         assertTrue(results.contains(slot2));
 
-        verify(attendeeRepository).findById(attendeeId);
+        verify(referenceDataService).findAttendeeWorkingHours(attendeeId);
         verify(meetingRepository).findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(attendeeId, rangeEnd, rangeStart);
     }
 
@@ -711,7 +977,7 @@ public class AvailabilityServiceTest {
         AvailableSlotDTO slot2 = new AvailableSlotDTO(mockMeeting1.getEndTime(), mockMeeting2.getStartTime());
         AvailableSlotDTO slot3 = new AvailableSlotDTO(mockMeeting2.getEndTime(), rangeEnd);
 
-        when(attendeeRepository.findById(attendeeId)).thenReturn(Optional.of(mockAttendee1));
+        when(referenceDataService.findAttendeeWorkingHours(attendeeId)).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
         when(meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(attendeeId, rangeEnd, rangeStart)).thenReturn(meetingsFromRepo);
 
         List<AvailableSlotDTO> results = availabilityService.getAvailableTimeForAttendee(attendeeId, date);
@@ -722,7 +988,7 @@ public class AvailabilityServiceTest {
         assertTrue(results.contains(slot2));
         assertTrue(results.contains(slot3));
 
-        verify(attendeeRepository).findById(attendeeId);
+        verify(referenceDataService).findAttendeeWorkingHours(attendeeId);
         verify(meetingRepository).findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(attendeeId, rangeEnd, rangeStart);
     }
 
@@ -744,7 +1010,7 @@ public class AvailabilityServiceTest {
         AvailableSlotDTO slot1 = new AvailableSlotDTO(rangeStart, mockMeeting1.getStartTime());
         AvailableSlotDTO slot2 = new AvailableSlotDTO(meetingBackToBack.getEndTime(), rangeEnd);
 
-        when(attendeeRepository.findById(attendeeId)).thenReturn(Optional.of(mockAttendee1));
+        when(referenceDataService.findAttendeeWorkingHours(attendeeId)).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
         when(meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(attendeeId, rangeEnd, rangeStart)).thenReturn(meetingsFromRepo);
 
         List<AvailableSlotDTO> results = availabilityService.getAvailableTimeForAttendee(attendeeId, date);
@@ -754,7 +1020,7 @@ public class AvailabilityServiceTest {
         assertTrue(results.contains(slot1));
         assertTrue(results.contains(slot2));
 
-        verify(attendeeRepository).findById(attendeeId);
+        verify(referenceDataService).findAttendeeWorkingHours(attendeeId);
         verify(meetingRepository).findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(attendeeId, rangeEnd, rangeStart);
 
     }
@@ -776,7 +1042,7 @@ public class AvailabilityServiceTest {
 
         AvailableSlotDTO slot1 = new AvailableSlotDTO(meetingStartsAtRangeStart.getEndTime(), rangeEnd);
 
-        when(attendeeRepository.findById(attendeeId)).thenReturn(Optional.of(mockAttendee1));
+        when(referenceDataService.findAttendeeWorkingHours(attendeeId)).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
         when(meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(attendeeId, rangeEnd, rangeStart)).thenReturn(meetingsFromRepo);
 
         List<AvailableSlotDTO> results = availabilityService.getAvailableTimeForAttendee(attendeeId, date);
@@ -785,7 +1051,7 @@ public class AvailabilityServiceTest {
         assertEquals(1, results.size());
         assertTrue(results.contains(slot1));
 
-        verify(attendeeRepository).findById(attendeeId);
+        verify(referenceDataService).findAttendeeWorkingHours(attendeeId);
         verify(meetingRepository).findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(attendeeId, rangeEnd, rangeStart);
     }
 
@@ -806,7 +1072,7 @@ public class AvailabilityServiceTest {
 
         AvailableSlotDTO slot1 = new AvailableSlotDTO(rangeStart, meetingEndAtRangeEnd.getStartTime());
 
-        when(attendeeRepository.findById(attendeeId)).thenReturn(Optional.of(mockAttendee1));
+        when(referenceDataService.findAttendeeWorkingHours(attendeeId)).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
         when(meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(attendeeId, rangeEnd, rangeStart)).thenReturn(meetingsFromRepo);
 
         List<AvailableSlotDTO> results = availabilityService.getAvailableTimeForAttendee(attendeeId, date);
@@ -815,7 +1081,7 @@ public class AvailabilityServiceTest {
         assertEquals(1, results.size());
         assertTrue(results.contains(slot1));
 
-        verify(attendeeRepository).findById(attendeeId);
+        verify(referenceDataService).findAttendeeWorkingHours(attendeeId);
         verify(meetingRepository).findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(attendeeId, rangeEnd, rangeStart);
     }
 
@@ -825,14 +1091,14 @@ public class AvailabilityServiceTest {
         LocalDate date = DEFAULT_DATE;
         String expectedErrorMessage = "Attendee not found with ID: " + nonExistentAttendeeId;
 
-        when(attendeeRepository.findById(nonExistentAttendeeId)).thenReturn(Optional.empty());
+        when(referenceDataService.findAttendeeWorkingHours(nonExistentAttendeeId)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
             availabilityService.getAvailableTimeForAttendee(nonExistentAttendeeId, date);
         });
         assertEquals(expectedErrorMessage, exception.getMessage());
 
-        verify(attendeeRepository).findById(nonExistentAttendeeId);
+        verify(referenceDataService).findAttendeeWorkingHours(nonExistentAttendeeId);
         verify(meetingRepository, never()).findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
@@ -845,6 +1111,7 @@ public class AvailabilityServiceTest {
 
         CommonAvailabilityRequestDTO requestDTO = new CommonAvailabilityRequestDTO(
                 attendeeIds,
+                null,
                 date
         );
 
@@ -875,6 +1142,124 @@ public class AvailabilityServiceTest {
         verify(availabilityService).getAvailableTimeForAttendee(mockAttendee2.getId(), date);
     }
 
+    @Test
+    void getCommonAttendeeAvailability_shouldIntersectWorkingHoursInUtc_whenAttendeesAreInDifferentTimeZones() {
+        // 09:00 - 17:00 in Berlin (UTC+2 in summer) and in New York (UTC-4 in summer)
+        mockAttendee1.setWorkingStartTime(LocalTime.of(9, 0));
+        mockAttendee1.setWorkingEndTime(LocalTime.of(17, 0));
+        mockAttendee1.setTimeZone(ZoneId.of("Europe/Berlin"));
+        mockAttendee2.setTimeZone(ZoneId.of("America/New_York"));
+
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee1.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee2.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee2)));
+        when(meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(anyLong(), any(), any())).thenReturn(List.of());
+
+        List<AvailableSlotDTO> result = availabilityService.getCommonAttendeeAvailability(
+                new CommonAvailabilityRequestDTO(Set.of(mockAttendee1.getId(), mockAttendee2.getId()), null, DEFAULT_DATE));
+
+        assertEquals(List.of(slot("13:00", "15:00")), result);
+    }
+
+    @Test
+    void getAvailableTimeForLocation_shouldComputeSlotsPerSegment_whenLocationHasSplitShift() {
+        Long locationId = mockLocation1.getId();
+        LocalDate date = DEFAULT_DATE;
+        mockLocation1.getWorkingSegments().add(new WorkingSegment(date.getDayOfWeek(), LocalTime.of(9, 0), LocalTime.of(12, 0)));
+        mockLocation1.getWorkingSegments().add(new WorkingSegment(date.getDayOfWeek(), LocalTime.of(13, 0), LocalTime.of(17, 0)));
+
+        Meeting meeting = new Meeting();
+        meeting.setId(10L);
+        meeting.setStartTime(date.atTime(11, 0));
+        meeting.setEndTime(date.atTime(14, 0));
+
+        when(referenceDataService.findLocationById(locationId)).thenReturn(Optional.of(mockLocation1));
+        when(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, date.atTime(17, 0), date.atTime(9, 0)))
+                .thenReturn(List.of(meeting));
+
+        List<AvailableSlotDTO> result = availabilityService.getAvailableTimeForLocation(locationId, date);
+
+        // The lunch break is never offered, the meeting takes the rest of both segments around it
+        assertEquals(List.of(slot("09:00", "11:00"), slot("14:00", "17:00")), result);
+    }
+
+    @Test
+    void getAvailableTimeForLocation_shouldExcludeTimeOffAndHolidays() {
+        Long locationId = mockLocation1.getId();
+        LocalDate date = DEFAULT_DATE;
+        TimeOff maintenance = new TimeOff(ResourceType.LOCATION, locationId, date.atTime(10, 0), date.atTime(11, 0), "Maintenance");
+        TimeOff holiday = new TimeOff(null, null, date.atTime(15, 0), date.plusDays(1).atStartOfDay(), "Half holiday");
+
+        when(referenceDataService.findLocationById(locationId)).thenReturn(Optional.of(mockLocation1));
+        when(timeOffService.findEffectiveTimeOff(ResourceType.LOCATION, locationId)).thenReturn(List.of(maintenance, holiday));
+        when(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(locationId, date.atTime(15, 0), date.atTime(9, 0)))
+                .thenReturn(List.of());
+
+        List<AvailableSlotDTO> result = availabilityService.getAvailableTimeForLocation(locationId, date);
+
+        assertEquals(List.of(slot("09:00", "10:00"), slot("11:00", "15:00")), result);
+    }
+
+    @Test
+    void getAvailableTimeForAttendee_shouldReturnEmptyList_whenWholeDayIsTimeOff() {
+        Long attendeeId = mockAttendee1.getId();
+        TimeOff vacation = new TimeOff(ResourceType.ATTENDEE, attendeeId, DEFAULT_DATE.minusDays(3).atStartOfDay(), DEFAULT_DATE.plusDays(4).atStartOfDay(), "Vacation");
+
+        when(referenceDataService.findAttendeeWorkingHours(attendeeId)).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
+        when(timeOffService.findEffectiveTimeOff(ResourceType.ATTENDEE, attendeeId)).thenReturn(List.of(vacation));
+
+        List<AvailableSlotDTO> result = availabilityService.getAvailableTimeForAttendee(attendeeId, DEFAULT_DATE);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(meetingRepository, busyCalendarService);
+    }
+
+    @Test
+    void getAvailableTimeForAttendee_shouldReturnEmptyList_whenWeeklyScheduleHasNoSegmentOnThatDay() {
+        Long attendeeId = mockAttendee1.getId();
+        mockAttendee1.getWorkingSegments().add(new WorkingSegment(DEFAULT_DATE.plusDays(1).getDayOfWeek(), LocalTime.of(9, 0), LocalTime.of(17, 0)));
+        when(referenceDataService.findAttendeeWorkingHours(attendeeId)).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
+
+        List<AvailableSlotDTO> result = availabilityService.getAvailableTimeForAttendee(attendeeId, DEFAULT_DATE);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(meetingRepository, busyCalendarService);
+    }
+
+    @Test
+    void getCommonAttendeeAvailability_shouldExpandGroupsToTheirMembers() {
+        LocalDate date = defaultCommonAvailabilityRequest.date();
+        CommonAvailabilityRequestDTO requestDTO = new CommonAvailabilityRequestDTO(
+                Set.of(mockAttendee1.getId()),
+                Set.of(50L),
+                date
+        );
+
+        when(referenceDataService.findGroupMemberIds(50L)).thenReturn(Optional.of(Set.of(mockAttendee1.getId(), mockAttendee2.getId())));
+        doReturn(List.of(slot("09:00", "12:00"))).when(availabilityService).getAvailableTimeForAttendee(mockAttendee1.getId(), date);
+        doReturn(List.of(slot("11:00", "15:00"))).when(availabilityService).getAvailableTimeForAttendee(mockAttendee2.getId(), date);
+
+        List<AvailableSlotDTO> result = availabilityService.getCommonAttendeeAvailability(requestDTO);
+
+        assertEquals(List.of(slot("11:00", "12:00")), result);
+        verify(availabilityService, times(1)).getAvailableTimeForAttendee(mockAttendee1.getId(), date);
+        verify(availabilityService, times(1)).getAvailableTimeForAttendee(mockAttendee2.getId(), date);
+    }
+
+    @Test
+    void getCommonAttendeeAvailability_shouldThrowEntityNotFoundException_whenGroupDoesNotExist() {
+        CommonAvailabilityRequestDTO requestDTO = new CommonAvailabilityRequestDTO(
+                null,
+                Set.of(404L),
+                defaultCommonAvailabilityRequest.date()
+        );
+        when(referenceDataService.findGroupMemberIds(404L)).thenReturn(Optional.empty());
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> availabilityService.getCommonAttendeeAvailability(requestDTO));
+
+        assertEquals("Attendee group not found with ID: 404", exception.getMessage());
+    }
+
     @Test
     void getCommonAttendeeAvailability_shouldReturnEmptyList_whenAttendeesHaveNoCommonAvailability() {
         Set<Long> attendeeIds = Set.of(mockAttendee1.getId(), mockAttendee2.getId());
@@ -882,6 +1267,7 @@ public class AvailabilityServiceTest {
 
         CommonAvailabilityRequestDTO requestDTO = new CommonAvailabilityRequestDTO(
                 attendeeIds,
+                null,
                 date
         );
 
@@ -904,11 +1290,121 @@ public class AvailabilityServiceTest {
         verify(availabilityService).getAvailableTimeForAttendee(mockAttendee2.getId(), date);
     }
 
+    @Test
+    void findQuorumAvailability_shouldRankSlotsByNumberOfFreeAttendees() {
+        LocalDate date = DEFAULT_DATE;
+        QuorumAvailabilityRequestDTO request = new QuorumAvailabilityRequestDTO(
+                Set.of(mockAttendee1.getId(), mockAttendee2.getId(), mockAttendee3.getId()), null, null, 2, date, 60, 3);
+
+        doReturn(List.of(slot("09:00", "12:00"), slot("13:00", "17:00"))).when(availabilityService).getAvailableTimeForAttendee(mockAttendee1.getId(), date);
+        doReturn(List.of(slot("09:00", "10:00"), slot("14:00", "17:00"))).when(availabilityService).getAvailableTimeForAttendee(mockAttendee2.getId(), date);
+        doReturn(List.of(slot("11:00", "17:00"))).when(availabilityService).getAvailableTimeForAttendee(mockAttendee3.getId(), date);
+
+        List<QuorumSlotDTO> result = availabilityService.findQuorumAvailability(request);
+
+        assertEquals(List.of(
+                new QuorumSlotDTO(date.atTime(14, 0), date.atTime(15, 0), 3, Set.of(1L, 2L, 3L), Set.of()),
+                new QuorumSlotDTO(date.atTime(9, 0), date.atTime(10, 0), 2, Set.of(1L, 2L), Set.of(3L)),
+                new QuorumSlotDTO(date.atTime(11, 0), date.atTime(12, 0), 2, Set.of(1L, 3L), Set.of(2L))
+        ), result);
+    }
+
+    @Test
+    void findQuorumAvailability_shouldKeepRequiredAttendeesFreeAcrossSegments() {
+        LocalDate date = DEFAULT_DATE;
+        QuorumAvailabilityRequestDTO request = new QuorumAvailabilityRequestDTO(
+                Set.of(mockAttendee1.getId(), mockAttendee2.getId()), null, Set.of(mockAttendee3.getId()), 2, date, 90, null);
+
+        doReturn(List.of(slot("09:00", "17:00"))).when(availabilityService).getAvailableTimeForAttendee(mockAttendee1.getId(), date);
+        doReturn(List.of(slot("09:00", "10:30"))).when(availabilityService).getAvailableTimeForAttendee(mockAttendee2.getId(), date);
+        doReturn(List.of(slot("10:00", "17:00"))).when(availabilityService).getAvailableTimeForAttendee(mockAttendee3.getId(), date);
+
+        List<QuorumSlotDTO> result = availabilityService.findQuorumAvailability(request);
+
+        // 09:00 - 10:30 has a quorum without the required attendee, 10:30 - 12:00 overlaps the first result
+        assertEquals(List.of(new QuorumSlotDTO(date.atTime(10, 0), date.atTime(11, 30), 2, Set.of(1L, 3L), Set.of(2L))), result);
+    }
+
+    @Test
+    void findQuorumAvailability_shouldSpanTouchingFreeSlotsOfOneAttendee() {
+        LocalDate date = DEFAULT_DATE;
+        QuorumAvailabilityRequestDTO request = new QuorumAvailabilityRequestDTO(
+                Set.of(mockAttendee1.getId(), mockAttendee2.getId()), null, null, 2, date, 120, null);
+
+        doReturn(List.of(slot("09:00", "10:00"), slot("10:00", "11:00"))).when(availabilityService).getAvailableTimeForAttendee(mockAttendee1.getId(), date);
+        doReturn(List.of(slot("09:00", "12:00"))).when(availabilityService).getAvailableTimeForAttendee(mockAttendee2.getId(), date);
+
+        List<QuorumSlotDTO> result = availabilityService.findQuorumAvailability(request);
+
+        assertEquals(List.of(new QuorumSlotDTO(date.atTime(9, 0), date.atTime(11, 0), 2, Set.of(1L, 2L), Set.of())), result);
+    }
+
+    @Test
+    void findQuorumAvailability_shouldExpandGroupsToTheirMembers() {
+        LocalDate date = DEFAULT_DATE;
+        QuorumAvailabilityRequestDTO request = new QuorumAvailabilityRequestDTO(
+                Set.of(mockAttendee3.getId()), Set.of(50L), null, 3, date, 60, 1);
+
+        when(referenceDataService.findGroupMemberIds(50L)).thenReturn(Optional.of(Set.of(mockAttendee1.getId(), mockAttendee2.getId())));
+        doReturn(List.of(slot("09:00", "12:00"))).when(availabilityService).getAvailableTimeForAttendee(mockAttendee1.getId(), date);
+        doReturn(List.of(slot("10:00", "17:00"))).when(availabilityService).getAvailableTimeForAttendee(mockAttendee2.getId(), date);
+        doReturn(List.of(slot("11:00", "17:00"))).when(availabilityService).getAvailableTimeForAttendee(mockAttendee3.getId(), date);
+
+        List<QuorumSlotDTO> result = availabilityService.findQuorumAvailability(request);
+
+        assertEquals(List.of(new QuorumSlotDTO(date.atTime(11, 0), date.atTime(12, 0), 3, Set.of(1L, 2L, 3L), Set.of())), result);
+    }
+
+    @Test
+    void findQuorumAvailability_shouldThrowIllegalArgumentException_whenQuorumExceedsAttendees() {
+        QuorumAvailabilityRequestDTO request = new QuorumAvailabilityRequestDTO(
+                Set.of(mockAttendee1.getId()), null, null, 2, DEFAULT_DATE, 30, null);
+
+        assertThrows(IllegalArgumentException.class, () -> availabilityService.findQuorumAvailability(request));
+
+        verifyNoInteractions(referenceDataService, meetingRepository);
+    }
+
+    @Test
+    void getFreeCountHeatmap_shouldCountAttendeesFreeForWholeBucket() {
+        LocalDate date = DEFAULT_DATE;
+        Set<Long> attendeeIds = Set.of(mockAttendee1.getId(), mockAttendee2.getId());
+        FreeCountHeatmapRequestDTO request = new FreeCountHeatmapRequestDTO(attendeeIds, null, date.atTime(7, 0), date.atTime(12, 0), 60);
+
+        Meeting meeting = new Meeting();
+        meeting.setId(10L);
+        meeting.setStartTime(date.atTime(9, 30));
+        meeting.setEndTime(date.atTime(9, 45));
+        meeting.setAttendees(Set.of(mockAttendee1));
+
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee1.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee2.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee2)));
+        when(meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(attendeeIds, date.atTime(12, 0), date.atTime(7, 0)))
+                .thenReturn(List.of(meeting));
+
+        FreeCountHeatmapDTO result = availabilityService.getFreeCountHeatmap(request);
+
+        // Attendee 1 works 08:00 - 16:00 with a meeting at 09:30, attendee 2 works 09:00 - 17:00
+        assertEquals(List.of(0, 1, 1, 2, 2), result.freeCounts());
+        assertEquals(2, result.attendeeCount());
+    }
+
+    @Test
+    void getFreeCountHeatmap_shouldThrowIllegalArgumentException_whenRangeIsTooLong() {
+        FreeCountHeatmapRequestDTO request = new FreeCountHeatmapRequestDTO(
+                Set.of(mockAttendee1.getId()), null, DEFAULT_DATE.atStartOfDay(), DEFAULT_DATE.plusDays(32).atStartOfDay(), null);
+
+        assertThrows(IllegalArgumentException.class, () -> availabilityService.getFreeCountHeatmap(request));
+
+        verifyNoInteractions(meetingRepository);
+    }
+
     @Test
     void getCommonAttendeeAvailability_shouldHandleEmptyAttendeeIdList() {
         LocalDate date = defaultCommonAvailabilityRequest.date();
         CommonAvailabilityRequestDTO requestWithEmptyIds = new CommonAvailabilityRequestDTO(
                 Set.of(),
+                null,
                 date
         );
 
@@ -927,6 +1423,7 @@ public class AvailabilityServiceTest {
 
         CommonAvailabilityRequestDTO requestWithSingleId = new CommonAvailabilityRequestDTO(
                 attendeeIds,
+                null,
                 date
         );
 
@@ -1017,9 +1514,9 @@ public class AvailabilityServiceTest {
         int durationMinutes = 60;
         int requiredCapacity = attendeeIds.size();
 
-        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, durationMinutes, date);
-        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, date);
-        LocationAvailabilityRequestDTO locAvailRequest = new LocationAvailabilityRequestDTO(date, durationMinutes, requiredCapacity);
+        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, null, durationMinutes, date, null, null, null);
+        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, null, date);
+        LocationAvailabilityRequestDTO locAvailRequest = new LocationAvailabilityRequestDTO(date, durationMinutes, requiredCapacity, null, null);
 
         List<AvailableSlotDTO> commonAttendeeSlots = List.of(
                 slot("10:00", "12:00"),
@@ -1057,8 +1554,8 @@ public class AvailabilityServiceTest {
         Set<Long> attendeeIds = Set.of(mockAttendee1.getId());
         LocalDate date = DEFAULT_DATE;
         int durationMinutes = DEFAULT_DURATION;
-        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, durationMinutes, date);
-        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, date);
+        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, null, durationMinutes, date, null, null, null);
+        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, null, date);
 
         doReturn(List.of()).when(availabilityService).getCommonAttendeeAvailability(commonAvailRequest);
 
@@ -1076,8 +1573,8 @@ public class AvailabilityServiceTest {
         Set<Long> attendeeIds = Set.of(mockAttendee1.getId());
         LocalDate date = DEFAULT_DATE;
         int durationMinutes = 60;
-        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, durationMinutes, date);
-        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, date);
+        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, null, durationMinutes, date, null, null, null);
+        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, null, date);
 
         List<AvailableSlotDTO> shortCommonSlots = List.of(slot("10:00", "10:30"));
 
@@ -1099,9 +1596,9 @@ public class AvailabilityServiceTest {
         int durationMinutes = DEFAULT_DURATION;
         int requiredCapacity = attendeeIds.size();
 
-        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, durationMinutes, date);
-        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, date);
-        LocationAvailabilityRequestDTO locAvailRequest = new LocationAvailabilityRequestDTO(date, durationMinutes, requiredCapacity);
+        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, null, durationMinutes, date, null, null, null);
+        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, null, date);
+        LocationAvailabilityRequestDTO locAvailRequest = new LocationAvailabilityRequestDTO(date, durationMinutes, requiredCapacity, null, null);
 
         List<AvailableSlotDTO> commonAttendeeSlots = List.of(slot("10:00", "11:00"));
 
@@ -1123,8 +1620,8 @@ public class AvailabilityServiceTest {
         Set<Long> attendeeIds = Set.of();
         LocalDate date = DEFAULT_DATE;
         int durationMinutes = DEFAULT_DURATION;
-        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, durationMinutes, date);
-        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, date);
+        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, null, durationMinutes, date, null, null, null);
+        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, null, date);
 
         doReturn(List.of()).when(availabilityService).getCommonAttendeeAvailability(commonAvailRequest);
 
@@ -1144,9 +1641,9 @@ public class AvailabilityServiceTest {
         int durationMinutes = DEFAULT_DURATION;
         int requiredCapacity = attendeeIds.size();
 
-        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, durationMinutes, date);
-        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, date);
-        LocationAvailabilityRequestDTO locAvailRequest = new LocationAvailabilityRequestDTO(date, durationMinutes, requiredCapacity);
+        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, null, durationMinutes, date, null, null, null);
+        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, null, date);
+        LocationAvailabilityRequestDTO locAvailRequest = new LocationAvailabilityRequestDTO(date, durationMinutes, requiredCapacity, null, null);
 
         List<AvailableSlotDTO> commonAttendeeSlots = List.of(slot("09:00", "10:00"));
 
@@ -1175,9 +1672,9 @@ public class AvailabilityServiceTest {
         int durationMinutes = DEFAULT_DURATION;
         int requiredCapacity = attendeeIds.size();
 
-        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, durationMinutes, date);
-        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, date);
-        LocationAvailabilityRequestDTO locAvailRequest = new LocationAvailabilityRequestDTO(date, durationMinutes, requiredCapacity);
+        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, null, durationMinutes, date, null, null, null);
+        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, null, date);
+        LocationAvailabilityRequestDTO locAvailRequest = new LocationAvailabilityRequestDTO(date, durationMinutes, requiredCapacity, null, null);
 
         List<AvailableSlotDTO> commonAttendeeSlots = List.of(slot("09:00", "11:00"));
 
@@ -1201,9 +1698,9 @@ public class AvailabilityServiceTest {
         int durationMinutes = DEFAULT_DURATION;
         int requiredCapacity = attendeeIds.size();
 
-        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, durationMinutes, date);
-        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, date);
-        LocationAvailabilityRequestDTO locAvailRequest = new LocationAvailabilityRequestDTO(date, durationMinutes, requiredCapacity);
+        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, null, durationMinutes, date, null, null, null);
+        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, null, date);
+        LocationAvailabilityRequestDTO locAvailRequest = new LocationAvailabilityRequestDTO(date, durationMinutes, requiredCapacity, null, null);
 
         List<AvailableSlotDTO> commonAttendeeSlots = List.of(slot("09:00", "09:30"));
 
@@ -1227,9 +1724,9 @@ public class AvailabilityServiceTest {
         int durationMinutes = DEFAULT_DURATION;
         int requiredCapacity = attendeeIds.size();
 
-        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, durationMinutes, date);
-        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, date);
-        LocationAvailabilityRequestDTO locAvailRequest = new LocationAvailabilityRequestDTO(date, durationMinutes, requiredCapacity);
+        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, null, durationMinutes, date, null, null, null);
+        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, null, date);
+        LocationAvailabilityRequestDTO locAvailRequest = new LocationAvailabilityRequestDTO(date, durationMinutes, requiredCapacity, null, null);
 
         List<AvailableSlotDTO> commonAttendeeSlots = List.of(slot("09:00", "09:20"));
 
@@ -1247,9 +1744,9 @@ public class AvailabilityServiceTest {
         int durationMinutes = DEFAULT_DURATION;
         int requiredCapacity = attendeeIds.size();
 
-        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, durationMinutes, date);
-        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, date);
-        LocationAvailabilityRequestDTO locAvailRequest = new LocationAvailabilityRequestDTO(date, durationMinutes, requiredCapacity);
+        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(attendeeIds, null, durationMinutes, date, null, null, null);
+        CommonAvailabilityRequestDTO commonAvailRequest = new CommonAvailabilityRequestDTO(attendeeIds, null, date);
+        LocationAvailabilityRequestDTO locAvailRequest = new LocationAvailabilityRequestDTO(date, durationMinutes, requiredCapacity, null, null);
 
         List<AvailableSlotDTO> commonAttendeeSlots = List.of(slot("09:00", "10:00"));
 
@@ -1264,8 +1761,387 @@ public class AvailabilityServiceTest {
         assertTrue(result.isEmpty());
     }
 
+    // SQL computation
+
+    @Test
+    void getAvailableTimeForAttendee_shouldComputeSlotsInDatabase_whenSqlComputationIsConfigured() {
+        Long attendeeId = mockAttendee1.getId();
+        when(availabilityProperties.getComputation()).thenReturn(AvailabilityProperties.Computation.SQL);
+        when(referenceDataService.findAttendeeWorkingHours(attendeeId)).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
+        when(freeSlotRepository.findFreeGaps(ResourceType.ATTENDEE, List.of(
+                new ResourceInterval(attendeeId, DEFAULT_DATE.atTime(8, 0), DEFAULT_DATE.atTime(16, 0)))))
+                .thenReturn(List.of(
+                        new ResourceInterval(attendeeId, DEFAULT_DATE.atTime(8, 0), DEFAULT_DATE.atTime(10, 0)),
+                        new ResourceInterval(attendeeId, DEFAULT_DATE.atTime(11, 0), DEFAULT_DATE.atTime(16, 0))));
+
+        List<AvailableSlotDTO> result = availabilityService.getAvailableTimeForAttendee(attendeeId, DEFAULT_DATE);
+
+        assertEquals(List.of(slot("08:00", "10:00"), slot("11:00", "16:00")), result);
+        verifyNoInteractions(busyCalendarService, meetingRepository);
+    }
+
+    @Test
+    void getAvailableTimeForLocation_shouldReturnEmptyList_whenSqlComputationFindsNoGaps() {
+        Long locationId = mockLocation1.getId();
+        when(availabilityProperties.getComputation()).thenReturn(AvailabilityProperties.Computation.SQL);
+        when(referenceDataService.findLocationById(locationId)).thenReturn(Optional.of(mockLocation1));
+        when(freeSlotRepository.findFreeGaps(ResourceType.LOCATION, List.of(
+                new ResourceInterval(locationId, DEFAULT_DATE.atTime(9, 0), DEFAULT_DATE.atTime(17, 0)))))
+                .thenReturn(List.of());
+
+        List<AvailableSlotDTO> result = availabilityService.getAvailableTimeForLocation(locationId, DEFAULT_DATE);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(busyCalendarService, meetingRepository);
+    }
+
+    @Test
+    void getCommonAttendeeAvailability_shouldQueryAllAttendeesInOneStatement_whenSqlComputationIsConfigured() {
+        Long attendeeId1 = mockAttendee1.getId();
+        Long attendeeId2 = mockAttendee2.getId();
+        when(availabilityProperties.getComputation()).thenReturn(AvailabilityProperties.Computation.SQL);
+        when(referenceDataService.findAttendeeWorkingHours(attendeeId1)).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
+        when(referenceDataService.findAttendeeWorkingHours(attendeeId2)).thenReturn(Optional.of(WorkingHours.of(mockAttendee2)));
+        when(freeSlotRepository.findFreeGaps(eq(ResourceType.ATTENDEE), anyList())).thenReturn(List.of(
+                new ResourceInterval(attendeeId1, DEFAULT_DATE.atTime(8, 0), DEFAULT_DATE.atTime(12, 0)),
+                new ResourceInterval(attendeeId2, DEFAULT_DATE.atTime(11, 0), DEFAULT_DATE.atTime(17, 0))));
+
+        List<AvailableSlotDTO> result = availabilityService.getCommonAttendeeAvailability(
+                new CommonAvailabilityRequestDTO(Set.of(attendeeId1, attendeeId2), null, DEFAULT_DATE));
+
+        assertEquals(List.of(slot("11:00", "12:00")), result);
+        verify(freeSlotRepository, times(1)).findFreeGaps(eq(ResourceType.ATTENDEE), anyList());
+        verify(availabilityService, never()).getAvailableTimeForAttendee(anyLong(), any());
+    }
+
+    // findFirstAvailableSuggestions
+
+    @Test
+    void findFirstAvailableSuggestions_shouldSkipWeekendAndStopAtMaxResults() {
+        LocalDate friday = DEFAULT_DATE.with(TemporalAdjusters.nextOrSame(DayOfWeek.FRIDAY));
+        LocalDate monday = friday.plusDays(3);
+        Set<Long> attendeeIds = Set.of(mockAttendee1.getId(), mockAttendee2.getId());
+
+        // Attendee 2 is busy all Friday
+        Meeting fridayMeeting = new Meeting();
+        fridayMeeting.setId(10L);
+        fridayMeeting.setStartTime(friday.atTime(9, 0));
+        fridayMeeting.setEndTime(friday.atTime(17, 0));
+        fridayMeeting.setLocation(mockLocation1);
+        fridayMeeting.setAttendees(Set.of(mockAttendee2));
+
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee1.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee2.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee2)));
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation1, mockLocation2)));
+        when(meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any()))
+                .thenReturn(List.of(fridayMeeting));
+        when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any()))
+                .thenReturn(List.of(fridayMeeting));
+        when(locationMapper.mapToLocationDTO(mockLocation1)).thenReturn(mockLocationDTO1);
+        when(locationMapper.mapToLocationDTO(mockLocation2)).thenReturn(mockLocationDTO2);
+
+        List<LocationTimeSlotDTO> result = availabilityService.findFirstAvailableSuggestions(
+                new FirstAvailableSuggestionRequestDTO(attendeeIds, null, DEFAULT_DURATION, friday, 3, 1, null, null, null));
+
+        // Smallest room that fits comes first on Monday
+        assertEquals(List.of(new LocationTimeSlotDTO(mockLocationDTO2,
+                new AvailableSlotDTO(monday.atTime(9, 0), monday.atTime(16, 0)))), result);
+    }
+
+    @Test
+    void findFirstAvailableSuggestions_shouldLoadMeetingsOfWholeHorizonWithOneQueryPerResourceType() {
+        LocalDate monday = DEFAULT_DATE.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        Set<Long> attendeeIds = Set.of(mockAttendee2.getId());
+
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee2.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee2)));
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation1)));
+        when(meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any()))
+                .thenReturn(List.of());
+        when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any()))
+                .thenReturn(List.of());
+        when(locationMapper.mapToLocationDTO(mockLocation1)).thenReturn(mockLocationDTO1);
+
+        List<LocationTimeSlotDTO> result = availabilityService.findFirstAvailableSuggestions(
+                new FirstAvailableSuggestionRequestDTO(attendeeIds, null, DEFAULT_DURATION, monday, 6, 10, null, null, null));
+
+        // Monday - Friday and the next Monday, one suggestion each
+        assertEquals(6, result.size());
+        assertEquals(monday.plusDays(7).atTime(9, 0), result.getLast().availableSlot().startTime());
+        verify(meetingRepository, times(1)).findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(
+                attendeeIds, monday.plusDays(9).atStartOfDay(), monday.minusDays(1).atStartOfDay());
+        verify(meetingRepository, times(1)).findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(
+                List.of(mockLocation1.getId()), monday.plusDays(9).atStartOfDay(), monday.minusDays(1).atStartOfDay());
+        verify(locationMapper, times(1)).mapToLocationDTO(mockLocation1);
+        verifyNoInteractions(busyCalendarService, freeSlotRepository);
+    }
+
+    @Test
+    void findFirstAvailableSuggestions_shouldExpandGroupsToTheirMembers() {
+        LocalDate monday = DEFAULT_DATE.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+
+        when(referenceDataService.findGroupMemberIds(50L)).thenReturn(Optional.of(Set.of(mockAttendee2.getId())));
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee2.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee2)));
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation1)));
+        when(meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any()))
+                .thenReturn(List.of());
+        when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any()))
+                .thenReturn(List.of());
+        when(locationMapper.mapToLocationDTO(mockLocation1)).thenReturn(mockLocationDTO1);
+
+        List<LocationTimeSlotDTO> result = availabilityService.findFirstAvailableSuggestions(
+                new FirstAvailableSuggestionRequestDTO(null, Set.of(50L), DEFAULT_DURATION, monday, 1, 1, null, null, null));
+
+        assertEquals(List.of(new LocationTimeSlotDTO(mockLocationDTO1,
+                new AvailableSlotDTO(monday.atTime(9, 0), monday.atTime(17, 0)))), result);
+        verify(meetingRepository).findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(
+                eq(Set.of(mockAttendee2.getId())), any(), any());
+    }
+
+    @Test
+    void findFirstAvailableSuggestions_shouldKeepTravelTimeFree_whenAttendeeMeetsInAnotherBuilding() {
+        LocalDate monday = DEFAULT_DATE.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        Set<Long> attendeeIds = Set.of(mockAttendee2.getId());
+        mockLocation1.setBuilding("North");
+        mockLocation2.setBuilding("South");
+
+        // Attendee 2 meets in the North building until 10:00, the suggested room is in the South building
+        Meeting northMeeting = new Meeting();
+        northMeeting.setId(10L);
+        northMeeting.setStartTime(monday.atTime(9, 0));
+        northMeeting.setEndTime(monday.atTime(10, 0));
+        northMeeting.setLocation(mockLocation1);
+        northMeeting.setAttendees(Set.of(mockAttendee2));
+
+        when(referenceDataService.findTravelTimeMatrix()).thenReturn(TravelTimeMatrix.of(List.of(new TravelTime("North", "South", 30))));
+        when(referenceDataService.findAllLocations()).thenReturn(List.of(mockLocation1, mockLocation2));
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee2.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee2)));
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation2)));
+        when(meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any()))
+                .thenReturn(List.of(northMeeting));
+        when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any()))
+                .thenReturn(List.of());
+        when(locationMapper.mapToLocationDTO(mockLocation2)).thenReturn(mockLocationDTO2);
+
+        List<LocationTimeSlotDTO> result = availabilityService.findFirstAvailableSuggestions(
+                new FirstAvailableSuggestionRequestDTO(attendeeIds, null, DEFAULT_DURATION, monday, 1, 1, null, null, null));
+
+        assertEquals(List.of(new LocationTimeSlotDTO(mockLocationDTO2,
+                new AvailableSlotDTO(monday.atTime(10, 30), monday.atTime(16, 0)))), result);
+    }
+
+    @Test
+    void findFirstAvailableSuggestions_shouldLeaveOutLargerRoom_whenBestFitAndSmallerRoomCoversItsSlot() {
+        LocalDate monday = DEFAULT_DATE.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        Set<Long> attendeeIds = Set.of(mockAttendee2.getId());
+        mockLocation1.setWorkingEndTime(LocalTime.of(16, 0));
+
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee2.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee2)));
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation1, mockLocation2)));
+        when(meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any()))
+                .thenReturn(List.of());
+        when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any()))
+                .thenReturn(List.of());
+        when(locationMapper.mapToLocationDTO(mockLocation1)).thenReturn(mockLocationDTO1);
+        when(locationMapper.mapToLocationDTO(mockLocation2)).thenReturn(mockLocationDTO2);
+
+        List<LocationTimeSlotDTO> allFitting = availabilityService.findFirstAvailableSuggestions(
+                new FirstAvailableSuggestionRequestDTO(attendeeIds, null, DEFAULT_DURATION, monday, 1, 10, null, null, null));
+        List<LocationTimeSlotDTO> bestFit = availabilityService.findFirstAvailableSuggestions(
+                new FirstAvailableSuggestionRequestDTO(attendeeIds, null, DEFAULT_DURATION, monday, 1, 10, null, null, RoomSelection.BEST_FIT));
+
+        // Both rooms are free 09:00 - 16:00, the 10-seat room is only suggested when the 5-seat room is not requested best-fit
+        AvailableSlotDTO slot = new AvailableSlotDTO(monday.atTime(9, 0), monday.atTime(16, 0));
+        assertEquals(List.of(new LocationTimeSlotDTO(mockLocationDTO2, slot), new LocationTimeSlotDTO(mockLocationDTO1, slot)), allFitting);
+        assertEquals(List.of(new LocationTimeSlotDTO(mockLocationDTO2, slot)), bestFit);
+    }
+
+    @Test
+    void findMeetingSuggestions_shouldKeepLargerRoom_whenBestFitAndItsSlotIsLonger() {
+        Set<Long> attendeeIds = Set.of(mockAttendee2.getId());
+        MeetingSuggestionRequestDTO request = new MeetingSuggestionRequestDTO(
+                attendeeIds, null, DEFAULT_DURATION, DEFAULT_DATE, null, null, RoomSelection.BEST_FIT);
+        // The 5-seat room is free until 12:00, the 10-seat room is free all day
+        LocationTimeSlotDTO smallRoomSlot = new LocationTimeSlotDTO(mockLocationDTO2, slot("09:00", "12:00"));
+        LocationTimeSlotDTO largeRoomSlot = new LocationTimeSlotDTO(mockLocationDTO1, slot("09:00", "17:00"));
+
+        doReturn(List.of(slot("09:00", "17:00"))).when(availabilityService).getCommonAttendeeAvailability(any(CommonAvailabilityRequestDTO.class));
+        doReturn(List.of(smallRoomSlot, largeRoomSlot)).when(availabilityService).getAvailabilityForLocationsByDuration(any(LocationAvailabilityRequestDTO.class));
+
+        List<LocationTimeSlotDTO> result = availabilityService.findMeetingSuggestions(request);
+
+        // 12:00 - 17:00 is only available in the larger room
+        assertEquals(List.of(smallRoomSlot, largeRoomSlot), result);
+    }
+
+    // assignRooms
+
+    @Test
+    void assignRooms_shouldPlaceLargerMeetingFirstIntoSmallestFreeRoom_whenMeetingsEndTogether() {
+        // Room 1: 10 seats, 09:00 - 17:00; Room 2: 5 seats, 08:00 - 16:00
+        List<PendingMeetingRequestDTO> meetings = List.of(
+                new PendingMeetingRequestDTO(DEFAULT_DATE.atTime(10, 0), DEFAULT_DATE.atTime(11, 0), 4, null),
+                new PendingMeetingRequestDTO(DEFAULT_DATE.atTime(10, 30), DEFAULT_DATE.atTime(11, 30), 3, null),
+                new PendingMeetingRequestDTO(DEFAULT_DATE.atTime(10, 0), DEFAULT_DATE.atTime(11, 0), 8, null));
+
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation1, mockLocation2)));
+        when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any())).thenReturn(List.of());
+        when(locationMapper.mapToLocationDTO(mockLocation1)).thenReturn(mockLocationDTO1);
+        when(locationMapper.mapToLocationDTO(mockLocation2)).thenReturn(mockLocationDTO2);
+
+        RoomAssignmentResultDTO result = availabilityService.assignRooms(new RoomAssignmentRequestDTO(DEFAULT_DATE, meetings));
+
+        // The 8-person meeting is placed before the 4-person meeting ending at the same time,
+        // in request order the 3-person meeting would take the 10-seat room the 8-person meeting needs
+        assertEquals(mockLocationDTO2, result.assignments().get(0).location());
+        assertNull(result.assignments().get(1).location());
+        assertEquals(mockLocationDTO1, result.assignments().get(2).location());
+        assertEquals(2, result.assignedCount());
+        assertEquals(1, result.unassignedCount());
+        assertEquals((8 * 60 + 4 * 60) / (double) (10 * 60 + 5 * 60), result.seatUtilization(), 1e-9);
+        verify(meetingRepository, times(1)).findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(
+                List.of(mockLocation2.getId(), mockLocation1.getId()), DEFAULT_DATE.plusDays(2).atStartOfDay(), DEFAULT_DATE.minusDays(1).atStartOfDay());
+    }
+
+    @Test
+    void assignRooms_shouldKeepBufferFreeAroundExistingAndPlacedMeetings() {
+        mockLocation2.setBufferMinutes(15);
+        Meeting existingMeeting = new Meeting();
+        existingMeeting.setId(10L);
+        existingMeeting.setStartTime(DEFAULT_DATE.atTime(9, 0));
+        existingMeeting.setEndTime(DEFAULT_DATE.atTime(10, 0));
+        existingMeeting.setLocation(mockLocation2);
+        List<PendingMeetingRequestDTO> meetings = List.of(
+                new PendingMeetingRequestDTO(DEFAULT_DATE.atTime(10, 0), DEFAULT_DATE.atTime(10, 30), 3, null),
+                new PendingMeetingRequestDTO(DEFAULT_DATE.atTime(11, 0), DEFAULT_DATE.atTime(11, 30), 3, null),
+                new PendingMeetingRequestDTO(DEFAULT_DATE.atTime(11, 30), DEFAULT_DATE.atTime(12, 0), 3, null));
+
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation1, mockLocation2)));
+        when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any())).thenReturn(List.of(existingMeeting));
+        when(locationMapper.mapToLocationDTO(mockLocation1)).thenReturn(mockLocationDTO1);
+        when(locationMapper.mapToLocationDTO(mockLocation2)).thenReturn(mockLocationDTO2);
+
+        RoomAssignmentResultDTO result = availabilityService.assignRooms(new RoomAssignmentRequestDTO(DEFAULT_DATE, meetings));
+
+        // The 5-seat room has a 15 minute buffer after the existing meeting and after the 11:00 meeting
+        assertEquals(List.of(mockLocationDTO1, mockLocationDTO2, mockLocationDTO1),
+                result.assignments().stream().map(RoomAssignmentDTO::location).toList());
+        assertEquals(3, result.assignedCount());
+    }
+
+    @Test
+    void assignRooms_shouldThrowIllegalArgumentException_whenMeetingStartsOnAnotherDay() {
+        List<PendingMeetingRequestDTO> meetings = List.of(
+                new PendingMeetingRequestDTO(DEFAULT_DATE.atTime(10, 0), DEFAULT_DATE.atTime(11, 0), 4, null),
+                new PendingMeetingRequestDTO(DEFAULT_DATE.plusDays(1).atTime(10, 0), DEFAULT_DATE.plusDays(1).atTime(11, 0), 4, null));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> availabilityService.assignRooms(new RoomAssignmentRequestDTO(DEFAULT_DATE, meetings)));
+
+        assertEquals("Meeting 1 does not start on " + DEFAULT_DATE + ".", exception.getMessage());
+        verifyNoInteractions(meetingRepository);
+    }
+
+    @Test
+    void scheduleBatch_shouldPlaceMeetingsAroundExistingMeetingsWithOneQueryPerResourceType() {
+        // Attendee 1: 08:00 - 16:00, busy 09:00 - 15:00; Attendee 2: 09:00 - 17:00
+        LocalDate monday = DEFAULT_DATE.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        Meeting existingMeeting = new Meeting("Existing", monday.atTime(9, 0), monday.atTime(15, 0), null);
+        existingMeeting.setId(10L);
+        existingMeeting.addAttendee(mockAttendee1);
+        List<BatchMeetingRequestDTO> meetings = List.of(
+                new BatchMeetingRequestDTO("Pair", Set.of(1L, 2L), 60, null, null),
+                new BatchMeetingRequestDTO("Solo", Set.of(1L), 60, null, null),
+                new BatchMeetingRequestDTO("Projector", Set.of(2L), 30, Set.of(LocationFeature.PROJECTOR), null));
+
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation1, mockLocation2)));
+        when(referenceDataService.findAttendeeWorkingHours(1L)).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
+        when(referenceDataService.findAttendeeWorkingHours(2L)).thenReturn(Optional.of(WorkingHours.of(mockAttendee2)));
+        when(meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any())).thenReturn(List.of(existingMeeting));
+        when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any())).thenReturn(List.of());
+        when(locationMapper.mapToLocationDTO(mockLocation2)).thenReturn(mockLocationDTO2);
+
+        BatchScheduleResultDTO result = availabilityService.scheduleBatch(new BatchScheduleRequestDTO(monday, 1, meetings));
+
+        // The pair only fits at 15:00 and is placed first, both meetings take the smaller room; no room has a projector
+        assertEquals(List.of(
+                        new ScheduledMeetingDTO(0, "Pair", monday.atTime(15, 0), monday.atTime(16, 0), mockLocationDTO2),
+                        new ScheduledMeetingDTO(1, "Solo", monday.atTime(8, 0), monday.atTime(9, 0), mockLocationDTO2),
+                        new ScheduledMeetingDTO(2, "Projector", null, null, null)),
+                result.meetings());
+        assertEquals(2, result.scheduledCount());
+        assertEquals(1, result.unscheduledCount());
+        verify(meetingRepository, times(1)).findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(
+                Set.of(1L, 2L), monday.plusDays(2).atStartOfDay(), monday.minusDays(1).atStartOfDay());
+        verify(meetingRepository, times(1)).findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any());
+    }
+
+    @Test
+    void planPreemption_shouldMoveFewestLowerPriorityMeetings_andPreferPlansWhereTheyCanMove() {
+        // Room 2 (08:00 - 16:00) is booked from 09:00 on; attendee 1 works 08:00 - 16:00, attendee 2 09:00 - 17:00
+        LocalDate monday = DEFAULT_DATE.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        Meeting workshop = createRoom2Meeting(101L, "Workshop", monday.atTime(9, 0), monday.atTime(12, 0), mockAttendee2);
+        Meeting sync = createRoom2Meeting(102L, "Sync", monday.atTime(12, 0), monday.atTime(13, 0), mockAttendee1);
+        Meeting review = createRoom2Meeting(103L, "Review", monday.atTime(13, 0), monday.atTime(14, 0), mockAttendee2);
+        Meeting planning = createRoom2Meeting(104L, "Planning", monday.atTime(14, 0), monday.atTime(16, 0), mockAttendee2);
+        Map<Long, Integer> meetingPriorities = Map.of(101L, 10, 102L, 1, 103L, 2, 104L, 1);
+
+        when(availabilityProperties.getPreemptionMaxDisplaced()).thenReturn(3);
+        when(availabilityProperties.getPreemptionTimeBudget()).thenReturn(Duration.ofSeconds(5));
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation2)));
+        when(referenceDataService.findLocationById(mockLocation2.getId())).thenReturn(Optional.of(mockLocation2));
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee1.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee1)));
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee2.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee2)));
+        when(meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(eq(Set.of(2L)), any(), any()))
+                .thenReturn(List.of(workshop, review, planning));
+        when(meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(eq(Set.of(1L, 2L)), any(), any()))
+                .thenReturn(List.of(workshop, sync, review, planning));
+        when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any()))
+                .thenReturn(List.of(workshop, sync, review, planning));
+        when(locationMapper.mapToLocationDTO(mockLocation2)).thenReturn(mockLocationDTO2);
+
+        List<PreemptionPlanDTO> plans = availabilityService.planPreemption(new PreemptionPlanRequestDTO(
+                Set.of(2L), null, 60, monday, null, null, 5, meetingPriorities, 2));
+
+        // Moving the sync (priority 1) frees 12:00 and it fits 08:00 - 09:00 for attendee 1;
+        // moving the planning (priority 1) frees 14:00 but it has nowhere to go, the review has a higher priority
+        assertEquals(List.of(
+                new PreemptionPlanDTO(mockLocationDTO2, new AvailableSlotDTO(monday.atTime(12, 0), monday.atTime(13, 0)), List.of(
+                        new DisplacedMeetingDTO(102L, "Sync", 1, new AvailableSlotDTO(monday.atTime(12, 0), monday.atTime(13, 0)),
+                                new AvailableSlotDTO(monday.atTime(8, 0), monday.atTime(9, 0))))),
+                new PreemptionPlanDTO(mockLocationDTO2, new AvailableSlotDTO(monday.atTime(14, 0), monday.atTime(15, 0)), List.of(
+                        new DisplacedMeetingDTO(104L, "Planning", 1, new AvailableSlotDTO(monday.atTime(14, 0), monday.atTime(16, 0)), null)))),
+                plans);
+    }
+
+    @Test
+    void planPreemption_shouldReturnEmptyList_whenEverySlotOverlapsMeetingOfEqualOrHigherPriority() {
+        LocalDate monday = DEFAULT_DATE.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        Meeting offsite = createRoom2Meeting(101L, "Offsite", monday.atTime(8, 0), monday.atTime(16, 0), mockAttendee2);
+
+        when(availabilityProperties.getPreemptionMaxDisplaced()).thenReturn(3);
+        when(availabilityProperties.getPreemptionTimeBudget()).thenReturn(Duration.ofSeconds(5));
+        when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(List.of(mockLocation2)));
+        when(referenceDataService.findAttendeeWorkingHours(mockAttendee2.getId())).thenReturn(Optional.of(WorkingHours.of(mockAttendee2)));
+        when(meetingRepository.findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any())).thenReturn(List.of(offsite));
+        when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any())).thenReturn(List.of(offsite));
+
+        List<PreemptionPlanDTO> plans = availabilityService.planPreemption(new PreemptionPlanRequestDTO(
+                Set.of(2L), null, 60, monday, null, null, 5, Map.of(101L, 5), null));
+
+        assertTrue(plans.isEmpty());
+        verify(meetingRepository, times(1)).findDistinctByAttendees_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any());
+        verifyNoInteractions(locationMapper);
+    }
+
     // === HELPER METHODS ===
 
+    private Meeting createRoom2Meeting(Long id, String title, LocalDateTime start, LocalDateTime end, Attendee attendee) {
+        Meeting meeting = new Meeting(title, start, end, mockLocation2);
+        meeting.setId(id);
+        meeting.addAttendee(attendee);
+        return meeting;
+    }
+
     private AvailableSlotDTO slot(String startTimeStr, String endTimeStr) {
         return new AvailableSlotDTO(DEFAULT_DATE.atTime(LocalTime.parse(startTimeStr)), DEFAULT_DATE.atTime(LocalTime.parse(endTimeStr)));
     }
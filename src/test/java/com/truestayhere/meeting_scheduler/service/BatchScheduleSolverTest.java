@@ -0,0 +1,177 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.config.BatchSchedulingProperties;
+import com.truestayhere.meeting_scheduler.dto.response.AvailableSlotDTO;
+import com.truestayhere.meeting_scheduler.model.Location;
+import com.truestayhere.meeting_scheduler.service.BatchScheduleSolver.BatchMeeting;
+import com.truestayhere.meeting_scheduler.service.BatchScheduleSolver.Placement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class BatchScheduleSolverTest {
+    private static final LocalDate DATE = LocalDate.of(Year.now().getValue() + 1, 8, 4);
+
+    private BatchScheduleSolver solver;
+    private BatchSchedulingProperties properties;
+    private Location smallRoom, largeRoom;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BatchSchedulingProperties();
+        properties.setSolverThreads(2);
+        solver = new BatchScheduleSolver(properties);
+
+        smallRoom = new Location("Small", 4);
+        smallRoom.setId(1L);
+        largeRoom = new Location("Large", 10);
+        largeRoom.setId(2L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        solver.destroy();
+    }
+
+    @Test
+    void solve_shouldPlaceMostConstrainedMeetingFirst() {
+        // Attendee 1 is free 09:00 - 11:00, attendee 2 only 09:00 - 10:00;
+        // the solo meeting comes first in the request, placing it at 09:00 would leave no time for the pair
+        List<BatchMeeting> meetings = List.of(
+                new BatchMeeting(0, Set.of(1L), 60, List.of(smallRoom)),
+                new BatchMeeting(1, Set.of(1L, 2L), 60, List.of(largeRoom)));
+
+        List<Placement> placements = solver.solve(meetings,
+                Map.of(1L, List.of(slot(9, 11)), 2L, List.of(slot(9, 10))),
+                Map.of(1L, List.of(slot(8, 17)), 2L, List.of(slot(8, 17))));
+
+        assertEquals(List.of(
+                new Placement(0, at(10), at(11), smallRoom),
+                new Placement(1, at(9), at(10), largeRoom)), placements);
+    }
+
+    @Test
+    void solve_shouldBacktrack_whenPlacementLeavesNoRoomForLaterMeeting() {
+        // The only room is free 09:00 - 10:30 and 11:00 - 12:00. Meeting 0 can start at 09:00 or 11:00 (fewest starts,
+        // placed first), meeting 1 only between 09:00 and 09:30, so meeting 0 at 09:00 has to be undone.
+        // The meetings share no attendee: solved apart both take 09:00, so the room conflict is searched jointly
+        List<BatchMeeting> meetings = List.of(
+                new BatchMeeting(0, Set.of(1L), 60, List.of(smallRoom)),
+                new BatchMeeting(1, Set.of(2L), 60, List.of(smallRoom)));
+
+        List<Placement> placements = solver.solve(meetings,
+                Map.of(1L, List.of(slot(9, 10), slot(11, 12)), 2L, List.of(new AvailableSlotDTO(at(9), at(10, 30)))),
+                Map.of(1L, List.of(new AvailableSlotDTO(at(9), at(10, 30)), slot(11, 12))));
+
+        assertEquals(List.of(
+                new Placement(0, at(11), at(12), smallRoom),
+                new Placement(1, at(9), at(10), smallRoom)), placements);
+    }
+
+    @Test
+    void solve_shouldKeepRoomBufferBetweenPlacedMeetings() {
+        smallRoom.setBufferMinutes(15);
+        List<BatchMeeting> meetings = List.of(
+                new BatchMeeting(0, Set.of(1L), 60, List.of(smallRoom)),
+                new BatchMeeting(1, Set.of(2L), 60, List.of(smallRoom)));
+
+        List<Placement> placements = solver.solve(meetings,
+                Map.of(1L, List.of(slot(9, 12)), 2L, List.of(slot(9, 12))),
+                Map.of(1L, List.of(slot(9, 12))));
+
+        // The room needs 15 minutes after the first meeting
+        assertEquals(List.of(
+                new Placement(0, at(9), at(10), smallRoom),
+                new Placement(1, at(10, 15), at(11, 15), smallRoom)), placements);
+    }
+
+    @Test
+    void solve_shouldScheduleIndependentMeetingsInParallelAndReturnThemInRequestOrder() {
+        List<BatchMeeting> meetings = List.of(
+                new BatchMeeting(0, Set.of(1L), 60, List.of(smallRoom)),
+                new BatchMeeting(1, Set.of(2L), 60, List.of(largeRoom)),
+                new BatchMeeting(2, Set.of(1L), 60, List.of(smallRoom)));
+
+        List<Placement> placements = solver.solve(meetings,
+                Map.of(1L, List.of(slot(9, 11)), 2L, List.of(slot(9, 10))),
+                Map.of(1L, List.of(slot(9, 17)), 2L, List.of(slot(9, 17))));
+
+        assertEquals(List.of(0, 1, 2), placements.stream().map(Placement::index).toList());
+        assertEquals(new Placement(1, at(9), at(10), largeRoom), placements.get(1));
+        assertNotEquals(placements.get(0).startTime(), placements.get(2).startTime());
+    }
+
+    @Test
+    void solve_shouldSolveAttendeeDisjointMeetingsApart_whenTheyShareCandidateRooms() {
+        List<BatchMeeting> meetings = List.of(
+                new BatchMeeting(0, Set.of(1L), 60, List.of(smallRoom, largeRoom)),
+                new BatchMeeting(1, Set.of(2L), 60, List.of(smallRoom, largeRoom)));
+
+        List<Placement> placements = solver.solve(meetings,
+                Map.of(1L, List.of(slot(9, 10)), 2L, List.of(slot(9, 10))),
+                Map.of(1L, List.of(slot(8, 17)), 2L, List.of(slot(8, 17))));
+
+        // Both components pick the small room at 09:00, the later one moves to the large room at the same time
+        assertEquals(List.of(List.of(meetings.get(0)), List.of(meetings.get(1))), BatchScheduleSolver.findComponents(meetings));
+        assertEquals(List.of(
+                new Placement(0, at(9), at(10), smallRoom),
+                new Placement(1, at(9), at(10), largeRoom)), placements);
+    }
+
+    @Test
+    void solve_shouldMoveMeetingToAnotherStart_whenOtherComponentTookItsRoom() {
+        List<BatchMeeting> meetings = List.of(
+                new BatchMeeting(0, Set.of(1L), 60, List.of(smallRoom)),
+                new BatchMeeting(1, Set.of(2L), 60, List.of(smallRoom)));
+
+        List<Placement> placements = solver.solve(meetings,
+                Map.of(1L, List.of(slot(9, 10)), 2L, List.of(slot(9, 12))),
+                Map.of(1L, List.of(slot(8, 17))));
+
+        assertEquals(List.of(
+                new Placement(0, at(9), at(10), smallRoom),
+                new Placement(1, at(10), at(11), smallRoom)), placements);
+    }
+
+    @Test
+    void solve_shouldLeaveMeetingsUnscheduled_whenNotAllFit() {
+        // Three one hour meetings of the same attendee within two free hours
+        List<BatchMeeting> meetings = List.of(
+                new BatchMeeting(0, Set.of(1L), 60, List.of(smallRoom)),
+                new BatchMeeting(1, Set.of(1L), 60, List.of(smallRoom)),
+                new BatchMeeting(2, Set.of(1L), 60, List.of(smallRoom)),
+                new BatchMeeting(3, Set.of(2L), 60, List.of()));
+
+        List<Placement> placements = solver.solve(meetings,
+                Map.of(1L, List.of(slot(9, 11)), 2L, List.of(slot(9, 11))),
+                Map.of(1L, List.of(slot(9, 17))));
+
+        assertEquals(2, placements.size());
+        assertNotEquals(placements.get(0).startTime(), placements.get(1).startTime());
+        assertTrue(placements.stream().noneMatch(placement -> placement.index() == 3));
+    }
+
+    // === HELPER METHODS ===
+
+    private AvailableSlotDTO slot(int startHour, int endHour) {
+        return new AvailableSlotDTO(at(startHour), at(endHour));
+    }
+
+    private LocalDateTime at(int hour) {
+        return at(hour, 0);
+    }
+
+    private LocalDateTime at(int hour, int minute) {
+        return DATE.atTime(hour, minute);
+    }
+}
@@ -0,0 +1,169 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.*;
+import com.truestayhere.meeting_scheduler.repository.MeetingRepository;
+import com.truestayhere.meeting_scheduler.repository.ResourceDayBusyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+public class BusyCalendarServiceTest {
+    private final LocalDate DEFAULT_DATE = LocalDate.of(Year.now().getValue() + 1, 8, 4);
+    @Mock
+    private ResourceDayBusyRepository resourceDayBusyRepository;
+    @Mock
+    private MeetingRepository meetingRepository;
+    @InjectMocks
+    private BusyCalendarService busyCalendarService;
+    private Meeting mockMeeting;
+    private ResourceDayKey locationKey, attendeeKey;
+
+    @BeforeEach
+    void setUp() {
+        Location location = new Location("Room 1", 10);
+        location.setId(1L);
+        Attendee attendee = new Attendee("Attendee One", "attendeeone@test.com", "password");
+        attendee.setId(2L);
+
+        mockMeeting = new Meeting("Meeting", DEFAULT_DATE.atTime(10, 0), DEFAULT_DATE.atTime(11, 0), location);
+        mockMeeting.setId(100L);
+        mockMeeting.setAttendees(Set.of(attendee));
+
+        locationKey = new ResourceDayKey(ResourceType.LOCATION, location.getId(), DEFAULT_DATE);
+        attendeeKey = new ResourceDayKey(ResourceType.ATTENDEE, attendee.getId(), DEFAULT_DATE);
+    }
+
+    @Test
+    void codec_shouldRoundTripIntervals() {
+        List<BusyInterval> intervals = List.of(
+                new BusyInterval(7L, 3L, DEFAULT_DATE.atTime(13, 0, 30), DEFAULT_DATE.atTime(14, 0)),
+                new BusyInterval(5L, DEFAULT_DATE.atStartOfDay(), DEFAULT_DATE.atTime(9, 15)),
+                new BusyInterval(9L, DEFAULT_DATE.atTime(23, 0), DEFAULT_DATE.plusDays(1).atStartOfDay()));
+
+        byte[] encoded = BusyIntervalCodec.encode(DEFAULT_DATE, intervals);
+        List<BusyInterval> decoded = BusyIntervalCodec.decode(DEFAULT_DATE, encoded);
+
+        assertEquals(3 * 24, encoded.length);
+        assertEquals(List.of(intervals.get(1), intervals.get(0), intervals.get(2)), decoded);
+    }
+
+    @Test
+    void findBusyIntervals_shouldReturnEmpty_whenDayIsNotMaterialized() {
+        when(resourceDayBusyRepository.findAllById(List.of(locationKey))).thenReturn(List.of());
+
+        Optional<List<BusyInterval>> result = busyCalendarService.findBusyIntervals(
+                ResourceType.LOCATION, 1L, DEFAULT_DATE.atTime(9, 0), DEFAULT_DATE.atTime(17, 0));
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void findBusyIntervals_shouldReadIntervalsOfEveryDayInOvernightWindow() {
+        LocalDate nextDay = DEFAULT_DATE.plusDays(1);
+        ResourceDayKey nextDayKey = new ResourceDayKey(ResourceType.LOCATION, 1L, nextDay);
+        BusyInterval lateMeeting = new BusyInterval(1L, DEFAULT_DATE.atTime(23, 0), nextDay.atStartOfDay());
+        BusyInterval earlyMeeting = new BusyInterval(1L, nextDay.atStartOfDay(), nextDay.atTime(1, 0));
+        BusyInterval outsideWindow = new BusyInterval(2L, nextDay.atTime(8, 0), nextDay.atTime(9, 0));
+
+        when(resourceDayBusyRepository.findAllById(List.of(locationKey, nextDayKey))).thenReturn(List.of(
+                new ResourceDayBusy(locationKey, BusyIntervalCodec.encode(DEFAULT_DATE, List.of(lateMeeting))),
+                new ResourceDayBusy(nextDayKey, BusyIntervalCodec.encode(nextDay, List.of(earlyMeeting, outsideWindow)))));
+
+        Optional<List<BusyInterval>> result = busyCalendarService.findBusyIntervals(
+                ResourceType.LOCATION, 1L, DEFAULT_DATE.atTime(22, 0), nextDay.atTime(6, 0));
+
+        assertTrue(result.isPresent());
+        assertEquals(List.of(lateMeeting, earlyMeeting), result.get());
+    }
+
+    @Test
+    void recordMeeting_shouldRebuildDayFromMeetings_whenDayIsNotMaterialized() {
+        LocalDateTime dayStart = DEFAULT_DATE.atStartOfDay();
+        when(resourceDayBusyRepository.findForUpdateById(any(ResourceDayKey.class))).thenReturn(Optional.empty());
+        when(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(1L, dayStart.plusDays(1), dayStart)).thenReturn(List.of(mockMeeting));
+        when(meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(2L, dayStart.plusDays(1), dayStart)).thenReturn(List.of(mockMeeting));
+        when(resourceDayBusyRepository.insertIfAbsent(anyString(), anyLong(), eq(DEFAULT_DATE), any(byte[].class))).thenReturn(1);
+
+        busyCalendarService.recordMeeting(mockMeeting);
+
+        ArgumentCaptor<byte[]> intervalsCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(resourceDayBusyRepository).insertIfAbsent(eq("LOCATION"), eq(1L), eq(DEFAULT_DATE), intervalsCaptor.capture());
+        verify(resourceDayBusyRepository).insertIfAbsent(eq("ATTENDEE"), eq(2L), eq(DEFAULT_DATE), intervalsCaptor.capture());
+        BusyInterval expected = new BusyInterval(mockMeeting.getId(), 1L, mockMeeting.getStartTime(), mockMeeting.getEndTime());
+        for (byte[] intervals : intervalsCaptor.getAllValues()) {
+            assertEquals(List.of(expected), BusyIntervalCodec.decode(DEFAULT_DATE, intervals));
+        }
+        verify(resourceDayBusyRepository, never()).save(any(ResourceDayBusy.class));
+    }
+
+    @Test
+    void recordMeeting_shouldAddIntervalToConcurrentlyInsertedRow_whenRebuiltRowLosesInsertRace() {
+        LocalDateTime dayStart = DEFAULT_DATE.atStartOfDay();
+        // The other booking inserted the location day first, its rebuild could not see this (uncommitted) meeting
+        BusyInterval otherMeeting = new BusyInterval(200L, 1L, DEFAULT_DATE.atTime(15, 0), DEFAULT_DATE.atTime(16, 0));
+        ResourceDayBusy concurrentRow = new ResourceDayBusy(locationKey, BusyIntervalCodec.encode(DEFAULT_DATE, List.of(otherMeeting)));
+        when(resourceDayBusyRepository.findForUpdateById(locationKey)).thenReturn(Optional.empty(), Optional.of(concurrentRow));
+        when(resourceDayBusyRepository.findForUpdateById(attendeeKey)).thenReturn(Optional.empty());
+        when(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(1L, dayStart.plusDays(1), dayStart)).thenReturn(List.of(mockMeeting));
+        when(meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(2L, dayStart.plusDays(1), dayStart)).thenReturn(List.of(mockMeeting));
+        when(resourceDayBusyRepository.insertIfAbsent(eq("LOCATION"), eq(1L), eq(DEFAULT_DATE), any(byte[].class))).thenReturn(0);
+        when(resourceDayBusyRepository.insertIfAbsent(eq("ATTENDEE"), eq(2L), eq(DEFAULT_DATE), any(byte[].class))).thenReturn(1);
+
+        busyCalendarService.recordMeeting(mockMeeting);
+
+        BusyInterval added = new BusyInterval(mockMeeting.getId(), 1L, mockMeeting.getStartTime(), mockMeeting.getEndTime());
+        assertEquals(List.of(added, otherMeeting), BusyIntervalCodec.decode(DEFAULT_DATE, concurrentRow.getBusyIntervals()));
+        verify(resourceDayBusyRepository, times(2)).findForUpdateById(locationKey);
+    }
+
+    @Test
+    void replaceMeeting_shouldMoveIntervalWithinMaterializedDay() {
+        MeetingFootprint previous = MeetingFootprint.of(mockMeeting);
+        BusyInterval otherMeeting = new BusyInterval(200L, DEFAULT_DATE.atTime(15, 0), DEFAULT_DATE.atTime(16, 0));
+        ResourceDayBusy locationRow = new ResourceDayBusy(locationKey, BusyIntervalCodec.encode(DEFAULT_DATE, List.of(
+                new BusyInterval(mockMeeting.getId(), mockMeeting.getStartTime(), mockMeeting.getEndTime()), otherMeeting)));
+        ResourceDayBusy attendeeRow = new ResourceDayBusy(attendeeKey, BusyIntervalCodec.encode(DEFAULT_DATE, List.of(
+                new BusyInterval(mockMeeting.getId(), mockMeeting.getStartTime(), mockMeeting.getEndTime()))));
+        when(resourceDayBusyRepository.findForUpdateById(locationKey)).thenReturn(Optional.of(locationRow));
+        when(resourceDayBusyRepository.findForUpdateById(attendeeKey)).thenReturn(Optional.of(attendeeRow));
+
+        mockMeeting.setStartTime(DEFAULT_DATE.atTime(12, 0));
+        mockMeeting.setEndTime(DEFAULT_DATE.atTime(13, 0));
+        busyCalendarService.replaceMeeting(previous, mockMeeting);
+
+        BusyInterval moved = new BusyInterval(mockMeeting.getId(), 1L, DEFAULT_DATE.atTime(12, 0), DEFAULT_DATE.atTime(13, 0));
+        assertEquals(List.of(moved, otherMeeting), BusyIntervalCodec.decode(DEFAULT_DATE, locationRow.getBusyIntervals()));
+        assertEquals(List.of(moved), BusyIntervalCodec.decode(DEFAULT_DATE, attendeeRow.getBusyIntervals()));
+        verify(resourceDayBusyRepository, never()).save(any(ResourceDayBusy.class));
+    }
+
+    @Test
+    void removeMeeting_shouldRemoveIntervalFromMaterializedDays() {
+        ResourceDayBusy locationRow = new ResourceDayBusy(locationKey, BusyIntervalCodec.encode(DEFAULT_DATE, List.of(
+                new BusyInterval(mockMeeting.getId(), mockMeeting.getStartTime(), mockMeeting.getEndTime()))));
+        when(meetingRepository.findById(mockMeeting.getId())).thenReturn(Optional.of(mockMeeting));
+        when(resourceDayBusyRepository.findForUpdateById(locationKey)).thenReturn(Optional.of(locationRow));
+        when(resourceDayBusyRepository.findForUpdateById(attendeeKey)).thenReturn(Optional.empty());
+
+        busyCalendarService.removeMeeting(mockMeeting.getId());
+
+        assertEquals(List.of(), BusyIntervalCodec.decode(DEFAULT_DATE, locationRow.getBusyIntervals()));
+    }
+}
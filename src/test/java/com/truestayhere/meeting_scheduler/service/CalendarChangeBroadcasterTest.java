@@ -0,0 +1,159 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truestayhere.meeting_scheduler.config.ChangeStreamProperties;
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
+import com.truestayhere.meeting_scheduler.model.CalendarVersionKey;
+import com.truestayhere.meeting_scheduler.model.MeetingFootprint;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class CalendarChangeBroadcasterTest {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 6, 10, 0);
+    private static final LocalDateTime END = START.plusHours(1);
+    private static final Long MEETING_ID = 10L;
+
+    private CalendarChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        ChangeStreamProperties properties = new ChangeStreamProperties();
+        properties.setBufferSize(2);
+        properties.setSenderThreads(1);
+        properties.setHeartbeatInterval(Duration.ofHours(1));
+        broadcaster = new CalendarChangeBroadcaster(properties, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    void onMeetingChanged_shouldSendCreatedOnlyToSubscribersOfOccupiedCalendars() throws Exception {
+        RecordingEmitter attendee1 = subscribe(ResourceType.ATTENDEE, 1L);
+        RecordingEmitter location5 = subscribe(ResourceType.LOCATION, 5L);
+        RecordingEmitter attendee9 = subscribe(ResourceType.ATTENDEE, 9L);
+
+        broadcaster.onMeetingChanged(MeetingChangedEvent.created(footprint(5L, Set.of(1L, 2L)), null));
+
+        awaitTrue(() -> attendee1.names.size() == 1 && location5.names.size() == 1);
+        assertEquals(List.of("CREATED"), attendee1.names);
+        assertEquals(List.of("CREATED"), location5.names);
+        assertTrue(attendee9.names.isEmpty());
+    }
+
+    @Test
+    void onMeetingChanged_shouldSendDeletedToCalendarsTheMeetingLeft() throws Exception {
+        RecordingEmitter removedAttendee = subscribe(ResourceType.ATTENDEE, 2L);
+        RecordingEmitter remainingAttendee = subscribe(ResourceType.ATTENDEE, 1L);
+
+        broadcaster.onMeetingChanged(MeetingChangedEvent.updated(
+                footprint(5L, Set.of(1L, 2L)), footprint(5L, Set.of(1L)), null));
+
+        awaitTrue(() -> removedAttendee.names.size() == 1 && remainingAttendee.names.size() == 1);
+        assertEquals(List.of("DELETED"), removedAttendee.names);
+        assertEquals(List.of("UPDATED"), remainingAttendee.names);
+    }
+
+    @Test
+    void onMeetingChanged_shouldReplacePendingEventsWithResync_whenSubscriberBufferOverflows() throws Exception {
+        RecordingEmitter slowClient = subscribe(ResourceType.ATTENDEE, 1L);
+        slowClient.blockFirstSend();
+
+        broadcaster.onMeetingChanged(MeetingChangedEvent.created(footprint(null, Set.of(1L)), null));
+        assertTrue(slowClient.sendStarted.await(5, TimeUnit.SECONDS));
+
+        // The sender is stuck on the first event, three more events overflow the buffer of two
+        for (int i = 0; i < 3; i++) {
+            broadcaster.onMeetingChanged(MeetingChangedEvent.updated(footprint(null, Set.of(1L)), footprint(null, Set.of(1L)), null));
+        }
+        slowClient.release.countDown();
+
+        awaitTrue(() -> slowClient.names.size() == 2);
+        assertEquals(List.of("CREATED", "RESYNC"), slowClient.names);
+    }
+
+    @Test
+    void onCacheInvalidation_shouldSendResync_whenCalendarChangedOnAnotherNode() throws Exception {
+        RecordingEmitter location5 = subscribe(ResourceType.LOCATION, 5L);
+
+        broadcaster.onCacheInvalidation(new CacheInvalidation(CacheInvalidation.Kind.LOCATION_CALENDAR, 5L));
+
+        awaitTrue(() -> location5.names.size() == 1);
+        assertEquals(List.of("RESYNC"), location5.names);
+    }
+
+    @Test
+    void broadcast_shouldUnregisterSubscriber_whenConnectionIsClosed() throws Exception {
+        RecordingEmitter closedClient = subscribe(ResourceType.ATTENDEE, 1L);
+        closedClient.failSends = true;
+
+        broadcaster.onMeetingChanged(MeetingChangedEvent.created(footprint(null, Set.of(1L)), null));
+
+        awaitTrue(() -> broadcaster.getSubscriberCount(ResourceType.ATTENDEE, 1L) == 0);
+    }
+
+    // === HELPER METHODS ===
+
+    private RecordingEmitter subscribe(ResourceType resourceType, Long resourceId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.register(new CalendarVersionKey(resourceType, resourceId), emitter);
+        return emitter;
+    }
+
+    private static MeetingFootprint footprint(Long locationId, Set<Long> attendeeIds) {
+        return new MeetingFootprint(MEETING_ID, locationId, attendeeIds, START, END);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition was not met in time.");
+            Thread.sleep(10);
+        }
+    }
+
+    // Emitter recording the names of sent events (optionally blocking or failing)
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> names = new CopyOnWriteArrayList<>();
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private CountDownLatch release = new CountDownLatch(0);
+        private volatile boolean failSends;
+
+        void blockFirstSend() {
+            release = new CountDownLatch(1);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendStarted.countDown();
+            if (failSends) {
+                throw new IOException("Broken pipe");
+            }
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String frame = builder.build().iterator().next().getData().toString();
+            names.add(frame.substring("event:".length(), frame.indexOf('\n')));
+        }
+    }
+}
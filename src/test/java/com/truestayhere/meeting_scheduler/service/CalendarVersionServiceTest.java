@@ -0,0 +1,93 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.CalendarVersion;
+import com.truestayhere.meeting_scheduler.model.CalendarVersionKey;
+import com.truestayhere.meeting_scheduler.model.MeetingFootprint;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.repository.CalendarVersionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+public class CalendarVersionServiceTest {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 6, 10, 0);
+    private static final LocalDateTime END = START.plusHours(1);
+
+    @Mock
+    private CalendarVersionRepository calendarVersionRepository;
+    @InjectMocks
+    private CalendarVersionService calendarVersionService;
+
+    @Test
+    void getRevision_shouldReturnZero_whenCalendarWasNeverWritten() {
+        when(calendarVersionRepository.findById(key(ResourceType.ATTENDEE, 1L))).thenReturn(Optional.empty());
+
+        assertEquals(0L, calendarVersionService.getRevision(ResourceType.ATTENDEE, 1L));
+    }
+
+    @Test
+    void getRevision_shouldReturnStoredRevision() {
+        when(calendarVersionRepository.findById(key(ResourceType.LOCATION, 2L)))
+                .thenReturn(Optional.of(new CalendarVersion(key(ResourceType.LOCATION, 2L), 5L)));
+
+        assertEquals(5L, calendarVersionService.getRevision(ResourceType.LOCATION, 2L));
+    }
+
+    @Test
+    void bump_shouldUpsertRevisionInSingleStatement() {
+        calendarVersionService.bump(ResourceType.ATTENDEE, 1L);
+
+        verify(calendarVersionRepository).incrementRevision("ATTENDEE", 1L);
+        verifyNoMoreInteractions(calendarVersionRepository);
+    }
+
+    @Test
+    void bumpMeetingChange_shouldBumpEachCalendarOnceInFixedOrder() {
+        MeetingFootprint previous = new MeetingFootprint(10L, 2L, Set.of(5L, 3L), START, END);
+        MeetingFootprint current = new MeetingFootprint(10L, 1L, Set.of(3L), START, END);
+
+        calendarVersionService.bumpMeetingChange(previous, current);
+
+        InOrder inOrder = inOrder(calendarVersionRepository);
+        inOrder.verify(calendarVersionRepository).incrementRevision("ATTENDEE", 3L);
+        inOrder.verify(calendarVersionRepository).incrementRevision("ATTENDEE", 5L);
+        inOrder.verify(calendarVersionRepository).incrementRevision("LOCATION", 1L);
+        inOrder.verify(calendarVersionRepository).incrementRevision("LOCATION", 2L);
+        verify(calendarVersionRepository, times(4)).incrementRevision(anyString(), anyLong());
+    }
+
+    @Test
+    void bumpWithSharedCalendars_shouldBumpResourceAndSharedCalendarsInFixedOrder() {
+        calendarVersionService.bumpWithSharedCalendars(ResourceType.LOCATION, 2L, Set.of(5L, 3L), List.of());
+
+        InOrder inOrder = inOrder(calendarVersionRepository);
+        inOrder.verify(calendarVersionRepository).incrementRevision("ATTENDEE", 3L);
+        inOrder.verify(calendarVersionRepository).incrementRevision("ATTENDEE", 5L);
+        inOrder.verify(calendarVersionRepository).incrementRevision("LOCATION", 2L);
+        verifyNoMoreInteractions(calendarVersionRepository);
+    }
+
+    @Test
+    void toETag_shouldContainResourceAndRevision() {
+        assertEquals("attendee-7-12", CalendarVersionService.toETag(ResourceType.ATTENDEE, 7L, 12L));
+    }
+
+    private static CalendarVersionKey key(ResourceType resourceType, Long resourceId) {
+        return new CalendarVersionKey(resourceType, resourceId);
+    }
+}
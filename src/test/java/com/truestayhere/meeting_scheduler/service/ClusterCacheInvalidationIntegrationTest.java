@@ -0,0 +1,109 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.AbstractIntegrationTest;
+import com.truestayhere.meeting_scheduler.MeetingSchedulerApplication;
+import com.truestayhere.meeting_scheduler.dto.request.UpdateLocationRequestDTO;
+import com.truestayhere.meeting_scheduler.model.Location;
+import com.truestayhere.meeting_scheduler.repository.LocationRepository;
+import com.truestayhere.meeting_scheduler.repository.MeetingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs a second application context (a second node) against the same database
+ * and checks that writes on one node evict the reference data caches of the other.
+ */
+public class ClusterCacheInvalidationIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private LocationService locationService;
+    @Autowired
+    private LocationRepository locationRepository;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private Environment environment;
+
+    private ConfigurableApplicationContext secondNode;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        locationRepository.deleteAll();
+
+        secondNode = new SpringApplicationBuilder(MeetingSchedulerApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + environment.getProperty("spring.datasource.url"),
+                        "spring.datasource.username=" + environment.getProperty("spring.datasource.username"),
+                        "spring.datasource.password=" + environment.getProperty("spring.datasource.password"),
+                        // The schema is owned by the first node
+                        "spring.jpa.hibernate.ddl-auto=none")
+                .run();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (secondNode != null) {
+            secondNode.close();
+        }
+    }
+
+    @Test
+    void updateLocation_shouldEvictCachedLocationOnOtherNode() {
+        Location location = locationRepository.save(new Location("Room 1", 5));
+        ReferenceDataService secondNodeReferenceData = secondNode.getBean(ReferenceDataService.class);
+
+        // Warm the cache of the second node
+        assertThat(secondNodeReferenceData.findLocationById(location.getId())).get()
+                .extracting(Location::getCapacity).isEqualTo(5);
+
+        // Update on the first node
+        locationService.updateLocation(location.getId(), new UpdateLocationRequestDTO(null, 10, null, null, null, null, null, null, null, null));
+
+        awaitTrue(() -> secondNodeReferenceData.findLocationById(location.getId())
+                .map(Location::getCapacity)
+                .filter(capacity -> capacity == 10)
+                .isPresent());
+    }
+
+    @Test
+    void deleteLocation_shouldEvictCapacityIndexOnOtherNode() {
+        Location location = locationRepository.save(new Location("Room 1", 5));
+        ReferenceDataService secondNodeReferenceData = secondNode.getBean(ReferenceDataService.class);
+
+        assertThat(secondNodeReferenceData.findLocationCapacityIndex().findByCapacityMin(1)).hasSize(1);
+
+        locationService.deleteLocation(location.getId());
+
+        awaitTrue(() -> secondNodeReferenceData.findLocationCapacityIndex().findByCapacityMin(1).isEmpty());
+    }
+
+    // Polls the condition until it holds (notifications are delivered asynchronously)
+    private void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Cache of the second node was not invalidated in time.");
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted while waiting for cache invalidation.");
+            }
+        }
+    }
+}
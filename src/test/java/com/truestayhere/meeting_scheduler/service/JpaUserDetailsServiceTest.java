@@ -0,0 +1,68 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.Role;
+import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+public class JpaUserDetailsServiceTest {
+    private static final String EMAIL = "attendee@test.com";
+    private static final String OLD_HASH = "$2a$10$oldhash";
+    private static final String NEW_HASH = "{bcrypt}$2a$12$newhash";
+
+    @Mock
+    private AttendeeRepository attendeeRepository;
+    @InjectMocks
+    private JpaUserDetailsService jpaUserDetailsService;
+    private Attendee attendee;
+
+    @BeforeEach
+    void setUp() {
+        attendee = new Attendee("Attendee", EMAIL, OLD_HASH, Role.ADMIN);
+        attendee.setId(1L);
+    }
+
+    @Test
+    void loadUserByUsername_shouldReturnUserDetails_whenAttendeeExists() {
+        when(attendeeRepository.findByEmail(EMAIL)).thenReturn(Optional.of(attendee));
+
+        UserDetails userDetails = jpaUserDetailsService.loadUserByUsername(EMAIL);
+
+        assertEquals(EMAIL, userDetails.getUsername());
+        assertEquals(OLD_HASH, userDetails.getPassword());
+        assertEquals(Role.ADMIN.getValue(), userDetails.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void updatePassword_shouldStoreUpgradedHash() {
+        when(attendeeRepository.findByEmail(EMAIL)).thenReturn(Optional.of(attendee));
+
+        UserDetails userDetails = jpaUserDetailsService.updatePassword(jpaUserDetailsService.loadUserByUsername(EMAIL), NEW_HASH);
+
+        assertEquals(NEW_HASH, attendee.getPassword());
+        assertEquals(NEW_HASH, userDetails.getPassword());
+        verify(attendeeRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void updatePassword_throwsUsernameNotFoundException_whenAttendeeWasDeleted() {
+        when(attendeeRepository.findByEmail(EMAIL)).thenReturn(Optional.of(attendee)).thenReturn(Optional.empty());
+        UserDetails userDetails = jpaUserDetailsService.loadUserByUsername(EMAIL);
+
+        assertThrows(UsernameNotFoundException.class, () -> jpaUserDetailsService.updatePassword(userDetails, NEW_HASH));
+    }
+}
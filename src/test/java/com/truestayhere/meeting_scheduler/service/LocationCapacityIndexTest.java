@@ -0,0 +1,78 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.Location;
+import com.truestayhere.meeting_scheduler.model.LocationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class LocationCapacityIndexTest {
+    private Location smallRoom;
+    private Location mediumRoom;
+    private Location otherMediumRoom;
+    private Location largeRoom;
+    private LocationCapacityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        smallRoom = location(1L, "Small", 4);
+        mediumRoom = location(2L, "Medium", 8);
+        otherMediumRoom = location(3L, "Medium 2", 8);
+        largeRoom = location(4L, "Large", 20);
+
+        index = LocationCapacityIndex.of(List.of(largeRoom, otherMediumRoom, smallRoom, mediumRoom));
+    }
+
+    @Test
+    void findByCapacityMin_shouldReturnSmallestFitFirst() {
+        assertEquals(List.of(mediumRoom, otherMediumRoom, largeRoom), index.findByCapacityMin(5));
+    }
+
+    @Test
+    void findByCapacityMin_shouldIncludeLocationsWithExactCapacity() {
+        assertEquals(List.of(mediumRoom, otherMediumRoom, largeRoom), index.findByCapacityMin(8));
+        assertEquals(List.of(smallRoom, mediumRoom, otherMediumRoom, largeRoom), index.findByCapacityMin(1));
+    }
+
+    @Test
+    void findByCapacityMin_shouldReturnEmptyList_whenNoLocationIsLargeEnough() {
+        assertTrue(index.findByCapacityMin(21).isEmpty());
+        assertTrue(LocationCapacityIndex.of(List.of()).findByCapacityMin(1).isEmpty());
+    }
+
+    @Test
+    void findByCapacityMinAndFeatures_shouldReturnLocationsWithAllRequiredFeatures() {
+        mediumRoom.setFeatures(LocationFeature.toMask(Set.of(LocationFeature.WHITEBOARD)));
+        otherMediumRoom.setFeatures(LocationFeature.toMask(Set.of(LocationFeature.VIDEO_CONFERENCE, LocationFeature.WHITEBOARD)));
+        largeRoom.setFeatures(LocationFeature.toMask(Set.of(LocationFeature.VIDEO_CONFERENCE)));
+        index = LocationCapacityIndex.of(List.of(largeRoom, otherMediumRoom, smallRoom, mediumRoom));
+
+        assertEquals(List.of(otherMediumRoom, largeRoom),
+                index.findByCapacityMinAndFeatures(1, LocationFeature.VIDEO_CONFERENCE.mask()));
+        assertEquals(List.of(otherMediumRoom),
+                index.findByCapacityMinAndFeatures(1, LocationFeature.toMask(Set.of(LocationFeature.VIDEO_CONFERENCE, LocationFeature.WHITEBOARD))));
+        assertEquals(List.of(mediumRoom, otherMediumRoom, largeRoom), index.findByCapacityMinAndFeatures(5, 0L));
+        assertTrue(index.findByCapacityMinAndFeatures(1, LocationFeature.PROJECTOR.mask()).isEmpty());
+    }
+
+    @Test
+    void locationFeature_shouldRoundTripThroughMask() {
+        Set<LocationFeature> features = EnumSet.of(LocationFeature.PHONE, LocationFeature.WHEELCHAIR_ACCESSIBLE);
+
+        assertEquals(features, LocationFeature.fromMask(LocationFeature.toMask(features)));
+        assertEquals(0L, LocationFeature.toMask(null));
+        assertTrue(LocationFeature.fromMask(0L).isEmpty());
+    }
+
+    private Location location(Long id, String name, int capacity) {
+        Location location = new Location(name, capacity);
+        location.setId(id);
+        return location;
+    }
+}
@@ -57,7 +57,13 @@ public class LocationServiceIntegrationTest extends AbstractIntegrationTest {
                 "Room 1",
                 10,
                 LocalTime.of(8, 0),
-                LocalTime.of(18, 0)
+                LocalTime.of(18, 0),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         LocationDTO createdLocation = locationService.createLocation(requestDTO);
@@ -83,7 +89,13 @@ public class LocationServiceIntegrationTest extends AbstractIntegrationTest {
                 duplicateName,
                 10,
                 LocalTime.of(8, 0),
-                LocalTime.of(18, 0)
+                LocalTime.of(18, 0),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         String expectedErrorMessage = "Location with name '" + duplicateName + "' already exists.";
@@ -155,7 +167,13 @@ public class LocationServiceIntegrationTest extends AbstractIntegrationTest {
                 "Room 1 Updated",
                 20,
                 LocalTime.of(9, 0),
-                LocalTime.of(17, 0)
+                LocalTime.of(17, 0),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         LocationDTO updatedLocationDTO = locationService.updateLocation(locationId, requestDTO);
@@ -173,7 +191,7 @@ public class LocationServiceIntegrationTest extends AbstractIntegrationTest {
     @Test
     void shouldThrowExceptionWhenUpdatingNonExistentLocation() {
         Long nonExistentLocationId = 0L;
-        UpdateLocationRequestDTO requestDTO = new UpdateLocationRequestDTO(null, null, null, null);
+        UpdateLocationRequestDTO requestDTO = new UpdateLocationRequestDTO(null, null, null, null, null, null, null, null, null, null);
         String expectedErrorMessage = "Location not found with ID: " + nonExistentLocationId;
 
         EntityNotFoundException thrownException = assertThrows(
@@ -207,6 +225,12 @@ public class LocationServiceIntegrationTest extends AbstractIntegrationTest {
                 duplicateName,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         );
 
@@ -343,20 +367,38 @@ public class LocationServiceIntegrationTest extends AbstractIntegrationTest {
                 "Location Name",
                 3,
                 LocalTime.of(9, 0),
-                LocalTime.of(17, 0)
+                LocalTime.of(17, 0),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
         LocationDTO initialLocation = locationService.createLocation(createRequest);
         Long locationId = initialLocation.id();
 
         // Update 1
         UpdateLocationRequestDTO titleUpdate = new UpdateLocationRequestDTO(
-                "Location Name Updated", null, null, null
+                "Location Name Updated", null, null, null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
         locationService.updateLocation(locationId, titleUpdate);
 
         // Update 2
         UpdateLocationRequestDTO capacityUpdate = new UpdateLocationRequestDTO(
-                null, 20, null, null
+                null, 20, null, null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
         locationService.updateLocation(locationId, capacityUpdate);
 
@@ -372,7 +414,13 @@ public class LocationServiceIntegrationTest extends AbstractIntegrationTest {
                 "Location Name",
                 3,
                 LocalTime.of(9, 0),
-                LocalTime.of(17, 0)
+                LocalTime.of(17, 0),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
         LocationDTO initialLocation = locationService.createLocation(createRequest);
         Long locationId = initialLocation.id();
@@ -381,7 +429,13 @@ public class LocationServiceIntegrationTest extends AbstractIntegrationTest {
 
         for (String name : names) {
             UpdateLocationRequestDTO nameUpdate = new UpdateLocationRequestDTO(
-                    name, null, null, null
+                    name, null, null, null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null
             );
             assertDoesNotThrow(() -> locationService.updateLocation(locationId, nameUpdate));
         }
@@ -3,11 +3,18 @@ package com.truestayhere.meeting_scheduler.service;
 
 import com.truestayhere.meeting_scheduler.dto.request.CreateLocationRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.request.UpdateLocationRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.WorkingScheduleRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.WorkingSegmentRequestDTO;
 import com.truestayhere.meeting_scheduler.dto.response.LocationDTO;
+import com.truestayhere.meeting_scheduler.dto.response.WorkingSegmentDTO;
 import com.truestayhere.meeting_scheduler.exception.ResourceInUseException;
 import com.truestayhere.meeting_scheduler.mapper.LocationMapper;
+import com.truestayhere.meeting_scheduler.mapper.WorkingScheduleMapper;
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
 import com.truestayhere.meeting_scheduler.model.Location;
 import com.truestayhere.meeting_scheduler.model.Meeting;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.model.WorkingSegment;
 import com.truestayhere.meeting_scheduler.repository.LocationRepository;
 import com.truestayhere.meeting_scheduler.repository.MeetingRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -17,12 +24,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -39,6 +49,16 @@ public class LocationServiceTest {
     private MeetingRepository meetingRepository;
     @Mock
     private LocationMapper locationMapper;
+    @Mock
+    private ReferenceDataService referenceDataService;
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+    @Mock
+    private CalendarVersionService calendarVersionService;
+    @Spy
+    private WorkingScheduleMapper workingScheduleMapper;
+    @Mock
+    private LocationUsageService locationUsageService;
     @InjectMocks
     private LocationService locationService;
     private CreateLocationRequestDTO defaultCreateRequest;
@@ -55,7 +75,13 @@ public class LocationServiceTest {
                 DEFAULT_LOCATION_NAME,
                 DEFAULT_LOCATION_CAPACITY,
                 LocalTime.of(9, 0),
-                LocalTime.of(17, 0)
+                LocalTime.of(17, 0),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         // Update location request (all fields updated by default)
@@ -63,7 +89,13 @@ public class LocationServiceTest {
                 "Updated " + DEFAULT_LOCATION_NAME,
                 DEFAULT_LOCATION_CAPACITY + 10,
                 LocalTime.of(6, 0),
-                LocalTime.of(16, 0)
+                LocalTime.of(16, 0),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         // Simulate a new location object
@@ -86,7 +118,12 @@ public class LocationServiceTest {
         defaultLocationDTO = new LocationDTO(
                 DEFAULT_LOCATION_ID,
                 DEFAULT_LOCATION_NAME,
-                DEFAULT_LOCATION_CAPACITY
+                DEFAULT_LOCATION_CAPACITY,
+                null,
+                null,
+                null,
+                null,
+                null
         );
     }
 
@@ -112,6 +149,8 @@ public class LocationServiceTest {
         verify(locationRepository).findByName(defaultCreateRequest.name());
         verify(locationMapper).mapToLocation(defaultCreateRequest);
         verify(locationRepository).save(defaultLocation);
+        verify(referenceDataService).evictLocation(defaultSavedLocation.getId());
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.location(defaultSavedLocation.getId()));
         verify(locationMapper).mapToLocationDTO(defaultSavedLocation);
     }
 
@@ -158,8 +197,8 @@ public class LocationServiceTest {
         List<Location> mockLocations = List.of(location1, location2);
 
         // Set up locations DTOs
-        LocationDTO dto1 = new LocationDTO(DEFAULT_LOCATION_ID, DEFAULT_LOCATION_NAME, DEFAULT_LOCATION_CAPACITY);
-        LocationDTO dto2 = new LocationDTO((DEFAULT_LOCATION_ID + 1), (DEFAULT_LOCATION_NAME + " (2)"), (DEFAULT_LOCATION_CAPACITY + 10));
+        LocationDTO dto1 = new LocationDTO(DEFAULT_LOCATION_ID, DEFAULT_LOCATION_NAME, DEFAULT_LOCATION_CAPACITY, null, null, null, null, null);
+        LocationDTO dto2 = new LocationDTO((DEFAULT_LOCATION_ID + 1), (DEFAULT_LOCATION_NAME + " (2)"), (DEFAULT_LOCATION_CAPACITY + 10), null, null, null, null, null);
 
         List<LocationDTO> mockLocationDTOs = List.of(dto1, dto2);
 
@@ -249,7 +288,13 @@ public class LocationServiceTest {
                 "Updated Room",
                 null,
                 null,
-                LocalTime.of(20, 0)
+                LocalTime.of(20, 0),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         Location existingLocation = new Location();
@@ -274,14 +319,19 @@ public class LocationServiceTest {
         LocationDTO expectedResponse = new LocationDTO(
                 locationId,
                 "Updated Room",
-                25
+                25,
+                null,
+                null,
+                null,
+                null,
+                null
         );
         when(locationMapper.mapToLocationDTO(any(Location.class))).thenReturn(expectedResponse);
 
         LocationDTO result = locationService.updateLocation(locationId, updateRequest);
 
         ArgumentCaptor<Location> entityCaptor = ArgumentCaptor.forClass(Location.class);
-        verify(locationMapper).mapToLocationDTO(entityCaptor.capture());
+        verify(locationMapper, times(2)).mapToLocationDTO(entityCaptor.capture());
         Location capturedEntity = entityCaptor.getValue();
         assertNotNull(capturedEntity);
         assertEquals("Updated Room", capturedEntity.getName());
@@ -293,6 +343,8 @@ public class LocationServiceTest {
 
         verify(locationRepository).findById(locationId);
         verify(locationRepository).findByName("Updated Room");
+        // Working hours changed - the hierarchy usage of the location must be rebuilt
+        verify(locationUsageService).invalidateLocation(List.of(), existingLocation);
     }
 
     @Test
@@ -303,7 +355,13 @@ public class LocationServiceTest {
                 "Fully Updated Room",
                 50,
                 LocalTime.of(7, 0),
-                LocalTime.of(19, 0)
+                LocalTime.of(19, 0),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         Location existingLocation = new Location();
@@ -328,7 +386,12 @@ public class LocationServiceTest {
         LocationDTO expectedResponse = new LocationDTO(
                 locationId,
                 updateRequest.name(),
-                updateRequest.capacity()
+                updateRequest.capacity(),
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         when(locationMapper.mapToLocationDTO(any(Location.class))).thenReturn(expectedResponse);
@@ -336,7 +399,7 @@ public class LocationServiceTest {
         LocationDTO result = locationService.updateLocation(locationId, updateRequest);
 
         ArgumentCaptor<Location> entityCaptor = ArgumentCaptor.forClass(Location.class);
-        verify(locationMapper).mapToLocationDTO(entityCaptor.capture());
+        verify(locationMapper, times(2)).mapToLocationDTO(entityCaptor.capture());
         Location capturedEntity = entityCaptor.getValue();
         assertNotNull(capturedEntity);
         assertEquals("Fully Updated Room", capturedEntity.getName());
@@ -348,6 +411,9 @@ public class LocationServiceTest {
 
         verify(locationRepository).findById(locationId);
         verify(locationRepository).findByName(updateRequest.name());
+        verify(referenceDataService).evictLocation(locationId);
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.location(locationId));
+        verify(calendarVersionService).bump(ResourceType.LOCATION, locationId);
     }
 
     @Test
@@ -359,6 +425,12 @@ public class LocationServiceTest {
                 null,
                 15,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         );
 
@@ -379,7 +451,12 @@ public class LocationServiceTest {
         LocationDTO expectedResponse = new LocationDTO(
                 locationId,
                 originalName,
-                15
+                15,
+                null,
+                null,
+                null,
+                null,
+                null
         );
         when(locationMapper.mapToLocationDTO(any(Location.class))).thenReturn(expectedResponse);
 
@@ -390,7 +467,35 @@ public class LocationServiceTest {
         verify(locationRepository).findById(locationId);
         verify(locationRepository).findByName(originalName);
         verify(locationMapper).updateLocationFromDto(eq(updateRequest), any(Location.class));
-        verify(locationMapper).mapToLocationDTO(any(Location.class));
+        verify(locationMapper, times(2)).mapToLocationDTO(any(Location.class));
+        // Neither the hierarchy position nor the working hours changed - the hierarchy usage stays valid
+        verify(locationUsageService, never()).invalidateLocation(anyList(), any(Location.class));
+    }
+
+    @Test
+    void updateLocation_shouldBumpCalendarsOfAttendees_whenLocationIsRenamed() {
+        Long locationId = DEFAULT_LOCATION_ID;
+        UpdateLocationRequestDTO updateRequest = new UpdateLocationRequestDTO(
+                "Renamed Room", null, null, null, null, null, null, null, null, null);
+
+        Location existingLocation = new Location();
+        existingLocation.setId(locationId);
+        existingLocation.setName("Original Room");
+        existingLocation.setCapacity(10);
+
+        when(locationRepository.findById(locationId)).thenReturn(Optional.of(existingLocation));
+        when(locationRepository.findByName("Renamed Room")).thenReturn(Optional.empty());
+        LocationDTO previousDTO = new LocationDTO(locationId, "Original Room", 10, null, null, null, null, null);
+        LocationDTO updatedDTO = new LocationDTO(locationId, "Renamed Room", 10, null, null, null, null, null);
+        when(locationMapper.mapToLocationDTO(existingLocation)).thenReturn(previousDTO, updatedDTO);
+        when(meetingRepository.findAttendeeIdsByLocationId(locationId)).thenReturn(Set.of(3L, 4L));
+
+        LocationDTO result = locationService.updateLocation(locationId, updateRequest);
+
+        assertEquals(updatedDTO, result);
+        // Meeting lists of the attendees show the location name
+        verify(calendarVersionService).bumpWithSharedCalendars(ResourceType.LOCATION, locationId, Set.of(3L, 4L), List.of());
+        verify(calendarVersionService, never()).bump(any(ResourceType.class), anyLong());
     }
 
     @Test
@@ -424,7 +529,13 @@ public class LocationServiceTest {
         String conflictingName = defaultLocation.getName();
 
         UpdateLocationRequestDTO updateRequestWithConflictingName = new UpdateLocationRequestDTO(
-                conflictingName, defaultUpdateRequest.capacity(), defaultUpdateRequest.workingStartTime(), defaultUpdateRequest.workingEndTime()
+                conflictingName, defaultUpdateRequest.capacity(), defaultUpdateRequest.workingStartTime(), defaultUpdateRequest.workingEndTime(),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
 
         Location locationBeingUpdated = new Location();
@@ -469,6 +580,9 @@ public class LocationServiceTest {
         verify(locationRepository).existsById(locationIdToDelete);
         verify(meetingRepository).findByLocation_id(locationIdToDelete);
         verify(locationRepository).deleteById(locationIdToDelete);
+        verify(referenceDataService).evictLocation(locationIdToDelete);
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.location(locationIdToDelete));
+        verify(calendarVersionService).bump(ResourceType.LOCATION, locationIdToDelete);
     }
 
 
@@ -525,4 +639,25 @@ public class LocationServiceTest {
         verify(locationRepository, never()).deleteById(anyLong());
     }
 
+
+    @Test
+    void updateLocationWorkingSchedule_shouldReplaceSegmentsAndEvictCaches() {
+        Long locationId = DEFAULT_LOCATION_ID;
+        Location existingLocation = new Location("Original Room", 25);
+        existingLocation.setId(locationId);
+        existingLocation.getWorkingSegments().add(new WorkingSegment(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(18, 0)));
+        when(locationRepository.findById(locationId)).thenReturn(Optional.of(existingLocation));
+
+        List<WorkingSegmentDTO> result = locationService.updateLocationWorkingSchedule(locationId, new WorkingScheduleRequestDTO(List.of(
+                new WorkingSegmentRequestDTO(DayOfWeek.TUESDAY, LocalTime.of(13, 0), LocalTime.of(17, 0)),
+                new WorkingSegmentRequestDTO(DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(12, 0)))));
+
+        assertEquals(List.of(
+                new WorkingSegmentDTO(DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                new WorkingSegmentDTO(DayOfWeek.TUESDAY, LocalTime.of(13, 0), LocalTime.of(17, 0))), result);
+        assertEquals(2, existingLocation.getWorkingSegments().size());
+        verify(referenceDataService).evictLocation(locationId);
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.location(locationId));
+        verify(calendarVersionService).bump(ResourceType.LOCATION, locationId);
+    }
 }
@@ -0,0 +1,185 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.*;
+import com.truestayhere.meeting_scheduler.repository.LocationNodeUsageRepository;
+import com.truestayhere.meeting_scheduler.repository.MeetingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+public class LocationUsageServiceTest {
+    private final LocalDate DEFAULT_DATE = LocalDate.of(Year.now().getValue() + 1, 8, 4);
+    @Mock
+    private LocationNodeUsageRepository locationNodeUsageRepository;
+    @Mock
+    private MeetingRepository meetingRepository;
+    @Mock
+    private ReferenceDataService referenceDataService;
+    @InjectMocks
+    private LocationUsageService locationUsageService;
+    private Location northRoom1, northRoom2, southRoom;
+    private LocationNode hqSite, northBuilding, southBuilding, northFloor;
+
+    @BeforeEach
+    void setUp() {
+        // Default working hours 09:00-17:00 UTC, 480 working minutes per room
+        northRoom1 = createLocation(1L, "North 1", "North", "1");
+        northRoom2 = createLocation(2L, "North 2", "North", "1");
+        southRoom = createLocation(3L, "South 1", "South", null);
+
+        hqSite = new LocationNode(LocationNode.Level.SITE, "HQ", null, null);
+        northBuilding = new LocationNode(LocationNode.Level.BUILDING, "HQ", "North", null);
+        southBuilding = new LocationNode(LocationNode.Level.BUILDING, "HQ", "South", null);
+        northFloor = new LocationNode(LocationNode.Level.FLOOR, "HQ", "North", "1");
+
+        lenient().when(referenceDataService.findLocationHierarchy())
+                .thenReturn(LocationHierarchy.of(List.of(northRoom1, northRoom2, southRoom)));
+    }
+
+    @Test
+    void locationNode_shouldReturnAncestorsTopFirst() {
+        assertEquals(List.of(hqSite, northBuilding, northFloor), LocationNode.of(northRoom1));
+        assertEquals("FLOOR:HQ/North/1", northFloor.key());
+        assertEquals("BUILDING:HQ/South", southBuilding.key());
+        assertTrue(LocationNode.of(new Location("Unplaced", 5)).isEmpty());
+    }
+
+    @Test
+    void pruneFullyBookedNodes_shouldRemoveLocationsOfFullyBookedBuilding() {
+        when(locationNodeUsageRepository.findAllById(anyCollection())).thenReturn(List.of(
+                new LocationNodeUsage(new LocationNodeDayKey(northBuilding.key(), DEFAULT_DATE), 2 * 480 - 30),
+                new LocationNodeUsage(new LocationNodeDayKey(hqSite.key(), DEFAULT_DATE), 2 * 480 - 30)));
+
+        List<Location> result = locationUsageService.pruneFullyBookedNodes(
+                List.of(northRoom1, northRoom2, southRoom), DEFAULT_DATE, 60);
+
+        assertEquals(List.of(southRoom), result);
+    }
+
+    @Test
+    void pruneFullyBookedNodes_shouldKeepLocations_whenNodeHasEnoughFreeMinutes() {
+        when(locationNodeUsageRepository.findAllById(anyCollection())).thenReturn(List.of(
+                new LocationNodeUsage(new LocationNodeDayKey(northBuilding.key(), DEFAULT_DATE), 2 * 480 - 60)));
+
+        List<Location> result = locationUsageService.pruneFullyBookedNodes(
+                List.of(northRoom1, northRoom2, southRoom), DEFAULT_DATE, 60);
+
+        assertEquals(List.of(northRoom1, northRoom2, southRoom), result);
+    }
+
+    @Test
+    void pruneFullyBookedNodes_shouldPrunePerDay_withOneLookup() {
+        LocalDate nextDay = DEFAULT_DATE.plusDays(1);
+        when(locationNodeUsageRepository.findAllById(anyCollection())).thenReturn(List.of(
+                new LocationNodeUsage(new LocationNodeDayKey(southBuilding.key(), nextDay), 480)));
+
+        Map<LocalDate, List<Location>> result = locationUsageService.pruneFullyBookedNodes(
+                List.of(northRoom1, southRoom), List.of(DEFAULT_DATE, nextDay), 30);
+
+        assertEquals(List.of(northRoom1, southRoom), result.get(DEFAULT_DATE));
+        assertEquals(List.of(northRoom1), result.get(nextDay));
+        verify(locationNodeUsageRepository, times(1)).findAllById(anyCollection());
+    }
+
+    @Test
+    void recordMeeting_shouldRebuildNodeDayFromMeetings_whenNodeDayIsNotMaterialized() {
+        Meeting existingMeeting = new Meeting("Existing", DEFAULT_DATE.atTime(8, 0), DEFAULT_DATE.atTime(10, 0), northRoom2);
+        Meeting newMeeting = new Meeting("New", DEFAULT_DATE.atTime(16, 0), DEFAULT_DATE.atTime(18, 0), southRoom);
+        newMeeting.setId(100L);
+        when(referenceDataService.findLocationById(3L)).thenReturn(Optional.of(southRoom));
+        when(locationNodeUsageRepository.addBookedMinutes(hqSite.key(), DEFAULT_DATE, 60)).thenReturn(0);
+        when(locationNodeUsageRepository.addBookedMinutes(southBuilding.key(), DEFAULT_DATE, 60)).thenReturn(1);
+        when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(
+                Set.of(1L, 2L, 3L), DEFAULT_DATE.atTime(17, 0), DEFAULT_DATE.atTime(9, 0)))
+                .thenReturn(List.of(existingMeeting, newMeeting));
+        when(locationNodeUsageRepository.insertIfAbsent(hqSite.key(), DEFAULT_DATE, 120)).thenReturn(1);
+
+        locationUsageService.recordMeeting(MeetingFootprint.of(newMeeting));
+
+        // Only the minutes within working hours count: 60 of the existing and 60 of the new meeting
+        verify(locationNodeUsageRepository).insertIfAbsent(hqSite.key(), DEFAULT_DATE, 120);
+        verify(locationNodeUsageRepository, times(1)).addBookedMinutes(hqSite.key(), DEFAULT_DATE, 60);
+        verify(locationNodeUsageRepository, never()).insertIfAbsent(eq(southBuilding.key()), any(), anyLong());
+    }
+
+    @Test
+    void recordMeeting_shouldAddMinutesToConcurrentlyInsertedRow_whenRebuiltRowLosesInsertRace() {
+        Meeting meeting = new Meeting("Meeting", DEFAULT_DATE.atTime(10, 0), DEFAULT_DATE.atTime(11, 0), southRoom);
+        when(referenceDataService.findLocationById(3L)).thenReturn(Optional.of(southRoom));
+        when(locationNodeUsageRepository.addBookedMinutes(hqSite.key(), DEFAULT_DATE, 60)).thenReturn(0, 1);
+        when(locationNodeUsageRepository.addBookedMinutes(southBuilding.key(), DEFAULT_DATE, 60)).thenReturn(1);
+        when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(anyCollection(), any(), any()))
+                .thenReturn(List.of());
+        when(locationNodeUsageRepository.insertIfAbsent(hqSite.key(), DEFAULT_DATE, 0)).thenReturn(0);
+
+        locationUsageService.recordMeeting(MeetingFootprint.of(meeting));
+
+        // The other transaction's rebuild could not see this meeting, so its minutes are added to the inserted row
+        verify(locationNodeUsageRepository, times(2)).addBookedMinutes(hqSite.key(), DEFAULT_DATE, 60);
+    }
+
+    @Test
+    void recordMeeting_shouldAddMinutesToMaterializedNodeDays() {
+        Meeting meeting = new Meeting("Meeting", DEFAULT_DATE.atTime(10, 0), DEFAULT_DATE.atTime(11, 30), southRoom);
+        when(referenceDataService.findLocationById(3L)).thenReturn(Optional.of(southRoom));
+        when(locationNodeUsageRepository.addBookedMinutes(anyString(), eq(DEFAULT_DATE), eq(90L))).thenReturn(1);
+
+        locationUsageService.recordMeeting(MeetingFootprint.of(meeting));
+
+        verify(locationNodeUsageRepository).addBookedMinutes(hqSite.key(), DEFAULT_DATE, 90);
+        verify(locationNodeUsageRepository).addBookedMinutes(southBuilding.key(), DEFAULT_DATE, 90);
+        verify(locationNodeUsageRepository, never()).insertIfAbsent(anyString(), any(), anyLong());
+        verifyNoInteractions(meetingRepository);
+    }
+
+    @Test
+    void removeMeeting_shouldSubtractMinutesFromMaterializedNodeDays() {
+        Meeting meeting = new Meeting("Meeting", DEFAULT_DATE.atTime(10, 0), DEFAULT_DATE.atTime(11, 0), northRoom1);
+        when(referenceDataService.findLocationById(1L)).thenReturn(Optional.of(northRoom1));
+
+        locationUsageService.removeMeeting(MeetingFootprint.of(meeting));
+
+        verify(locationNodeUsageRepository).subtractBookedMinutes(hqSite.key(), DEFAULT_DATE, 60);
+        verify(locationNodeUsageRepository).subtractBookedMinutes(northBuilding.key(), DEFAULT_DATE, 60);
+        verify(locationNodeUsageRepository).subtractBookedMinutes(northFloor.key(), DEFAULT_DATE, 60);
+        verify(locationNodeUsageRepository, never()).insertIfAbsent(anyString(), any(), anyLong());
+    }
+
+    @Test
+    void invalidateLocation_shouldDeleteRowsOfPreviousAndCurrentNodes() {
+        List<LocationNode> previousNodes = LocationNode.of(northRoom1);
+        northRoom1.setBuilding("South");
+        northRoom1.setFloor(null);
+        when(locationNodeUsageRepository.deleteByNodeKeyIn(anyCollection())).thenReturn(3);
+
+        locationUsageService.invalidateLocation(previousNodes, northRoom1);
+
+        verify(locationNodeUsageRepository).deleteByNodeKeyIn(
+                Set.of(hqSite.key(), northBuilding.key(), northFloor.key(), southBuilding.key()));
+    }
+
+    private Location createLocation(Long id, String name, String building, String floor) {
+        Location location = new Location(name, 10);
+        location.setId(id);
+        location.setSite("HQ");
+        location.setBuilding(building);
+        location.setFloor(floor);
+        return location;
+    }
+}
@@ -10,6 +10,10 @@ import com.truestayhere.meeting_scheduler.mapper.MeetingMapper;
 import com.truestayhere.meeting_scheduler.model.Attendee;
 import com.truestayhere.meeting_scheduler.model.Location;
 import com.truestayhere.meeting_scheduler.model.Meeting;
+import com.truestayhere.meeting_scheduler.model.MeetingFootprint;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.model.TimeOff;
+import com.truestayhere.meeting_scheduler.model.TravelTime;
 import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
 import com.truestayhere.meeting_scheduler.repository.LocationRepository;
 import com.truestayhere.meeting_scheduler.repository.MeetingRepository;
@@ -21,6 +25,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -53,6 +58,20 @@ public class MeetingServiceTest {
     private MeetingRepository meetingRepository;
     @Mock
     private MeetingMapper meetingMapper;
+    @Mock
+    private BusyCalendarService busyCalendarService;
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+    @Mock
+    private CalendarVersionService calendarVersionService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Mock
+    private TimeOffService timeOffService;
+    @Mock
+    private ReferenceDataService referenceDataService;
+    @Mock
+    private LocationUsageService locationUsageService;
     private CreateMeetingRequestDTO defaultCreateRequest;
     private UpdateMeetingRequestDTO defaultUpdateRequest;
     private Location mockLocation1, mockLocation2;
@@ -69,6 +88,8 @@ public class MeetingServiceTest {
 
     @BeforeEach
     void setUp() {
+        // No travel times unless a test sets them up
+        lenient().when(referenceDataService.findTravelTimeMatrix()).thenReturn(TravelTimeMatrix.EMPTY);
 
         mockLocation1 = new Location();
         mockLocation1.setId(1L);
@@ -84,8 +105,8 @@ public class MeetingServiceTest {
         mockLocation2.setWorkingStartTime(LocalTime.of(8, 0));
         mockLocation2.setWorkingEndTime(LocalTime.of(16, 0));
 
-        mockLocationDTO1 = new LocationDTO(mockLocation1.getId(), mockLocation1.getName(), mockLocation1.getCapacity());
-        mockLocationDTO2 = new LocationDTO(mockLocation2.getId(), mockLocation2.getName(), mockLocation2.getCapacity());
+        mockLocationDTO1 = new LocationDTO(mockLocation1.getId(), mockLocation1.getName(), mockLocation1.getCapacity(), null, null, null, null, null);
+        mockLocationDTO2 = new LocationDTO(mockLocation2.getId(), mockLocation2.getName(), mockLocation2.getCapacity(), null, null, null, null, null);
 
         mockAttendee1 = new Attendee();
         mockAttendee1.setId(1L);
@@ -208,6 +229,10 @@ public class MeetingServiceTest {
         verify(locationRepository).findById(defaultCreateRequest.locationId());
         verify(attendeeRepository).findAllById(defaultCreateRequest.attendeeIds());
         verify(meetingRepository).save(capturedMeeting);
+        verify(busyCalendarService).recordMeeting(defaultSavedMeeting);
+        verify(cacheInvalidationPublisher).publishMeetingChange(MeetingFootprint.of(defaultSavedMeeting));
+        verify(calendarVersionService).bumpMeetingChange(MeetingFootprint.of(defaultSavedMeeting));
+        verify(applicationEventPublisher).publishEvent(any(MeetingChangedEvent.class));
         verify(meetingMapper).mapToMeetingDTO(defaultSavedMeeting);
     }
 
@@ -339,6 +364,65 @@ public class MeetingServiceTest {
     }
 
 
+    @Test
+    void createMeeting_shouldThrowMeetingConflictException_whenMeetingIsWithinLocationBuffer() {
+        mockLocation1.setBufferMinutes(15);
+        Meeting previousMeeting = new Meeting();
+        previousMeeting.setId(DEFAULT_MEETING_ID + 1);
+        previousMeeting.setStartTime(DEFAULT_MEETING_START.minusHours(1));
+        previousMeeting.setEndTime(DEFAULT_MEETING_START.minusMinutes(10));
+
+        when(locationRepository.findById(defaultCreateRequest.locationId())).thenReturn(Optional.of(mockLocation1));
+        when(attendeeRepository.findAllById(defaultCreateRequest.attendeeIds())).thenReturn(mockAttendees.stream().toList());
+        when(meetingRepository.findByLocation_idAndStartTimeAndEndTime(
+                defaultCreateRequest.locationId(), defaultCreateRequest.startTime(), defaultCreateRequest.endTime())).thenReturn(List.of());
+        when(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(
+                defaultCreateRequest.locationId(), defaultCreateRequest.endTime().plusMinutes(15), defaultCreateRequest.startTime().minusMinutes(15)))
+                .thenReturn(List.of(previousMeeting));
+
+        MeetingConflictException exception = assertThrows(MeetingConflictException.class, () -> {
+            meetingService.createMeeting(defaultCreateRequest);
+        });
+        assertEquals(String.format("Location conflict detected. Location ID %d keeps 15 minutes free between meetings, the requested time is too close to the meeting(s) with ID(s): %d",
+                mockLocation1.getId(), previousMeeting.getId()), exception.getMessage());
+
+        verify(meetingRepository, never()).save(any(Meeting.class));
+    }
+
+
+    @Test
+    void createMeeting_shouldThrowMeetingConflictException_whenAttendeeCannotTravelFromPreviousMeetingInTime() {
+        mockLocation1.setBuilding("North");
+        mockLocation2.setBuilding("South");
+        Meeting southMeeting = new Meeting();
+        southMeeting.setId(DEFAULT_MEETING_ID + 1);
+        southMeeting.setStartTime(DEFAULT_MEETING_START.minusHours(1));
+        southMeeting.setEndTime(DEFAULT_MEETING_START);
+        southMeeting.setLocation(mockLocation2);
+        CreateMeetingRequestDTO requestDTO = new CreateMeetingRequestDTO(
+                DEFAULT_MEETING_TITLE, DEFAULT_MEETING_START, DEFAULT_MEETING_END, mockLocation1.getId(), Set.of(mockAttendee1.getId()));
+
+        when(referenceDataService.findTravelTimeMatrix()).thenReturn(TravelTimeMatrix.of(List.of(new TravelTime("South", "North", 30))));
+        when(locationRepository.findById(requestDTO.locationId())).thenReturn(Optional.of(mockLocation1));
+        when(attendeeRepository.findAllById(requestDTO.attendeeIds())).thenReturn(List.of(mockAttendee1));
+        when(meetingRepository.findByLocation_idAndStartTimeAndEndTime(
+                requestDTO.locationId(), requestDTO.startTime(), requestDTO.endTime())).thenReturn(List.of());
+        when(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(
+                requestDTO.locationId(), requestDTO.endTime(), requestDTO.startTime())).thenReturn(List.of());
+        when(meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(
+                mockAttendee1.getId(), requestDTO.endTime().plusMinutes(30), requestDTO.startTime().minusMinutes(30)))
+                .thenReturn(List.of(southMeeting));
+
+        MeetingConflictException exception = assertThrows(MeetingConflictException.class, () -> {
+            meetingService.createMeeting(requestDTO);
+        });
+        assertEquals(String.format("Attendee conflict detected. Attendee ID %d cannot travel between location ID %d and the meeting(s) with ID(s): %d in time.",
+                mockAttendee1.getId(), mockLocation1.getId(), southMeeting.getId()), exception.getMessage());
+
+        verify(meetingRepository, never()).save(any(Meeting.class));
+    }
+
+
     @Test
     void createMeeting_shouldThrowMeetingConflictException_whenAttendeeIsBookedByOtherMeetingsInTimeRequested() {
         Long attendeeId = mockAttendee2.getId();
@@ -439,6 +523,39 @@ public class MeetingServiceTest {
     }
 
 
+    @Test
+    void createMeeting_shouldThrowIllegalArgumentException_whenMeetingOverlapsAttendeeTimeOff() {
+        TimeOff vacation = new TimeOff(ResourceType.ATTENDEE, mockAttendee1.getId(),
+                defaultCreateRequest.startTime().minusDays(1), defaultCreateRequest.startTime().plusMinutes(30), "Vacation");
+        String expectedErrorMessage = String.format("Meeting overlaps time off of attendee ID: %d (%s - %s).",
+                mockAttendee1.getId(), vacation.getStartTime(), vacation.getEndTime());
+
+        when(locationRepository.findById(defaultCreateRequest.locationId())).thenReturn(Optional.of(mockLocation1));
+        when(attendeeRepository.findAllById(defaultCreateRequest.attendeeIds())).thenReturn(mockAttendees.stream().toList());
+        when(meetingRepository.findByLocation_idAndStartTimeAndEndTime(
+                defaultCreateRequest.locationId(), defaultCreateRequest.startTime(), defaultCreateRequest.endTime())).thenReturn(List.of());
+        when(meetingRepository.findByLocation_idAndStartTimeBeforeAndEndTimeAfter(
+                defaultCreateRequest.locationId(), defaultCreateRequest.endTime(), defaultCreateRequest.startTime())).thenReturn(List.of());
+        when(meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(
+                mockAttendee1.getId(), defaultCreateRequest.endTime(), defaultCreateRequest.startTime())).thenReturn(List.of());
+        when(meetingRepository.findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(
+                mockAttendee2.getId(), defaultCreateRequest.endTime(), defaultCreateRequest.startTime())).thenReturn(List.of());
+        when(timeOffService.findEffectiveTimeOff(ResourceType.LOCATION, mockLocation1.getId())).thenReturn(List.of());
+        // Attendees are checked in set order, only the first one is on vacation
+        when(timeOffService.findEffectiveTimeOff(eq(ResourceType.ATTENDEE), anyLong())).thenAnswer(invocation ->
+                mockAttendee1.getId().equals(invocation.getArgument(1)) ? List.of(vacation) : List.of());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            meetingService.createMeeting(defaultCreateRequest);
+        });
+        assertEquals(expectedErrorMessage, exception.getMessage());
+
+        verify(timeOffService).findEffectiveTimeOff(ResourceType.LOCATION, mockLocation1.getId());
+        verify(meetingRepository, never()).save(any(Meeting.class));
+        verify(meetingMapper, never()).mapToMeetingDTO(any(Meeting.class));
+    }
+
+
     @Test
     void createMeeting_shouldThrowIllegalArgumentException_whenMeetingEndsAfterLocationWorkingEndTime() {
         LocalDate meetingDate = defaultCreateRequest.endTime().toLocalDate();
@@ -818,6 +935,7 @@ public class MeetingServiceTest {
     @Test
     void updateMeeting_shouldReturnMeetingDTO_whenAllFieldsUpdated() {
         Long meetingIdToUpdate = defaultMeeting.getId();
+        MeetingFootprint previousFootprint = MeetingFootprint.of(defaultMeeting);
 
         // Use default update request
 
@@ -868,6 +986,10 @@ public class MeetingServiceTest {
                 defaultUpdateRequest.locationId(), defaultUpdateRequest.endTime(), defaultUpdateRequest.startTime());
         verify(meetingRepository).findByAttendees_idAndStartTimeBeforeAndEndTimeAfter(
                 mockAttendee1.getId(), defaultUpdateRequest.endTime(), defaultUpdateRequest.startTime());
+        verify(cacheInvalidationPublisher).publishMeetingChange(previousFootprint);
+        verify(cacheInvalidationPublisher).publishMeetingChange(MeetingFootprint.of(capturedMeeting));
+        verify(calendarVersionService).bumpMeetingChange(previousFootprint, MeetingFootprint.of(capturedMeeting));
+        verify(applicationEventPublisher).publishEvent(any(MeetingChangedEvent.class));
     }
 
     @Test
@@ -895,7 +1017,9 @@ public class MeetingServiceTest {
                 mockAttendee1.getId(), defaultMeeting.getEndTime(), defaultMeeting.getStartTime())).thenReturn(List.of(defaultMeeting));
 
         MeetingDTO expectedResponse = new MeetingDTO(
-                meetingIdToUpdate, updateRequest.title(), null, null, null, null
+                meetingIdToUpdate, updateRequest.title(), null, null,
+                null,
+                null
         );
         when(meetingMapper.mapToMeetingDTO(any(Meeting.class))).thenReturn(expectedResponse);
 
@@ -1412,12 +1536,19 @@ public class MeetingServiceTest {
     @Test
     void deleteMeeting_shouldDeleteMeeting_whenMeetingExists() {
         Long meetingIdToDelete = DEFAULT_MEETING_ID;
+        MeetingFootprint removedFootprint = new MeetingFootprint(meetingIdToDelete, 1L, Set.of(1L, 2L),
+                DEFAULT_MEETING_START, DEFAULT_MEETING_END);
         when(meetingRepository.existsById(meetingIdToDelete)).thenReturn(true);
+        when(busyCalendarService.removeMeeting(meetingIdToDelete)).thenReturn(Optional.of(removedFootprint));
         doNothing().when(meetingRepository).deleteById(meetingIdToDelete);
 
         assertDoesNotThrow(() -> meetingService.deleteMeeting(meetingIdToDelete));
 
         verify(meetingRepository).existsById(meetingIdToDelete);
+        verify(busyCalendarService).removeMeeting(meetingIdToDelete);
+        verify(cacheInvalidationPublisher).publishMeetingChange(removedFootprint);
+        verify(calendarVersionService).bumpMeetingChange(removedFootprint);
+        verify(applicationEventPublisher).publishEvent(MeetingChangedEvent.deleted(removedFootprint));
         verify(meetingRepository).deleteById(meetingIdToDelete);
     }
 
@@ -1434,6 +1565,7 @@ public class MeetingServiceTest {
         assertEquals(expectedErrorMessage, exception.getMessage());
 
         verify(meetingRepository).existsById(nonExistentMeetingId);
+        verify(busyCalendarService, never()).removeMeeting(anyLong());
         verify(meetingRepository, never()).deleteById(nonExistentMeetingId);
     }
 
@@ -0,0 +1,101 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+public class ReferenceDataCacheSubscriberTest {
+    @Mock
+    private ReferenceDataService referenceDataService;
+    @Mock
+    private CacheManager cacheManager;
+    @InjectMocks
+    private ReferenceDataCacheSubscriber referenceDataCacheSubscriber;
+
+    @Test
+    void onCacheInvalidation_shouldEvictLocation_whenLocationChanged() {
+        referenceDataCacheSubscriber.onCacheInvalidation(CacheInvalidation.location(1L));
+
+        verify(referenceDataService).evictLocation(1L);
+        verifyNoMoreInteractions(referenceDataService);
+    }
+
+    @Test
+    void onCacheInvalidation_shouldEvictAttendee_whenAttendeeChanged() {
+        referenceDataCacheSubscriber.onCacheInvalidation(CacheInvalidation.attendee(2L));
+
+        verify(referenceDataService).evictAttendee(2L);
+        verifyNoMoreInteractions(referenceDataService);
+    }
+
+    @Test
+    void onCacheInvalidation_shouldEvictTimeOff_whenTimeOffChanged() {
+        referenceDataCacheSubscriber.onCacheInvalidation(CacheInvalidation.timeOff(ResourceType.LOCATION, 3L));
+        referenceDataCacheSubscriber.onCacheInvalidation(CacheInvalidation.timeOff(null, null));
+
+        verify(referenceDataService).evictTimeOff(ResourceType.LOCATION, 3L);
+        verify(referenceDataService).evictGlobalTimeOff();
+        verifyNoMoreInteractions(referenceDataService);
+    }
+
+    @Test
+    void onCacheInvalidation_shouldEvictGroupMembers_whenAttendeeGroupChanged() {
+        referenceDataCacheSubscriber.onCacheInvalidation(CacheInvalidation.attendeeGroups());
+
+        verify(referenceDataService).evictGroupMembers();
+        verifyNoMoreInteractions(referenceDataService);
+    }
+
+    @Test
+    void onCacheInvalidation_shouldEvictTravelTimes_whenTravelTimeChanged() {
+        referenceDataCacheSubscriber.onCacheInvalidation(CacheInvalidation.travelTimes());
+
+        verify(referenceDataService).evictTravelTimes();
+        verifyNoMoreInteractions(referenceDataService);
+    }
+
+    @Test
+    void onCacheInvalidation_shouldIgnoreCalendarChanges() {
+        referenceDataCacheSubscriber.onCacheInvalidation(new CacheInvalidation(CacheInvalidation.Kind.LOCATION_CALENDAR, 1L));
+
+        verifyNoInteractions(referenceDataService, cacheManager);
+    }
+
+    @Test
+    void onCacheInvalidation_shouldClearEveryCache_whenNotificationsWereMissed() {
+        ConcurrentMapCache locations = new ConcurrentMapCache(ReferenceDataService.LOCATIONS_CACHE);
+        locations.put(1L, "cached");
+        when(cacheManager.getCacheNames()).thenReturn(List.of(ReferenceDataService.LOCATIONS_CACHE));
+        when(cacheManager.getCache(ReferenceDataService.LOCATIONS_CACHE)).thenReturn(locations);
+
+        referenceDataCacheSubscriber.onCacheInvalidation(CacheInvalidation.all());
+
+        assertNull(locations.get(1L));
+    }
+
+    @Test
+    void cacheInvalidation_shouldRoundTripThroughNotifyPayload() {
+        CacheInvalidation invalidation = CacheInvalidation.location(12L);
+
+        CacheInvalidation.Received received = CacheInvalidation.fromPayload(invalidation.toPayload("node-1")).orElseThrow();
+
+        assertEquals("node-1", received.nodeId());
+        assertEquals(invalidation, received.invalidation());
+        assertEquals(CacheInvalidation.all(), CacheInvalidation.fromPayload(CacheInvalidation.all().toPayload("node-1")).orElseThrow().invalidation());
+        assertTrue(CacheInvalidation.fromPayload("node-1|UNKNOWN|1").isEmpty());
+        assertTrue(CacheInvalidation.fromPayload("garbage").isEmpty());
+    }
+}
@@ -0,0 +1,188 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.config.CacheConfig;
+import com.truestayhere.meeting_scheduler.config.ReferenceCacheProperties;
+import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.AttendeeGroup;
+import com.truestayhere.meeting_scheduler.model.Location;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.model.TimeOff;
+import com.truestayhere.meeting_scheduler.model.TravelTime;
+import com.truestayhere.meeting_scheduler.model.WorkingHours;
+import com.truestayhere.meeting_scheduler.model.WorkingWindow;
+import com.truestayhere.meeting_scheduler.repository.AttendeeGroupRepository;
+import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import com.truestayhere.meeting_scheduler.repository.LocationRepository;
+import com.truestayhere.meeting_scheduler.repository.TimeOffRepository;
+import com.truestayhere.meeting_scheduler.repository.TravelTimeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@SpringJUnitConfig({CacheConfig.class, ReferenceCacheProperties.class, ReferenceDataService.class, WorkingWindowService.class})
+public class ReferenceDataServiceTest {
+    @MockitoBean
+    private LocationRepository locationRepository;
+    @MockitoBean
+    private AttendeeRepository attendeeRepository;
+    @MockitoBean
+    private TimeOffRepository timeOffRepository;
+    @MockitoBean
+    private AttendeeGroupRepository attendeeGroupRepository;
+    @MockitoBean
+    private TravelTimeRepository travelTimeRepository;
+    @Autowired
+    private ReferenceDataService referenceDataService;
+    @Autowired
+    private WorkingWindowService workingWindowService;
+    @Autowired
+    private CacheManager cacheManager;
+    private Location mockLocation;
+    private Attendee mockAttendee;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        mockLocation = new Location("Room 1", 10);
+        mockLocation.setId(1L);
+
+        mockAttendee = new Attendee("Attendee One", "attendeeone@test.com", "password");
+        mockAttendee.setId(1L);
+        mockAttendee.setWorkingStartTime(LocalTime.of(8, 0));
+        mockAttendee.setWorkingEndTime(LocalTime.of(16, 0));
+    }
+
+    @Test
+    void findLocationById_shouldHitRepositoryOnce_whenCalledRepeatedly() {
+        when(locationRepository.findById(1L)).thenReturn(Optional.of(mockLocation));
+
+        assertEquals(Optional.of(mockLocation), referenceDataService.findLocationById(1L));
+        assertEquals(Optional.of(mockLocation), referenceDataService.findLocationById(1L));
+
+        verify(locationRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void findLocationById_shouldNotCacheMissingLocation() {
+        when(locationRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(referenceDataService.findLocationById(1L).isEmpty());
+        assertTrue(referenceDataService.findLocationById(1L).isEmpty());
+
+        verify(locationRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void evictLocation_shouldEvictLocationAndCapacityIndex() {
+        when(locationRepository.findById(1L)).thenReturn(Optional.of(mockLocation));
+        when(locationRepository.findAll()).thenReturn(List.of(mockLocation));
+
+        referenceDataService.findLocationById(1L);
+        referenceDataService.findLocationCapacityIndex();
+        referenceDataService.findLocationCapacityIndex();
+        referenceDataService.evictLocation(1L);
+        referenceDataService.findLocationById(1L);
+        assertEquals(List.of(mockLocation), referenceDataService.findLocationCapacityIndex().findByCapacityMin(5));
+
+        verify(locationRepository, times(2)).findById(1L);
+        verify(locationRepository, times(2)).findAll();
+    }
+
+    @Test
+    void findAttendeeWorkingHours_shouldCacheUntilEvicted() {
+        when(attendeeRepository.findById(1L)).thenReturn(Optional.of(mockAttendee));
+
+        WorkingHours expected = new WorkingHours(1L, LocalTime.of(8, 0), LocalTime.of(16, 0), null, List.of());
+        assertEquals(Optional.of(expected), referenceDataService.findAttendeeWorkingHours(1L));
+        assertEquals(Optional.of(expected), referenceDataService.findAttendeeWorkingHours(1L));
+        referenceDataService.evictAttendee(1L);
+        assertEquals(Optional.of(expected), referenceDataService.findAttendeeWorkingHours(1L));
+
+        verify(attendeeRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void findWorkingWindow_shouldCacheUntilWorkingHoursAreEvicted() {
+        LocalDate date = LocalDate.of(2030, 1, 7);
+        WorkingHours hours = WorkingHours.of(mockAttendee);
+        WorkingHours changedHours = new WorkingHours(1L, LocalTime.of(10, 0), LocalTime.of(18, 0), null, List.of());
+
+        assertEquals(List.of(new WorkingWindow(date.atTime(8, 0), date.atTime(16, 0))),
+                workingWindowService.findWorkingWindows(ResourceType.ATTENDEE, hours, date));
+        // Cached per resource and date
+        assertEquals(List.of(new WorkingWindow(date.atTime(8, 0), date.atTime(16, 0))),
+                workingWindowService.findWorkingWindows(ResourceType.ATTENDEE, changedHours, date));
+
+        referenceDataService.evictAttendee(1L);
+        assertEquals(List.of(new WorkingWindow(date.atTime(10, 0), date.atTime(18, 0))),
+                workingWindowService.findWorkingWindows(ResourceType.ATTENDEE, changedHours, date));
+    }
+
+    @Test
+    void findTimeOff_shouldCacheResourceAndGlobalTimeOffSeparately() {
+        LocalDate date = LocalDate.of(2030, 1, 7);
+        TimeOff vacation = new TimeOff(ResourceType.ATTENDEE, 1L, date.atStartOfDay(), date.plusDays(5).atStartOfDay(), "Vacation");
+        TimeOff holiday = new TimeOff(null, null, date.atStartOfDay(), date.plusDays(1).atStartOfDay(), "Holiday");
+        when(timeOffRepository.findByResourceTypeAndResourceIdOrderByStartTime(ResourceType.ATTENDEE, 1L)).thenReturn(List.of(vacation));
+        when(timeOffRepository.findByResourceTypeIsNullOrderByStartTime()).thenReturn(List.of(holiday));
+
+        assertEquals(List.of(vacation), referenceDataService.findTimeOff(ResourceType.ATTENDEE, 1L));
+        assertEquals(List.of(vacation), referenceDataService.findTimeOff(ResourceType.ATTENDEE, 1L));
+        assertEquals(List.of(holiday), referenceDataService.findGlobalTimeOff());
+        assertEquals(List.of(holiday), referenceDataService.findGlobalTimeOff());
+        referenceDataService.evictTimeOff(ResourceType.ATTENDEE, 1L);
+        referenceDataService.findTimeOff(ResourceType.ATTENDEE, 1L);
+        referenceDataService.findGlobalTimeOff();
+
+        verify(timeOffRepository, times(2)).findByResourceTypeAndResourceIdOrderByStartTime(ResourceType.ATTENDEE, 1L);
+        verify(timeOffRepository, times(1)).findByResourceTypeIsNullOrderByStartTime();
+    }
+
+    @Test
+    void findGroupMemberIds_shouldFlattenNestedGroupsAndCacheUntilEvicted() {
+        Attendee secondAttendee = new Attendee("Attendee Two", "attendeetwo@test.com", "password");
+        secondAttendee.setId(2L);
+        AttendeeGroup team = new AttendeeGroup("Team");
+        team.setId(2L);
+        team.getMembers().add(secondAttendee);
+        AttendeeGroup department = new AttendeeGroup("Department");
+        department.setId(1L);
+        department.getMembers().add(mockAttendee);
+        department.getSubgroups().add(team);
+        team.getSubgroups().add(department); // Cycle must not loop forever
+        when(attendeeGroupRepository.findById(1L)).thenReturn(Optional.of(department));
+
+        assertEquals(Optional.of(Set.of(1L, 2L)), referenceDataService.findGroupMemberIds(1L));
+        assertEquals(Optional.of(Set.of(1L, 2L)), referenceDataService.findGroupMemberIds(1L));
+        referenceDataService.evictGroupMembers();
+        referenceDataService.findGroupMemberIds(1L);
+
+        verify(attendeeGroupRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void findTravelTimeMatrix_shouldCacheUntilEvicted() {
+        when(travelTimeRepository.findAll()).thenReturn(List.of(new TravelTime("North", "South", 20)));
+
+        assertEquals(20, referenceDataService.findTravelTimeMatrix().minutesBetween("South", "North"));
+        referenceDataService.findTravelTimeMatrix();
+        referenceDataService.evictTravelTimes();
+        referenceDataService.findTravelTimeMatrix();
+
+        verify(travelTimeRepository, times(2)).findAll();
+    }
+}
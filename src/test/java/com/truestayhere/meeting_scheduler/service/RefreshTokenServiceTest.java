@@ -0,0 +1,178 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.config.JwtProperties;
+import com.truestayhere.meeting_scheduler.dto.response.LoginResponseDTO;
+import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.RefreshToken;
+import com.truestayhere.meeting_scheduler.model.Role;
+import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import com.truestayhere.meeting_scheduler.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+    private static final Long ATTENDEE_ID = 1L;
+    private static final String EMAIL = "attendee@test.com";
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private AttendeeRepository attendeeRepository;
+    @Mock
+    private TokenService tokenService;
+    @Spy
+    private JwtProperties jwtProperties = new JwtProperties();
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private Attendee attendee;
+    private Authentication authentication;
+    private List<RefreshToken> savedTokens;
+
+    @BeforeEach
+    void setUp() {
+        attendee = new Attendee("Attendee", EMAIL, "hash", Role.USER);
+        attendee.setId(ATTENDEE_ID);
+        authentication = new UsernamePasswordAuthenticationToken(EMAIL, null, List.of(new SimpleGrantedAuthority("USER")));
+
+        // Simulate the database assigning IDs
+        savedTokens = new ArrayList<>();
+        lenient().when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            token.setId((long) savedTokens.size() + 1);
+            savedTokens.add(token);
+            return token;
+        });
+    }
+
+    @Test
+    void issueTokens_shouldReturnAccessTokenAndStoreOnlySecretHash() {
+        when(attendeeRepository.findByEmail(EMAIL)).thenReturn(Optional.of(attendee));
+        when(tokenService.generateToken(authentication)).thenReturn("access-token");
+
+        LoginResponseDTO result = refreshTokenService.issueTokens(authentication);
+
+        assertEquals("access-token", result.token());
+        assertTrue(result.refreshToken().startsWith("1."));
+        assertEquals(1, savedTokens.size());
+        RefreshToken storedToken = savedTokens.get(0);
+        assertEquals(ATTENDEE_ID, storedToken.getAttendeeId());
+        assertEquals(32, storedToken.getTokenHash().length);
+        assertFalse(storedToken.isRevoked());
+        assertTrue(storedToken.getExpiresAt().isAfter(Instant.now()));
+
+        verify(refreshTokenRepository).deleteByAttendeeIdAndExpiresAtBefore(eq(ATTENDEE_ID), any(Instant.class));
+    }
+
+    @Test
+    void refresh_shouldRotateTokenWithinFamily_whenTokenIsValid() {
+        String refreshToken = issueRefreshToken();
+        RefreshToken storedToken = savedTokens.get(0);
+        when(refreshTokenRepository.findById(1L)).thenReturn(Optional.of(storedToken));
+        when(attendeeRepository.findById(ATTENDEE_ID)).thenReturn(Optional.of(attendee));
+        when(tokenService.generateToken(EMAIL, Role.USER.getValue())).thenReturn("new-access-token");
+
+        LoginResponseDTO result = refreshTokenService.refresh(refreshToken);
+
+        assertEquals("new-access-token", result.token());
+        assertTrue(result.refreshToken().startsWith("2."));
+        assertTrue(storedToken.isRevoked(), "Presented token should be rotated out.");
+        assertEquals(storedToken.getFamilyId(), savedTokens.get(1).getFamilyId());
+        assertFalse(savedTokens.get(1).isRevoked());
+    }
+
+    @Test
+    void refresh_throwsBadCredentialsException_whenSecretDoesNotMatch() {
+        String refreshToken = issueRefreshToken();
+        when(refreshTokenRepository.findById(1L)).thenReturn(Optional.of(savedTokens.get(0)));
+
+        String tamperedToken = "1." + "A".repeat(refreshToken.length() - 2);
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(tamperedToken));
+
+        assertFalse(savedTokens.get(0).isRevoked());
+        verify(attendeeRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void refresh_shouldRevokeTokenFamily_whenRotatedTokenIsReused() {
+        String refreshToken = issueRefreshToken();
+        RefreshToken reusedToken = savedTokens.get(0);
+        reusedToken.setRevoked(true);
+        RefreshToken currentToken = new RefreshToken(reusedToken.getFamilyId(), ATTENDEE_ID, new byte[32], Instant.now().plusSeconds(60));
+        when(refreshTokenRepository.findById(1L)).thenReturn(Optional.of(reusedToken));
+        when(refreshTokenRepository.findByFamilyIdAndRevokedFalse(reusedToken.getFamilyId())).thenReturn(List.of(currentToken));
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(refreshToken));
+
+        assertTrue(currentToken.isRevoked(), "Every token of the family should be revoked.");
+        verify(tokenService, never()).generateToken(anyString(), anyString());
+    }
+
+    @Test
+    void refresh_throwsBadCredentialsException_whenTokenIsExpired() {
+        String refreshToken = issueRefreshToken();
+        RefreshToken storedToken = savedTokens.get(0);
+        storedToken.setExpiresAt(Instant.now().minusSeconds(1));
+        when(refreshTokenRepository.findById(1L)).thenReturn(Optional.of(storedToken));
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh(refreshToken));
+
+        verify(attendeeRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void refresh_throwsBadCredentialsException_whenTokenIsMalformed() {
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh("not-a-token"));
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.refresh("abc.def"));
+
+        verify(refreshTokenRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void revoke_shouldRevokeTokenFamily() {
+        String refreshToken = issueRefreshToken();
+        RefreshToken storedToken = savedTokens.get(0);
+        when(refreshTokenRepository.findById(1L)).thenReturn(Optional.of(storedToken));
+        when(refreshTokenRepository.findByFamilyIdAndRevokedFalse(storedToken.getFamilyId())).thenReturn(List.of(storedToken));
+
+        refreshTokenService.revoke(refreshToken);
+
+        assertTrue(storedToken.isRevoked());
+    }
+
+    @Test
+    void revoke_shouldIgnoreUnknownToken() {
+        when(refreshTokenRepository.findById(42L)).thenReturn(Optional.empty());
+
+        assertDoesNotThrow(() -> refreshTokenService.revoke("42.c2VjcmV0"));
+
+        verify(refreshTokenRepository, never()).findByFamilyIdAndRevokedFalse(anyLong());
+    }
+
+    // Issues a token through the login path and returns its value
+    private String issueRefreshToken() {
+        when(attendeeRepository.findByEmail(EMAIL)).thenReturn(Optional.of(attendee));
+        return refreshTokenService.issueTokens(authentication).refreshToken();
+    }
+}
@@ -0,0 +1,149 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.dto.request.PendingMeetingRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.request.RoomAssignmentRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.response.LocationDTO;
+import com.truestayhere.meeting_scheduler.dto.response.RoomAssignmentResultDTO;
+import com.truestayhere.meeting_scheduler.mapper.LocationMapper;
+import com.truestayhere.meeting_scheduler.model.Location;
+import com.truestayhere.meeting_scheduler.repository.MeetingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * Benchmark of the batch room assignment on a day with a thousand pending meetings.
+ * Compares the batch assignment (AvailabilityService.assignRooms: earliest end first, smallest free room) against taking
+ * the first free room with enough capacity in request order, which is what a client gets from a plain "capacity >= N" search.
+ * Excluded from the default build, run with: mvn test -Pload-test
+ * The number of meetings and rooms can be overridden with -Dloadtest.meetings and -Dloadtest.rooms.
+ */
+@ExtendWith(MockitoExtension.class)
+@Slf4j
+public class RoomAssignmentLoadTest {
+    private static final int MEETINGS = Integer.getInteger("loadtest.meetings", 1000);
+    private static final int ROOMS = Integer.getInteger("loadtest.rooms", 120);
+    private static final int RUNS = 20;
+    private static final int[] ROOM_CAPACITIES = {4, 4, 6, 6, 8, 10, 12, 20, 40};
+    private static final LocalDate DATE = LocalDate.of(Year.now().getValue() + 1, 8, 4);
+
+    @Mock
+    private MeetingRepository meetingRepository;
+    @Mock
+    private LocationMapper locationMapper;
+    @Mock
+    private ReferenceDataService referenceDataService;
+    @Mock
+    private TimeOffService timeOffService;
+    @Spy
+    private WorkingWindowService workingWindowService = new WorkingWindowService();
+    @InjectMocks
+    private AvailabilityService availabilityService;
+    private List<Location> rooms;
+    private List<PendingMeetingRequestDTO> meetings;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            Location room = new Location("Room " + i, ROOM_CAPACITIES[random.nextInt(ROOM_CAPACITIES.length)]);
+            room.setId((long) i + 1);
+            rooms.add(room);
+        }
+
+        // Mostly small meetings, some all-hands sized ones; 30 - 120 minutes between 09:00 and 17:00
+        meetings = new ArrayList<>();
+        for (int i = 0; i < MEETINGS; i++) {
+            int attendeeCount = random.nextInt(10) == 0 ? 10 + random.nextInt(30) : 2 + random.nextInt(6);
+            LocalDateTime start = DATE.atTime(9, 0).plusMinutes(30L * random.nextInt(14));
+            LocalDateTime end = start.plusMinutes(30L * (1 + random.nextInt(4)));
+            if (end.isAfter(DATE.atTime(17, 0))) {
+                end = DATE.atTime(17, 0);
+            }
+            meetings.add(new PendingMeetingRequestDTO(start, end, attendeeCount, null));
+        }
+
+        lenient().when(referenceDataService.findLocationCapacityIndex()).thenReturn(LocationCapacityIndex.of(rooms));
+        lenient().when(meetingRepository.findByLocation_idInAndStartTimeBeforeAndEndTimeAfter(any(), any(), any())).thenReturn(List.of());
+        lenient().when(locationMapper.mapToLocationDTO(any(Location.class))).thenAnswer(invocation -> {
+            Location room = invocation.getArgument(0);
+            return new LocationDTO(room.getId(), room.getName(), room.getCapacity(), null, null, null, null, null);
+        });
+    }
+
+    @Test
+    void batchAssignment_shouldAssignMoreMeetingsWithHigherUtilizationThanFirstFit() {
+        RoomAssignmentRequestDTO request = new RoomAssignmentRequestDTO(DATE, meetings);
+
+        // Warm up both paths
+        RoomAssignmentResultDTO batch = availabilityService.assignRooms(request);
+        FirstFitResult firstFit = assignFirstFit();
+
+        long batchStarted = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            batch = availabilityService.assignRooms(request);
+        }
+        long batchMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - batchStarted) / RUNS;
+
+        long firstFitStarted = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            firstFit = assignFirstFit();
+        }
+        long firstFitMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - firstFitStarted) / RUNS;
+
+        log.info("Room assignment of {} meetings in {} rooms: batch {} assigned, utilization {}, {} us/day; "
+                        + "first fit {} assigned, utilization {}, {} us/day",
+                MEETINGS, ROOMS, batch.assignedCount(), String.format("%.2f", batch.seatUtilization()), batchMicros,
+                firstFit.assignedCount(), String.format("%.2f", firstFit.seatUtilization()), firstFitMicros);
+
+        assertThat(batch.assignedCount()).isGreaterThanOrEqualTo(firstFit.assignedCount());
+        assertThat(batch.seatUtilization()).isGreaterThan(firstFit.seatUtilization());
+    }
+
+    private record FirstFitResult(int assignedCount, double seatUtilization) {
+    }
+
+    // Baseline: meetings in request order, each in the first free room (by ID) with capacity >= attendees
+    private FirstFitResult assignFirstFit() {
+        Map<Long, List<PendingMeetingRequestDTO>> placedByRoom = new HashMap<>();
+        long attendeeMinutes = 0;
+        long seatMinutes = 0;
+        int assignedCount = 0;
+        for (PendingMeetingRequestDTO meeting : meetings) {
+            for (Location room : rooms) {
+                if (room.getCapacity() < meeting.attendeeCount()) {
+                    continue;
+                }
+                List<PendingMeetingRequestDTO> placed = placedByRoom.computeIfAbsent(room.getId(), id -> new ArrayList<>());
+                boolean free = placed.stream().noneMatch(other ->
+                        other.startTime().isBefore(meeting.endTime()) && meeting.startTime().isBefore(other.endTime()));
+                if (free) {
+                    placed.add(meeting);
+                    long minutes = Duration.between(meeting.startTime(), meeting.endTime()).toMinutes();
+                    attendeeMinutes += meeting.attendeeCount() * minutes;
+                    seatMinutes += room.getCapacity() * minutes;
+                    assignedCount++;
+                    break;
+                }
+            }
+        }
+        return new FirstFitResult(assignedCount, seatMinutes > 0 ? (double) attendeeMinutes / seatMinutes : 0.0);
+    }
+}
@@ -0,0 +1,136 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.dto.request.CreateTimeOffRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.response.TimeOffDTO;
+import com.truestayhere.meeting_scheduler.mapper.TimeOffMapper;
+import com.truestayhere.meeting_scheduler.model.Attendee;
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
+import com.truestayhere.meeting_scheduler.model.Location;
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.model.TimeOff;
+import com.truestayhere.meeting_scheduler.repository.AttendeeRepository;
+import com.truestayhere.meeting_scheduler.repository.LocationRepository;
+import com.truestayhere.meeting_scheduler.repository.TimeOffRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+public class TimeOffServiceTest {
+    private static final LocalDate DEFAULT_DATE = LocalDate.of(2030, 12, 23);
+
+    @Mock
+    private TimeOffRepository timeOffRepository;
+    @Spy
+    private TimeOffMapper timeOffMapper;
+    @Mock
+    private AttendeeRepository attendeeRepository;
+    @Mock
+    private LocationRepository locationRepository;
+    @Mock
+    private ReferenceDataService referenceDataService;
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+    @Mock
+    private CalendarVersionService calendarVersionService;
+    @InjectMocks
+    private TimeOffService timeOffService;
+
+    @Test
+    void createTimeOff_shouldSaveAndInvalidateResourceTimeOff() {
+        CreateTimeOffRequestDTO requestDTO = new CreateTimeOffRequestDTO(
+                ResourceType.ATTENDEE, 1L, DEFAULT_DATE.atStartOfDay(), DEFAULT_DATE.plusDays(7).atStartOfDay(), "Vacation");
+        when(attendeeRepository.existsById(1L)).thenReturn(true);
+        when(timeOffRepository.save(any(TimeOff.class))).thenAnswer(invocation -> {
+            TimeOff timeOff = invocation.getArgument(0);
+            timeOff.setId(10L);
+            return timeOff;
+        });
+
+        TimeOffDTO result = timeOffService.createTimeOff(requestDTO);
+
+        assertEquals(new TimeOffDTO(10L, ResourceType.ATTENDEE, 1L, requestDTO.startTime(), requestDTO.endTime(), "Vacation"), result);
+        verify(referenceDataService).evictTimeOff(ResourceType.ATTENDEE, 1L);
+        verify(cacheInvalidationPublisher).publish(new CacheInvalidation(CacheInvalidation.Kind.ATTENDEE_TIME_OFF, 1L));
+        verify(calendarVersionService).bump(ResourceType.ATTENDEE, 1L);
+        verify(calendarVersionService, never()).bumpAll(any(), any());
+    }
+
+    @Test
+    void createTimeOff_shouldBumpEveryCalendar_whenGlobalHolidayIsCreated() {
+        CreateTimeOffRequestDTO requestDTO = new CreateTimeOffRequestDTO(
+                null, null, DEFAULT_DATE.plusDays(2).atStartOfDay(), DEFAULT_DATE.plusDays(3).atStartOfDay(), "Christmas");
+        Attendee attendee = new Attendee();
+        attendee.setId(1L);
+        Location location = new Location();
+        location.setId(2L);
+        when(timeOffRepository.save(any(TimeOff.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(attendeeRepository.findAll()).thenReturn(List.of(attendee));
+        when(locationRepository.findAll()).thenReturn(List.of(location));
+
+        timeOffService.createTimeOff(requestDTO);
+
+        verify(referenceDataService).evictGlobalTimeOff();
+        verify(cacheInvalidationPublisher).publish(new CacheInvalidation(CacheInvalidation.Kind.GLOBAL_TIME_OFF, null));
+        verify(calendarVersionService).bumpAll(ResourceType.ATTENDEE, List.of(1L));
+        verify(calendarVersionService).bumpAll(ResourceType.LOCATION, List.of(2L));
+        verify(attendeeRepository, never()).existsById(any());
+    }
+
+    @Test
+    void createTimeOff_shouldThrowIllegalArgumentException_whenOnlyResourceTypeIsProvided() {
+        CreateTimeOffRequestDTO requestDTO = new CreateTimeOffRequestDTO(
+                ResourceType.LOCATION, null, DEFAULT_DATE.atStartOfDay(), DEFAULT_DATE.plusDays(1).atStartOfDay(), null);
+
+        assertThrows(IllegalArgumentException.class, () -> timeOffService.createTimeOff(requestDTO));
+
+        verify(timeOffRepository, never()).save(any(TimeOff.class));
+    }
+
+    @Test
+    void createTimeOff_shouldThrowEntityNotFoundException_whenLocationDoesNotExist() {
+        CreateTimeOffRequestDTO requestDTO = new CreateTimeOffRequestDTO(
+                ResourceType.LOCATION, 99L, DEFAULT_DATE.atStartOfDay(), DEFAULT_DATE.plusDays(1).atStartOfDay(), null);
+        when(locationRepository.existsById(99L)).thenReturn(false);
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> timeOffService.createTimeOff(requestDTO));
+        assertEquals("Location not found with ID: 99", exception.getMessage());
+
+        verify(timeOffRepository, never()).save(any(TimeOff.class));
+    }
+
+    @Test
+    void deleteTimeOff_shouldThrowEntityNotFoundException_whenTimeOffDoesNotExist() {
+        when(timeOffRepository.findById(5L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> timeOffService.deleteTimeOff(5L));
+
+        verify(timeOffRepository, never()).delete(any(TimeOff.class));
+        verifyNoInteractions(referenceDataService, cacheInvalidationPublisher, calendarVersionService);
+    }
+
+    @Test
+    void findEffectiveTimeOff_shouldMergeResourceTimeOffAndHolidaysByStartTime() {
+        LocalDateTime start = DEFAULT_DATE.atStartOfDay();
+        TimeOff vacation = new TimeOff(ResourceType.LOCATION, 2L, start.plusDays(1), start.plusDays(4), "Renovation");
+        TimeOff holiday = new TimeOff(null, null, start, start.plusDays(1), "Holiday");
+        when(referenceDataService.findTimeOff(ResourceType.LOCATION, 2L)).thenReturn(List.of(vacation));
+        when(referenceDataService.findGlobalTimeOff()).thenReturn(List.of(holiday));
+
+        assertEquals(List.of(holiday, vacation), timeOffService.findEffectiveTimeOff(ResourceType.LOCATION, 2L));
+    }
+}
@@ -0,0 +1,72 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.dto.request.SetTravelTimeRequestDTO;
+import com.truestayhere.meeting_scheduler.dto.response.TravelTimeDTO;
+import com.truestayhere.meeting_scheduler.mapper.TravelTimeMapper;
+import com.truestayhere.meeting_scheduler.model.CacheInvalidation;
+import com.truestayhere.meeting_scheduler.model.TravelTime;
+import com.truestayhere.meeting_scheduler.repository.TravelTimeRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+public class TravelTimeServiceTest {
+    @Mock
+    private TravelTimeRepository travelTimeRepository;
+    @Spy
+    private TravelTimeMapper travelTimeMapper;
+    @Mock
+    private ReferenceDataService referenceDataService;
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+    @InjectMocks
+    private TravelTimeService travelTimeService;
+
+    @Test
+    void setTravelTime_shouldReplaceExistingTravelTimeAndInvalidateMatrix() {
+        TravelTime existing = new TravelTime("North", "South", 10);
+        existing.setId(1L);
+        when(travelTimeRepository.findByFromBuildingAndToBuilding("North", "South")).thenReturn(Optional.of(existing));
+        when(travelTimeRepository.save(existing)).thenReturn(existing);
+
+        TravelTimeDTO result = travelTimeService.setTravelTime(new SetTravelTimeRequestDTO("North", "South", 25));
+
+        assertEquals(new TravelTimeDTO(1L, "North", "South", 25), result);
+        verify(referenceDataService).evictTravelTimes();
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.travelTimes());
+    }
+
+    @Test
+    void setTravelTime_shouldThrowIllegalArgumentException_whenBuildingsAreTheSame() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> travelTimeService.setTravelTime(new SetTravelTimeRequestDTO("North", "North", 5)));
+
+        assertEquals("Travel time must connect two different buildings.", exception.getMessage());
+        verify(travelTimeRepository, never()).save(any());
+        verifyNoInteractions(referenceDataService, cacheInvalidationPublisher);
+    }
+
+    @Test
+    void deleteTravelTime_shouldThrowEntityNotFoundException_whenTravelTimeDoesNotExist() {
+        when(travelTimeRepository.existsById(99L)).thenReturn(false);
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> travelTimeService.deleteTravelTime(99L));
+
+        assertEquals("Travel time not found with ID: 99", exception.getMessage());
+        verify(travelTimeRepository, never()).deleteById(any());
+        verifyNoInteractions(referenceDataService, cacheInvalidationPublisher);
+    }
+}
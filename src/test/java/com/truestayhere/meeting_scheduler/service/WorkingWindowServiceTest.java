@@ -0,0 +1,72 @@
+package com.truestayhere.meeting_scheduler.service;
+
+import com.truestayhere.meeting_scheduler.model.ResourceType;
+import com.truestayhere.meeting_scheduler.model.WorkingHours;
+import com.truestayhere.meeting_scheduler.model.WorkingSegment;
+import com.truestayhere.meeting_scheduler.model.WorkingWindow;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class WorkingWindowServiceTest {
+    private final WorkingWindowService workingWindowService = new WorkingWindowService();
+
+    @Test
+    void findWorkingWindow_shouldUseDefaultHoursInUtc_whenNothingIsConfigured() {
+        LocalDate date = LocalDate.of(2030, 3, 4);
+
+        List<WorkingWindow> windows = workingWindowService.findWorkingWindows(ResourceType.LOCATION,
+                new WorkingHours(1L, null, null, null, List.of()), date);
+
+        assertEquals(List.of(new WorkingWindow(date.atTime(9, 0), date.atTime(17, 0))), windows);
+    }
+
+    @Test
+    void findWorkingWindow_shouldConvertToUtc_acrossDaylightSavingChange() {
+        WorkingHours hours = new WorkingHours(1L, LocalTime.of(9, 0), LocalTime.of(17, 0), ZoneId.of("Europe/Berlin"), List.of());
+        // Berlin switches to summer time on the last Sunday of March
+        LocalDate winterDay = LocalDate.of(2030, 3, 29);
+        LocalDate summerDay = LocalDate.of(2030, 4, 1);
+
+        assertEquals(List.of(new WorkingWindow(winterDay.atTime(8, 0), winterDay.atTime(16, 0))),
+                workingWindowService.findWorkingWindows(ResourceType.ATTENDEE, hours, winterDay));
+        assertEquals(List.of(new WorkingWindow(summerDay.atTime(7, 0), summerDay.atTime(15, 0))),
+                workingWindowService.findWorkingWindows(ResourceType.ATTENDEE, hours, summerDay));
+    }
+
+    @Test
+    void findWorkingWindow_shouldEndOnNextDay_whenOvernightShiftIsInZoneBehindUtc() {
+        WorkingHours hours = new WorkingHours(1L, LocalTime.of(22, 0), LocalTime.of(6, 0), ZoneId.of("America/New_York"), List.of());
+        LocalDate date = LocalDate.of(2030, 1, 7);
+
+        // 22:00 EST is 03:00 UTC of the next day
+        assertEquals(List.of(new WorkingWindow(date.plusDays(1).atTime(3, 0), date.plusDays(1).atTime(11, 0))),
+                workingWindowService.findWorkingWindows(ResourceType.ATTENDEE, hours, date));
+    }
+
+    @Test
+    void findWorkingWindows_shouldReturnOneWindowPerSegmentOfTheWeekday_whenWeeklyScheduleIsSet() {
+        WorkingHours hours = new WorkingHours(1L, LocalTime.of(9, 0), LocalTime.of(17, 0), null, List.of(
+                new WorkingSegment(DayOfWeek.MONDAY, LocalTime.of(13, 0), LocalTime.of(17, 0)),
+                new WorkingSegment(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                new WorkingSegment(DayOfWeek.TUESDAY, LocalTime.of(22, 0), LocalTime.of(6, 0))));
+        LocalDate monday = LocalDate.of(2030, 1, 7);
+
+        // Split shift, ordered by start time
+        assertEquals(List.of(
+                        new WorkingWindow(monday.atTime(9, 0), monday.atTime(12, 0)),
+                        new WorkingWindow(monday.atTime(13, 0), monday.atTime(17, 0))),
+                workingWindowService.findWorkingWindows(ResourceType.LOCATION, hours, monday));
+        // Overnight segment ends on Wednesday
+        assertEquals(List.of(new WorkingWindow(monday.plusDays(1).atTime(22, 0), monday.plusDays(2).atTime(6, 0))),
+                workingWindowService.findWorkingWindows(ResourceType.LOCATION, hours, monday.plusDays(1)));
+        // Days without segments are days off (the daily working hours do not apply)
+        assertEquals(List.of(), workingWindowService.findWorkingWindows(ResourceType.LOCATION, hours, monday.plusDays(2)));
+    }
+}